@@ -0,0 +1,236 @@
+package admission;
+
+import command.CommandPipeline;
+import core.Bicycle;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.DiagnosticSink;
+import core.FleetSnapshot;
+import core.OperationResult;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import reservation.ReservationManager;
+
+/**
+ * 대여 요청 입장 제어 (Admission Control)
+ * - 대여 요청은 자전거 상태를 건드리기 전에 사용자별, 스테이션별 토큰 버킷을 먼저 통과해야 합니다.
+ *   사용자 버킷은 한 사람의 연타를, 스테이션 버킷은 한 스테이션에 몰리는 요청을 막습니다.
+ * - 스테이션에 대기자가 있으면 새 요청은 바로 들어가지 못하고 대기열 뒤에 서야 합니다.
+ * - 자전거가 반납되어 대여 가능해지면 대기열 맨 앞 사용자에게 예약으로 넘겨 줍니다. (FIFO)
+ *   스냅샷 리스너가 대기자가 있는 스테이션에 대여 가능 자전거가 생겼는지 보고,
+ *   넘겨주기는 파이프라인 커맨드로 작성자 스레드에서 실행합니다.
+ * - 버킷 검사와 대기열 등록은 어느 스레드에서나 호출할 수 있습니다.
+ */
+public class AdmissionController {
+    private static final double STATION_BURST = 30;
+    private static final double STATION_PER_SECOND = 10;
+    private static final double USER_BURST = 5;
+    private static final double USER_PER_SECOND = 0.5;
+    private static final int MAX_QUEUE_PER_STATION = 200;
+    private static final long MAX_WAIT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long PRUNE_SECONDS = 60;
+
+    private final ReservationManager reservationManager;
+    private final double stationBurst;
+    private final double stationPerSecond;
+    private final double userBurst;
+    private final double userPerSecond;
+    private final Map<String, TokenBucket> stationBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Deque<WaitTicket>> queues = new ConcurrentHashMap<>();
+    private final Map<String, WaitTicket> ticketsByUser = new ConcurrentHashMap<>();
+    private final Set<String> pendingHandoffs = ConcurrentHashMap.newKeySet(); // 넘겨주기 커맨드가 이미 제출된 스테이션
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+
+    private BicycleManager bicycleManager;
+    private CommandPipeline pipeline;
+    private ScheduledExecutorService scheduler;
+
+    private final LongAdder admitted = MetricsRegistry.getInstance().counter("admission.admitted");
+    private final LongAdder shedUser = MetricsRegistry.getInstance().counter("admission.shed_user");
+    private final LongAdder shedStation = MetricsRegistry.getInstance().counter("admission.shed_station");
+    private final LongAdder queued = MetricsRegistry.getInstance().counter("admission.queued");
+    private final LongAdder handoffs = MetricsRegistry.getInstance().counter("admission.handoffs");
+    private final LongAdder queueTimeouts = MetricsRegistry.getInstance().counter("admission.queue_timeouts");
+    private final LatencyHistogram waitTime = MetricsRegistry.getInstance().histogram("admission.wait");
+
+    public AdmissionController(ReservationManager reservationManager) {
+        this(reservationManager, STATION_BURST, STATION_PER_SECOND, USER_BURST, USER_PER_SECOND);
+    }
+
+    public AdmissionController(ReservationManager reservationManager, double stationBurst, double stationPerSecond,
+                               double userBurst, double userPerSecond) {
+        this.reservationManager = reservationManager;
+        this.stationBurst = stationBurst;
+        this.stationPerSecond = stationPerSecond;
+        this.userBurst = userBurst;
+        this.userPerSecond = userPerSecond;
+        MetricsRegistry.getInstance().gauge("admission.waiting", waiting::get);
+    }
+
+    // 반납된 자전거를 대기자에게 넘겨주기 시작 (스냅샷 리스너 + 유휴 버킷 정리)
+    public void startHandoff(BicycleManager bicycleManager, CommandPipeline pipeline, ScheduledExecutorService scheduler) {
+        this.bicycleManager = bicycleManager;
+        this.pipeline = pipeline;
+        this.scheduler = scheduler;
+        bicycleManager.addSnapshotListener(this::onSnapshot);
+        scheduler.scheduleAtFixedRate(this::pruneIdleBuckets, PRUNE_SECONDS, PRUNE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 대여 요청 입장 검사
+     * SUCCESS면 대여를 진행하고, STATION_BUSY면 대기열에 등록할 수 있고, RATE_LIMITED면 잠시 후 다시 시도해야 합니다.
+     */
+    public OperationResult admit(String userId, String station) {
+        if (!userBuckets.computeIfAbsent(userId, k -> new TokenBucket(userBurst, userPerSecond)).tryAcquire()) {
+            shedUser.increment();
+            return OperationResult.RATE_LIMITED;
+        }
+        Deque<WaitTicket> queue = queues.get(station);
+        if (queue != null && !queue.isEmpty()) {
+            shedStation.increment(); // 먼저 기다리는 사람이 있으면 새치기 금지
+            return OperationResult.STATION_BUSY;
+        }
+        if (!stationBuckets.computeIfAbsent(station, k -> new TokenBucket(stationBurst, stationPerSecond)).tryAcquire()) {
+            shedStation.increment();
+            return OperationResult.STATION_BUSY;
+        }
+        admitted.increment();
+        return OperationResult.SUCCESS;
+    }
+
+    // 대기열 등록 (이미 기다리는 중이면 기존 대기표, 대기열이 가득 차면 null)
+    public WaitTicket enqueue(String userId, String station) {
+        WaitTicket existing = ticketsByUser.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        Deque<WaitTicket> queue = queues.computeIfAbsent(station, k -> new ConcurrentLinkedDeque<>());
+        if (queue.size() >= MAX_QUEUE_PER_STATION) {
+            shedStation.increment();
+            return null;
+        }
+        WaitTicket ticket = new WaitTicket(userId, station);
+        ticketsByUser.put(userId, ticket);
+        queue.addLast(ticket);
+        waiting.incrementAndGet();
+        queued.increment();
+        requestHandoff(station); // 등록 직전에 자전거가 생겼을 수도 있음
+        return ticket;
+    }
+
+    // 대기열에서 빠지기
+    public boolean leave(String userId) {
+        WaitTicket ticket = ticketsByUser.remove(userId);
+        if (ticket == null) {
+            return false;
+        }
+        waiting.decrementAndGet(); // 대기표를 ticketsByUser에서 뺀 쪽이 한 번만 줄임
+        Deque<WaitTicket> queue = queues.get(ticket.getStation());
+        if (queue != null) queue.remove(ticket);
+        return true;
+    }
+
+    public WaitTicket getTicket(String userId) {
+        return ticketsByUser.get(userId);
+    }
+
+    // 대기 순번 (1부터, 대기 중이 아니면 0)
+    public int getPosition(String userId) {
+        WaitTicket ticket = ticketsByUser.get(userId);
+        if (ticket == null) return 0;
+        int position = 1;
+        for (WaitTicket other : queues.getOrDefault(ticket.getStation(), new ConcurrentLinkedDeque<>())) {
+            if (other == ticket) return position;
+            position++;
+        }
+        return 0;
+    }
+
+    // 작성자 스레드: 대기자가 있는 스테이션에 대여 가능 자전거가 생겼는지 확인
+    private void onSnapshot(FleetSnapshot previous, FleetSnapshot current) {
+        for (Map.Entry<String, Deque<WaitTicket>> entry : queues.entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            for (String bikeId : current.getBicyclesAtStation(entry.getKey())) {
+                BicycleView bike = current.getBicycle(bikeId);
+                if (bike != null && bike.getStatus() == BicycleStatus.AVAILABLE) {
+                    requestHandoff(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    // 넘겨주기 커맨드 제출 (작성자 스레드 안에서 바로 실행되지 않도록 스케줄러 스레드에서 제출)
+    private void requestHandoff(String station) {
+        if (pipeline == null || !pendingHandoffs.add(station)) {
+            return;
+        }
+        scheduler.execute(() -> pipeline.submit(() -> handOff(station)));
+    }
+
+    // 작성자 스레드: 대여 가능한 자전거를 대기 순서대로 예약해 줌
+    private void handOff(String station) {
+        pendingHandoffs.remove(station);
+        Deque<WaitTicket> queue = queues.get(station);
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (String bikeId : bicycleManager.getSnapshot().getBicyclesAtStation(station)) {
+            Bicycle bike = bicycleManager.getBicycle(bikeId);
+            if (bike == null || bike.getStatus() != BicycleStatus.AVAILABLE) continue;
+
+            WaitTicket ticket;
+            while ((ticket = queue.pollFirst()) != null) {
+                if (ticketsByUser.get(ticket.getUserId()) != ticket) {
+                    continue; // 이미 빠진 대기표
+                }
+                if (now - ticket.getEnqueuedAt() > MAX_WAIT_MILLIS) {
+                    drop(ticket);
+                    queueTimeouts.increment();
+                    continue;
+                }
+                OperationResult result = reservationManager.reserve(ticket.getUserId(), bikeId);
+                if (result.isSuccess()) {
+                    ticket.assign(bikeId);
+                    drop(ticket);
+                    handoffs.increment();
+                    waitTime.record(TimeUnit.MILLISECONDS.toNanos(now - ticket.getEnqueuedAt()));
+                    diagnostics.info("[대기열] " + ticket.getUserId() + "님에게 자전거 " + bikeId + "를 예약해 두었습니다.");
+                    break;
+                }
+                if (result == OperationResult.RESERVATION_LIMIT) {
+                    drop(ticket); // 이미 다른 자전거를 예약해 둔 사용자
+                    continue;
+                }
+                queue.addFirst(ticket); // 이 자전거를 예약할 수 없으면 다음 자전거로
+                break;
+            }
+            if (queue.isEmpty()) break;
+        }
+    }
+
+    private void drop(WaitTicket ticket) {
+        if (ticketsByUser.remove(ticket.getUserId(), ticket)) {
+            waiting.decrementAndGet();
+        }
+    }
+
+    // 가득 찬 버킷은 새로 만든 것과 같으므로 지워서 맵이 계속 커지지 않게 함
+    private void pruneIdleBuckets() {
+        userBuckets.values().removeIf(TokenBucket::isFull);
+        stationBuckets.values().removeIf(TokenBucket::isFull);
+    }
+}
@@ -0,0 +1,41 @@
+package admission;
+
+/**
+ * 토큰 버킷
+ * - 최대 capacity개까지 토큰이 쌓이고, 초당 refillPerSecond개씩 다시 채워집니다.
+ * - 요청 하나가 토큰 하나를 쓰므로 순간적인 몰림(burst)은 capacity까지 받고, 그 뒤로는 채워지는 속도로 제한됩니다.
+ * - 채우기는 타이머 없이 tryAcquire() 때 지난 시간만큼 한 번에 계산합니다.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    // 가득 찬 버킷은 없는 것과 같으므로 정리 대상
+    public synchronized boolean isFull() {
+        refill(System.nanoTime());
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,27 @@
+package admission;
+
+/**
+ * 스테이션 대기열의 대기표 한 장
+ * 자전거가 배정되면 예약으로 잡아 두고 assignedBikeId를 채웁니다.
+ */
+public class WaitTicket {
+    private final String userId;
+    private final String station;
+    private final long enqueuedAt = System.currentTimeMillis();
+    private volatile String assignedBikeId;
+
+    WaitTicket(String userId, String station) {
+        this.userId = userId;
+        this.station = station;
+    }
+
+    void assign(String bikeId) {
+        this.assignedBikeId = bikeId;
+    }
+
+    public String getUserId() { return userId; }
+    public String getStation() { return station; }
+    public long getEnqueuedAt() { return enqueuedAt; }
+    public String getAssignedBikeId() { return assignedBikeId; }
+    public boolean isAssigned() { return assignedBikeId != null; }
+}
@@ -0,0 +1,689 @@
+package api;
+
+import admission.AdmissionController;
+import admission.WaitTicket;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import command.AddBicycleCommand;
+import command.ChangeLocationCommand;
+import command.CommandPipeline;
+import command.RechargeBalanceCommand;
+import command.RegisterUserCommand;
+import command.RemoveBicycleCommand;
+import command.RentBicycleCommand;
+import command.RentReservedBicycleCommand;
+import command.ReturnAndChargeCommand;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.DiagnosticSink;
+import core.FleetPage;
+import core.FleetPager;
+import core.FleetSnapshot;
+import core.FleetSort;
+import core.OperationResult;
+import core.PasswordUtil;
+import core.User;
+import core.UserManager;
+import export.ExportFormat;
+import export.ExportResult;
+import export.ExportService;
+import export.ExportTable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import metrics.MetricsRegistry;
+import observer.RepairServiceObserver;
+import replication.ReplicationPrimary;
+import reservation.Reservation;
+import reservation.ReservationManager;
+import strategy.PricingStrategyFactory;
+import strategy.RepairStrategy;
+import telemetry.BikeTelemetryBuffer;
+import telemetry.TelemetryService;
+
+/**
+ * 내장 HTTP/JSON API 서버 (라이더 앱, 키오스크용)
+ * - JDK 내장 com.sun.net.httpserver 사용, 요청마다 스레드 하나 (가능하면 가상 스레드)
+ * - 쓰기는 CommandPipeline의 단일 작성자 스레드에서 적용되므로 코어에는 락이 없습니다.
+ * - 조회는 묶음 처리마다 발행되는 FleetSnapshot을 읽으므로 대여/반납과 경합하지 않습니다.
+ * - 인증은 로그인 시 발급한 토큰을 "Authorization: Bearer <토큰>" 헤더로 전달합니다.
+ * - 대여/반납/충전 POST에 Idempotency-Key 헤더를 붙이면 같은 키의 재시도는 다시 처리하지 않고 처음 응답을 돌려줍니다.
+ */
+public class HttpApiServer {
+    private static final int DEFAULT_PORT = 8080;
+    private static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    private static final long IDEMPOTENCY_BUDGET_BYTES = 8L << 20; // 8MB
+    private static final long IDEMPOTENCY_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final BicycleManager bicycleManager;
+    private final UserManager userManager;
+    private final CommandPipeline commandPipeline;
+    private final PricingStrategyFactory strategyFactory = new PricingStrategyFactory();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>(); // 토큰 → 사용자 ID
+    private final SecureRandom random = new SecureRandom();
+    private final ReservationManager reservationManager;
+    private final AdmissionController admissionController; // 대여 요청 속도 제한 + 스테이션 대기열
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler; // 예약 만료, 대기열 넘겨주기
+    private TelemetryService telemetryService;  // 전기자전거 텔레메트리 수집
+    private final FleetPager fleetPager;        // 관리자 목록 페이지 조회
+    private final IdempotencyCache idempotencyCache = new IdempotencyCache(IDEMPOTENCY_BUDGET_BYTES, IDEMPOTENCY_TTL_MILLIS);
+    private final ExportService exportService = new ExportService(Path.of(ExportService.DEFAULT_DIRECTORY));
+
+    public HttpApiServer(BicycleManager bicycleManager, UserManager userManager, CommandPipeline commandPipeline) {
+        this.bicycleManager = bicycleManager;
+        this.userManager = userManager;
+        this.commandPipeline = commandPipeline;
+        userManager.restoreRentals(bicycleManager.getActiveRenters()); // 재시작 전 대여 중이던 사용자
+        this.reservationManager = new ReservationManager(bicycleManager);
+        this.admissionController = new AdmissionController(reservationManager);
+        this.fleetPager = new FleetPager(bicycleManager);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        DiagnosticSink.getInstance().attach(System.err, DiagnosticSink.Level.ERROR); // 처리 중 오류는 표준 오류로
+        BicycleManager bicycleManager = new BicycleManager();
+        UserManager userManager = new UserManager();
+        CommandPipeline pipeline = new CommandPipeline(bicycleManager);
+
+        HttpApiServer api = new HttpApiServer(bicycleManager, userManager, pipeline);
+        api.start(port);
+        ReplicationPrimary.startIfConfigured(bicycleManager, userManager, pipeline);
+        MetricsRegistry.getInstance().registerJmx();
+        System.out.println("[HTTP API] http://localhost:" + api.getPort() + "/api 에서 요청을 받습니다.");
+    }
+
+    public void start(int port) throws IOException {
+        // 헤더와 본문이 따로 전송될 때 Nagle 지연(약 40ms)이 생기지 않도록 TCP_NODELAY 사용
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        reservationManager.startExpiry(commandPipeline, scheduler);
+        admissionController.startHandoff(bicycleManager, commandPipeline, scheduler);
+        fleetPager.attach(commandPipeline);
+        RepairServiceObserver repairObserver = new RepairServiceObserver(bicycleManager, commandPipeline, scheduler, new RepairStrategy());
+        repairObserver.registerDispatchMetrics(); // 이 서버의 유일한 수리 흐름 (텔레메트리 자동 신고)
+        telemetryService = new TelemetryService(bicycleManager, commandPipeline, repairObserver);
+
+        // 라이더 기능
+        server.createContext("/api/users", route(this::register));
+        server.createContext("/api/login", route(this::login));
+        server.createContext("/api/logout", route(this::logout));
+        server.createContext("/api/stations", route(this::stations));
+        server.createContext("/api/rent", idempotent(this::rent));
+        server.createContext("/api/return", idempotent(this::returnBike));
+        server.createContext("/api/balance", idempotent(this::balance));
+        server.createContext("/api/queue", route(this::queue));
+        // 관리자 기능
+        server.createContext("/api/admin/bicycles", route(this::adminBicycles));
+        server.createContext("/api/admin/telemetry", route(this::adminTelemetry));
+        server.createContext("/api/admin/export", route(this::adminExport));
+
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    // JDK 21 이상이면 요청마다 가상 스레드, 그 이하(JDK 17 등)는 캐시 스레드 풀로 대체
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * 라이더 기능
+     */
+
+    // POST /api/users : 회원가입
+    private String register(Request req) {
+        req.requireMethod("POST");
+        String userId = req.require("userId");
+        String password = req.require("password");
+        String userType = "student".equals(req.param("userType")) ? "student" : "regular";
+
+        User user = new User(userId, PasswordUtil.hashPassword(password),
+                req.paramOrDefault("name", userId), req.paramOrDefault("phoneNumber", ""),
+                req.paramOrDefault("location", ""), userType, 10000);
+
+        RegisterUserCommand command = new RegisterUserCommand(userManager, user);
+        commandPipeline.execute(command);
+        if (!command.isCreated()) {
+            throw new ApiException(409, "이미 존재하는 ID입니다.");
+        }
+        return "{\"ok\":true,\"userId\":" + JsonUtil.quote(userId) + "}";
+    }
+
+    // POST /api/login : 토큰 발급
+    private String login(Request req) {
+        req.requireMethod("POST");
+        User user = userManager.login(req.require("userId"), req.require("password"));
+        if (user == null) {
+            throw new ApiException(401, "ID 또는 비밀번호를 확인하세요.");
+        }
+
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        sessions.put(token.toString(), user.getUserId());
+
+        return "{\"token\":" + JsonUtil.quote(token.toString())
+                + ",\"userType\":" + JsonUtil.quote(user.getUserType())
+                + ",\"balance\":" + user.getBalance() + "}";
+    }
+
+    // POST /api/logout
+    private String logout(Request req) {
+        req.requireMethod("POST");
+        sessions.remove(req.token());
+        return "{\"ok\":true}";
+    }
+
+    // GET /api/stations : 스테이션별 대여 가능 대수
+    // GET /api/stations?station=이름 : 해당 스테이션의 대여 가능 자전거 목록
+    // 최신 스냅샷에서 읽으므로 작성자 스레드를 거치지 않음
+    private String stations(Request req) {
+        req.requireMethod("GET");
+        String station = req.param("station");
+        FleetSnapshot snapshot = bicycleManager.getSnapshot();
+        StringBuilder sb = new StringBuilder();
+
+        if (station == null) {
+            sb.append('[');
+            boolean first = true;
+            for (Map.Entry<String, List<String>> entry : snapshot.getStationBikes().entrySet()) {
+                int available = 0;
+                for (String bikeId : entry.getValue()) {
+                    BicycleView bike = snapshot.getBicycle(bikeId);
+                    if (bike != null && bike.getStatus() == BicycleStatus.AVAILABLE) available++;
+                }
+                if (!first) sb.append(',');
+                sb.append("{\"station\":").append(JsonUtil.quote(entry.getKey()))
+                        .append(",\"available\":").append(available).append('}');
+                first = false;
+            }
+            sb.append(']');
+        } else {
+            List<BicycleView> available = new ArrayList<>();
+            for (String bikeId : snapshot.getBicyclesAtStation(station)) {
+                BicycleView bike = snapshot.getBicycle(bikeId);
+                if (bike != null && bike.getStatus() == BicycleStatus.AVAILABLE) available.add(bike);
+            }
+            sb.append(bikesToJson(available));
+        }
+        return sb.toString();
+    }
+
+    // POST /api/rent {bikeId}
+    // 예약한 자전거면 예약으로 대여, 아니면 입장 제어(사용자/스테이션 토큰 버킷)를 통과해야 파이프라인에 들어감
+    private String rent(Request req) {
+        req.requireMethod("POST");
+        User user = authenticate(req);
+        String bikeId = req.require("bikeId");
+        if (user.isRenting()) {
+            throw new ApiException(409, "이미 대여 중인 자전거가 있습니다: " + user.getRentedBicycleId());
+        }
+
+        if (reservationManager.isReservedBy(bikeId, user.getUserId())) {
+            RentReservedBicycleCommand claim = new RentReservedBicycleCommand(reservationManager, bikeId, user);
+            commandPipeline.execute(claim);
+            if (!claim.isSuccess()) {
+                throw new ApiException(409, claim.getResult().getMessage() + " (" + bikeId + ")");
+            }
+            return "{\"ok\":true,\"bikeId\":" + JsonUtil.quote(bikeId) + "}";
+        }
+
+        BicycleView view = bicycleManager.getSnapshot().getBicycle(bikeId);
+        if (view == null) {
+            throw new ApiException(404, OperationResult.NOT_FOUND.getMessage() + " (" + bikeId + ")");
+        }
+        OperationResult admission = admissionController.admit(user.getUserId(), view.getLocation());
+        if (!admission.isSuccess()) {
+            throw new ApiException(429, admission.getMessage());
+        }
+
+        RentBicycleCommand command = new RentBicycleCommand(bicycleManager, bikeId, user);
+        commandPipeline.execute(command);
+        if (!command.isSuccess()) {
+            throw new ApiException(409, command.getResult().getMessage() + " (" + bikeId + ")");
+        }
+        return "{\"ok\":true,\"bikeId\":" + JsonUtil.quote(bikeId) + "}";
+    }
+
+    // POST /api/return {station}
+    private String returnBike(Request req) {
+        req.requireMethod("POST");
+        User user = authenticate(req);
+        String station = req.require("station");
+        String bikeId = user.getRentedBicycleId();
+        if (bikeId == null) {
+            throw new ApiException(409, "대여 중인 자전거가 없습니다.");
+        }
+
+        ReturnAndChargeCommand command = new ReturnAndChargeCommand(
+                bicycleManager, userManager, strategyFactory, user, bikeId, station);
+        commandPipeline.execute(command);
+        if (!command.isReturned()) {
+            throw new ApiException(409, command.getResult().getMessage() + " (" + bikeId + ")");
+        }
+        return "{\"ok\":true,\"bikeId\":" + JsonUtil.quote(bikeId)
+                + ",\"minutes\":" + command.getMinutes()
+                + ",\"fee\":" + command.getFee()
+                + ",\"paid\":" + command.isPaid()
+                + ",\"balance\":" + user.getBalance() + "}";
+    }
+
+    // GET /api/queue : 내 대기 순번과 예약 목록
+    // POST /api/queue {station} : 스테이션 대기열 등록 (자전거가 반납되면 순서대로 예약해 줌)
+    // DELETE /api/queue : 대기 취소
+    private String queue(Request req) {
+        User user = authenticate(req);
+        if ("POST".equals(req.method)) {
+            WaitTicket ticket = admissionController.enqueue(user.getUserId(), req.require("station"));
+            if (ticket == null) {
+                throw new ApiException(429, "이 스테이션의 대기열이 가득 찼습니다.");
+            }
+        } else if ("DELETE".equals(req.method)) {
+            admissionController.leave(user.getUserId());
+        } else {
+            req.requireMethod("GET");
+        }
+
+        WaitTicket ticket = admissionController.getTicket(user.getUserId());
+        StringBuilder sb = new StringBuilder("{\"ok\":true,\"station\":");
+        sb.append(ticket == null ? "null" : JsonUtil.quote(ticket.getStation()))
+                .append(",\"position\":").append(admissionController.getPosition(user.getUserId()))
+                .append(",\"reservations\":[");
+        boolean first = true;
+        for (Reservation reservation : reservationManager.getReservationsOf(user.getUserId())) {
+            if (!first) sb.append(',');
+            sb.append("{\"bikeId\":").append(JsonUtil.quote(reservation.getBikeId()))
+                    .append(",\"remainingSeconds\":").append(reservation.getRemainingSeconds()).append('}');
+            first = false;
+        }
+        return sb.append("]}").toString();
+    }
+
+    // GET /api/balance, POST /api/balance {amount} : 잔액 조회/충전
+    private String balance(Request req) {
+        User user = authenticate(req);
+        if ("POST".equals(req.method)) {
+            int amount = req.requireInt("amount");
+            if (amount <= 0) {
+                throw new ApiException(400, "0원보다 큰 금액을 입력해주세요.");
+            }
+            commandPipeline.execute(new RechargeBalanceCommand(userManager, user.getUserId(), amount));
+        } else {
+            req.requireMethod("GET");
+        }
+        return "{\"userId\":" + JsonUtil.quote(user.getUserId()) + ",\"balance\":" + user.getBalance() + "}";
+    }
+
+    /**
+     * 관리자 기능
+     */
+
+    // GET 목록 (?prefix=로 ID 접두어 검색, ?sort=id|station|status&limit=&cursor=로 페이지 조회)
+    // POST 추가 {id,type,station} / PUT 위치 변경 {id,station} / DELETE ?id=
+    private String adminBicycles(Request req) {
+        User user = authenticate(req);
+        if (!"admin".equals(user.getUserType())) {
+            throw new ApiException(403, "관리자 권한이 없습니다.");
+        }
+
+        switch (req.method) {
+            case "GET": {
+                String prefix = req.params.get("prefix");
+                String limit = req.params.get("limit");
+                if (prefix == null && limit == null && req.params.get("sort") == null && req.params.get("cursor") == null) {
+                    return bikesToJson(bicycleManager.getSnapshot().getBicycles());
+                }
+                if (prefix == null) {
+                    FleetSort sort = FleetSort.valueOf(req.params.getOrDefault("sort", "id").toUpperCase());
+                    FleetPage page = fleetPager.page(sort, req.params.get("cursor"),
+                            limit == null ? 50 : Integer.parseInt(limit));
+                    return "{\"items\":" + bikesToJson(page.getItems())
+                            + ",\"nextCursor\":" + (page.hasNext() ? JsonUtil.quote(page.getNextCursor()) : "null")
+                            + ",\"total\":" + page.getTotal() + "}";
+                }
+                FleetSnapshot snapshot = bicycleManager.getSnapshot();
+                List<BicycleView> matches = new ArrayList<>();
+                for (String id : bicycleManager.getIdIndex().findByPrefix(prefix, limit == null ? 20 : Integer.parseInt(limit))) {
+                    BicycleView view = snapshot.getBicycle(id);
+                    if (view != null) matches.add(view); // 색인은 스냅샷보다 먼저 바뀔 수 있음
+                }
+                return bikesToJson(matches);
+            }
+            case "POST": {
+                String id = req.require("id");
+                AddBicycleCommand command = new AddBicycleCommand(bicycleManager, id, req.require("type"), req.require("station"));
+                commandPipeline.execute(command);
+                return toResponse(command.getResult(), id);
+            }
+            case "PUT": {
+                String id = req.require("id");
+                ChangeLocationCommand command = new ChangeLocationCommand(bicycleManager, id, req.require("station"));
+                commandPipeline.execute(command);
+                return toResponse(command.getResult(), id);
+            }
+            case "DELETE": {
+                String id = req.require("id");
+                RemoveBicycleCommand command = new RemoveBicycleCommand(bicycleManager, id);
+                commandPipeline.execute(command);
+                return toResponse(command.getResult(), id);
+            }
+            default:
+                throw new ApiException(405, "지원하지 않는 메서드입니다: " + req.method);
+        }
+    }
+
+    // POST 샘플 수집 {id,battery,lat,lon,locked[,ts]} / GET ?id= 최근 상태
+    private String adminTelemetry(Request req) {
+        User user = authenticate(req);
+        if (!"admin".equals(user.getUserType())) {
+            throw new ApiException(403, "관리자 권한이 없습니다.");
+        }
+
+        String id = req.require("id");
+        switch (req.method) {
+            case "POST": {
+                String ts = req.params.get("ts");
+                boolean accepted = telemetryService.ingest(id,
+                        ts == null ? System.currentTimeMillis() : Long.parseLong(ts),
+                        Integer.parseInt(req.require("battery")),
+                        Double.parseDouble(req.require("lat")),
+                        Double.parseDouble(req.require("lon")),
+                        Boolean.parseBoolean(req.require("locked")));
+                if (!accepted) {
+                    throw new ApiException(404, "전기자전거가 아닙니다. (" + id + ")");
+                }
+                return "{\"ok\":true}";
+            }
+            case "GET": {
+                BikeTelemetryBuffer buffer = telemetryService.getBuffer(id);
+                if (buffer == null) {
+                    throw new ApiException(404, "텔레메트리가 없습니다. (" + id + ")");
+                }
+                double[] position = buffer.getLatestPosition();
+                return "{\"id\":" + JsonUtil.quote(id)
+                        + ",\"battery\":" + buffer.getLatestBattery()
+                        + ",\"lat\":" + position[0] + ",\"lon\":" + position[1]
+                        + ",\"locked\":" + buffer.isLatestLocked()
+                        + ",\"ts\":" + buffer.getLatestTimestamp() + "}";
+            }
+            default:
+                throw new ApiException(405, "지원하지 않는 메서드입니다: " + req.method);
+        }
+    }
+
+    // POST {table: fleet|users|rides|all, format: csv|columnar, incremental} → exports/ 폴더에 쓰고 결과 목록
+    private String adminExport(Request req) {
+        User user = authenticate(req);
+        if (!"admin".equals(user.getUserType())) {
+            throw new ApiException(403, "관리자 권한이 없습니다.");
+        }
+        if (!"POST".equals(req.method)) {
+            throw new ApiException(405, "지원하지 않는 메서드입니다: " + req.method);
+        }
+
+        ExportFormat format = ExportFormat.parse(req.params.get("format"));
+        boolean incremental = Boolean.parseBoolean(req.params.get("incremental"));
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        try {
+            for (ExportTable table : ExportService.tables(req.params.get("table"), bicycleManager, userManager)) {
+                ExportResult result = exportService.export(table, format, incremental);
+                if (json.charAt(json.length() - 1) == '}') json.append(',');
+                json.append("{\"table\":").append(JsonUtil.quote(result.getTable()))
+                        .append(",\"file\":").append(result.getFile() == null ? "null" : JsonUtil.quote(result.getFile().toString()))
+                        .append(",\"rows\":").append(result.getRows())
+                        .append(",\"bytes\":").append(result.getBytes())
+                        .append(",\"watermark\":").append(result.getToSequence()).append('}');
+            }
+        } catch (IOException e) {
+            throw new ApiException(500, "내보내기에 실패했습니다: " + e.getMessage());
+        }
+        return json.append("]}").toString();
+    }
+
+    // 매니저 결과 코드를 HTTP 응답으로 변환
+    private String toResponse(OperationResult result, String id) {
+        if (result == OperationResult.NOT_FOUND) {
+            throw new ApiException(404, result.getMessage() + " (" + id + ")");
+        }
+        if (result == OperationResult.INVALID_TYPE) {
+            throw new ApiException(400, result.getMessage());
+        }
+        if (!result.isSuccess()) {
+            throw new ApiException(409, result.getMessage() + " (" + id + ")");
+        }
+        return "{\"ok\":true}";
+    }
+
+    /**
+     * 공통 처리
+     */
+
+    private User authenticate(Request req) {
+        String token = req.token();
+        String userId = token == null ? null : sessions.get(token);
+        User user = userId == null ? null : userManager.getUser(userId);
+        if (user == null) {
+            throw new ApiException(401, "로그인이 필요합니다.");
+        }
+        return user;
+    }
+
+    private static String bikesToJson(List<BicycleView> bikes) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < bikes.size(); i++) {
+            BicycleView b = bikes.get(i);
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(JsonUtil.quote(b.getId()))
+                    .append(",\"type\":").append(JsonUtil.quote(b.getType()))
+                    .append(",\"status\":").append(JsonUtil.quote(b.getStatus().name()))
+                    .append(",\"location\":").append(JsonUtil.quote(b.getLocation()))
+                    .append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    private HttpHandler route(Route route) {
+        return exchange -> {
+            Request req = parseRequest(exchange);
+            if (req == null) return;
+            IdempotencyCache.Response response = handle(route, req);
+            send(exchange, response.getStatus(), response.getBody());
+        };
+    }
+
+    // Idempotency-Key 헤더가 있는 POST는 (사용자, 경로, 키)마다 한 번만 처리하고 재시도에는 같은 응답을 돌려줌
+    private HttpHandler idempotent(Route route) {
+        return exchange -> {
+            Request req = parseRequest(exchange);
+            if (req == null) return;
+            String key = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_HEADER);
+            String token = req.token();
+            String userId = token == null ? null : sessions.get(token);
+            if (key == null || userId == null || !"POST".equals(req.method)) {
+                IdempotencyCache.Response response = handle(route, req);
+                send(exchange, response.getStatus(), response.getBody());
+                return;
+            }
+            if (key.isBlank() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                send(exchange, 400, "{\"ok\":false,\"error\":\"멱등 키는 1~" + MAX_IDEMPOTENCY_KEY_LENGTH + "자여야 합니다.\"}");
+                return;
+            }
+
+            String cacheKey = userId + '\n' + exchange.getRequestURI().getPath() + '\n' + key;
+            try {
+                IdempotencyCache.Outcome outcome = idempotencyCache.execute(cacheKey, IdempotencyCache.fingerprint(req.params),
+                        () -> handle(route, req));
+                if (outcome.isReplayed()) {
+                    exchange.getResponseHeaders().set("Idempotent-Replayed", "true");
+                }
+                send(exchange, outcome.getResponse().getStatus(), outcome.getResponse().getBody());
+            } catch (IdempotencyCache.KeyReusedException e) {
+                send(exchange, 422, "{\"ok\":false,\"error\":" + JsonUtil.quote(e.getMessage()) + "}");
+            }
+        };
+    }
+
+    // 요청 파라미터 읽기 (JSON/퍼센트 인코딩이 잘못됐으면 400을 보내고 null)
+    private static Request parseRequest(HttpExchange exchange) throws IOException {
+        try {
+            return new Request(exchange);
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"ok\":false,\"error\":" + JsonUtil.quote("잘못된 요청 형식입니다: " + e.getMessage()) + "}");
+            return null;
+        }
+    }
+
+    // 핸들러 실행 결과(또는 오류)를 상태 코드 + 본문으로
+    private IdempotencyCache.Response handle(Route route, Request req) throws IOException {
+        try {
+            return new IdempotencyCache.Response(200, route.handle(req));
+        } catch (ApiException e) {
+            return new IdempotencyCache.Response(e.status, "{\"ok\":false,\"error\":" + JsonUtil.quote(e.getMessage()) + "}");
+        } catch (IllegalArgumentException e) {
+            return new IdempotencyCache.Response(400, "{\"ok\":false,\"error\":" + JsonUtil.quote(e.getMessage()) + "}");
+        } catch (RuntimeException e) {
+            DiagnosticSink.getInstance().error("API 처리 중 오류 (" + req.method + " " + req.exchange.getRequestURI().getPath() + "): " + e);
+            return new IdempotencyCache.Response(500, "{\"ok\":false,\"error\":\"서버 내부 오류\"}");
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private interface Route {
+        String handle(Request req) throws IOException;
+    }
+
+    // 상태 코드를 담은 API 오류
+    static class ApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    // 쿼리 문자열 + JSON 본문(또는 form 본문)을 합친 요청 파라미터
+    private static class Request {
+        private final HttpExchange exchange;
+        private final String method;
+        private final Map<String, String> params = new HashMap<>();
+
+        Request(HttpExchange exchange) throws IOException {
+            this.exchange = exchange;
+            this.method = exchange.getRequestMethod();
+            parseQuery(exchange.getRequestURI().getRawQuery());
+
+            try (InputStream in = exchange.getRequestBody()) {
+                String body = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+                if (body.startsWith("{")) {
+                    params.putAll(JsonUtil.parseObject(body));
+                } else if (!body.isEmpty()) {
+                    parseQuery(body);
+                }
+            }
+        }
+
+        private void parseQuery(String query) {
+            if (query == null || query.isEmpty()) return;
+            for (String pair : query.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq <= 0) continue;
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+
+        String param(String name) {
+            return params.get(name);
+        }
+
+        String paramOrDefault(String name, String defaultValue) {
+            String value = params.get(name);
+            return value == null ? defaultValue : value;
+        }
+
+        String require(String name) {
+            String value = params.get(name);
+            if (value == null || value.isBlank()) {
+                throw new ApiException(400, "필수 값이 없습니다: " + name);
+            }
+            return value;
+        }
+
+        int requireInt(String name) {
+            try {
+                return Integer.parseInt(require(name));
+            } catch (NumberFormatException e) {
+                throw new ApiException(400, "숫자가 필요합니다: " + name);
+            }
+        }
+
+        void requireMethod(String expected) {
+            if (!expected.equals(method)) {
+                throw new ApiException(405, "지원하지 않는 메서드입니다: " + method);
+            }
+        }
+
+        String token() {
+            String header = exchange.getRequestHeaders().getFirst("Authorization");
+            if (header != null && header.startsWith("Bearer ")) {
+                return header.substring("Bearer ".length()).trim();
+            }
+            return null;
+        }
+    }
+}
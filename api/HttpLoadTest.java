@@ -0,0 +1,132 @@
+package api;
+
+import command.CommandPipeline;
+import core.BicycleManager;
+import core.UserManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * localhost HTTP API 부하 테스트
+ * - 사용법: java -cp out api.HttpLoadTest [스레드 수] [초] [기본 URL]
+ * - URL을 생략하면 같은 JVM 안에서 서버를 띄워 현재 폴더의 bicycles.json/users.csv로 측정합니다.
+ * - 조회 위주 요청(스테이션 현황, 스테이션별 자전거, 잔액)을 보내고 초당 요청 수와 지연 백분위를 출력합니다.
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String baseUrl = args.length > 2 ? args[2] : null;
+
+        HttpApiServer embedded = null;
+        CommandPipeline pipeline = null;
+        if (baseUrl == null) {
+            BicycleManager bicycleManager = new BicycleManager();
+            pipeline = new CommandPipeline(bicycleManager);
+            embedded = new HttpApiServer(bicycleManager, new UserManager(), pipeline);
+            embedded.start(0);
+            baseUrl = "http://localhost:" + embedded.getPort();
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String token = loginLoadUser(client, baseUrl);
+        String[] stations = {"성복동", "상현동", "죽전동", "보정동"};
+
+        System.out.println("[부하 테스트] " + baseUrl + " / 스레드 " + threads + "개 / " + seconds + "초");
+        long[][] latencies = new long[threads][];
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int index = t;
+            final String base = baseUrl;
+            workers[t] = new Thread(() -> {
+                long[] samples = new long[1 << 16];
+                int count = 0;
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                while (System.nanoTime() < deadline) {
+                    int pick = rnd.nextInt(10);
+                    String path;
+                    if (pick < 7) {
+                        path = "/api/stations";
+                    } else if (pick < 9) {
+                        path = "/api/stations?station="
+                                + URLEncoder.encode(stations[rnd.nextInt(stations.length)], StandardCharsets.UTF_8);
+                    } else {
+                        path = "/api/balance";
+                    }
+
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                            .header("Authorization", "Bearer " + token)
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 200) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[index] = Arrays.copyOf(samples, count);
+            }, "load-" + t);
+        }
+
+        long begin = System.nanoTime();
+        for (Thread w : workers) w.start();
+        for (Thread w : workers) w.join();
+        double elapsedSec = (System.nanoTime() - begin) / 1e9;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        System.out.println("\n==== 부하 테스트 결과 ====");
+        System.out.printf("총 요청: %d건 (오류 %d건)\n", all.length, errors.get());
+        System.out.printf("처리량: %.0f req/s\n", all.length / elapsedSec);
+        System.out.printf("지연 p50: %.2fms, p99: %.2fms, p99.9: %.2fms, 최대: %.2fms\n",
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1e6);
+
+        if (embedded != null) {
+            embedded.stop();
+            pipeline.shutdown();
+        }
+    }
+
+    // 부하 테스트 전용 사용자를 만들고 토큰을 받음
+    private static String loginLoadUser(HttpClient client, String baseUrl) throws Exception {
+        String userId = "loadtest";
+        String body = "{\"userId\":\"" + userId + "\",\"password\":\"loadtest\"}";
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users"))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        Map<String, String> json = JsonUtil.parseObject(response.body());
+        if (json.get("token") == null) {
+            throw new IllegalStateException("부하 테스트 사용자 로그인 실패: " + response.body());
+        }
+        return json.get("token");
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0.0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,227 @@
+package api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.MetricsRegistry;
+
+/**
+ * 멱등 키(Idempotency-Key)별 응답 캐시
+ * - 같은 키로 다시 온 요청은 처리하지 않고 처음 응답을 그대로 돌려줍니다. (키오스크 재시도로 이중 결제 방지)
+ * - 처음 요청이 아직 처리 중이면 재시도는 그 결과가 나올 때까지 기다립니다. (동시에 와도 한 번만 실행)
+ * - 같은 키인데 요청 내용(지문, 요청 값의 SHA-256)이 다르면 KeyReusedException을 던집니다.
+ * - 항목은 ttl이 지나면 만료되고, 추정 메모리 합계가 예산을 넘으면 오래된 것부터 내보냅니다.
+ *   완료된 항목만 순서 큐에 들어가므로 정리는 큐 앞에서부터 하면 됩니다.
+ * - 재시도해도 결과가 달라질 수 있는 응답(5xx, 401, 429)은 저장하지 않습니다.
+ */
+public class IdempotencyCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 208; // 맵 노드, 항목, future, 큐 노드, 문자열 머리, 지문 배열 등 대략값
+
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> order = new ConcurrentLinkedQueue<>(); // 완료 순서
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    private final LongAdder hits = MetricsRegistry.getInstance().counter("idempotency.hits");
+    private final LongAdder misses = MetricsRegistry.getInstance().counter("idempotency.misses");
+    private final LongAdder evictions = MetricsRegistry.getInstance().counter("idempotency.evictions");
+    private final LongAdder conflicts = MetricsRegistry.getInstance().counter("idempotency.key_reused");
+
+    public IdempotencyCache(long maxBytes, long ttlMillis) {
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("idempotency.bytes", usedBytes::get);
+        metrics.gauge("idempotency.entries", entries::size);
+    }
+
+    /**
+     * 키에 저장된 응답이 있으면 돌려주고(replayed), 없으면 action을 한 번 실행해 저장합니다.
+     * fingerprint는 요청 내용의 지문(fingerprint(params))으로, 같은 키의 다른 요청을 가려내는 데 씁니다.
+     */
+    public Outcome execute(String key, byte[] fingerprint, Action action) throws IOException {
+        while (true) {
+            Entry entry = new Entry(key, fingerprint);
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                misses.increment();
+                return new Outcome(run(entry, action), false);
+            }
+            if (existing.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                remove(existing);
+                continue;
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                conflicts.increment();
+                throw new KeyReusedException();
+            }
+            Response response = await(existing);
+            if (response == null) {
+                continue; // 처음 요청이 저장되지 않고 끝남 → 이번 요청이 직접 실행
+            }
+            hits.increment();
+            return new Outcome(response, true);
+        }
+    }
+
+    // 요청 값의 지문: 이름 순으로 정렬한 (이름, 값)을 길이와 함께 이어 붙인 SHA-256
+    public static byte[] fingerprint(Map<String, String> params) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JDK가 SHA-256을 제공
+        }
+        for (Map.Entry<String, String> entry : new TreeMap<>(params).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(new byte[]{(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+                (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+
+    public long getUsedBytes() { return usedBytes.get(); }
+    public int size() { return entries.size(); }
+
+    private Response run(Entry entry, Action action) throws IOException {
+        Response response;
+        try {
+            response = action.run();
+        } catch (IOException | RuntimeException | Error e) {
+            entries.remove(entry.key, entry);
+            entry.result.complete(null); // 기다리던 재시도는 직접 실행
+            throw e;
+        }
+
+        if (!response.isCacheable() || entry.bytes(response) > maxBytes) {
+            entries.remove(entry.key, entry);
+            entry.result.complete(null);
+            return response;
+        }
+        entry.completedAt = System.currentTimeMillis();
+        entry.size = entry.bytes(response);
+        usedBytes.addAndGet(entry.size);
+        order.add(entry);
+        entry.result.complete(response);
+        evict();
+        return response;
+    }
+
+    private static Response await(Entry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    // 만료된 항목과 예산을 넘는 만큼을 오래된 순서로 정리
+    private void evict() {
+        long now = System.currentTimeMillis();
+        Entry head;
+        while ((head = order.peek()) != null
+                && (usedBytes.get() > maxBytes || head.isExpired(now, ttlMillis))) {
+            if (order.remove(head)) {
+                if (entries.remove(head.key, head) && !head.isExpired(now, ttlMillis)) {
+                    evictions.increment();
+                }
+                usedBytes.addAndGet(-head.size);
+            }
+        }
+    }
+
+    // 조회 중 만료를 발견한 항목 제거 (메모리 합계는 순서 큐에서 빠질 때 줄어듦)
+    private void remove(Entry entry) {
+        entries.remove(entry.key, entry);
+        evict();
+    }
+
+    // 캐시할 응답 (HTTP 상태 코드 + 본문)
+    public static class Response {
+        private final int status;
+        private final String body;
+
+        public Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int getStatus() { return status; }
+        public String getBody() { return body; }
+
+        boolean isCacheable() {
+            return status < 500 && status != 401 && status != 429;
+        }
+    }
+
+    // 실행 결과 + 저장된 응답을 다시 돌려준 것인지 여부
+    public static class Outcome {
+        private final Response response;
+        private final boolean replayed;
+
+        Outcome(Response response, boolean replayed) {
+            this.response = response;
+            this.replayed = replayed;
+        }
+
+        public Response getResponse() { return response; }
+        public boolean isReplayed() { return replayed; }
+    }
+
+    public interface Action {
+        Response run() throws IOException;
+    }
+
+    // 같은 키를 다른 요청 내용으로 다시 사용함
+    public static class KeyReusedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        KeyReusedException() {
+            super("같은 멱등 키가 다른 요청에 사용되었습니다.");
+        }
+    }
+
+    private static class Entry {
+        private final String key;
+        private final byte[] fingerprint;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private volatile long completedAt; // 0이면 아직 처리 중
+        private long size;
+
+        Entry(String key, byte[] fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            long completed = completedAt;
+            return completed != 0 && now - completed > ttlMillis;
+        }
+
+        long bytes(Response response) {
+            return ENTRY_OVERHEAD_BYTES + 2L * key.length() + 2L * response.getBody().length();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package api;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP API용 최소 JSON 유틸리티
+ * - 요청 본문은 {"key": "value", "n": 1} 같은 평평한 객체만 지원합니다.
+ * - 응답은 StringBuilder로 직접 만듭니다. (BicycleManager의 JSON 저장 방식과 동일하게 외부 라이브러리 없이)
+ */
+public final class JsonUtil {
+
+    private JsonUtil() {
+    }
+
+    // 평평한 JSON 객체를 key → 문자열 값으로 파싱 (숫자/불리언도 문자열로 보관)
+    public static Map<String, String> parseObject(String json) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (json == null) return result;
+
+        int i = json.indexOf('{');
+        if (i == -1) return result;
+        i++;
+
+        while (i < json.length()) {
+            i = skipWhitespace(json, i);
+            if (i >= json.length() || json.charAt(i) == '}') break;
+            if (json.charAt(i) == ',') {
+                i++;
+                continue;
+            }
+
+            // 키
+            if (json.charAt(i) != '"') {
+                throw new IllegalArgumentException("JSON 키 위치가 잘못되었습니다: " + i);
+            }
+            StringBuilder key = new StringBuilder();
+            i = readString(json, i, key);
+            i = skipWhitespace(json, i);
+            if (i >= json.length() || json.charAt(i) != ':') {
+                throw new IllegalArgumentException("JSON ':' 가 필요합니다: " + i);
+            }
+            i = skipWhitespace(json, i + 1);
+
+            // 값
+            StringBuilder value = new StringBuilder();
+            if (i < json.length() && json.charAt(i) == '"') {
+                i = readString(json, i, value);
+            } else {
+                while (i < json.length() && json.charAt(i) != ',' && json.charAt(i) != '}') {
+                    value.append(json.charAt(i++));
+                }
+            }
+            String v = value.toString().trim();
+            result.put(key.toString(), "null".equals(v) ? null : v);
+        }
+        return result;
+    }
+
+    private static int skipWhitespace(String s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        return i;
+    }
+
+    // 따옴표로 시작하는 문자열을 읽고 닫는 따옴표 다음 위치를 반환
+    private static int readString(String s, int i, StringBuilder out) {
+        i++; // 여는 따옴표
+        while (i < s.length()) {
+            char c = s.charAt(i++);
+            if (c == '"') return i;
+            if (c == '\\' && i < s.length()) {
+                char e = s.charAt(i++);
+                switch (e) {
+                    case 'n': out.append('\n'); break;
+                    case 't': out.append('\t'); break;
+                    case 'r': out.append('\r'); break;
+                    case 'u':
+                        out.append((char) Integer.parseInt(s.substring(i, i + 4), 16));
+                        i += 4;
+                        break;
+                    default: out.append(e);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+        throw new IllegalArgumentException("닫히지 않은 JSON 문자열입니다.");
+    }
+
+    // 문자열을 JSON 문자열 리터럴로 변환
+    public static String quote(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+
+    // 문자열 목록을 JSON 배열로 변환
+    public static String stringArray(Collection<String> values) {
+        StringBuilder sb = new StringBuilder("[");
+        boolean first = true;
+        for (String v : values) {
+            if (!first) sb.append(',');
+            sb.append(quote(v));
+            first = false;
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -3,12 +3,14 @@
 package command;
 
 import core.BicycleManager;
+import core.OperationResult;
 
 public class AddBicycleCommand implements Command {
     private final BicycleManager bicycleManager;
     private final String id;
     private final String type;
     private final String station;
+    private OperationResult result;
 
     public AddBicycleCommand(BicycleManager bicycleManager,
                              String id, String type, String station) {
@@ -20,6 +22,11 @@ public class AddBicycleCommand implements Command {
 
     @Override
     public void execute() {
-        bicycleManager.addBicycle(id, type, station);
+        result = bicycleManager.addBicycle(id, type, station);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
     }
 }
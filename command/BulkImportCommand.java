@@ -0,0 +1,21 @@
+// BulkImportCommand.java
+
+package command;
+
+import core.BicycleManager;
+import core.ImportReport;
+
+public class BulkImportCommand implements Command {
+    private final BicycleManager bicycleManager;
+    private final ImportReport report;
+
+    public BulkImportCommand(BicycleManager bicycleManager, ImportReport report) {
+        this.bicycleManager = bicycleManager;
+        this.report = report;
+    }
+
+    @Override
+    public void execute() {
+        bicycleManager.importBicycles(report);
+    }
+}
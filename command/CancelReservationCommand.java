@@ -0,0 +1,29 @@
+// CancelReservationCommand.java
+
+package command;
+
+import core.OperationResult;
+import reservation.ReservationManager;
+
+public class CancelReservationCommand implements Command {
+    private final ReservationManager reservationManager;
+    private final String userId;
+    private final String id;
+    private OperationResult result;
+
+    public CancelReservationCommand(ReservationManager reservationManager, String userId, String id) {
+        this.reservationManager = reservationManager;
+        this.userId = userId;
+        this.id = id;
+    }
+
+    @Override
+    public void execute() {
+        result = reservationManager.cancel(userId, id);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
+    }
+}
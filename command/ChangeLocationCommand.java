@@ -3,11 +3,13 @@
 package command;
 
 import core.BicycleManager;
+import core.OperationResult;
 
 public class ChangeLocationCommand implements Command {
     private final BicycleManager bicycleManager;
     private final String id;
     private final String newLocation;
+    private OperationResult result;
 
     public ChangeLocationCommand(BicycleManager bicycleManager,
                                  String id,
@@ -19,6 +21,11 @@ public class ChangeLocationCommand implements Command {
 
     @Override
     public void execute() {
-        bicycleManager.changeBicycleLocation(id, newLocation);
+        result = bicycleManager.changeBicycleLocation(id, newLocation);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
     }
 }
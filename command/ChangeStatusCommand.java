@@ -0,0 +1,33 @@
+// ChangeStatusCommand.java
+
+package command;
+
+import core.BicycleManager;
+import core.OperationResult;
+import state.BikeEvent;
+
+// 상태 이벤트(고장/수리 입고/수리 완료)를 전이표대로 발생시킴
+public class ChangeStatusCommand implements Command {
+    private final BicycleManager bicycleManager;
+    private final String id;
+    private final BikeEvent event;
+    private OperationResult result;
+
+    public ChangeStatusCommand(BicycleManager bicycleManager,
+                               String id,
+                               BikeEvent event) {
+        this.bicycleManager = bicycleManager;
+        this.id = id;
+        this.event = event;
+    }
+
+    @Override
+    public void execute() {
+        result = bicycleManager.fireStatusEvent(id, event);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
+    }
+}
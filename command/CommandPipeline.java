@@ -0,0 +1,153 @@
+// CommandPipeline.java
+
+package command;
+
+import core.BicycleManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 작성자(Single-Writer) 커맨드 파이프라인
+ * - 여러 프론트엔드(콘솔, 스케줄러 등)가 커맨드를 제출하면 고정 크기 원형 버퍼에 쌓입니다.
+ * - 작성자 스레드 하나만 BicycleManager에 커맨드를 순서대로 적용하므로 코어에는 락이 필요 없습니다.
+ * - 한 번에 꺼낸 묶음(batch)은 JSON 저장을 한 번만 수행합니다.
+ * - 제출한 커맨드마다 완료 Future가 돌아옵니다. (저장까지 끝난 뒤 완료)
+ */
+public class CommandPipeline {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_MAX_BATCH = 64;
+
+    private final BicycleManager bicycleManager;
+    private final ArrayBlockingQueue<PendingCommand> ringBuffer; // 배열 기반 원형 버퍼
+    private final int maxBatchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public CommandPipeline(BicycleManager bicycleManager) {
+        this(bicycleManager, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    public CommandPipeline(BicycleManager bicycleManager, int capacity, int maxBatchSize) {
+        this.bicycleManager = bicycleManager;
+        this.ringBuffer = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.writer = new Thread(this::runWriter, "command-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 커맨드를 버퍼에 넣고 완료 Future를 반환합니다.
+     * 버퍼가 가득 차면 빈 자리가 생길 때까지 기다립니다. (생산자 쪽 역압)
+     */
+    public CompletableFuture<Void> submit(Command command) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("커맨드 파이프라인이 종료되었습니다."));
+            return future;
+        }
+
+        // 작성자 스레드 안에서 다시 제출하면 자기 자신을 기다리게 되므로 바로 실행
+        if (Thread.currentThread() == writer) {
+            try {
+                command.execute();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        try {
+            ringBuffer.put(new PendingCommand(command, future));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 커맨드를 제출하고 완료될 때까지 기다립니다. (콘솔처럼 결과를 바로 봐야 하는 호출자용)
+     */
+    public void execute(Command command) {
+        try {
+            submit(command).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    // 작성자 스레드: 꺼낼 수 있는 만큼 묶어서 적용 후 한 번 저장
+    private void runWriter() {
+        List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                PendingCommand first = ringBuffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                ringBuffer.drainTo(batch, maxBatchSize - 1);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로만 판단 (파일 쓰기 도중 인터럽트되면 채널이 닫히기 때문)
+                continue;
+            }
+            applyBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void applyBatch(List<PendingCommand> batch) {
+        bicycleManager.beginBatch();
+        try {
+            for (PendingCommand pending : batch) {
+                try {
+                    pending.command.execute();
+                } catch (RuntimeException e) {
+                    pending.error = e;
+                }
+            }
+        } finally {
+            bicycleManager.endBatch(); // 묶음 단위로 한 번만 저장
+        }
+
+        for (PendingCommand pending : batch) {
+            if (pending.error != null) {
+                pending.future.completeExceptionally(pending.error);
+            } else {
+                pending.future.complete(null);
+            }
+        }
+    }
+
+    // 남은 커맨드를 모두 처리한 뒤 작성자 스레드를 종료
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 버퍼에 들어가는 항목 (커맨드 + 완료 Future)
+    private static class PendingCommand {
+        private final Command command;
+        private final CompletableFuture<Void> future;
+        private RuntimeException error;
+
+        PendingCommand(Command command, CompletableFuture<Void> future) {
+            this.command = command;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+// RechargeBalanceCommand.java
+
+package command;
+
+import core.UserManager;
+
+public class RechargeBalanceCommand implements Command {
+    private final UserManager userManager;
+    private final String userId;
+    private final int amount;
+    private boolean success;
+
+    public RechargeBalanceCommand(UserManager userManager, String userId, int amount) {
+        this.userManager = userManager;
+        this.userId = userId;
+        this.amount = amount;
+    }
+
+    @Override
+    public void execute() {
+        success = userManager.rechargeBalance(userId, amount);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public boolean isSuccess() {
+        return success;
+    }
+}
@@ -0,0 +1,31 @@
+// RegisterUserCommand.java
+
+package command;
+
+import core.User;
+import core.UserManager;
+
+// 회원가입 (ID 중복 확인과 저장을 작성자 스레드에서 한 번에)
+public class RegisterUserCommand implements Command {
+    private final UserManager userManager;
+    private final User user;
+    private boolean created;
+
+    public RegisterUserCommand(UserManager userManager, User user) {
+        this.userManager = userManager;
+        this.user = user;
+    }
+
+    @Override
+    public void execute() {
+        if (!userManager.isUserIdExists(user.getUserId())) {
+            userManager.saveUser(user);
+            created = true;
+        }
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회, 이미 있는 ID면 false)
+    public boolean isCreated() {
+        return created;
+    }
+}
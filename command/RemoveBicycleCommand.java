@@ -3,10 +3,12 @@
 package command;
 
 import core.BicycleManager;
+import core.OperationResult;
 
 public class RemoveBicycleCommand implements Command {
     private final BicycleManager bicycleManager;
     private final String id;
+    private OperationResult result;
 
     public RemoveBicycleCommand(BicycleManager bicycleManager, String id) {
         this.bicycleManager = bicycleManager;
@@ -15,6 +17,11 @@ public class RemoveBicycleCommand implements Command {
 
     @Override
     public void execute() {
-        bicycleManager.removeBicycle(id);
+        result = bicycleManager.removeBicycle(id);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
     }
 }
@@ -0,0 +1,45 @@
+// RentBicycleCommand.java
+
+package command;
+
+import core.BicycleManager;
+import core.OperationResult;
+import core.User;
+
+public class RentBicycleCommand implements Command {
+    private final BicycleManager bicycleManager;
+    private final String id;
+    private final User user; // 대여자 (없으면 자전거 상태만 변경)
+    private OperationResult result;
+
+    public RentBicycleCommand(BicycleManager bicycleManager, String id) {
+        this(bicycleManager, id, null);
+    }
+
+    public RentBicycleCommand(BicycleManager bicycleManager, String id, User user) {
+        this.bicycleManager = bicycleManager;
+        this.id = id;
+        this.user = user;
+    }
+
+    @Override
+    public void execute() {
+        if (user != null && user.isRenting()) {
+            result = OperationResult.ALREADY_RENTING;
+            return;
+        }
+        result = bicycleManager.rentBicycle(id, user == null ? null : user.getUserId());
+        if (result.isSuccess() && user != null) {
+            user.startRental(id);
+        }
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public boolean isSuccess() {
+        return result != null && result.isSuccess();
+    }
+
+    public OperationResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+// RentReservedBicycleCommand.java
+
+package command;
+
+import core.OperationResult;
+import core.User;
+import reservation.ReservationManager;
+
+public class RentReservedBicycleCommand implements Command {
+    private final ReservationManager reservationManager;
+    private final String id;
+    private final User user;
+    private OperationResult result;
+
+    public RentReservedBicycleCommand(ReservationManager reservationManager, String id, User user) {
+        this.reservationManager = reservationManager;
+        this.id = id;
+        this.user = user;
+    }
+
+    @Override
+    public void execute() {
+        // 예약자 확인 → 대여 → 사용자 대여 상태 갱신까지 작성자 스레드에서 한 번에
+        result = reservationManager.claim(user, id);
+    }
+
+    public boolean isSuccess() {
+        return result != null && result.isSuccess();
+    }
+
+    public OperationResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+// ReportBrokenCommand.java
+
+package command;
+
+import core.BicycleManager;
+import core.OperationResult;
+import java.util.List;
+import observer.BreakdownReason;
+import observer.ObserverInterface;
+
+public class ReportBrokenCommand implements Command {
+    private final BicycleManager bicycleManager;
+    private final String id;
+    private final List<BreakdownReason> reasons;
+    private final ObserverInterface observer;
+    private OperationResult result;
+
+    public ReportBrokenCommand(BicycleManager bicycleManager,
+                               String id,
+                               List<BreakdownReason> reasons,
+                               ObserverInterface observer) {
+        this.bicycleManager = bicycleManager;
+        this.id = id;
+        this.reasons = reasons;
+        this.observer = observer;
+    }
+
+    @Override
+    public void execute() {
+        result = bicycleManager.reportBroken(id, reasons, observer);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public OperationResult getResult() {
+        return result;
+    }
+}
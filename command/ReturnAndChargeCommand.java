@@ -0,0 +1,97 @@
+// ReturnAndChargeCommand.java
+
+package command;
+
+import core.Bicycle;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.OperationResult;
+import core.User;
+import core.UserManager;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import strategy.PricingContext;
+import strategy.PricingStrategyFactory;
+
+/**
+ * 반납 + 요금 계산 + 잔액 차감을 한 번에 처리하는 커맨드
+ * 콘솔과 HTTP API가 같은 결제 흐름을 공유하도록 분리했습니다.
+ * 정산이 끝나면 이용 내역(RideLog)에 한 건을 남깁니다.
+ */
+public class ReturnAndChargeCommand implements Command {
+    private static final LatencyHistogram PRICING_LATENCY = MetricsRegistry.getInstance().histogram("pricing.calculate");
+
+    private final BicycleManager bicycleManager;
+    private final UserManager userManager;
+    private final PricingStrategyFactory strategyFactory;
+    private final User user;
+    private final String id;
+    private final String returnLocation;
+
+    private String bicycleType;
+    private int minutes = -1;
+    private int fee;
+    private String strategyName;
+    private boolean paid;
+    private OperationResult result;
+
+    public ReturnAndChargeCommand(BicycleManager bicycleManager, UserManager userManager,
+                                  PricingStrategyFactory strategyFactory,
+                                  User user, String id, String returnLocation) {
+        this.bicycleManager = bicycleManager;
+        this.userManager = userManager;
+        this.strategyFactory = strategyFactory;
+        this.user = user;
+        this.id = id;
+        this.returnLocation = returnLocation;
+    }
+
+    @Override
+    public void execute() {
+        // 아무것도 바꾸기 전에 확인: 정산할 사용자가 없거나 기록된 대여자가 다르면 반납하지 않음
+        if (user == null) {
+            result = OperationResult.UNKNOWN_USER;
+            return;
+        }
+        Bicycle bike = bicycleManager.getBicycle(id);
+        if (bike == null) {
+            result = OperationResult.NOT_FOUND;
+            return;
+        }
+        String renter = bicycleManager.getRenter(id); // 대여자를 모르는 예전 기록이면 null
+        if (renter != null && !renter.equals(user.getUserId())) {
+            result = OperationResult.RENTED_BY_OTHER;
+            return;
+        }
+        bicycleType = bike.getType();
+        String fromStation = bike.getLocation(); // 대여 중에는 빌린 스테이션 그대로
+        long startMillis = bicycleManager.getRentalStartTime(id);
+
+        minutes = bicycleManager.returnBicycle(id, returnLocation);
+        if (minutes < 0) {
+            result = startMillis < 0 && bike.getStatus() == BicycleStatus.RENTED
+                    ? OperationResult.NO_RENTAL_RECORD : OperationResult.NOT_RENTED;
+            return;
+        }
+        result = OperationResult.SUCCESS;
+        user.endRental();
+
+        long pricingStart = System.nanoTime();
+        PricingContext pricingContext = new PricingContext(strategyFactory.getStrategy(user.getUserType(), bicycleType));
+        fee = pricingContext.calculatePrice(minutes);
+        strategyName = pricingContext.getStrategyName();
+        PRICING_LATENCY.recordSince(pricingStart);
+        paid = userManager.deductBalance(user.getUserId(), fee);
+        bicycleManager.getRideLog().append(id, user.getUserId(), fromStation, returnLocation,
+                startMillis, System.currentTimeMillis(), minutes, fee, paid);
+    }
+
+    // 실행 결과 (파이프라인 완료 후 조회)
+    public boolean isReturned() { return minutes >= 0; }
+    public OperationResult getResult() { return result; }
+    public String getBicycleType() { return bicycleType; }
+    public int getMinutes() { return minutes; }
+    public int getFee() { return fee; }
+    public String getStrategyName() { return strategyName; }
+    public boolean isPaid() { return paid; }
+}
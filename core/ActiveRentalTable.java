@@ -0,0 +1,258 @@
+package core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진행 중인 대여 표 (자전거 → 대여자, 대여 시작 시각)
+ * - 파일(active-rentals.dat)을 메모리에 매핑하고, 대여 한 건이 고정 크기 칸(SLOT_BYTES) 하나를 차지합니다.
+ *   대여하면 빈 칸 하나에 그 자리에서 쓰고, 반납하면 시작 시각만 0으로 지웁니다. (작업마다 작은 쓰기 한 번)
+ * - 칸 형식(리틀 엔디언): [시작 시각 long, 0이면 빈 칸][자전거 ID 길이 + UTF-8][대여자 ID 길이 + UTF-8]
+ *   ID를 먼저 쓰고 시작 시각을 마지막에 쓰므로, 도중에 멈춘 칸은 빈 칸으로 읽힙니다.
+ * - 시작할 때 파일을 한 번 훑어 메모리 색인(자전거 ID → 칸)과 빈 칸 목록을 다시 만듭니다.
+ * - 쓰기는 페이지 캐시에 바로 반영되므로 프로세스가 죽어도 남습니다. (디스크 동기화는 닫을 때 force)
+ * - BicycleManager가 작성자 스레드에서만 사용합니다.
+ */
+public class ActiveRentalTable implements AutoCloseable {
+    static final int SLOT_BYTES = 64;
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC = 0x524E5431; // "RNT1"
+    private static final int BIKE_OFFSET = 8;
+    private static final int USER_OFFSET = 32;
+    private static final int MAX_BIKE_ID_BYTES = USER_OFFSET - BIKE_OFFSET - 1;   // 23
+    private static final int MAX_USER_ID_BYTES = SLOT_BYTES - USER_OFFSET - 1;   // 31
+    private static final int INITIAL_SLOTS = 1024;
+
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+    private final Map<String, Rental> rentals = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer map; // 파일을 열지 못했으면 null (메모리에만 기록)
+    private int slotCount;
+    private int[] freeSlots = new int[0]; // 빈 칸 번호 스택 (작은 번호가 위)
+    private int freeCount;
+
+    public ActiveRentalTable(Path file) {
+        try {
+            open(file);
+        } catch (IOException e) {
+            diagnostics.error("대여 기록 파일을 열지 못했습니다. 이번 실행은 메모리에만 기록합니다: " + e.getMessage());
+            map = null;
+        }
+    }
+
+    private void open(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size >= HEADER_BYTES && (size - HEADER_BYTES) % SLOT_BYTES == 0) {
+            mapSlots((int) ((size - HEADER_BYTES) / SLOT_BYTES));
+            if (map.getInt(0) == MAGIC && map.getInt(4) == SLOT_BYTES) {
+                rebuild();
+                return;
+            }
+        }
+        if (size > 0) {
+            // 알아볼 수 없는 파일은 옆에 남겨 두고 새로 시작
+            channel.close();
+            Path broken = path.resolveSibling(path.getFileName() + ".bad");
+            Files.move(path, broken, StandardCopyOption.REPLACE_EXISTING);
+            diagnostics.warn("대여 기록 파일 형식이 올바르지 않아 " + broken + "로 옮기고 새로 만듭니다.");
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        mapSlots(INITIAL_SLOTS);
+        map.putInt(0, MAGIC);
+        map.putInt(4, SLOT_BYTES);
+        pushFree(INITIAL_SLOTS - 1, 0);
+    }
+
+    // 시작 시 한 번 훑어 색인과 빈 칸 목록을 만듦
+    private void rebuild() {
+        int[] free = new int[slotCount];
+        int frees = 0;
+        for (int slot = slotCount - 1; slot >= 0; slot--) {
+            int offset = offset(slot);
+            long startMillis = map.getLong(offset);
+            if (startMillis == 0) {
+                free[frees++] = slot;
+                continue;
+            }
+            String bikeId = readId(offset + BIKE_OFFSET);
+            Rental previous = rentals.put(bikeId, new Rental(slot, readId(offset + USER_OFFSET), startMillis));
+            if (previous != null) {
+                // 같은 자전거가 두 칸에 있으면(비정상 종료) 한 칸만 남김
+                map.putLong(offset(previous.slot), 0);
+                free[frees++] = previous.slot;
+            }
+        }
+        Arrays.sort(free, 0, frees);
+        reverse(free, frees);
+        freeSlots = free;
+        freeCount = frees;
+    }
+
+    // 대여 시작 기록 (이미 있으면 같은 칸을 덮어씀)
+    public void start(String bikeId, String userId, long startMillis) {
+        Rental rental = rentals.get(bikeId);
+        int slot = rental != null ? rental.slot : takeFreeSlot();
+        rentals.put(bikeId, new Rental(slot, userId, startMillis));
+        if (map == null || slot < 0) {
+            return;
+        }
+        byte[] bike = bikeId.getBytes(StandardCharsets.UTF_8);
+        byte[] user = userId == null ? new byte[0] : userId.getBytes(StandardCharsets.UTF_8);
+        if (bike.length > MAX_BIKE_ID_BYTES || user.length > MAX_USER_ID_BYTES) {
+            diagnostics.warn("ID가 길어 대여 기록을 파일에 남기지 못했습니다: " + bikeId);
+            return;
+        }
+        int offset = offset(slot);
+        map.putLong(offset, 0); // 덮어쓰는 동안에는 빈 칸으로 보이게
+        writeId(offset + BIKE_OFFSET, bike);
+        writeId(offset + USER_OFFSET, user);
+        map.putLong(offset, startMillis);
+    }
+
+    // 대여 종료 (기록이 없었으면 false)
+    public boolean end(String bikeId) {
+        Rental rental = rentals.remove(bikeId);
+        if (rental == null) {
+            return false;
+        }
+        if (map != null && rental.slot >= 0) {
+            map.putLong(offset(rental.slot), 0);
+            pushFree(rental.slot, rental.slot);
+        }
+        return true;
+    }
+
+    // 대여 시작 시각 (대여 중이 아니면 -1)
+    public long getStartTime(String bikeId) {
+        Rental rental = rentals.get(bikeId);
+        return rental == null ? -1 : rental.startMillis;
+    }
+
+    // 대여자 ID (모르면 null)
+    public String getUserId(String bikeId) {
+        Rental rental = rentals.get(bikeId);
+        return rental == null || rental.userId.isEmpty() ? null : rental.userId;
+    }
+
+    // 자전거 ID → 대여자 ID (대여자를 모르는 기록은 제외)
+    public Map<String, String> getRenters() {
+        Map<String, String> renters = new HashMap<>();
+        for (Map.Entry<String, Rental> entry : rentals.entrySet()) {
+            if (!entry.getValue().userId.isEmpty()) {
+                renters.put(entry.getKey(), entry.getValue().userId);
+            }
+        }
+        return renters;
+    }
+
+    // 기록이 있는 자전거 ID 목록 (복사본)
+    public List<String> getBikeIds() {
+        return new ArrayList<>(rentals.keySet());
+    }
+
+    public int size() {
+        return rentals.size();
+    }
+
+    @Override
+    public void close() {
+        if (map == null) {
+            return;
+        }
+        map.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 이미 닫힘
+        }
+        map = null;
+    }
+
+    private int takeFreeSlot() {
+        if (map == null) {
+            return -1;
+        }
+        if (freeCount == 0) {
+            try {
+                int old = slotCount;
+                mapSlots(Math.max(INITIAL_SLOTS, old * 2));
+                pushFree(slotCount - 1, old);
+            } catch (IOException e) {
+                diagnostics.error("대여 기록 파일을 늘리지 못했습니다: " + e.getMessage());
+                return -1;
+            }
+        }
+        return freeSlots[--freeCount];
+    }
+
+    // [low, high] 칸을 빈 칸으로 추가 (작은 번호가 먼저 나가도록 큰 번호부터 쌓음)
+    private void pushFree(int high, int low) {
+        int needed = freeCount + (high - low + 1);
+        if (needed > freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(needed, freeSlots.length * 2));
+        }
+        for (int slot = high; slot >= low; slot--) {
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    private void mapSlots(int slots) throws IOException {
+        long bytes = HEADER_BYTES + (long) slots * SLOT_BYTES;
+        if (channel.size() < bytes) {
+            channel.write(ByteBuffer.allocate(1), bytes - 1); // 파일 길이 늘림 (새 칸은 0 = 빈 칸)
+        }
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        slotCount = slots;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private void writeId(int offset, byte[] bytes) {
+        map.put(offset, (byte) bytes.length);
+        map.put(offset + 1, bytes);
+    }
+
+    private String readId(int offset) {
+        int length = map.get(offset) & 0xFF;
+        byte[] bytes = new byte[length];
+        map.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void reverse(int[] values, int count) {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private static class Rental {
+        private final int slot;        // -1이면 파일에 없음 (메모리 전용)
+        private final String userId;   // 모르면 빈 문자열
+        private final long startMillis;
+
+        Rental(int slot, String userId, long startMillis) {
+            this.slot = slot;
+            this.userId = userId == null ? "" : userId;
+            this.startMillis = startMillis;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package core;
 
+import java.time.LocalDate;
 import state.BikeState;
 import state.BikeStateFactory;
 
@@ -12,16 +13,16 @@ public class Bicycle {
     protected String type;
     protected BikeState bikeState;
     protected String location;
-    protected String registrationDate;
-    protected String lastMaintenanceDate;
+    protected long registrationDay;    // 등록일 (epoch day)
+    protected long lastMaintenanceDay; // 마지막 정비일 (epoch day, 날짜 비교/정렬에 문자열 파싱이 필요 없음)
     
     public Bicycle(String id, String type) {
         this.id = id;
         this.type = type;
         this.bikeState = new BikeState(id);
         this.location = "본부";
-        this.registrationDate = java.time.LocalDate.now().toString();
-        this.lastMaintenanceDate = this.registrationDate;
+        this.registrationDay = LocalDate.now().toEpochDay();
+        this.lastMaintenanceDay = this.registrationDay;
     }
     
     // Getter 메소드들 (뺄지 말지 고민)
@@ -32,15 +33,18 @@ public class Bicycle {
         return bikeState.getBicycleStatus();
     }
     public String getLocation() { return location; }
-    public String getRegistrationDate() { return registrationDate; }
-    public String getLastMaintenanceDate() { return lastMaintenanceDate; }
+    public String getRegistrationDate() { return LocalDate.ofEpochDay(registrationDay).toString(); }
+    public String getLastMaintenanceDate() { return LocalDate.ofEpochDay(lastMaintenanceDay).toString(); }
+    public long getRegistrationDay() { return registrationDay; }
+    public long getLastMaintenanceDay() { return lastMaintenanceDay; }
     
     // Setter 메소드들
     public void setStatus(BicycleStatus status) { // BikeStateFactory에 위임됨
         this.bikeState.setState(BikeStateFactory.create(status));
     }
     public void setLocation(String location) { this.location = location; }
-    public void setLastMaintenanceDate(String date) { this.lastMaintenanceDate = date; }
+    public void setRegistrationDay(long epochDay) { this.registrationDay = epochDay; }
+    public void setLastMaintenanceDay(long epochDay) { this.lastMaintenanceDay = epochDay; }
     
     // 사용자가 보는 자전거 정보
     public String toString() {
@@ -50,6 +54,6 @@ public class Bicycle {
     // 관리자가 보는 자전거 정보 (상세한 정보임)
     public String getDetailedInfo() {
         return String.format("ID: %s\n유형: %s\n상태: %s\n위치: %s\n등록일: %s\n마지막 정비일: %s", 
-                            id, type, bikeState.getStatus(), location, registrationDate, lastMaintenanceDate);
+                            id, type, bikeState.getStatus(), location, getRegistrationDate(), getLastMaintenanceDate());
     }
 }
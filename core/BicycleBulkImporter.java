@@ -0,0 +1,158 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 자전거 일괄 등록기
+ * - CSV(id,type,station[,status]) 또는 bicycles.json과 같은 형식의 JSON 파일을 한 줄씩 스트리밍으로 읽습니다.
+ * - ID 중복/유형/상태(AVAILABLE, BROKEN, MAINTENANCE만) 검증을 한 번의 순회로 끝내고, 기존 팩토리로 자전거를 미리 만들어 둡니다.
+ * - 실제 등록은 BicycleManager.importBicycles()가 한 번에 처리합니다. (위치 일괄 등록 + 저장 1회)
+ */
+public class BicycleBulkImporter {
+    private final BicycleFactory regularFactory = new RegularBicycleFactory();
+    private final BicycleFactory electricFactory = new ElectricBicycleFactory();
+
+    // 파일 확장자로 형식을 판단하여 파싱/검증
+    public ImportReport prepare(Path path) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport(path.toString());
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (path.toString().toLowerCase().endsWith(".json")) {
+                readJson(reader, report);
+            } else {
+                readCsv(reader, report);
+            }
+        }
+
+        report.setParseMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    private void readCsv(BufferedReader reader, ImportReport report) throws IOException {
+        Set<String> seenIds = new HashSet<>();
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            // 헤더 행은 건너뜀
+            if (lineNumber == 1 && line.toLowerCase().startsWith("id,")) continue;
+
+            String[] parts = line.split(",");
+            report.countRow();
+            if (parts.length < 3) {
+                report.addError(lineNumber, "열 개수가 부족합니다. (id,type,station[,status])");
+                continue;
+            }
+            String status = parts.length > 3 ? parts[3].trim() : null;
+            stage(report, seenIds, lineNumber, parts[0].trim(), parts[1].trim(), parts[2].trim(), status);
+        }
+    }
+
+    // bicycles.json과 같은 "한 줄에 한 필드" 형식을 읽음
+    private void readJson(BufferedReader reader, ImportReport report) throws IOException {
+        Set<String> seenIds = new HashSet<>();
+        String line;
+        int lineNumber = 0;
+        int objectStart = 0;
+        String id = null;
+        String type = null;
+        String station = null;
+        String status = null;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+
+            if (line.startsWith("{") && lineNumber > 1) {
+                objectStart = lineNumber;
+            } else if (line.startsWith("\"id\"")) {
+                id = extractJsonValue(line);
+            } else if (line.startsWith("\"type\"")) {
+                type = extractJsonValue(line);
+            } else if (line.startsWith("\"station\"")) {
+                station = extractJsonValue(line);
+            } else if (line.startsWith("\"status\"")) {
+                status = extractJsonValue(line);
+            } else if (line.startsWith("}") && (id != null || type != null || station != null)) {
+                // 객체 하나가 끝나면 검증
+                report.countRow();
+                stage(report, seenIds, objectStart, id, type, station, status);
+                id = null;
+                type = null;
+                station = null;
+                status = null;
+            }
+        }
+    }
+
+    private void stage(ImportReport report, Set<String> seenIds, int lineNumber,
+                       String id, String type, String station, String statusStr) {
+        if (id == null || id.isEmpty()) {
+            report.addError(lineNumber, "자전거 ID가 비어 있습니다.");
+            return;
+        }
+        if (station == null || station.isEmpty()) {
+            report.addError(lineNumber, id + " - 스테이션이 비어 있습니다.");
+            return;
+        }
+        if (!seenIds.add(id)) {
+            report.addError(lineNumber, id + " - 파일 안에서 중복된 ID입니다.");
+            return;
+        }
+
+        Bicycle bicycle;
+        if ("regular".equals(type)) {
+            bicycle = regularFactory.createBicycle(id);
+        } else if ("electric".equals(type)) {
+            bicycle = electricFactory.createBicycle(id);
+        } else {
+            report.addError(lineNumber, id + " - 잘못된 자전거 유형입니다. (regular 또는 electric)");
+            return;
+        }
+
+        if (statusStr != null && !statusStr.isEmpty()) {
+            BicycleStatus status;
+            try {
+                status = BicycleStatus.valueOf(statusStr);
+            } catch (IllegalArgumentException e) {
+                report.addError(lineNumber, id + " - 알 수 없는 상태입니다: " + statusStr);
+                return;
+            }
+            // 대여 중/예약 중은 대여 기록/예약 없이 들어오면 반납·만료가 안 되므로 받지 않음
+            if (status != BicycleStatus.AVAILABLE && status != BicycleStatus.BROKEN
+                    && status != BicycleStatus.MAINTENANCE) {
+                report.addError(lineNumber, id + " - 일괄 등록할 수 없는 상태입니다: " + statusStr
+                        + " (AVAILABLE, BROKEN, MAINTENANCE만 가능)");
+                return;
+            }
+            if (status != BicycleStatus.AVAILABLE) {
+                bicycle.setStatus(status);
+            }
+        }
+
+        bicycle.setLocation(station);
+        report.stage(bicycle, lineNumber);
+    }
+
+    private String extractJsonValue(String line) {
+        int colonPos = line.indexOf(':');
+        if (colonPos == -1)
+            return null;
+
+        int firstQuote = line.indexOf('"', colonPos);
+        int lastQuote = line.indexOf('"', firstQuote + 1);
+        if (firstQuote == -1 || lastQuote == -1)
+            return null;
+
+        return line.substring(firstQuote + 1, lastQuote);
+    }
+}
@@ -6,10 +6,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.concurrent.TimeUnit;
+import jfr.FleetPersistEvent;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
 import observer.BreakdownReason;
 import observer.BreakdownReportSubject;
 import observer.ObserverInterface;
+import state.BikeEvent;
+import state.BikeStateInterface;
+import state.BikeStateMachine;
 
 /*
  * 자전거 관리 시스템
@@ -17,6 +26,7 @@ import observer.ObserverInterface;
  * - 상태 관리 (정상/고장/대여중/정비중)
  * - JSON 파일로 자전거 목록 관리
  * - 대여 시간 측정 로직 추가 
+ * - 변경 메서드는 OperationResult를 반환하고, 안내 메시지는 DiagnosticSink로 보냄
 */
 
 public class BicycleManager {
@@ -24,34 +34,72 @@ public class BicycleManager {
     private BicycleFactory regularFactory;
     private BicycleFactory electricFactory;
     private LocationManager locationManager; // 위치 관리자 추가
-    private Map<String, Long> rentalStartTimes; // 대여 시작 시간 기록용 Map 추가
+    private final ActiveRentalTable activeRentals; // 진행 중인 대여 (자전거 목록 파일 옆 active-rentals.dat, 재시작해도 유지)
     private static final String BICYCLE_JSON_FILE = "bicycles.json";
+    // 핫패스 지표 (MetricsRegistry 조회 없이 바로 기록)
+    private static final LatencyHistogram RENT_LATENCY = MetricsRegistry.getInstance().histogram("bicycle.rent");
+    private static final LatencyHistogram RETURN_LATENCY = MetricsRegistry.getInstance().histogram("bicycle.return");
+    private static final LatencyHistogram FLUSH_LATENCY = MetricsRegistry.getInstance().histogram("persist.bicycles");
+    private static final LatencyHistogram SNAPSHOT_LATENCY = MetricsRegistry.getInstance().histogram("snapshot.publish");
+    // 상태 변경으로 발생시킬 수 있는 이벤트 (대여/반납/예약 이벤트는 각 작업에서만)
+    private static final Set<BikeEvent> STATUS_EVENTS =
+            EnumSet.of(BikeEvent.REPORT_BROKEN, BikeEvent.SEND_TO_REPAIR, BikeEvent.COMPLETE_REPAIR);
+    private int batchDepth = 0; // 묶음 처리 중첩 깊이 (CommandPipeline 작성자 스레드 전용)
+    private boolean dirty = false; // 묶음 처리 중 저장이 미뤄졌는지 여부
+    private volatile FleetSnapshot snapshot = FleetSnapshot.empty(); // 읽기 전용 최신 스냅샷
+    private final CompletableFuture<Void> initialSnapshot = new CompletableFuture<>(); // 첫 스냅샷 발행 여부
+    private final List<BiConsumer<FleetSnapshot, FleetSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>(); // (이전, 새) 스냅샷
+    private final SortedIdIndex idIndex = new SortedIdIndex(); // 자전거 ID 접두어 검색/자동 완성
+    private final List<ObserverInterface> breakdownObservers = new CopyOnWriteArrayList<>(); // 모든 고장 신고를 받는 옵저버
+    private final List<RentalListener> rentalListeners = new CopyOnWriteArrayList<>(); // 대여 시작/종료 (예: 복제)
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+    private final Path jsonPath; // 자전거 목록 파일 (기본: 현재 폴더의 bicycles.json)
+    private final RideLog rideLog; // 요금이 정산된 이용 내역 (자전거 목록 파일 옆의 rides.log)
 
     public BicycleManager() {
+        this(true);
+    }
+
+    // publishSnapshotNow가 false면 첫 스냅샷은 publishInitialSnapshot()이 만들 때까지 미룸 (StartupOrchestrator용)
+    public BicycleManager(boolean publishSnapshotNow) {
+        this(Path.of(BICYCLE_JSON_FILE), publishSnapshotNow);
+    }
+
+    // 다른 위치의 자전거 목록 파일 사용 (트레이스 재생 등 작업 폴더를 따로 쓰는 도구용)
+    public BicycleManager(Path jsonPath, boolean publishSnapshotNow) {
+        this.jsonPath = jsonPath;
         this.bicycles = new HashMap<>();
         this.regularFactory = new RegularBicycleFactory();
         this.electricFactory = new ElectricBicycleFactory();
         this.locationManager = LocationManager.getInstance(); // 싱글톤 인스턴스
-        this.rentalStartTimes = new HashMap<>(); // Map 초기화
+        this.rideLog = new RideLog(jsonPath.resolveSibling("rides.log"));
+        this.activeRentals = new ActiveRentalTable(jsonPath.resolveSibling("active-rentals.dat"));
 
         // 프로그램 시작 시 JSON에서 자전거 목록 로딩
         loadBicyclesFromJson();
+        dropStaleRentals();
+        if (publishSnapshotNow) {
+            publishSnapshot();
+        }
     }
 
     // JSON 파일에서 자전거 목록을 읽어와 등록
     private void loadBicyclesFromJson() {
-        Path path = Path.of(BICYCLE_JSON_FILE);
+        Path path = jsonPath;
         if (!Files.exists(path)) {
-            System.out.println("초기 JSON 파일 없음");
+            diagnostics.info("초기 JSON 파일 없음");
             return;
         }
 
+        Map<String, List<String>> stationToIds = new HashMap<>(); // 스테이션 인덱스는 다 읽은 뒤 한 번에 등록
         try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
             String line;
             String id = null;
             String type = null;
             String station = null;
             String statusStr = null;
+            long registeredDay = -1;       // 날짜 필드가 없는 예전 파일이면 오늘로 둠
+            long lastMaintenanceDay = -1;
 
             while ((line = reader.readLine()) != null) {
                 line = line.trim();
@@ -64,20 +112,28 @@ public class BicycleManager {
                     station = extractJsonValue(line);
                 } else if (line.startsWith("\"status\"")) {
                     statusStr = extractJsonValue(line);
+                } else if (line.startsWith("\"registeredDay\"")) {
+                    registeredDay = extractJsonNumber(line);
+                } else if (line.startsWith("\"lastMaintenanceDay\"")) {
+                    lastMaintenanceDay = extractJsonNumber(line);
                 }
 
                 // 네 필드가 다 채워지면 자전거 한 대 생성
                 if (id != null && type != null && station != null && statusStr != null) {
-                    boolean added = addBicycleInternal(id, type, station, false); // 로그/저장 X
-                    if (added) {
+                    OperationResult added = addBicycleInternal(id, type, station, -1, -1, false); // 로그/저장 X
+                    if (added.isSuccess()) {
+                        stationToIds.computeIfAbsent(station, k -> new ArrayList<>()).add(id);
                         Bicycle b = bicycles.get(id);
                         try {
                             BicycleStatus status = BicycleStatus.valueOf(statusStr);
-                            b.setStatus(status);
+                            // 예약은 메모리에만 있으므로 재시작하면 예약 중이던 자전거는 대여 가능으로 되돌림
+                            b.setStatus(status == BicycleStatus.RESERVED ? BicycleStatus.AVAILABLE : status);
                         } catch (IllegalArgumentException e) {
                             // 잘못된 값이면 안전하게 대여가능으로
                             b.setStatus(BicycleStatus.AVAILABLE);
                         }
+                        if (registeredDay >= 0) b.setRegistrationDay(registeredDay);
+                        if (lastMaintenanceDay >= 0) b.setLastMaintenanceDay(lastMaintenanceDay);
                     }
 
                     // 다음 자전거를 위해 초기화
@@ -85,13 +141,49 @@ public class BicycleManager {
                     type = null;
                     station = null;
                     statusStr = null;
+                    registeredDay = -1;
+                    lastMaintenanceDay = -1;
                 }
             }
 
-            System.out.println("JSON에서 자전거 목록을 모두 로딩했습니다.");
+            diagnostics.info("JSON에서 자전거 목록을 모두 로딩했습니다.");
         } catch (IOException e) {
-            System.out.println("JSON을 읽는 중 오류가 발생했습니다.");
-            e.printStackTrace();
+            diagnostics.error("JSON을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        locationManager.registerBicycles(stationToIds);
+        idIndex.addAll(bicycles.keySet()); // 색인은 다 읽은 뒤 한 번에 정렬
+    }
+
+    // 대여 시작 기록 + 리스너 알림
+    private void startRental(String id, String userId) {
+        long startMillis = System.currentTimeMillis();
+        activeRentals.start(id, userId, startMillis);
+        for (RentalListener listener : rentalListeners) {
+            listener.started(id, userId, startMillis);
+        }
+    }
+
+    // 대여 종료 기록 + 리스너 알림
+    private void endRental(String id) {
+        activeRentals.end(id);
+        for (RentalListener listener : rentalListeners) {
+            listener.ended(id);
+        }
+    }
+
+    // 대여 중이 아닌(또는 없어진) 자전거의 대여 기록 정리
+    private void dropStaleRentals() {
+        int restored = 0;
+        for (String id : activeRentals.getBikeIds()) {
+            Bicycle bicycle = bicycles.get(id);
+            if (bicycle == null || bicycle.getStatus() != BicycleStatus.RENTED) {
+                activeRentals.end(id);
+            } else {
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            diagnostics.info("진행 중인 대여 " + restored + "건을 복원했습니다.");
         }
     }
 
@@ -109,9 +201,149 @@ public class BicycleManager {
         return line.substring(firstQuote + 1, lastQuote);
     }
 
-    // 자전거 목록 JSON 파일로 저장
+    // 같은 줄에서 숫자 값만 추출 (없거나 잘못된 값이면 -1)
+    private long extractJsonNumber(String line) {
+        int colonPos = line.indexOf(':');
+        if (colonPos == -1)
+            return -1;
+
+        String value = line.substring(colonPos + 1).replace(",", "").trim();
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 묶음 처리 시작: 끝날 때까지 JSON 저장을 미룸
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    // 묶음 처리 종료: 변경이 있었으면 한 번만 저장
+    public void endBatch() {
+        if (batchDepth > 0) {
+            batchDepth--;
+        }
+        if (batchDepth == 0 && dirty) {
+            dirty = false;
+            writeBicyclesToJson();
+            publishSnapshot();
+        }
+    }
+
+    // 자전거 목록 JSON 파일로 저장 (묶음 처리 중이면 끝날 때로 미룸)
     private void saveBicyclesToJson() {
-        Path path = Path.of(BICYCLE_JSON_FILE);
+        if (batchDepth > 0) {
+            dirty = true;
+            return;
+        }
+        writeBicyclesToJson();
+        publishSnapshot();
+    }
+
+    // 현재 상태로 새 스냅샷을 만들어 교체 (작성자 스레드에서만 호출)
+    // 바뀌지 않은 자전거는 이전 스냅샷의 BicycleView를 그대로 재사용
+    private void publishSnapshot() {
+        long start = System.nanoTime();
+        try {
+            FleetSnapshot previous = snapshot;
+            List<BicycleView> views = new ArrayList<>(bicycles.size());
+            Map<String, BicycleView> byId = new HashMap<>(bicycles.size() * 2);
+
+            for (Bicycle bicycle : bicycles.values()) {
+                BicycleView view = previous.getBicycle(bicycle.getId());
+                if (view == null || !view.matches(bicycle)) {
+                    view = new BicycleView(bicycle);
+                }
+                views.add(view);
+                byId.put(view.getId(), view);
+            }
+
+            Map<String, List<String>> stations = locationManager.publishStationSnapshot();
+            snapshot = new FleetSnapshot(previous.getVersion() + 1, views, byId, stations);
+            initialSnapshot.complete(null);
+            for (BiConsumer<FleetSnapshot, FleetSnapshot> listener : snapshotListeners) {
+                listener.accept(previous, snapshot);
+            }
+        } finally {
+            SNAPSHOT_LATENCY.recordSince(start);
+        }
+    }
+
+    // 스냅샷이 발행될 때마다 (이전, 새) 스냅샷을 받을 리스너 등록 (작성자 스레드에서 호출됨)
+    // 바뀌지 않은 자전거는 같은 BicycleView 객체이므로 == 비교로 변경분을 찾을 수 있음
+    public void addSnapshotListener(BiConsumer<FleetSnapshot, FleetSnapshot> listener) {
+        snapshotListeners.add(listener);
+    }
+
+    // 스냅샷이 발행될 때마다 바뀐/삭제된 자전거만 받을 리스너 등록 (작성자 스레드에서 호출됨)
+    public void addFleetChangeListener(FleetChangeListener listener) {
+        addSnapshotListener((previous, current) -> FleetChangeListener.diff(previous, current, listener));
+    }
+
+    // 신고마다 넘겨받는 옵저버와 별도로, 모든 고장 신고를 받을 옵저버 등록 (예: 고장 분석)
+    public void addBreakdownObserver(ObserverInterface observer) {
+        breakdownObservers.add(observer);
+    }
+
+    // 이용 내역 (반납 정산 커맨드가 덧붙이고, 내보내기가 읽음)
+    public RideLog getRideLog() {
+        return rideLog;
+    }
+
+    // 대여 시작 시각 (대여 중이 아니면 -1)
+    public long getRentalStartTime(String id) {
+        return activeRentals.getStartTime(id);
+    }
+
+    // 대여 시작/종료를 받을 리스너 등록 (작성자 스레드에서 호출됨)
+    public void addRentalListener(RentalListener listener) {
+        rentalListeners.add(listener);
+    }
+
+    // 진행 중인 대여를 모두 started로 전달 (작성자 스레드에서 호출, 예: 복제 초기 이미지)
+    public void forEachActiveRental(RentalListener listener) {
+        for (String id : activeRentals.getBikeIds()) {
+            listener.started(id, activeRentals.getUserId(id), activeRentals.getStartTime(id));
+        }
+    }
+
+    // 대여 기록의 대여자 ID (대여 중이 아니거나 대여자를 모르면 null)
+    public String getRenter(String id) {
+        return activeRentals.getUserId(id);
+    }
+
+    // 진행 중인 대여의 자전거 ID → 대여자 ID (재시작 후 사용자 대여 상태 복원용)
+    public Map<String, String> getActiveRenters() {
+        return activeRentals.getRenters();
+    }
+
+    // 종료 시 대여 기록 파일을 디스크에 동기화
+    public void closeActiveRentals() {
+        activeRentals.close();
+    }
+
+    // 시작 시 미뤄 둔 첫 스냅샷 발행 (파이프라인 작성자 스레드에서 커맨드로 실행)
+    public void publishInitialSnapshot() {
+        if (!initialSnapshot.isDone()) {
+            publishSnapshot();
+        }
+    }
+
+    // 최신 스냅샷 조회 (어느 스레드에서나 락 없이 호출 가능)
+    // 첫 스냅샷이 아직 준비 중이면 그때까지만 기다림
+    public FleetSnapshot getSnapshot() {
+        if (!initialSnapshot.isDone()) {
+            initialSnapshot.join();
+        }
+        return snapshot;
+    }
+
+    private void writeBicyclesToJson() {
+        long start = System.nanoTime();
+        FleetPersistEvent event = FleetPersistEvent.start(jsonPath.toString());
+        Path path = jsonPath;
 
         try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
             writer.write("{\n");
@@ -135,6 +367,8 @@ public class BicycleManager {
                 writer.write("      \"id\": \"" + bicycle.getId() + "\",\n");
                 writer.write("      \"type\": \"" + typeForJson + "\",\n");
                 writer.write("      \"station\": \"" + bicycle.getLocation() + "\",\n");
+                writer.write("      \"registeredDay\": " + bicycle.getRegistrationDay() + ",\n");
+                writer.write("      \"lastMaintenanceDay\": " + bicycle.getLastMaintenanceDay() + ",\n");
                 writer.write("      \"status\": \"" + bicycle.getStatus().name() + "\"\n");
                 writer.write("    }");
                 index++;
@@ -147,18 +381,21 @@ public class BicycleManager {
             writer.write("  ]\n");
             writer.write("}\n");
 
-            System.out.println("현재 자전거 목록이 Json 파일로 저장되었습니다. (" + BICYCLE_JSON_FILE + ")");
+            diagnostics.info("현재 자전거 목록이 Json 파일로 저장되었습니다. (" + jsonPath + ")");
         } catch (IOException e) {
-            System.out.println("자전거 정보를 Json 파일로 저장하는 중 오류가 발생했습니다.");
-            e.printStackTrace();
+            diagnostics.error("자전거 정보를 Json 파일로 저장하는 중 오류가 발생했습니다: " + e.getMessage());
         }
+        FLUSH_LATENCY.recordSince(start);
+        event.end(bicycles.size());
     }
 
     // 공통 내부 메서드: JSON 저장 여부를 플래그로 제어
-    private boolean addBicycleInternal(String id, String type, String location, boolean saveJson) {
+    // registeredDay/lastMaintenanceDay가 음수면 팩토리 기본값(오늘)
+    private OperationResult addBicycleInternal(String id, String type, String location,
+                                               long registeredDay, long lastMaintenanceDay, boolean saveJson) {
         if (bicycles.containsKey(id)) {
-            System.out.println("오류: 이미 존재하는 자전거 ID입니다.");
-            return false;
+            diagnostics.warn(OperationResult.DUPLICATE_ID.getMessage());
+            return OperationResult.DUPLICATE_ID;
         }
 
         Bicycle bicycle;
@@ -168,54 +405,93 @@ public class BicycleManager {
             bicycle = electricFactory.createBicycle(id);
         } else {
             if (saveJson) {
-                System.out.println("오류: 잘못된 자전거 유형입니다. (regular 또는 electric)");
+                diagnostics.warn(OperationResult.INVALID_TYPE.getMessage());
             }
-            return false;
+            return OperationResult.INVALID_TYPE;
         }
 
         bicycle.setLocation(location);
+        if (registeredDay >= 0) bicycle.setRegistrationDay(registeredDay);
+        if (lastMaintenanceDay >= 0) bicycle.setLastMaintenanceDay(lastMaintenanceDay);
         bicycles.put(id, bicycle);
 
-        // 위치 관리자에 등록
-        locationManager.registerBicycle(id, location);
-
-        // 내부 플래그에 따라 JSON 저장
+        // 내부 플래그에 따라 위치 등록 + JSON 저장 (로딩 중에는 호출자가 스테이션 단위로 일괄 등록)
         if (saveJson) {
+            locationManager.registerBicycle(id, location);
+            idIndex.add(id);
             saveBicyclesToJson();
-            System.out.println("자전거가 성공적으로 추가되었습니다: " + bicycle);
+            diagnostics.info("자전거가 성공적으로 추가되었습니다: " + bicycle);
         }
 
-        return true;
+        return OperationResult.SUCCESS;
     }
 
     // 자전거 추가 -> 관리자 1번
-    public boolean addBicycle(String id, String type, String location) {
-        return addBicycleInternal(id, type, location, true);
+    public OperationResult addBicycle(String id, String type, String location) {
+        return addBicycleInternal(id, type, location, -1, -1, true);
+    }
+
+    // 등록일/정비일을 이어받는 자전거 추가 (예: 다른 샤드에서 옮겨 온 자전거)
+    public OperationResult addBicycle(String id, String type, String location, long registeredDay, long lastMaintenanceDay) {
+        return addBicycleInternal(id, type, location, registeredDay, lastMaintenanceDay, true);
+    }
+
+    // 자전거 일괄 등록 -> 관리자 9번
+    // BicycleBulkImporter가 준비한 자전거를 한 번에 등록하고 JSON은 한 번만 저장
+    public int importBicycles(ImportReport report) {
+        long start = System.nanoTime();
+        Map<String, List<String>> stationToIds = new HashMap<>();
+        List<String> importedIds = new ArrayList<>();
+
+        List<Bicycle> staged = report.getStaged();
+        for (int i = 0; i < staged.size(); i++) {
+            Bicycle bicycle = staged.get(i);
+            if (bicycles.putIfAbsent(bicycle.getId(), bicycle) != null) {
+                report.addError(report.getStagedLine(i), bicycle.getId() + " - 이미 존재하는 자전거 ID입니다.");
+                continue;
+            }
+            stationToIds.computeIfAbsent(bicycle.getLocation(), k -> new ArrayList<>()).add(bicycle.getId());
+            importedIds.add(bicycle.getId());
+        }
+
+        // 위치 관리자에 스테이션 단위로 일괄 등록, ID 색인도 한 번에 병합
+        locationManager.registerBicycles(stationToIds);
+        idIndex.addAll(importedIds);
+
+        if (!importedIds.isEmpty()) {
+            saveBicyclesToJson();
+        }
+
+        report.setImportedCount(importedIds.size());
+        report.setApplyMillis((System.nanoTime() - start) / 1_000_000);
+        return importedIds.size();
     }
 
     // 자전거 삭제 -> 관리자 2번
-    public boolean removeBicycle(String id) {
+    public OperationResult removeBicycle(String id) {
         if (!bicycles.containsKey(id)) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return false;
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
         }
 
         Bicycle bicycle = bicycles.get(id);
-        // state 패턴 적용
+        // state 패턴 적용 (판단만 하고, 거부 메시지는 여기서 진단 출력으로 보냄)
         if (bicycle.getBikeState() != null && !bicycle.getBikeState().canDelete()) {
-            return false; // 거부 메시지는 State 객체가 이미 출력했을 수 있음
+            diagnostics.warn(bicycle.getBikeState().getRefusalMessage("삭제"));
+            return OperationResult.NOT_DELETABLE;
         }
 
         bicycles.remove(id);
 
-        // 위치 관리자에서도 제거
+        // 위치 관리자와 ID 색인에서도 제거
         locationManager.removeBicycle(id);
+        idIndex.remove(id);
 
         // 삭제 후 JSON 업데이트
         saveBicyclesToJson();
 
-        System.out.println("자전거가 성공적으로 삭제되었습니다: " + id);
-        return true;
+        diagnostics.info("자전거가 성공적으로 삭제되었습니다: " + id);
+        return OperationResult.SUCCESS;
     }
 
     // 자전거 조회
@@ -223,24 +499,16 @@ public class BicycleManager {
         return bicycles.get(id);
     }
 
-    // 모든 자전거 목록 조회 -> 관리자 3번
-    public void listAllBicycles() {
-        if (bicycles.isEmpty()) {
-            System.out.println("등록된 자전거가 없습니다.");
-            return;
-        }
-
-        System.out.println("\n==== 전체 자전거 목록 ====");
-        for (Bicycle bicycle : bicycles.values()) {
-            System.out.println(bicycle);
-        }
+    // 자전거 ID 정렬 색인 (접두어 검색/범위 조회/자동 완성, 어느 스레드에서나 조회 가능)
+    public SortedIdIndex getIdIndex() {
+        return idIndex;
     }
 
-    // 상태별 자전거 조회 -> 관리자 4번
+    // 상태별 자전거 조회 -> 관리자 4번 (스냅샷 기준)
     public void listBicyclesByStatus(BicycleStatus status) {
         System.out.println("\n==== " + status.getDescription() + " 자전거 목록 ====");
         boolean found = false;
-        for (Bicycle bicycle : bicycles.values()) {
+        for (BicycleView bicycle : getSnapshot().getBicycles()) {
             if (bicycle.getStatus() == status) {
                 System.out.println(bicycle);
                 found = true;
@@ -252,16 +520,17 @@ public class BicycleManager {
     }
 
     // (추가) 고장 신고 처리 -> 관리자 5번
-    public boolean reportBroken(String id, List<BreakdownReason> reasons, ObserverInterface observer) {
+    public OperationResult reportBroken(String id, List<BreakdownReason> reasons, ObserverInterface observer) {
         Bicycle bicycle = bicycles.get(id);
         if (bicycle == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return false;
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
         }
 
         // State 패턴: 신고 가능 상태 2차 검증
         if (bicycle.getBikeState() != null && !bicycle.getBikeState().canReport()) {
-            return false;
+            diagnostics.warn(bicycle.getBikeState().getRefusalMessage("신고"));
+            return OperationResult.NOT_REPORTABLE;
         }
 
         // 상태 객체에 신고 전달 (상태를 BROKEN 등으로 변경)
@@ -271,47 +540,72 @@ public class BicycleManager {
         boolean isElectric = "전기자전거".equals(bicycle.getType());
         BreakdownReportSubject subject = new BreakdownReportSubject(id, reasons, bicycle.getLocation(), isElectric);
         subject.addObserver(observer);
+        for (ObserverInterface permanent : breakdownObservers) {
+            subject.addObserver(permanent);
+        }
         subject.report();
 
         saveBicyclesToJson(); // 상태가 변경되었으므로 저장
-        System.out.println("수리 신고가 접수되었습니다.");
-        return true;
+        diagnostics.info("수리 신고가 접수되었습니다.");
+        return OperationResult.SUCCESS;
     }
 
-    // 자전거 상태 변경
-    public boolean changeBicycleStatus(String id, BicycleStatus newStatus) {
+    // 자전거 상태 변경: 전이표에서 현재 상태 → newStatus로 가는 상태 이벤트를 찾아 발생시킴
+    // 대여/반납/예약처럼 다른 기록이 따라가야 하는 전이는 해당 작업으로만 가능 (예: 대여 중 → 사용 가능 거부)
+    public OperationResult changeBicycleStatus(String id, BicycleStatus newStatus) {
         Bicycle bicycle = bicycles.get(id);
         if (bicycle == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return false;
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
+        }
+        if (bicycle.getStatus() == newStatus) {
+            return OperationResult.SUCCESS;
+        }
+        for (BikeEvent event : STATUS_EVENTS) {
+            BikeStateInterface next = BikeStateMachine.next(bicycle.getStatus(), event);
+            if (next != null && next.getBicycleStatus() == newStatus) {
+                return fireStatusEvent(id, event);
+            }
         }
+        diagnostics.warn(bicycle.getBikeState().getRefusalMessage("[" + BikeStateMachine.stateOf(newStatus).getStatus() + "] 상태로 변경"));
+        return OperationResult.ILLEGAL_TRANSITION;
+    }
 
-        BicycleStatus oldStatus = bicycle.getStatus();
-        bicycle.setStatus(newStatus);
+    // 상태 이벤트(고장/수리 입고/수리 완료) 발생 -> 수리 흐름(RepairServiceObserver)
+    public OperationResult fireStatusEvent(String id, BikeEvent event) {
+        Bicycle bicycle = bicycles.get(id);
+        if (bicycle == null) {
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
+        }
+        if (!STATUS_EVENTS.contains(event) || !bicycle.getBikeState().fire(event)) {
+            diagnostics.warn(bicycle.getBikeState().getRefusalMessage("변경"));
+            return OperationResult.ILLEGAL_TRANSITION;
+        }
 
         // 정비 완료 시 정비일 업데이트
-        if (newStatus == BicycleStatus.AVAILABLE &&
-                (oldStatus == BicycleStatus.MAINTENANCE || oldStatus == BicycleStatus.BROKEN)) {
-            bicycle.setLastMaintenanceDate(LocalDate.now().toString());
+        if (event == BikeEvent.COMPLETE_REPAIR) {
+            bicycle.setLastMaintenanceDay(LocalDate.now().toEpochDay());
         }
 
         // 상태 변경도 JSON에 업데이트
         saveBicyclesToJson();
 
-        return true;
+        return OperationResult.SUCCESS;
     }
 
     // 자전거 위치 변경 -> 관리자 6번
-    public boolean changeBicycleLocation(String id, String newLocation) {
+    public OperationResult changeBicycleLocation(String id, String newLocation) {
         Bicycle bicycle = bicycles.get(id);
         if (bicycle == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return false;
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
         }
 
         // state 패턴으로 이동 가능 상태 2차 검증 
         if (bicycle.getBikeState() != null && !bicycle.getBikeState().canMove()) {
-            return false;
+            diagnostics.warn(bicycle.getBikeState().getRefusalMessage("이동"));
+            return OperationResult.NOT_MOVABLE;
         }
 
         String oldLocation = bicycle.getLocation();
@@ -323,7 +617,7 @@ public class BicycleManager {
         // 위치 변경 JSON에 업데이트
         saveBicyclesToJson();
 
-        return true;
+        return OperationResult.SUCCESS;
     }
 
     // 자전거 상세 정보 조회 -> 관리자 7번
@@ -350,104 +644,169 @@ public class BicycleManager {
     }
 
     // 자전거 대여 + 자전거 대여 시 시간 기록 -> 사용자 2번
-    public boolean rentBicycle(String id) {
-        Bicycle bicycle = bicycles.get(id);
-        if (bicycle == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return false;
-        }
+    public OperationResult rentBicycle(String id) {
+        return rentBicycle(id, null);
+    }
 
-        // state 패턴으로 대여 가능 상태 2차 검증 
-        if (bicycle.getBikeState() != null && !bicycle.getBikeState().canRent()) {
-            return false;
-        }
+    // 대여자를 함께 기록 (재시작 후 누가 빌렸는지 복원할 수 있음)
+    public OperationResult rentBicycle(String id, String userId) {
+        long start = System.nanoTime();
+        try {
+            Bicycle bicycle = bicycles.get(id);
+            if (bicycle == null) {
+                diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+                return OperationResult.NOT_FOUND;
+            }
 
-        bicycle.setStatus(BicycleStatus.RENTED);
+            // state 패턴으로 대여 가능 상태 2차 검증 
+            if (bicycle.getBikeState() != null && !bicycle.getBikeState().canRent()) {
+                diagnostics.warn(bicycle.getBikeState().getRefusalMessage("대여"));
+                return OperationResult.NOT_RENTABLE;
+            }
 
-        // 대여 시작 시간 기록
-        rentalStartTimes.put(id, System.currentTimeMillis());
+            bicycle.getBikeState().fire(BikeEvent.RENT); // 전이표 조회만 하고 객체는 만들지 않음
 
-        // 자전거 상태 변경 내용 JSON 파일에 업데이트
-        saveBicyclesToJson();
+            // 대여 시작 시간 기록
+            startRental(id, userId);
 
-        System.out.println("자전거 " + id + "가 대여되었습니다. (대여 시간 기록됨)");
-        return true;
+            // 자전거 상태 변경 내용 JSON 파일에 업데이트
+            saveBicyclesToJson();
 
+            if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+                diagnostics.info("자전거 " + id + "가 대여되었습니다. (대여 시간 기록됨)");
+            }
+            return OperationResult.SUCCESS;
+        } finally {
+            RENT_LATENCY.recordSince(start);
+        }
     }
 
-    // 자전거 반납 + 대여 시간 계산 -> 사용자 3번
-    public int returnBicycle(String id, String returnLocation) {
+    // 자전거 예약 (대여 가능 → 예약 중). 누가 예약했는지는 ReservationManager가 관리
+    public OperationResult reserveBicycle(String id) {
         Bicycle bicycle = bicycles.get(id);
         if (bicycle == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return -1; // <-- (수정) 실패 시 -1 반환
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
         }
-
-        if (bicycle.getStatus() != BicycleStatus.RENTED) {
-            System.out.println("오류: 대여 중이 아닌 자전거입니다.");
-            return -1; // <-- (수정) 실패 시 -1 반환
+        if (!bicycle.getBikeState().fire(BikeEvent.RESERVE)) {
+            diagnostics.warn(bicycle.getBikeState().getRefusalMessage("예약"));
+            return OperationResult.NOT_RESERVABLE;
         }
+        saveBicyclesToJson();
+        return OperationResult.SUCCESS;
+    }
 
-        // (추가) 대여 시작 시간 조회
-        Long startTime = rentalStartTimes.get(id);
-        if (startTime == null) {
-            System.out.println("오류: 이 자전거의 대여 시작 기록을 찾을 수 없습니다.");
-            return -1; // <-- (수정) 실패 시 -1 반환
+    // 예약 취소/만료 (예약 중 → 대여 가능)
+    public OperationResult releaseReservation(String id) {
+        Bicycle bicycle = bicycles.get(id);
+        if (bicycle == null) {
+            return OperationResult.NOT_FOUND;
         }
+        if (!bicycle.getBikeState().fire(BikeEvent.RELEASE)) {
+            return OperationResult.NOT_RESERVED;
+        }
+        saveBicyclesToJson();
+        return OperationResult.SUCCESS;
+    }
 
-        // 이용 시간 계산
-        long durationMillis = System.currentTimeMillis() - startTime;
+    // 예약한 자전거 대여 (예약 중 → 대여 중). 예약자 확인은 ReservationManager가 먼저 함
+    public OperationResult rentReservedBicycle(String id) {
+        return rentReservedBicycle(id, null);
+    }
 
-        // (수정) 테스트를 위해 '초'를 '분'처럼 취급합니다. (1초 -> 1분)
-        int durationMinutes = (int) TimeUnit.MILLISECONDS.toMinutes(durationMillis);
+    public OperationResult rentReservedBicycle(String id, String userId) {
+        long start = System.nanoTime();
+        try {
+            Bicycle bicycle = bicycles.get(id);
+            if (bicycle == null) {
+                diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+                return OperationResult.NOT_FOUND;
+            }
+            if (!bicycle.getBikeState().fire(BikeEvent.CLAIM)) {
+                return OperationResult.NOT_RESERVED;
+            }
+            startRental(id, userId);
+            saveBicyclesToJson();
 
-        if (durationMinutes == 0) {
-            durationMinutes = 1; // 최소 1분(1초)
+            if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+                diagnostics.info("예약한 자전거 " + id + "가 대여되었습니다. (대여 시간 기록됨)");
+            }
+            return OperationResult.SUCCESS;
+        } finally {
+            RENT_LATENCY.recordSince(start);
         }
+    }
 
-        // (추가) 기록 삭제
-        rentalStartTimes.remove(id);
+    // 자전거 반납 + 대여 시간 계산 -> 사용자 3번
+    public int returnBicycle(String id, String returnLocation) {
+        long start = System.nanoTime();
+        try {
+            Bicycle bicycle = bicycles.get(id);
+            if (bicycle == null) {
+                diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+                return -1; // <-- (수정) 실패 시 -1 반환
+            }
 
-        bicycle.setStatus(BicycleStatus.AVAILABLE);
-        bicycle.setLocation(returnLocation);
+            if (bicycle.getStatus() != BicycleStatus.RENTED) {
+                diagnostics.warn(OperationResult.NOT_RENTED.getMessage());
+                return -1; // <-- (수정) 실패 시 -1 반환
+            }
 
-        // 위치 관리자에 업데이트 (옵저버들에게 자동 알림)
-        locationManager.updateBicycleLocation(id, returnLocation);
+            // (추가) 대여 시작 시간 조회
+            long startTime = activeRentals.getStartTime(id);
+            if (startTime < 0) {
+                diagnostics.warn(OperationResult.NO_RENTAL_RECORD.getMessage());
+                return -1; // <-- (수정) 실패 시 -1 반환
+            }
 
-        // 상태/위치 변경 내용 JSON 파일에 업데이트
-        saveBicyclesToJson();
+            // 이용 시간 계산
+            long durationMillis = System.currentTimeMillis() - startTime;
+
+            // (수정) 테스트를 위해 '초'를 '분'처럼 취급합니다. (1초 -> 1분)
+            int durationMinutes = (int) TimeUnit.MILLISECONDS.toMinutes(durationMillis);
+
+            if (durationMinutes == 0) {
+                durationMinutes = 1; // 최소 1분(1초)
+            }
+
+            // (추가) 기록 삭제
+            endRental(id);
 
-        // ★★★ (수정) return true; -> println()을 먼저 실행
-        System.out.println("자전거 " + id + "가 " + returnLocation + "에 반납되었습니다.");
+            bicycle.getBikeState().fire(BikeEvent.RETURN);
+            bicycle.setLocation(returnLocation);
 
-        // 2. 이용 시간(분)을 '맨 마지막에' 반환합니다.
-        return durationMinutes; // <-- ★★★ (수정) boolean이 아닌 int 반환
+            // 위치 관리자에 업데이트 (옵저버들에게 자동 알림)
+            locationManager.updateBicycleLocation(id, returnLocation);
+
+            // 상태/위치 변경 내용 JSON 파일에 업데이트
+            saveBicyclesToJson();
+
+            // ★★★ (수정) return true; -> 안내 메시지를 먼저 보냄
+            if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+                diagnostics.info("자전거 " + id + "가 " + returnLocation + "에 반납되었습니다.");
+            }
+
+            // 2. 이용 시간(분)을 '맨 마지막에' 반환합니다.
+            return durationMinutes; // <-- ★★★ (수정) boolean이 아닌 int 반환
+        } finally {
+            RETURN_LATENCY.recordSince(start);
+        }
     }
 
-    // 통계 정보 -> 관리자 8번
+    // 통계 정보 -> 관리자 8번 (스냅샷에 미리 집계된 값 사용)
     public void showStatistics() {
+        FleetSnapshot current = getSnapshot();
         System.out.println("\n==== 자전거 현황 통계 ====");
-        Map<BicycleStatus, Integer> statusCount = new HashMap<>();
-        Map<String, Integer> typeCount = new HashMap<>();
-
-        for (Bicycle bicycle : bicycles.values()) {
-            // 상태별 통계
-            statusCount.put(bicycle.getStatus(),
-                    statusCount.getOrDefault(bicycle.getStatus(), 0) + 1);
-            // 유형별 통계
-            typeCount.put(bicycle.getType(),
-                    typeCount.getOrDefault(bicycle.getType(), 0) + 1);
-        }
 
-        System.out.println("총 자전거 수: " + bicycles.size());
+        System.out.println("총 자전거 수: " + current.size());
         System.out.println("\n[상태별 현황]");
         for (BicycleStatus status : BicycleStatus.values()) {
-            int count = statusCount.getOrDefault(status, 0);
+            int count = current.getStatusCounts().getOrDefault(status, 0);
             System.out.println(status.getDescription() + ": " + count + "대");
         }
 
         System.out.println("\n[유형별 현황]");
-        for (Map.Entry<String, Integer> entry : typeCount.entrySet()) {
+        for (Map.Entry<String, Integer> entry : current.getTypeCounts().entrySet()) {
             System.out.println(entry.getKey() + ": " + entry.getValue() + "대");
         }
     }
@@ -7,7 +7,8 @@ public enum BicycleStatus {
     AVAILABLE("대여 가능"),
     RENTED("대여 중"),
     MAINTENANCE("수리 중"),
-    BROKEN("고장");
+    BROKEN("고장"),
+    RESERVED("예약 중");
     
     private String description;
     
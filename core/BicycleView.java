@@ -0,0 +1,59 @@
+package core;
+
+import java.time.LocalDate;
+import state.BikeStateInterface;
+import state.BikeStateMachine;
+
+/**
+ * 스냅샷에 담기는 자전거 한 대의 불변(immutable) 정보
+ * 작성자 스레드가 Bicycle을 바꿔도 이미 발행된 BicycleView는 변하지 않습니다.
+ */
+public final class BicycleView {
+    private final String id;
+    private final String type;
+    private final BicycleStatus status;
+    private final String statusText;
+    private final String location;
+    private final long registrationDay;
+    private final long lastMaintenanceDay;
+
+    BicycleView(Bicycle bicycle) {
+        this.id = bicycle.getId();
+        this.type = bicycle.getType();
+        this.status = bicycle.getStatus();
+        this.statusText = bicycle.getBikeState().getStatus();
+        this.location = bicycle.getLocation();
+        this.registrationDay = bicycle.getRegistrationDay();
+        this.lastMaintenanceDay = bicycle.getLastMaintenanceDay();
+    }
+
+    // 바뀐 것이 없으면 이전 스냅샷의 객체를 재사용하기 위한 비교
+    boolean matches(Bicycle bicycle) {
+        return status == bicycle.getStatus()
+                && location.equals(bicycle.getLocation())
+                && lastMaintenanceDay == bicycle.getLastMaintenanceDay();
+    }
+
+    public String getId() { return id; }
+    public String getType() { return type; }
+    public BicycleStatus getStatus() { return status; }
+    public String getLocation() { return location; }
+    public String getRegistrationDate() { return LocalDate.ofEpochDay(registrationDay).toString(); }
+    public String getLastMaintenanceDate() { return LocalDate.ofEpochDay(lastMaintenanceDay).toString(); }
+    public long getRegistrationDay() { return registrationDay; }
+    public long getLastMaintenanceDay() { return lastMaintenanceDay; }
+
+    // 상태에 대응하는 공유 상태 객체 (can 메서드로 사전 검증할 때)
+    public BikeStateInterface getState() { return BikeStateMachine.stateOf(status); }
+
+    // Bicycle.toString()과 같은 형식
+    public String toString() {
+        return String.format("%s (ID: %s, 상태: %s, 위치: %s)",
+                            type, id, statusText, location);
+    }
+
+    public String getDetailedInfo() {
+        return String.format("ID: %s\n유형: %s\n상태: %s\n위치: %s\n등록일: %s\n마지막 정비일: %s",
+                            id, type, statusText, location, getRegistrationDate(), getLastMaintenanceDate());
+    }
+}
@@ -1,12 +1,31 @@
 package core;
 
+import admission.AdmissionController;
+import admission.WaitTicket;
 import command.*;
+import export.ExportFormat;
+import export.ExportService;
+import export.ExportTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import maintenance.MaintenanceIndex;
+import maintenance.OverdueBike;
+import maintenance.OverdueMaintenanceJob;
+import metrics.MetricsRegistry;
 import observer.*;
+import occupancy.OccupancySampler;
+import occupancy.OccupancySeries;
+import occupancy.OccupancyStore;
+import replication.ReplicationPrimary;
+import reservation.Reservation;
+import reservation.ReservationManager;
+import state.BikeState;
 import strategy.*;
 
 /**
@@ -16,33 +35,98 @@ import strategy.*;
 public class ConsoleInterface {
     private Scanner scanner;
     private BicycleManager bicycleManager;
-    private PricingContext pricingContext;
     private PricingStrategyFactory strategyFactory;
     private UserManager userManager;
     private User currentUser; // 현재 로그인한 사용자
 
     public static boolean isAdminMode = false;
+    private static final int CONSOLE_PAGE_SIZE = 20;
     private ScheduledExecutorService scheduler;
     private RepairServiceObserver repairObserver;
+    private CommandPipeline commandPipeline; // 모든 변경 커맨드를 순서대로 적용하는 단일 작성자
+    private ReservationManager reservationManager;
+    private AdmissionController admissionController; // 대여 요청 속도 제한 + 스테이션 대기열
+    private BreakdownAnalyticsObserver breakdownAnalytics; // 자전거/스테이션별 고장 빈도
+    private OccupancyStore occupancyStore; // 스테이션 점유 시계열 (occupancy-data/ 폴더, 열지 못하면 null)
+    private MaintenanceIndex maintenanceIndex; // 마지막 정비일 우선순위 색인
+    private FleetPager fleetPager; // 정렬 기준별 커서 페이지 조회
+    private ExportService exportService; // BI용 데이터 내보내기 (exports/ 폴더)
 
     public ConsoleInterface() {
+        // 코어의 안내 메시지는 진단 출력기를 통해 콘솔에 표시 (콘솔 UI만 출력을 켬)
+        DiagnosticSink.getInstance().attachConsole(DiagnosticSink.Level.INFO);
         this.scanner = new Scanner(System.in);
-        this.bicycleManager = new BicycleManager();
+
+        // 사용자/자전거 목록은 동시에 로딩하고, 조회용 스냅샷은 파이프라인 첫 커맨드로 뒤에서 생성
+        StartupOrchestrator startup = new StartupOrchestrator().loadAll();
+        this.bicycleManager = startup.getBicycleManager();
+        this.userManager = startup.getUserManager();
         this.strategyFactory = new PricingStrategyFactory();
-        // Factory를 통해 기본 전략 생성
-        this.pricingContext = new PricingContext(strategyFactory.getStrategy("regular", "일반자전거"));
-        this.userManager = new UserManager();
         this.scheduler = Executors.newScheduledThreadPool(4);
+        this.commandPipeline = new CommandPipeline(bicycleManager);
+        startup.publishSnapshotInBackground(commandPipeline);
+        DiagnosticSink.getInstance().info(startup.getSummary());
+
+        // REPLICATION_PORT가 설정되어 있으면 복제본에게 변경 내역을 보냄
+        ReplicationPrimary.startIfConfigured(bicycleManager, userManager, commandPipeline);
 
         // RepairServiceObserver 생성
-        // (수정됨) 생성자 인자 수정 (3개로 변경)
-        this.repairObserver = new RepairServiceObserver(bicycleManager, scheduler, new RepairStrategy());
+        // (수정됨) 상태 변경을 파이프라인으로 보내도록 인자 추가
+        this.repairObserver = new RepairServiceObserver(bicycleManager, commandPipeline, scheduler, new RepairStrategy());
+        repairObserver.registerDispatchMetrics();
+
+        // 모든 고장 신고를 구간별로 세어 고장이 잦은 자전거를 미리 찾음
+        this.breakdownAnalytics = new BreakdownAnalyticsObserver();
+        bicycleManager.addBreakdownObserver(breakdownAnalytics);
+
+        // 예약 만료는 타이밍 휠 하나로 처리 (tick마다 파이프라인에 만료 커맨드 하나)
+        this.reservationManager = new ReservationManager(bicycleManager);
+        reservationManager.startExpiry(commandPipeline, scheduler);
+        this.admissionController = new AdmissionController(reservationManager);
+        admissionController.startHandoff(bicycleManager, commandPipeline, scheduler);
+
+        // 전체 목록은 정렬 색인에서 페이지 단위로 꺼냄
+        this.fleetPager = new FleetPager(bicycleManager);
+        fleetPager.attach(commandPipeline);
+
+        // 정비 기한 색인: 시작할 때와 1시간마다 기한이 지난 자전거를 묶음으로 표시
+        this.maintenanceIndex = new MaintenanceIndex();
+        maintenanceIndex.attach(bicycleManager, commandPipeline);
+        new OverdueMaintenanceJob(maintenanceIndex).start(scheduler, OverdueMaintenanceJob.DEFAULT_PERIOD_MINUTES);
+
+        // 1분마다 스테이션별 대여 가능 대수를 시계열로 기록
+        try {
+            this.occupancyStore = new OccupancyStore(Path.of(OccupancyStore.DEFAULT_DIRECTORY));
+            new OccupancySampler(bicycleManager, occupancyStore).start(scheduler, OccupancySampler.DEFAULT_INTERVAL_MILLIS);
+        } catch (IOException e) {
+            DiagnosticSink.getInstance().warn("[점유] 시계열 저장소를 열지 못했습니다: " + e.getMessage());
+        }
+
+        this.exportService = new ExportService(Path.of(ExportService.DEFAULT_DIRECTORY));
+
+        // 성능 지표를 JMX로도 볼 수 있도록 등록 (jconsole → bicycle:type=Metrics)
+        MetricsRegistry.getInstance().registerJmx();
     }
 
-    // Command Pattern_Invoker 역할
+    // Command Pattern_Invoker 역할: 파이프라인에 제출하고 적용될 때까지 대기
     private void executeCommand(Command command) {
         if (command != null) {
-            command.execute();
+            commandPipeline.execute(command);
+            DiagnosticSink.getInstance().flush(); // 커맨드가 남긴 메시지를 다음 메뉴보다 먼저 출력
+        }
+    }
+
+    private void shutdown() {
+        scheduler.shutdownNow();
+        commandPipeline.shutdown();
+        bicycleManager.getRideLog().close();
+        bicycleManager.closeActiveRentals();
+        if (occupancyStore != null) {
+            try {
+                occupancyStore.close(); // 아직 블록이 되지 않은 샘플 기록
+            } catch (IOException e) {
+                System.out.println("점유 기록을 저장하지 못했습니다: " + e.getMessage());
+            }
         }
     }
 
@@ -60,7 +144,7 @@ public class ConsoleInterface {
                 int mainChoice = getMenuChoice(0, 2);
                 if (mainChoice == 0) {
                     System.out.println("시스템을 종료합니다. 안녕히 가세요!");
-                    scheduler.shutdownNow();
+                    shutdown();
                     return;
                 }
 
@@ -91,7 +175,7 @@ public class ConsoleInterface {
                             break;
                         case 0:
                             System.out.println("시스템을 종료합니다. 안녕히 가세요!");
-                            scheduler.shutdownNow();
+                            shutdown();
                             return;
                     }
                 }
@@ -125,6 +209,7 @@ public class ConsoleInterface {
      */
 
     private void showLoginMenu() {
+        DiagnosticSink.getInstance().flush();
         System.out.println("\n==== 접속 메뉴 ====");
         System.out.println("1. 로그인");
         System.out.println("2. 회원가입");
@@ -174,7 +259,12 @@ public class ConsoleInterface {
         String userType = (userTypeChoice == 2) ? "student" : "regular";
         // 초기 잔액 10000원 지급
         User user = new User(userId, passwordHash, name, phoneNumber, location, userType, 10000);
-        userManager.saveUser(user);
+        RegisterUserCommand command = new RegisterUserCommand(userManager, user);
+        executeCommand(command); // 다른 변경과 같은 작성자 스레드에서 저장
+        if (!command.isCreated()) {
+            System.out.println("이미 존재하는 ID입니다."); // 입력하는 사이 API로 먼저 가입된 경우
+            return;
+        }
         System.out.println("회원가입 완료! (초기 잔액 10,000원 지급됨)");
     }
 
@@ -183,6 +273,7 @@ public class ConsoleInterface {
      */
 
     private void showMainMenu() {
+        DiagnosticSink.getInstance().flush();
         System.out.println("\n==== 메인 메뉴 ====");
         System.out.println("1. 관리자 모드");
         System.out.println("2. 사용자 모드");
@@ -196,7 +287,7 @@ public class ConsoleInterface {
 
         while (true) {
             showAdminMenu();
-            int choice = getMenuChoice(0, 8);
+            int choice = getMenuChoice(0, 14);
 
             switch (choice) {
                 case 1:
@@ -206,7 +297,7 @@ public class ConsoleInterface {
                     removeBicycle();
                     break;
                 case 3:
-                    executeCommand(new ListAllBicyclesCommand(bicycleManager));
+                    browseBicycles();
                     break;
                 case 4:
                     viewBicyclesByStatus();
@@ -223,6 +314,24 @@ public class ConsoleInterface {
                 case 8:
                     bicycleManager.showStatistics();
                     break;
+                case 9:
+                    bulkImportBicycles();
+                    break;
+                case 10:
+                    System.out.println(MetricsRegistry.getInstance().report());
+                    break;
+                case 11:
+                    showBreakdownAnalytics();
+                    break;
+                case 12:
+                    showOccupancyTrend();
+                    break;
+                case 13:
+                    showOverdueMaintenance();
+                    break;
+                case 14:
+                    exportData();
+                    break;
                 case 0:
                     System.out.println("관리자 모드를 종료합니다.");
                     isAdminMode = false;
@@ -233,6 +342,7 @@ public class ConsoleInterface {
     }
 
     private void showAdminMenu() {
+        DiagnosticSink.getInstance().flush();
         System.out.println("\n==== 관리자 메뉴 ====");
         System.out.println("1. 자전거 추가");
         System.out.println("2. 자전거 삭제");
@@ -242,6 +352,12 @@ public class ConsoleInterface {
         System.out.println("6. 자전거 위치 변경");
         System.out.println("7. 자전거 상세 정보");
         System.out.println("8. 통계 보기");
+        System.out.println("9. 자전거 일괄 등록 (CSV/JSON)");
+        System.out.println("10. 성능 지표 보기");
+        System.out.println("11. 고장 분석 (고장이 잦은 자전거/스테이션)");
+        System.out.println("12. 스테이션 점유 추이");
+        System.out.println("13. 정비 기한 초과 자전거");
+        System.out.println("14. 데이터 내보내기 (CSV/바이너리)");
         System.out.println("0. 로그아웃");
         System.out.print("선택하세요: ");
     }
@@ -252,7 +368,7 @@ public class ConsoleInterface {
 
         while (true) {
             showUserMenu();
-            int choice = getMenuChoice(0, 4);
+            int choice = getMenuChoice(0, 6);
 
             switch (choice) {
                 case 1:
@@ -267,6 +383,12 @@ public class ConsoleInterface {
                 case 4:
                     chargeBalance();
                     break;
+                case 5:
+                    reserveBicycle();
+                    break;
+                case 6:
+                    cancelReservation();
+                    break;
                 case 0:
                     if (currentUser.isRenting()) {
                         System.out.println("현재 자전거를 대여 중입니다 ("
@@ -274,6 +396,7 @@ public class ConsoleInterface {
                         System.out.println("자전거를 반납한 후에 로그아웃할 수 있습니다.");
                         break;
                     }
+                    admissionController.leave(currentUser.getUserId());
                     currentUser = null;
                     System.out.println("로그아웃 되었습니다.");
                     return;
@@ -282,11 +405,14 @@ public class ConsoleInterface {
     }
 
     private void showUserMenu() {
+        DiagnosticSink.getInstance().flush();
         System.out.println("\n==== 사용자 메뉴 ====");
         System.out.println("1. 대여 가능한 자전거 보기");
         System.out.println("2. 자전거 대여");
         System.out.println("3. 자전거 반납");
         System.out.println("4. 잔액 충전");
+        System.out.println("5. 자전거 예약");
+        System.out.println("6. 예약 취소");
         System.out.println("0. 로그아웃");
         System.out.print("선택하세요: ");
     }
@@ -321,14 +447,58 @@ public class ConsoleInterface {
     private void removeBicycle() {
         System.out.print("삭제할 자전거 ID를 입력하세요: ");
         String id = scanner.nextLine();
-        core.Bicycle bike = bicycleManager.getBicycle(id);
-        if (bike != null && bike.getBikeState().canDelete()) {
-            Command cmd = new RemoveBicycleCommand(bicycleManager, id);
-            executeCommand(cmd);
+        BicycleView bike = bicycleManager.getSnapshot().getBicycle(id);
+        if (bike == null) {
+            System.out.println(OperationResult.NOT_FOUND.getMessage());
+            suggestBicycleIds(id); // 삭제는 자동 완성하지 않고 후보만 보여줌
+            return;
         }
+        if (!bike.getState().canDelete()) {
+            System.out.println(BikeState.refusalMessage(bike.getState(), "삭제"));
+            return;
+        }
+        Command cmd = new RemoveBicycleCommand(bicycleManager, id);
+        executeCommand(cmd);
     }
 
-    // 3번 (전체 자전거 조회) : 전부 bicycleManager로 위임
+    // 3번: 정렬 기준을 골라 페이지 단위로 보기 (스냅샷 기준, 한 페이지를 버퍼에 모아 한 번에 출력)
+    private void browseBicycles() {
+        FleetSort[] sorts = FleetSort.values();
+        System.out.println("\n정렬 기준을 선택하세요:");
+        for (int i = 0; i < sorts.length; i++) {
+            System.out.println((i + 1) + ". " + sorts[i].getDescription());
+        }
+        System.out.print("번호를 입력하세요: ");
+        FleetSort sort = sorts[getMenuChoice(1, sorts.length) - 1];
+
+        String cursor = null;
+        int pageNumber = 1;
+        while (true) {
+            FleetPage page = fleetPager.page(sort, cursor, CONSOLE_PAGE_SIZE);
+            if (page.getItems().isEmpty()) {
+                System.out.println("등록된 자전거가 없습니다.");
+                return;
+            }
+            StringBuilder out = new StringBuilder(page.getItems().size() * 64);
+            out.append("\n==== 전체 자전거 목록 (").append(sort.getDescription()).append(", ")
+                    .append(pageNumber).append("쪽 / 전체 ").append(page.getTotal()).append("대) ====\n");
+            for (BicycleView bike : page.getItems()) {
+                out.append(bike).append('\n');
+            }
+            System.out.print(out);
+
+            if (!page.hasNext()) {
+                System.out.println("(마지막 페이지입니다)");
+                return;
+            }
+            System.out.print("1. 다음 페이지  0. 그만 보기: ");
+            if (getMenuChoice(0, 1) == 0) {
+                return;
+            }
+            cursor = page.getNextCursor();
+            pageNumber++;
+        }
+    }
 
     // 4번
     private void viewBicyclesByStatus() {
@@ -337,8 +507,9 @@ public class ConsoleInterface {
         System.out.println("2. 대여 중");
         System.out.println("3. 수리 중");
         System.out.println("4. 고장");
+        System.out.println("5. 예약 중");
 
-        int choice = getMenuChoice(1, 4);
+        int choice = getMenuChoice(1, 5);
         BicycleStatus status = BicycleStatus.values()[choice - 1];
 
         Command cmd = new ListByStatusCommand(bicycleManager, status);
@@ -351,13 +522,15 @@ public class ConsoleInterface {
         String id = scanner.nextLine();
 
         // 고장 신고 가능 상태 검증
-        core.Bicycle bike = bicycleManager.getBicycle(id);
+        BicycleView bike = bicycleManager.getSnapshot().getBicycle(id);
         if (bike == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
+            System.out.println(OperationResult.NOT_FOUND.getMessage());
             return;
         }
-        if (!bike.getBikeState().canReport())
+        if (!bike.getState().canReport()) {
+            System.out.println(BikeState.refusalMessage(bike.getState(), "신고"));
             return;
+        }
 
         // 고장 사유 입력(반복문으로 복수 선택 가능)
         List<BreakdownReason> reasons = new ArrayList<>();
@@ -382,7 +555,7 @@ public class ConsoleInterface {
 
         // subject에게 알리는 옵저버 패턴 기능을 bicycleManager에 위임함
         if (!reasons.isEmpty()) {
-            bicycleManager.reportBroken(id, reasons, repairObserver);
+            executeCommand(new ReportBrokenCommand(bicycleManager, id, reasons, repairObserver));
         } else {
             System.out.println("신고가 취소되었습니다.");
         }
@@ -392,9 +565,11 @@ public class ConsoleInterface {
     private void changeBicycleLocation() {
         System.out.print("위치를 변경할 자전거 ID를 입력하세요: ");
         String id = scanner.nextLine();
-        core.Bicycle bike = bicycleManager.getBicycle(id);
-        if (bike != null && !bike.getBikeState().canMove())
+        BicycleView bike = bicycleManager.getSnapshot().getBicycle(id);
+        if (bike != null && !bike.getState().canMove()) {
+            System.out.println(BikeState.refusalMessage(bike.getState(), "이동"));
             return;
+        }
 
         LocationManager locationManager = LocationManager.getInstance();
         System.out.println("\n새로운 위치(스테이션)를 선택하세요:");
@@ -414,13 +589,147 @@ public class ConsoleInterface {
 
     // 7번
     private void viewBicycleDetails() {
-        System.out.print("상세 정보를 볼 자전거 ID를 입력하세요: ");
-        String id = scanner.nextLine();
+        System.out.print("상세 정보를 볼 자전거 ID를 입력하세요 (앞부분만 입력해도 됩니다): ");
+        String id = scanner.nextLine().trim();
+        if (bicycleManager.getSnapshot().getBicycle(id) == null) {
+            // 정확한 ID가 없으면 접두어로 자동 완성 (후보가 하나뿐일 때만)
+            List<String> candidates = bicycleManager.getIdIndex().findByPrefix(id, 2);
+            if (id.isEmpty() || candidates.size() != 1) {
+                suggestBicycleIds(id);
+                return;
+            }
+            id = candidates.get(0);
+            System.out.println("자동 완성: " + id);
+        }
         bicycleManager.showBicycleDetails(id);
     }
 
+    // 입력한 앞부분으로 시작하는 자전거 ID 후보 출력
+    private void suggestBicycleIds(String prefix) {
+        if (prefix.isEmpty()) {
+            return;
+        }
+        List<String> candidates = bicycleManager.getIdIndex().findByPrefix(prefix, 10);
+        if (candidates.isEmpty()) {
+            System.out.println("'" + prefix + "'(으)로 시작하는 자전거가 없습니다.");
+        } else {
+            System.out.println("'" + prefix + "'(으)로 시작하는 자전거: " + String.join(", ", candidates)
+                    + (candidates.size() == 10 ? " ..." : ""));
+        }
+    }
+
     // 8번 (통계 보기) : 전부 bicycleManager로 위임
 
+    // 9번
+    private void bulkImportBicycles() {
+        System.out.print("등록할 파일 경로를 입력하세요 (.csv 또는 .json): ");
+        Path path = Path.of(scanner.nextLine().trim());
+        if (!Files.exists(path)) {
+            System.out.println("파일을 찾을 수 없습니다: " + path);
+            return;
+        }
+
+        try {
+            // 파싱/검증은 콘솔 스레드에서, 등록은 파이프라인에서 한 번에
+            ImportReport report = new BicycleBulkImporter().prepare(path);
+            executeCommand(new BulkImportCommand(bicycleManager, report));
+            System.out.println(report.getSummary());
+        } catch (IOException e) {
+            System.out.println("파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 10번 (성능 지표 보기) : MetricsRegistry 보고서로 위임
+
+    // 11번: 구간별 고장 상위 자전거/스테이션 (캐시된 목록이므로 기록 전체를 훑지 않음)
+    private void showBreakdownAnalytics() {
+        for (BreakdownWindow window : BreakdownWindow.values()) {
+            System.out.println("\n===== " + window.getLabel() + " 고장 분석 =====");
+            List<BreakdownAnalyticsObserver.Ranked> bikes = breakdownAnalytics.getTopBikes(window);
+            if (bikes.isEmpty()) {
+                System.out.println("고장 신고가 없습니다.");
+                continue;
+            }
+            System.out.println("[고장이 잦은 자전거]");
+            for (BreakdownAnalyticsObserver.Ranked ranked : bikes) {
+                System.out.println("  " + ranked.getId() + " : " + ranked.getCount() + "회");
+            }
+            System.out.println("[고장이 잦은 스테이션]");
+            for (BreakdownAnalyticsObserver.Ranked ranked : breakdownAnalytics.getTopStations(window)) {
+                System.out.println("  " + ranked.getId() + " : " + ranked.getCount() + "회");
+            }
+        }
+    }
+
+    // 12번: 스테이션별 최근 24시간/30일 대여 가능 대수 (최소/평균/최대)
+    private void showOccupancyTrend() {
+        if (occupancyStore == null) {
+            System.out.println("점유 시계열 저장소를 사용할 수 없습니다.");
+            return;
+        }
+        long now = System.currentTimeMillis();
+        System.out.println("\n===== 스테이션 점유 추이 (대여 가능 대수: 최소/평균/최대) =====");
+        try {
+            // 스테이션 목록은 발행된 스냅샷에서 (LocationManager의 맵은 작성자 스레드가 바꾸는 중일 수 있음)
+            for (String station : bicycleManager.getSnapshot().getStationBikes().keySet()) {
+                OccupancySeries day = occupancyStore.query(station, now - 86_400_000L, now);
+                OccupancySeries month = occupancyStore.query(station, now - 30 * 86_400_000L, now);
+                System.out.printf("%s : 24시간 %d/%.1f/%d (%d건), 30일 %d/%.1f/%d (%d건)%n", station,
+                        day.min(), day.average(), day.max(), day.size(),
+                        month.min(), month.average(), month.max(), month.size());
+            }
+        } catch (IOException e) {
+            System.out.println("점유 기록을 읽지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // 13번: 정비 기한이 지난 자전거를 오래된 순으로 (0번은 전체 스테이션)
+    private void showOverdueMaintenance() {
+        LocationManager locationManager = LocationManager.getInstance();
+        System.out.println("\n조회할 스테이션을 선택하세요. (0. 전체)");
+        locationManager.showStationList();
+        System.out.print("번호를 입력하세요: ");
+        int stationNum = getMenuChoice(0, 4);
+        String station = stationNum == 0 ? null : locationManager.getStationNameByNumber(stationNum);
+
+        List<OverdueBike> overdue = maintenanceIndex.mostOverdue(station, 10);
+        if (overdue.isEmpty()) {
+            System.out.println("정비 주기(" + maintenanceIndex.getIntervalDays() + "일)를 넘긴 자전거가 없습니다.");
+            return;
+        }
+        System.out.println("\n===== 정비 기한 초과 자전거 (정비 주기 " + maintenanceIndex.getIntervalDays() + "일) =====");
+        for (OverdueBike bike : overdue) {
+            System.out.println(bike);
+        }
+    }
+
+    // 14번: 자전거 현황/사용자/이용 내역을 exports/ 폴더로 내보내기 (이용 내역은 증분 가능)
+    private void exportData() {
+        String[] tables = {"fleet", "users", "rides", "all"};
+        System.out.println("\n내보낼 데이터를 선택하세요.");
+        System.out.println("1. 자전거 현황");
+        System.out.println("2. 사용자 (비밀번호 해시 제외)");
+        System.out.println("3. 이용 내역");
+        System.out.println("4. 전체");
+        System.out.print("번호를 입력하세요: ");
+        int tableNum = getMenuChoice(1, 4);
+        System.out.print("형식 (1. CSV, 2. 바이너리 열 형식): ");
+        ExportFormat format = getMenuChoice(1, 2) == 1 ? ExportFormat.CSV : ExportFormat.COLUMNAR;
+        boolean incremental = false;
+        if (tableNum >= 3) {
+            System.out.print("이용 내역은 지난번 내보낸 이후 기록만 내보낼까요? (y/n): ");
+            incremental = scanner.nextLine().trim().equalsIgnoreCase("y");
+        }
+
+        try {
+            for (ExportTable table : ExportService.tables(tables[tableNum - 1], bicycleManager, userManager)) {
+                System.out.println(exportService.export(table, format, incremental));
+            }
+        } catch (IOException e) {
+            System.out.println("내보내기에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 사용자 기능
      */
@@ -463,11 +772,15 @@ public class ConsoleInterface {
         // 해당 스테이션의 대여 가능한 자전거 보기
         locationManager.showAvailableBicyclesAtStation(stationName, bicycleManager);
 
-        List<String> bikesAtStation = locationManager.getBicyclesAtStation(stationName);
+        List<String> bikesAtStation = bicycleManager.getSnapshot().getBicyclesAtStation(stationName);
         if (bikesAtStation.isEmpty()) {
             System.out.println("이 스테이션에는 대여 가능한 자전거가 없습니다.");
             return;
         }
+        if (countAvailable(bikesAtStation) == 0 && !hasReservationAt(stationName)) {
+            offerWaitQueue(stationName);
+            return;
+        }
 
         System.out.print("\n대여할 자전거 ID를 입력하세요: ");
         String id = scanner.nextLine();
@@ -478,14 +791,37 @@ public class ConsoleInterface {
             return;
         }
 
+        // 내가 예약한 자전거면 예약으로 대여
+        if (reservationManager.isReservedBy(id, currentUser.getUserId())) {
+            RentReservedBicycleCommand claim = new RentReservedBicycleCommand(reservationManager, id, currentUser);
+            executeCommand(claim);
+            if (!claim.isSuccess()) {
+                System.out.println(claim.getResult().getMessage());
+            }
+            return;
+        }
+
+        // 자전거 상태를 보기 전에 사용자/스테이션 요청 속도부터 확인
+        OperationResult admission = admissionController.admit(currentUser.getUserId(), stationName);
+        if (admission == OperationResult.STATION_BUSY) {
+            System.out.println(admission.getMessage());
+            offerWaitQueue(stationName);
+            return;
+        }
+        if (!admission.isSuccess()) {
+            System.out.println(admission.getMessage());
+            return;
+        }
+
         // 대여 가능 상태 검증
-        core.Bicycle bike = bicycleManager.getBicycle(id);
+        BicycleView bike = bicycleManager.getSnapshot().getBicycle(id);
         if (bike != null) {
-            if (!bike.getBikeState().canRent()) {
+            if (!bike.getState().canRent()) {
+                System.out.println(BikeState.refusalMessage(bike.getState(), "대여"));
                 return;
             }
         } else {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
+            System.out.println(OperationResult.NOT_FOUND.getMessage());
             return;
         }
 
@@ -497,9 +833,41 @@ public class ConsoleInterface {
             return;
         }
 
-        if (bicycleManager.rentBicycle(id)) {
-            currentUser.startRental(id);
+        // 대여 성공 시 커맨드가 사용자 대여 상태까지 갱신
+        executeCommand(new RentBicycleCommand(bicycleManager, id, currentUser));
+    }
+
+    private int countAvailable(List<String> bikeIds) {
+        FleetSnapshot snapshot = bicycleManager.getSnapshot();
+        int available = 0;
+        for (String bikeId : bikeIds) {
+            BicycleView view = snapshot.getBicycle(bikeId);
+            if (view != null && view.getStatus() == BicycleStatus.AVAILABLE) available++;
+        }
+        return available;
+    }
+
+    private boolean hasReservationAt(String stationName) {
+        for (Reservation reservation : reservationManager.getReservationsOf(currentUser.getUserId())) {
+            BicycleView bike = bicycleManager.getSnapshot().getBicycle(reservation.getBikeId());
+            if (bike != null && stationName.equals(bike.getLocation())) return true;
+        }
+        return false;
+    }
+
+    // 자전거가 없거나 요청이 몰린 스테이션: 대기열에 서면 반납되는 자전거를 순서대로 예약해 줌
+    private void offerWaitQueue(String stationName) {
+        System.out.print("대기열에 등록하면 자전거가 반납되는 대로 순서대로 예약해 드립니다. 등록하시겠습니까? (y/n): ");
+        if (!scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            return;
+        }
+        WaitTicket ticket = admissionController.enqueue(currentUser.getUserId(), stationName);
+        if (ticket == null) {
+            System.out.println("이 스테이션의 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+            return;
         }
+        System.out.println(ticket.getStation() + " 대기열 " + admissionController.getPosition(currentUser.getUserId())
+                + "번째입니다. 자전거가 배정되면 예약 취소 메뉴(6번)의 예약 목록에 나타납니다.");
     }
 
     // 3번
@@ -530,33 +898,29 @@ public class ConsoleInterface {
         if (station == null)
             return;
 
-        core.Bicycle bike = bicycleManager.getBicycle(id);
-        if (bike == null) {
+        if (bicycleManager.getSnapshot().getBicycle(id) == null) {
             System.out.println("오류: 자전거를 찾을 수 없습니다.");
             return;
         }
-        String type = bike.getType();
 
-        int minutes = bicycleManager.returnBicycle(id, station);
+        // 반납 + 요금 계산 + 잔액 차감은 파이프라인에서 한 번에 처리
+        ReturnAndChargeCommand returnCommand = new ReturnAndChargeCommand(
+                bicycleManager, userManager, strategyFactory, currentUser, id, station);
+        executeCommand(returnCommand);
 
-        if (minutes >= 0) {
-            currentUser.endRental();
+        if (returnCommand.isReturned()) {
+            int minutes = returnCommand.getMinutes();
             System.out.println("\n--- 반납 완료 (" + minutes + "분 이용) ---");
 
-            PricingStrategy strategy = strategyFactory.getStrategy(currentUser.getUserType(), type);
-            pricingContext.setStrategy(strategy);
-            int fee = pricingContext.calculatePrice(minutes);
-
             System.out.println("---------------------------------");
             System.out.println("        결제 명세서");
             System.out.println("---------------------------------");
             System.out.println("사용자: " + currentUser.getName());
-            System.out.println("자전거: " + type + " (" + id + ")");
-            System.out.println("요금제: " + pricingContext.getStrategyName());
-            System.out.println("청구 금액: " + fee + "원");
+            System.out.println("자전거: " + returnCommand.getBicycleType() + " (" + id + ")");
+            System.out.println("요금제: " + returnCommand.getStrategyName());
+            System.out.println("청구 금액: " + returnCommand.getFee() + "원");
 
-            boolean success = userManager.deductBalance(currentUser.getUserId(), fee);
-            if (success) {
+            if (returnCommand.isPaid()) {
                 System.out.println("[결제 성공] 잔액 차감 완료");
                 System.out.println("남은 잔액: " + currentUser.getBalance() + "원");
             } else {
@@ -564,6 +928,8 @@ public class ConsoleInterface {
                 System.out.println("현재 잔액: " + currentUser.getBalance() + "원");
             }
             System.out.println("---------------------------------");
+        } else {
+            System.out.println(returnCommand.getResult().getMessage());
         }
     }
 
@@ -579,8 +945,70 @@ public class ConsoleInterface {
             return;
         }
 
-        // UserManager.rechargeBalance()가 users.csv에 저장합니다.
-        userManager.rechargeBalance(currentUser.getUserId(), amount);
+        // UserManager.rechargeBalance()가 users.csv에 저장합니다. (파이프라인에서 적용)
+        executeCommand(new RechargeBalanceCommand(userManager, currentUser.getUserId(), amount));
+    }
+
+    // 5번
+    private void reserveBicycle() {
+        List<Reservation> mine = reservationManager.getReservationsOf(currentUser.getUserId());
+        if (mine.size() >= reservationManager.getMaxPerUser()) {
+            System.out.println(OperationResult.RESERVATION_LIMIT.getMessage());
+            return;
+        }
+
+        LocationManager locationManager = LocationManager.getInstance();
+        System.out.println("\n예약할 스테이션을 선택하세요:");
+        locationManager.showStationList();
+        System.out.print("번호를 입력하세요: ");
+        String stationName = locationManager.getStationNameByNumber(getMenuChoice(1, 4));
+        if (stationName == null) {
+            System.out.println("잘못된 스테이션 번호입니다.");
+            return;
+        }
+        locationManager.showAvailableBicyclesAtStation(stationName, bicycleManager);
+
+        System.out.print("\n예약할 자전거 ID를 입력하세요: ");
+        String id = scanner.nextLine().trim();
+        if (!bicycleManager.getSnapshot().getBicyclesAtStation(stationName).contains(id)) {
+            System.out.println("이 스테이션에 해당 자전거가 없습니다.");
+            return;
+        }
+
+        ReserveBicycleCommand cmd = new ReserveBicycleCommand(reservationManager, currentUser.getUserId(), id);
+        executeCommand(cmd);
+        if (!cmd.getResult().isSuccess()) {
+            System.out.println(cmd.getResult().getMessage());
+        }
+    }
+
+    // 6번
+    private void cancelReservation() {
+        List<Reservation> mine = reservationManager.getReservationsOf(currentUser.getUserId());
+        if (mine.isEmpty()) {
+            WaitTicket ticket = admissionController.getTicket(currentUser.getUserId());
+            if (ticket == null) {
+                System.out.println("예약한 자전거가 없습니다.");
+                return;
+            }
+            System.out.print(ticket.getStation() + " 대기열 " + admissionController.getPosition(currentUser.getUserId())
+                    + "번째입니다. 대기를 취소하시겠습니까? (y/n): ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                admissionController.leave(currentUser.getUserId());
+                System.out.println("대기열에서 빠졌습니다.");
+            }
+            return;
+        }
+        System.out.println("\n예약한 자전거:");
+        for (Reservation reservation : mine) {
+            System.out.println("  - " + reservation.getBikeId() + " (남은 시간 " + reservation.getRemainingSeconds() + "초)");
+        }
+        System.out.print("취소할 자전거 ID를 입력하세요: ");
+        String id = scanner.nextLine().trim();
+
+        CancelReservationCommand cmd = new CancelReservationCommand(reservationManager, currentUser.getUserId(), id);
+        executeCommand(cmd);
+        System.out.println(cmd.getResult().isSuccess() ? "예약이 취소되었습니다." : cmd.getResult().getMessage());
     }
 
     // 유틸리티 메서드들
@@ -0,0 +1,118 @@
+package core;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import metrics.MetricsRegistry;
+
+/**
+ * 진단 메시지 출력기 (싱글톤)
+ * - 코어(매니저, 상태 객체)는 System.out 대신 이곳에 레벨과 함께 메시지를 넘깁니다.
+ * - 출력 대상이 연결되지 않았거나 레벨이 낮으면 바로 버리므로 호출자는 콘솔 I/O 비용을 내지 않습니다.
+ * - 연결된 경우에도 고정 크기 큐에 넣기만 하고, 실제 출력은 백그라운드 스레드가 합니다.
+ * - 큐가 가득 차면 기다리지 않고 버리며 버린 개수를 셉니다. (diagnostics.dropped)
+ * 콘솔 UI는 attachConsole()로 출력을 켜고, 메뉴를 그리기 전에 flush()로 밀린 메시지를 먼저 내보냅니다.
+ */
+public class DiagnosticSink {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    private static final DiagnosticSink instance = new DiagnosticSink();
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private final ArrayBlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final LongAdder dropped = MetricsRegistry.getInstance().counter("diagnostics.dropped");
+    private volatile Level threshold = Level.OFF; // 기본값: 아무것도 출력하지 않음
+    private volatile PrintStream out;
+    private Thread drainer;
+
+    private DiagnosticSink() {
+    }
+
+    public static DiagnosticSink getInstance() {
+        return instance;
+    }
+
+    public void attachConsole(Level minLevel) {
+        attach(System.out, minLevel);
+    }
+
+    // 출력 대상을 연결하고 처음 한 번 출력 스레드를 띄움
+    public synchronized void attach(PrintStream target, Level minLevel) {
+        this.out = target;
+        this.threshold = minLevel;
+        if (drainer == null) {
+            drainer = new Thread(this::drain, "diagnostic-sink");
+            drainer.setDaemon(true);
+            drainer.start();
+        }
+    }
+
+    public void detach() {
+        threshold = Level.OFF;
+    }
+
+    // 메시지를 만들기 전에 확인할 때 사용 (문자열 연결 비용까지 아끼고 싶을 때)
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    public void debug(String message) { log(Level.DEBUG, message); }
+    public void info(String message) { log(Level.INFO, message); }
+    public void warn(String message) { log(Level.WARN, message); }
+    public void error(String message) { log(Level.ERROR, message); }
+
+    public void log(Level level, String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (queue.offer(message)) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.increment(); // 출력이 밀리면 호출자를 막지 않고 버림
+        }
+    }
+
+    /**
+     * 지금까지 넣은 메시지가 모두 출력될 때까지 기다립니다. (최대 1초)
+     * 콘솔에서 메시지와 메뉴 출력 순서를 맞출 때 사용합니다.
+     */
+    public void flush() {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (written.get() < target && drainer != null && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // 출력 스레드: 꺼낼 수 있는 만큼 묶어서 출력 후 한 번 flush
+    private void drain() {
+        List<String> batch = new ArrayList<>(256);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, 255);
+            PrintStream target = out;
+            for (String message : batch) {
+                target.println(message);
+            }
+            target.flush();
+            written.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+}
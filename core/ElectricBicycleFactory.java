@@ -0,0 +1,14 @@
+package core;
+
+// 전기자전거 팩토리
+class ElectricBicycleFactory extends BicycleFactory {
+    public Bicycle createBicycle(String id) {
+        return new ElectricBicycle(id);
+    }
+}
+
+class ElectricBicycle extends Bicycle {
+    public ElectricBicycle(String id) {
+        super(id, "전기자전거");
+    }
+}
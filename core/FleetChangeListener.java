@@ -0,0 +1,33 @@
+package core;
+
+/**
+ * 스냅샷 사이에 바뀐 자전거를 받는 리스너
+ * - BicycleManager.addFleetChangeListener로 등록하면 스냅샷이 발행될 때마다 작성자 스레드에서 호출됩니다.
+ * - 바뀌지 않은 자전거는 같은 BicycleView 객체이므로 == 비교로 걸러지고, 바뀌었거나 새로 생긴 자전거와 삭제된 자전거만 전달됩니다.
+ */
+public interface FleetChangeListener {
+    // 바뀌었거나 새로 생긴 자전거 (새로 생겼으면 before는 null)
+    void changed(BicycleView before, BicycleView after);
+
+    // 삭제된 자전거 (이전 스냅샷의 모습)
+    void removed(BicycleView before);
+
+    // previous → current 사이의 변경분을 listener로 전달
+    static void diff(FleetSnapshot previous, FleetSnapshot current, FleetChangeListener listener) {
+        int added = 0;
+        for (BicycleView bike : current.getBicycles()) {
+            BicycleView before = previous.getBicycle(bike.getId());
+            if (before == bike) continue;
+            if (before == null) added++;
+            listener.changed(before, bike);
+        }
+        // 새로 생긴 수만큼 늘지 않았다면 삭제된 자전거가 있음
+        if (previous.size() + added > current.size()) {
+            for (BicycleView bike : previous.getBicycles()) {
+                if (current.getBicycle(bike.getId()) == null) {
+                    listener.removed(bike);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package core;
+
+import java.util.List;
+
+/**
+ * 자전거 목록 한 페이지
+ * nextCursor를 다음 요청에 넘기면 이어지는 페이지를 받습니다. (마지막 페이지면 null)
+ */
+public final class FleetPage {
+    private final List<BicycleView> items;
+    private final String nextCursor;
+    private final int total;
+
+    FleetPage(List<BicycleView> items, String nextCursor, int total) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+
+    public List<BicycleView> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+    public int getTotal() { return total; }
+}
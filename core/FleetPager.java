@@ -0,0 +1,139 @@
+package core;
+
+import command.CommandPipeline;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 자전거 목록 페이지 조회
+ * - 정렬 기준마다 정렬된 키 색인(SortedIdIndex)을 두고, 페이지는 "마지막으로 본 키 다음부터 n개"로 꺼냅니다.
+ *   ID 순은 BicycleManager의 ID 색인을 그대로 쓰고, 스테이션/상태 순은 "스테이션\t ID", "상태\t ID"
+ *   합성 키 색인을 스냅샷 리스너로 바뀐 자전거만 갱신합니다. (작성자 스레드)
+ * - 커서는 마지막 키를 Base64로 감싼 문자열입니다. 위치(offset)가 아니라 키이므로 페이지 사이에
+ *   자전거가 추가/삭제되어도 건너뛰거나 중복되지 않습니다.
+ * - 페이지 내용은 최신 스냅샷에서 읽으므로 대여/반납과 경합하지 않습니다.
+ */
+public class FleetPager {
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final char SEPARATOR = '\t';
+    private static final String AFTER = "\0"; // 키 바로 다음 문자열을 만들 때 붙임
+
+    private final BicycleManager bicycleManager;
+    private final SortedIdIndex byStation = new SortedIdIndex();
+    private final SortedIdIndex byStatus = new SortedIdIndex();
+
+    public FleetPager(BicycleManager bicycleManager) {
+        this.bicycleManager = bicycleManager;
+    }
+
+    /**
+     * 현재 자전거로 합성 키 색인을 채우고 스냅샷 리스너를 등록합니다.
+     * 작성자 스레드에서 실행하므로 채우기와 등록 사이에 발행되는 스냅샷이 없습니다.
+     */
+    public void attach(CommandPipeline pipeline) {
+        pipeline.execute(() -> {
+            List<String> stationKeys = new ArrayList<>();
+            List<String> statusKeys = new ArrayList<>();
+            for (BicycleView bike : bicycleManager.getSnapshot().getBicycles()) {
+                stationKeys.add(stationKey(bike));
+                statusKeys.add(statusKey(bike));
+            }
+            byStation.addAll(stationKeys);
+            byStatus.addAll(statusKeys);
+            // 바뀐 자전거만 합성 키 갱신
+            bicycleManager.addFleetChangeListener(new FleetChangeListener() {
+                @Override
+                public void changed(BicycleView before, BicycleView after) {
+                    if (before != null) {
+                        if (!before.getLocation().equals(after.getLocation())) byStation.remove(stationKey(before));
+                        if (before.getStatus() != after.getStatus()) byStatus.remove(statusKey(before));
+                    }
+                    byStation.add(stationKey(after));
+                    byStatus.add(statusKey(after));
+                }
+
+                @Override
+                public void removed(BicycleView before) {
+                    byStation.remove(stationKey(before));
+                    byStatus.remove(statusKey(before));
+                }
+            });
+        });
+    }
+
+    /**
+     * cursor 다음부터 pageSize대 (cursor가 null이면 처음부터)
+     * 잘못된 커서는 IllegalArgumentException
+     */
+    public FleetPage page(FleetSort sort, String cursor, int pageSize) {
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        String from = cursor == null ? "" : decodeCursor(cursor) + AFTER;
+        FleetSnapshot snapshot = bicycleManager.getSnapshot();
+
+        SortedIdIndex index = indexFor(sort);
+        List<BicycleView> items = new ArrayList<>(size);
+        String lastKey = null;
+        boolean more = false;
+        // 색인이 스냅샷보다 잠깐 앞서거나 뒤질 수 있으므로, 스냅샷에 없거나 스테이션/상태가 키와 달라진 자전거는 건너뛰며 채움
+        fill:
+        while (true) {
+            List<String> keys = index.findRange(from, null, size + 1);
+            for (String key : keys) {
+                if (items.size() == size) {
+                    more = true; // 한 대 더 있음
+                    break fill;
+                }
+                lastKey = key;
+                BicycleView view = snapshot.getBicycle(idOf(sort, key));
+                if (view != null && key.equals(keyOf(sort, view))) items.add(view);
+            }
+            if (keys.size() <= size) break; // 색인 끝
+            from = lastKey + AFTER;
+        }
+        return new FleetPage(items, more ? encodeCursor(lastKey) : null, snapshot.size());
+    }
+
+    private SortedIdIndex indexFor(FleetSort sort) {
+        switch (sort) {
+            case STATION: return byStation;
+            case STATUS: return byStatus;
+            default: return bicycleManager.getIdIndex();
+        }
+    }
+
+    // 색인 키가 가리키는 자전거의 현재 키 (스테이션/상태가 바뀌었으면 색인 키와 다름)
+    private static String keyOf(FleetSort sort, BicycleView bike) {
+        switch (sort) {
+            case STATION: return stationKey(bike);
+            case STATUS: return statusKey(bike);
+            default: return bike.getId();
+        }
+    }
+
+    private static String stationKey(BicycleView bike) {
+        return bike.getLocation() + SEPARATOR + bike.getId();
+    }
+
+    // 상태는 enum 선언 순서(대여 가능 → 대여 중 → ...)로 정렬되도록 순번 문자 하나를 앞에 둠
+    private static String statusKey(BicycleView bike) {
+        return (char) ('A' + bike.getStatus().ordinal()) + String.valueOf(SEPARATOR) + bike.getId();
+    }
+
+    private static String idOf(FleetSort sort, String key) {
+        return sort == FleetSort.ID ? key : key.substring(key.indexOf(SEPARATOR) + 1);
+    }
+
+    private static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package core;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 자전거/스테이션 현황 (Copy-on-Write 스냅샷)
+ * - 작성자 스레드가 묶음 처리를 끝낼 때마다 새 버전을 만들어 한 번에 교체(발행)합니다.
+ * - 읽는 쪽은 락 없이 항상 일관된 한 시점의 상태를 봅니다.
+ */
+public final class FleetSnapshot {
+    private final long version;
+    private final long publishedAtMillis;
+    private final List<BicycleView> bicycles;
+    private final Map<String, BicycleView> byId;
+    private final Map<String, List<String>> stationBikes;
+    private final Map<BicycleStatus, Integer> statusCounts;
+    private final Map<String, Integer> typeCounts;
+
+    FleetSnapshot(long version, List<BicycleView> bicycles, Map<String, BicycleView> byId,
+                  Map<String, List<String>> stationBikes) {
+        this.version = version;
+        this.publishedAtMillis = System.currentTimeMillis();
+        this.bicycles = Collections.unmodifiableList(bicycles);
+        this.byId = Collections.unmodifiableMap(byId);
+        this.stationBikes = stationBikes;
+
+        Map<BicycleStatus, Integer> statusCount = new EnumMap<>(BicycleStatus.class);
+        Map<String, Integer> typeCount = new LinkedHashMap<>();
+        for (BicycleView view : bicycles) {
+            statusCount.merge(view.getStatus(), 1, Integer::sum);
+            typeCount.merge(view.getType(), 1, Integer::sum);
+        }
+        this.statusCounts = Collections.unmodifiableMap(statusCount);
+        this.typeCounts = Collections.unmodifiableMap(typeCount);
+    }
+
+    // 아무것도 없는 초기 스냅샷
+    static FleetSnapshot empty() {
+        return new FleetSnapshot(0, List.of(), new HashMap<>(), Map.of());
+    }
+
+    public long getVersion() { return version; }
+    public long getPublishedAtMillis() { return publishedAtMillis; }
+    public List<BicycleView> getBicycles() { return bicycles; }
+    public BicycleView getBicycle(String id) { return byId.get(id); }
+    public int size() { return bicycles.size(); }
+    public Map<String, List<String>> getStationBikes() { return stationBikes; }
+    public Map<BicycleStatus, Integer> getStatusCounts() { return statusCounts; }
+    public Map<String, Integer> getTypeCounts() { return typeCounts; }
+
+    public List<String> getBicyclesAtStation(String station) {
+        return stationBikes.getOrDefault(station, List.of());
+    }
+}
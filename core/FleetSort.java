@@ -0,0 +1,20 @@
+package core;
+
+/**
+ * 자전거 목록 정렬 기준 (페이지 조회용)
+ */
+public enum FleetSort {
+    ID("ID 순"),
+    STATION("스테이션 순"),
+    STATUS("상태 순");
+
+    private final String description;
+
+    FleetSort(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
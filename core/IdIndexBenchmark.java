@@ -0,0 +1,89 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * ID 색인 성능 측정
+ * - 사용법: java -cp out core.IdIndexBenchmark [ID 수] [조회 횟수]
+ * - ID 수백만 개를 한 번에 올린 뒤 추가/삭제를 섞어 적용하고, 접두어 검색(10개)/자동 완성/범위 조회의
+ *   평균 시간을 출력합니다. 결과가 TreeSet으로 구한 정답과 같은지도 확인합니다.
+ */
+public class IdIndexBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        Random random = new Random(11);
+
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("%s%07d", random.nextBoolean() ? "E" : "R", random.nextInt(10_000_000)));
+        }
+
+        SortedIdIndex index = new SortedIdIndex();
+        TreeSet<String> expected = new TreeSet<>(ids);
+        long start = System.nanoTime();
+        index.addAll(ids);
+        double loadMillis = (System.nanoTime() - start) / 1e6;
+
+        // 추가/삭제를 섞어 증분 반영
+        int updates = 100_000;
+        String[] changes = new String[updates];
+        for (int i = 0; i < updates; i++) {
+            changes[i] = String.format("%s%07d", random.nextBoolean() ? "E" : "R", random.nextInt(10_000_000));
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            if (i % 3 == 0) index.remove(changes[i]);
+            else index.add(changes[i]);
+        }
+        double updateMicros = (System.nanoTime() - start) / 1e3 / updates;
+        for (int i = 0; i < updates; i++) { // 정답 쪽에도 같은 변경 적용
+            if (i % 3 == 0) expected.remove(changes[i]);
+            else expected.add(changes[i]);
+        }
+
+        String[] prefixes = new String[queries];
+        for (int i = 0; i < queries; i++) {
+            prefixes[i] = (random.nextBoolean() ? "E" : "R") + String.format("%05d", random.nextInt(100_000));
+        }
+        for (int round = 0; round < 3; round++) { // 워밍업
+            for (String prefix : prefixes) index.findByPrefix(prefix, 10);
+        }
+
+        start = System.nanoTime();
+        long found = 0;
+        for (String prefix : prefixes) found += index.findByPrefix(prefix, 10).size();
+        double prefixMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        start = System.nanoTime();
+        for (String prefix : prefixes) index.complete(prefix);
+        double completeMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        start = System.nanoTime();
+        for (String prefix : prefixes) index.findRange(prefix, null, 100);
+        double rangeMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        boolean correct = index.size() == expected.size();
+        for (int i = 0; correct && i < 1000; i++) {
+            String prefix = prefixes[i];
+            List<String> want = new ArrayList<>();
+            for (String id : expected.tailSet(prefix)) {
+                if (!id.startsWith(prefix) || want.size() == 10) break;
+                want.add(id);
+            }
+            correct = want.equals(index.findByPrefix(prefix, 10));
+        }
+
+        System.out.println("==== ID 색인 (" + index.size() + "개) ====");
+        System.out.printf("일괄 적재: %.0f ms%n", loadMillis);
+        System.out.printf("추가/삭제: %.2f µs/회 (병합 비용 포함)%n", updateMicros);
+        System.out.printf("접두어 검색(최대 10개): %.2f µs/회 (평균 %.1f개)%n", prefixMicros, (double) found / queries);
+        System.out.printf("자동 완성: %.2f µs/회%n", completeMicros);
+        System.out.printf("범위 조회(100개): %.2f µs/회%n", rangeMicros);
+        System.out.println("정답과 일치: " + (correct ? "예" : "아니오"));
+    }
+}
@@ -0,0 +1,73 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 등록 결과 요약
+ * - 파싱/검증 단계에서 준비된 자전거와 오류를 담고, 적용 단계에서 등록 결과를 채웁니다.
+ */
+public class ImportReport {
+    private static final int MAX_REPORTED_ERRORS = 20; // 화면에 보여줄 오류 최대 개수
+
+    private final String source;
+    private final List<Bicycle> staged = new ArrayList<>(); // 검증을 통과한 자전거
+    private final List<Integer> stagedLines = new ArrayList<>(); // staged와 같은 순서의 원본 행 번호
+    private final List<String> errors = new ArrayList<>();
+    private int totalRows;
+    private int errorCount;
+    private int importedCount;
+    private long parseMillis;
+    private long applyMillis;
+
+    ImportReport(String source) {
+        this.source = source;
+    }
+
+    void stage(Bicycle bicycle, int lineNumber) {
+        staged.add(bicycle);
+        stagedLines.add(lineNumber);
+    }
+
+    void countRow() {
+        totalRows++;
+    }
+
+    void addError(int lineNumber, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(lineNumber + "행: " + message);
+        }
+    }
+
+    List<Bicycle> getStaged() { return staged; }
+    int getStagedLine(int index) { return stagedLines.get(index); }
+    void setImportedCount(int importedCount) { this.importedCount = importedCount; }
+    void setParseMillis(long parseMillis) { this.parseMillis = parseMillis; }
+    void setApplyMillis(long applyMillis) { this.applyMillis = applyMillis; }
+
+    public String getSource() { return source; }
+    public int getTotalRows() { return totalRows; }
+    public int getStagedCount() { return staged.size(); }
+    public int getErrorCount() { return errorCount; }
+    public int getImportedCount() { return importedCount; }
+    public List<String> getErrors() { return errors; }
+
+    // 관리자에게 보여줄 요약
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("==== 일괄 등록 결과 ====\n");
+        sb.append("파일: ").append(source).append('\n');
+        sb.append("읽은 행: ").append(totalRows).append('\n');
+        sb.append("등록 성공: ").append(importedCount).append("대\n");
+        sb.append("오류: ").append(errorCount).append("건\n");
+        sb.append("소요 시간: 파싱 ").append(parseMillis).append("ms, 적용 ").append(applyMillis).append("ms");
+        for (String error : errors) {
+            sb.append("\n  - ").append(error);
+        }
+        if (errorCount > errors.size()) {
+            sb.append("\n  ... 외 ").append(errorCount - errors.size()).append("건");
+        }
+        return sb.toString();
+    }
+}
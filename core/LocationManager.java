@@ -1,6 +1,7 @@
 package core;
 
 import java.util.*;
+import jfr.LocationMoveEvent;
 
 /**
  * 위치 정보 관리 클래스 (싱글톤 + 옵저버 패턴)
@@ -8,6 +9,10 @@ import java.util.*;
  * - 위치 변경 시 자동 알림
  */
 public class LocationManager {
+    // 수리 센터 (getTravelTime의 출발/도착 지점으로 사용)
+    public static final String REPAIR_CENTER = "수리 센터";
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
     // 싱글톤 인스턴스
     private static LocationManager instance;
     
@@ -19,15 +24,24 @@ public class LocationManager {
 
     // 스테이션 이름 → 수리 센터 이동 시간 매핑 (OCP 적용)
     private Map<String, Integer> stationMoveTimes;
+
+    // 스테이션 이름 → 좌표 (수리 센터가 원점, 단위는 이동 시간 초)
+    private Map<String, double[]> stationPositions;
     
     // 위치 변경 옵저버들
     private List<LocationObserver> observers;
+
+    // 마지막으로 발행된 스테이션 → 자전거 목록 스냅샷 (읽기 전용)
+    private volatile Map<String, List<String>> stationSnapshot = Map.of();
+
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
     
     // private 생성자 - 외부에서 인스턴스 생성 방지
     private LocationManager() {
         this.bikeToStationMap = new HashMap<>();
         this.stationToBikesMap = new HashMap<>();
         this.stationMoveTimes = new LinkedHashMap<>();
+        this.stationPositions = new HashMap<>();
         this.observers = new ArrayList<>();
         
         // 초기 스테이션 생성
@@ -45,22 +59,54 @@ public class LocationManager {
     // 초기 스테이션 설정 (외부 파일이나 DB에서 로딩한다고 가정하면 이 부분만 수정하면 됨)
     private void initializeStations() {
         // addStation 메서드를 통해 등록하므로 내부 구조를 몰라도 됨
-        addStation("성복동", 6);
-        addStation("상현동", 5);
-        addStation("죽전동", 4);
-        addStation("보정동", 3);
+        // 좌표는 수리 센터까지의 이동 시간(6, 5, 4, 3초)이 그대로 나오도록 배치
+        addStation("성복동", -6, 0);
+        addStation("상현동", -3, 4);
+        addStation("죽전동", 0, 4);
+        addStation("보정동", 3, 0);
     }
     
     // 스테이션 추가 메서드 (확장성 확보)
+    // 좌표를 모르면 수리 센터에서 moveTime만큼 떨어진 곳에 스테이션마다 다른 방향으로 둠
     public void addStation(String name, int moveTime) {
+        double angle = stationMoveTimes.size() * GOLDEN_ANGLE;
+        addStation(name, moveTime, moveTime * Math.cos(angle), moveTime * Math.sin(angle));
+    }
+
+    // 좌표로 스테이션 추가 (수리 센터 이동 시간은 원점까지의 거리)
+    public void addStation(String name, double x, double y) {
+        addStation(name, (int) Math.max(1, Math.round(Math.hypot(x, y))), x, y);
+    }
+
+    private void addStation(String name, int moveTime, double x, double y) {
         stationToBikesMap.putIfAbsent(name, new ArrayList<>());
         stationMoveTimes.put(name, moveTime);
+        stationPositions.put(name, new double[]{x, y});
     }
 
     // 스테이션 ~ 수리 센터 이동시간 반환
     public int getMoveTime(String station) {
         return stationMoveTimes.getOrDefault(station, 3); // 기본값 3
     }
+
+    // 두 지점 사이 이동 시간(초). REPAIR_CENTER는 수리 센터, 좌표를 모르는 스테이션은 수리 센터 경유로 계산
+    public double getTravelTime(String from, String to) {
+        if (from.equals(to)) {
+            return 0;
+        }
+        if (REPAIR_CENTER.equals(from)) {
+            return getMoveTime(to);
+        }
+        if (REPAIR_CENTER.equals(to)) {
+            return getMoveTime(from);
+        }
+        double[] a = stationPositions.get(from);
+        double[] b = stationPositions.get(to);
+        if (a == null || b == null) {
+            return getMoveTime(from) + getMoveTime(to);
+        }
+        return Math.hypot(a[0] - b[0], a[1] - b[1]);
+    }
     
     // 자전거 위치 등록
     public void registerBicycle(String bikeId, String station) {
@@ -68,18 +114,30 @@ public class LocationManager {
         stationToBikesMap.computeIfAbsent(station, k -> new ArrayList<>()).add(bikeId);
     }
     
+    // 자전거 위치 일괄 등록 (스테이션 → 자전거 ID 목록)
+    public void registerBicycles(Map<String, List<String>> stationToBikeIds) {
+        for (Map.Entry<String, List<String>> entry : stationToBikeIds.entrySet()) {
+            String station = entry.getKey();
+            for (String bikeId : entry.getValue()) {
+                bikeToStationMap.put(bikeId, station);
+            }
+            stationToBikesMap.computeIfAbsent(station, k -> new ArrayList<>()).addAll(entry.getValue());
+        }
+    }
+    
     // 자전거 위치 업데이트 (옵저버 패턴 적용)
-    public void updateBicycleLocation(String bikeId, String newStation) {
+    public OperationResult updateBicycleLocation(String bikeId, String newStation) {
+        LocationMoveEvent event = LocationMoveEvent.start(bikeId);
         String oldStation = bikeToStationMap.get(bikeId);
         
         if (oldStation == null) {
-            System.out.println("오류: 존재하지 않는 자전거 ID입니다.");
-            return;
+            diagnostics.warn(OperationResult.NOT_FOUND.getMessage());
+            return OperationResult.NOT_FOUND;
         }
         
         if (oldStation.equals(newStation)) {
-            System.out.println("이미 해당 스테이션에 있습니다.");
-            return;
+            diagnostics.info(OperationResult.SAME_LOCATION.getMessage());
+            return OperationResult.SAME_LOCATION;
         }
         
         // 이전 스테이션에서 제거
@@ -93,8 +151,12 @@ public class LocationManager {
         
         // 옵저버들에게 위치 변경 알림
         notifyLocationChange(bikeId, oldStation, newStation);
+        event.end(oldStation, newStation);
         
-        System.out.println("자전거 " + bikeId + "의 위치가 '" + oldStation + "'에서 '" + newStation + "'로 변경되었습니다.");
+        if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+            diagnostics.info("자전거 " + bikeId + "의 위치가 '" + oldStation + "'에서 '" + newStation + "'로 변경되었습니다.");
+        }
+        return OperationResult.SUCCESS;
     }
     
     // 자전거의 현재 위치 조회
@@ -112,12 +174,24 @@ public class LocationManager {
         return stationToBikesMap.keySet();
     }
     
-    // 스테이션별 자전거 현황
+    // 현재 스테이션 현황을 불변 복사본으로 발행 (BicycleManager가 묶음 처리 후 호출)
+    Map<String, List<String>> publishStationSnapshot() {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : stationToBikesMap.entrySet()) {
+            copy.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        Map<String, List<String>> published = Collections.unmodifiableMap(copy);
+        stationSnapshot = published;
+        return published;
+    }
+
+    // 스테이션별 자전거 현황 (스냅샷 기준)
     public void showStationStatus() {
         System.out.println("\n==== 스테이션별 자전거 현황 ====");
         int stationNum = 1;
-        for (String station : stationToBikesMap.keySet()) {
-            List<String> bikes = stationToBikesMap.get(station);
+        Map<String, List<String>> current = stationSnapshot;
+        for (String station : current.keySet()) {
+            List<String> bikes = current.get(station);
             System.out.printf("%d. %s: %d대\n", stationNum++, station, bikes.size());
             if (!bikes.isEmpty()) {
                 System.out.println("   → " + String.join(", ", bikes));
@@ -143,9 +217,10 @@ public class LocationManager {
         }
     }
     
-    // 특정 스테이션의 대여 가능한 자전거 보기
+    // 특정 스테이션의 대여 가능한 자전거 보기 (스냅샷 기준이라 대여/반납 처리와 경합하지 않음)
     public void showAvailableBicyclesAtStation(String station, BicycleManager bicycleManager) {
-        List<String> bikes = getBicyclesAtStation(station);
+        FleetSnapshot snapshot = bicycleManager.getSnapshot();
+        List<String> bikes = snapshot.getBicyclesAtStation(station);
         if (bikes.isEmpty()) {
             System.out.println(station + "에는 현재 대여 가능한 자전거가 없습니다.");
             return;
@@ -153,9 +228,8 @@ public class LocationManager {
         
         System.out.println("\n" + station + "의 대여 가능한 자전거:");
         for (String bikeId : bikes) {
-            Bicycle bike = bicycleManager.getBicycle(bikeId);
-            // state 패턴 적용 
-            if (bike != null && bike.getBikeState().getStatus().equals("사용 가능")) {
+            BicycleView bike = snapshot.getBicycle(bikeId);
+            if (bike != null && bike.getStatus() == BicycleStatus.AVAILABLE) {
                 System.out.println("  - " + bike);
             }
         }
@@ -164,13 +238,13 @@ public class LocationManager {
     // 옵저버 추가
     public void addObserver(LocationObserver observer) {
         observers.add(observer);
-        System.out.println("[위치 관리자] 옵저버가 등록되었습니다: " + observer.getClass().getSimpleName());
+        diagnostics.info("[위치 관리자] 옵저버가 등록되었습니다: " + observer.getClass().getSimpleName());
     }
     
     // 옵저버 제거
     public void removeObserver(LocationObserver observer) {
         observers.remove(observer);
-        System.out.println("[위치 관리자] 옵저버가 제거되었습니다: " + observer.getClass().getSimpleName());
+        diagnostics.info("[위치 관리자] 옵저버가 제거되었습니다: " + observer.getClass().getSimpleName());
     }
     
     // 옵저버들에게 위치 변경 알림
@@ -225,7 +299,7 @@ interface LocationObserver {
 class StationStatisticsObserver implements LocationObserver {
     @Override
     public void onLocationChanged(String bikeId, String fromStation, String toStation) {
-        System.out.println("[스테이션 통계] " + fromStation + " → " + toStation + " (자전거: " + bikeId + ")");
+        DiagnosticSink.getInstance().info("[스테이션 통계] " + fromStation + " → " + toStation + " (자전거: " + bikeId + ")");
         // 실제로는 통계 데이터베이스 업데이트 등의 작업 수행
     }
 }
@@ -0,0 +1,47 @@
+package core;
+
+/**
+ * 매니저 작업 결과 코드
+ * - 성공/실패 여부와 사람이 읽을 메시지를 함께 가집니다.
+ * - 콘솔, HTTP API 등 호출자가 결과에 맞게 직접 메시지를 보여줍니다.
+ */
+public enum OperationResult {
+    SUCCESS("처리되었습니다."),
+    NOT_FOUND("오류: 존재하지 않는 자전거 ID입니다."),
+    DUPLICATE_ID("오류: 이미 존재하는 자전거 ID입니다."),
+    INVALID_TYPE("오류: 잘못된 자전거 유형입니다. (regular 또는 electric)"),
+    NOT_RENTABLE("오류: 대여할 수 없는 상태의 자전거입니다."),
+    NOT_DELETABLE("오류: 삭제할 수 없는 상태의 자전거입니다."),
+    NOT_MOVABLE("오류: 이동할 수 없는 상태의 자전거입니다."),
+    NOT_REPORTABLE("오류: 신고할 수 없는 상태의 자전거입니다."),
+    ILLEGAL_TRANSITION("오류: 현재 상태에서는 그 상태로 바꿀 수 없습니다."),
+    NOT_RENTED("오류: 대여 중이 아닌 자전거입니다."),
+    NO_RENTAL_RECORD("오류: 이 자전거의 대여 시작 기록을 찾을 수 없습니다."),
+    RENTED_BY_OTHER("오류: 다른 사용자가 대여 중인 자전거입니다."),
+    UNKNOWN_USER("오류: 반납을 정산할 사용자를 알 수 없습니다."),
+    SAME_LOCATION("이미 해당 스테이션에 있습니다."),
+    ALREADY_RENTING("오류: 이미 대여 중인 자전거가 있습니다."),
+    BIKE_LOCKED("오류: 다른 샤드로 옮기는 중인 자전거입니다."),
+    UNKNOWN_TRANSACTION("오류: 알 수 없는 이동 트랜잭션입니다."),
+    SHARD_UNAVAILABLE("오류: 담당 샤드에 연결할 수 없습니다."),
+    NOT_RESERVABLE("오류: 예약할 수 없는 상태의 자전거입니다."),
+    NOT_RESERVED("오류: 예약되지 않은 자전거입니다."),
+    RESERVED_BY_OTHER("오류: 다른 사용자가 예약한 자전거입니다."),
+    RESERVATION_LIMIT("오류: 동시에 예약할 수 있는 자전거 수를 초과했습니다."),
+    RATE_LIMITED("오류: 요청이 너무 잦습니다. 잠시 후 다시 시도하세요."),
+    STATION_BUSY("오류: 이 스테이션에 대여 요청이 몰려 있습니다. 대기열에 등록하거나 잠시 후 다시 시도하세요.");
+
+    private final String message;
+
+    OperationResult(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+}
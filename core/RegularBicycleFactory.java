@@ -0,0 +1,14 @@
+package core;
+
+// 일반자전거 팩토리
+class RegularBicycleFactory extends BicycleFactory {
+    public Bicycle createBicycle(String id) {
+        return new RegularBicycle(id);
+    }
+}
+
+class RegularBicycle extends Bicycle {
+    public RegularBicycle(String id) {
+        super(id, "일반자전거");
+    }
+}
@@ -0,0 +1,13 @@
+package core;
+
+/**
+ * 진행 중인 대여 표의 변경을 받는 리스너
+ * - BicycleManager.addRentalListener로 등록하면 대여 시작/종료가 기록될 때마다 작성자 스레드에서 호출됩니다.
+ */
+public interface RentalListener {
+    // 대여 시작 (대여자를 모르면 userId는 null)
+    void started(String bikeId, String userId, long startMillis);
+
+    // 대여 종료
+    void ended(String bikeId);
+}
@@ -0,0 +1,185 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요금이 정산된 대여 기록(이용 내역)
+ * - 반납할 때마다 한 건씩 덧붙이기만 하며, 순번은 1부터 늘어납니다. (내보내기 워터마크로 사용)
+ * - 메모리에는 열(column)별 기본형 배열로 두고, 자전거/사용자/스테이션 문자열은 사전 번호로 바꿔 저장합니다.
+ * - 파일(rides.log)에는 한 줄에 한 건씩 CSV로 덧붙이고, 시작할 때 다시 읽어 들입니다.
+ * - append는 CommandPipeline 작성자 스레드에서만 호출합니다.
+ *   건수(size)를 마지막에 volatile로 공개하므로 다른 스레드는 size()까지의 기록을 락 없이 읽을 수 있습니다.
+ */
+public class RideLog implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Path file; // null이면 메모리 전용
+    private BufferedWriter writer;
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+
+    // 문자열 사전 (코드 → 문자열은 배열, 문자열 → 코드는 작성자 스레드 전용 맵)
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] texts = new String[64];
+    private volatile int textCount;
+
+    // 열 배열 (i번째 칸 = 순번 i + 1)
+    private int[] bikes = new int[INITIAL_CAPACITY];
+    private int[] users = new int[INITIAL_CAPACITY];
+    private int[] fromStations = new int[INITIAL_CAPACITY];
+    private int[] toStations = new int[INITIAL_CAPACITY];
+    private long[] startMillis = new long[INITIAL_CAPACITY];
+    private long[] endMillis = new long[INITIAL_CAPACITY];
+    private int[] minutes = new int[INITIAL_CAPACITY];
+    private int[] fees = new int[INITIAL_CAPACITY];
+    private boolean[] paid = new boolean[INITIAL_CAPACITY];
+    private volatile int size;
+
+    // 메모리 전용 기록 (벤치마크 등)
+    public RideLog() {
+        this.file = null;
+    }
+
+    public RideLog(Path file) {
+        this.file = file;
+        load();
+        try {
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            diagnostics.error("이용 내역 파일을 열지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    // 이용 한 건 추가 (작성자 스레드)
+    public void append(String bikeId, String userId, String fromStation, String toStation,
+                       long start, long end, int rideMinutes, int fee, boolean feePaid) {
+        appendInMemory(bikeId, userId, fromStation, toStation, start, end, rideMinutes, fee, feePaid);
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(String.join(",", safe(bikeId), safe(userId), safe(fromStation), safe(toStation),
+                    String.valueOf(start), String.valueOf(end), String.valueOf(rideMinutes),
+                    String.valueOf(fee), feePaid ? "1" : "0"));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            diagnostics.error("이용 내역을 저장하는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private void appendInMemory(String bikeId, String userId, String fromStation, String toStation,
+                                long start, long end, int rideMinutes, int fee, boolean feePaid) {
+        int i = size;
+        if (i == bikes.length) {
+            grow();
+        }
+        bikes[i] = code(bikeId);
+        users[i] = code(userId);
+        fromStations[i] = code(fromStation);
+        toStations[i] = code(toStation);
+        startMillis[i] = start;
+        endMillis[i] = end;
+        minutes[i] = rideMinutes;
+        fees[i] = fee;
+        paid[i] = feePaid;
+        size = i + 1; // 값을 다 쓴 뒤 공개
+    }
+
+    private int code(String text) {
+        Integer code = codes.get(text);
+        if (code != null) {
+            return code;
+        }
+        int next = textCount;
+        if (next == texts.length) {
+            texts = Arrays.copyOf(texts, next * 2);
+        }
+        texts[next] = text;
+        codes.put(text, next);
+        textCount = next + 1;
+        return next;
+    }
+
+    private void grow() {
+        int capacity = bikes.length * 2;
+        bikes = Arrays.copyOf(bikes, capacity);
+        users = Arrays.copyOf(users, capacity);
+        fromStations = Arrays.copyOf(fromStations, capacity);
+        toStations = Arrays.copyOf(toStations, capacity);
+        startMillis = Arrays.copyOf(startMillis, capacity);
+        endMillis = Arrays.copyOf(endMillis, capacity);
+        minutes = Arrays.copyOf(minutes, capacity);
+        fees = Arrays.copyOf(fees, capacity);
+        paid = Arrays.copyOf(paid, capacity);
+    }
+
+    private static String safe(String value) {
+        return value == null ? "" : value.replace(",", " ");
+    }
+
+    // 시작할 때 파일에서 이전 기록을 읽어 옴 (잘린 마지막 줄은 버림)
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] f = line.split(",", -1);
+                if (f.length != 9) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    appendInMemory(f[0], f[1], f[2], f[3], Long.parseLong(f[4]), Long.parseLong(f[5]),
+                            Integer.parseInt(f[6]), Integer.parseInt(f[7]), "1".equals(f[8]));
+                } catch (NumberFormatException e) {
+                    skipped++;
+                }
+            }
+        } catch (IOException e) {
+            diagnostics.error("이용 내역을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        if (skipped > 0) {
+            diagnostics.warn("이용 내역에서 읽을 수 없는 줄 " + skipped + "개를 건너뛰었습니다.");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (writer != null) writer.close();
+        } catch (IOException e) {
+            // 이미 닫힘
+        }
+    }
+
+    // 지금까지 공개된 기록 수 (= 마지막 순번)
+    public int size() { return size; }
+
+    // 사전 조회: size()를 먼저 읽은 뒤 그 범위의 기록이 가리키는 코드만 조회할 것
+    public int getTextCount() { return textCount; }
+    public String getText(int code) { return texts[code]; }
+
+    // 열 값 조회 (index = 순번 - 1, size() 미만)
+    public int getBikeCode(int index) { return bikes[index]; }
+    public int getUserCode(int index) { return users[index]; }
+    public int getFromStationCode(int index) { return fromStations[index]; }
+    public int getToStationCode(int index) { return toStations[index]; }
+    public long getStartMillis(int index) { return startMillis[index]; }
+    public long getEndMillis(int index) { return endMillis[index]; }
+    public int getMinutes(int index) { return minutes[index]; }
+    public int getFee(int index) { return fees[index]; }
+    public boolean isPaid(int index) { return paid[index]; }
+}
@@ -0,0 +1,199 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 정렬된 ID 색인 (접두어 검색, 범위 조회, 자동 완성)
+ * - 대부분의 ID는 정렬된 String 배열 하나에 두어 참조 하나 크기만 씁니다. 찾기는 이진 탐색입니다.
+ * - 새로 추가된 ID는 작은 정렬 버퍼(TreeSet)에, 삭제된 ID는 묘비(tombstone) 집합에 모았다가
+ *   합계가 배열 크기의 1/64(최소 MIN_MERGE_THRESHOLD)를 넘으면 배열과 한 번에 병합합니다.
+ *   배열 복사 비용이 변경 64번 이상에 나뉘므로 변경 한 번의 비용은 원소 수십 개 복사 수준입니다.
+ * - 조회는 배열과 버퍼를 함께 정렬 순서로 훑고 묘비는 건너뜁니다.
+ * - 변경은 작성자 스레드, 조회는 콘솔/HTTP 스레드에서 하므로 메서드는 이 객체로 동기화됩니다.
+ */
+public class SortedIdIndex {
+    private static final int MIN_MERGE_THRESHOLD = 4096;
+
+    private String[] sorted = new String[0];
+    private final TreeSet<String> added = new TreeSet<>();  // 배열에 아직 없는 ID
+    private final Set<String> removed = new HashSet<>();    // 배열에 있지만 삭제된 ID
+
+    public synchronized void add(String id) {
+        if (removed.remove(id)) {
+            return; // 삭제했던 ID를 되살림
+        }
+        if (Arrays.binarySearch(sorted, id) < 0) {
+            added.add(id);
+            mergeIfNeeded();
+        }
+    }
+
+    // 여러 ID를 한 번에 추가 (시작 로딩, 일괄 등록용: 배열로 정렬해 병합을 한 번만 함)
+    public synchronized void addAll(Collection<String> ids) {
+        String[] extra = new String[ids.size() + added.size()];
+        int n = 0;
+        for (String id : ids) {
+            if (!removed.remove(id) && Arrays.binarySearch(sorted, id) < 0) {
+                extra[n++] = id;
+            }
+        }
+        for (String id : added) {
+            extra[n++] = id;
+        }
+        Arrays.sort(extra, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || !extra[i].equals(extra[unique - 1])) {
+                extra[unique++] = extra[i];
+            }
+        }
+        added.clear();
+        merge(extra, unique);
+    }
+
+    public synchronized void remove(String id) {
+        if (added.remove(id)) {
+            return;
+        }
+        if (Arrays.binarySearch(sorted, id) >= 0) {
+            removed.add(id);
+            mergeIfNeeded();
+        }
+    }
+
+    public synchronized int size() {
+        return sorted.length - removed.size() + added.size();
+    }
+
+    // prefix로 시작하는 ID를 정렬 순서로 최대 limit개
+    public synchronized List<String> findByPrefix(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        Scan scan = new Scan(prefix);
+        String id;
+        while (result.size() < limit && (id = scan.next()) != null && id.startsWith(prefix)) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    // [from, to) 범위의 ID를 정렬 순서로 최대 limit개 (to가 null이면 끝까지)
+    public synchronized List<String> findRange(String from, String to, int limit) {
+        List<String> result = new ArrayList<>();
+        Scan scan = new Scan(from);
+        String id;
+        while (result.size() < limit && (id = scan.next()) != null && (to == null || id.compareTo(to) < 0)) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 자동 완성: prefix로 시작하는 모든 ID가 공통으로 가진 가장 긴 접두어
+     * 정렬되어 있으므로 첫 번째와 마지막 후보만 비교하면 됩니다. (후보가 없으면 null)
+     */
+    public synchronized String complete(String prefix) {
+        String first = new Scan(prefix).next();
+        if (first == null || !first.startsWith(prefix)) {
+            return null;
+        }
+        String last = lastWithPrefix(prefix);
+        int common = prefix.length();
+        int max = Math.min(first.length(), last.length());
+        while (common < max && first.charAt(common) == last.charAt(common)) {
+            common++;
+        }
+        return first.substring(0, common);
+    }
+
+    // prefix로 시작하는 마지막 ID (배열 쪽은 뒤에서부터 묘비를 건너뜀)
+    private String lastWithPrefix(String prefix) {
+        String upper = prefix + Character.MAX_VALUE;
+        String last = null;
+        for (int i = lowerBound(upper) - 1; i >= 0 && sorted[i].startsWith(prefix); i--) {
+            if (!removed.contains(sorted[i])) {
+                last = sorted[i];
+                break;
+            }
+        }
+        String fromBuffer = added.lower(upper);
+        if (fromBuffer != null && fromBuffer.startsWith(prefix) && (last == null || fromBuffer.compareTo(last) > 0)) {
+            last = fromBuffer;
+        }
+        return last;
+    }
+
+    private void mergeIfNeeded() {
+        if (added.size() + removed.size() >= Math.max(MIN_MERGE_THRESHOLD, sorted.length / 64)) {
+            String[] extra = added.toArray(new String[0]);
+            added.clear();
+            merge(extra, extra.length);
+        }
+    }
+
+    // 배열 - 묘비 + extra(정렬됨, 배열에 없는 ID)를 새 정렬 배열로 병합
+    private void merge(String[] extra, int extraSize) {
+        String[] next = new String[sorted.length - removed.size() + extraSize];
+        int out = 0;
+        int e = 0;
+        for (String id : sorted) {
+            if (!removed.isEmpty() && removed.contains(id)) continue;
+            while (e < extraSize && extra[e].compareTo(id) < 0) {
+                next[out++] = extra[e++];
+            }
+            next[out++] = id;
+        }
+        while (e < extraSize) {
+            next[out++] = extra[e++];
+        }
+        sorted = next;
+        removed.clear();
+    }
+
+    // key 이상인 첫 위치
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // 배열과 버퍼를 from부터 정렬 순서로 함께 훑는 커서 (묘비 제외)
+    private final class Scan {
+        private int index;
+        private final Iterator<String> buffer;
+        private String pending;
+
+        Scan(String from) {
+            index = lowerBound(from);
+            buffer = added.tailSet(from, true).iterator();
+            pending = buffer.hasNext() ? buffer.next() : null;
+        }
+
+        String next() {
+            while (index < sorted.length && removed.contains(sorted[index])) {
+                index++;
+            }
+            String fromArray = index < sorted.length ? sorted[index] : null;
+            if (pending != null && (fromArray == null || pending.compareTo(fromArray) < 0)) {
+                String id = pending;
+                pending = buffer.hasNext() ? buffer.next() : null;
+                return id;
+            }
+            if (fromArray != null) {
+                index++;
+            }
+            return fromArray;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package core;
+
+import command.CommandPipeline;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import metrics.MetricsRegistry;
+
+/**
+ * 시작 단계 조율기
+ * - 서로 독립적인 사용자 목록(users.csv)과 자전거 목록(bicycles.json + 스테이션 인덱스)을 동시에 읽습니다.
+ * - 조회용 스냅샷은 필수가 아니므로 파이프라인의 첫 커맨드로 뒤에서 만들고, 그동안 콘솔은 바로 사용할 수 있습니다.
+ *   (스냅샷이 필요한 화면만 준비될 때까지 기다림)
+ * - 단계별 소요 시간은 startup.* 게이지로 남아 성능 지표 화면에서 볼 수 있습니다.
+ */
+public class StartupOrchestrator {
+    private UserManager userManager;
+    private BicycleManager bicycleManager;
+    private long userLoadMillis;
+    private long fleetLoadMillis;
+    private long totalLoadMillis;
+    private volatile long snapshotMillis = -1; // 아직 만들지 않았으면 -1
+
+    // 사용자와 자전거 목록을 병렬로 로딩 (둘 다 끝날 때까지 대기)
+    public StartupOrchestrator loadAll() {
+        long start = System.nanoTime();
+        ExecutorService loaders = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<UserManager> users = CompletableFuture.supplyAsync(() -> {
+                long begin = System.nanoTime();
+                UserManager manager = new UserManager();
+                userLoadMillis = elapsedMillis(begin);
+                return manager;
+            }, loaders);
+            CompletableFuture<BicycleManager> fleet = CompletableFuture.supplyAsync(() -> {
+                long begin = System.nanoTime();
+                BicycleManager manager = new BicycleManager(false); // 스냅샷은 나중에
+                fleetLoadMillis = elapsedMillis(begin);
+                return manager;
+            }, loaders);
+
+            // join()이 두 작업의 결과와 필드 기록을 메인 스레드에 보이게 해 줌
+            userManager = users.join();
+            bicycleManager = fleet.join();
+        } finally {
+            loaders.shutdown();
+        }
+        userManager.restoreRentals(bicycleManager.getActiveRenters());
+        totalLoadMillis = elapsedMillis(start);
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("startup.users_ms", () -> userLoadMillis);
+        metrics.gauge("startup.fleet_ms", () -> fleetLoadMillis);
+        metrics.gauge("startup.load_total_ms", () -> totalLoadMillis);
+        metrics.gauge("startup.snapshot_ms", () -> snapshotMillis);
+        return this;
+    }
+
+    // 첫 스냅샷을 파이프라인 맨 앞 커맨드로 제출 (콘솔 커맨드는 그 뒤에 순서대로 적용)
+    public CompletableFuture<Void> publishSnapshotInBackground(CommandPipeline pipeline) {
+        return pipeline.submit(() -> {
+            long begin = System.nanoTime();
+            bicycleManager.publishInitialSnapshot();
+            snapshotMillis = elapsedMillis(begin);
+        });
+    }
+
+    public UserManager getUserManager() { return userManager; }
+    public BicycleManager getBicycleManager() { return bicycleManager; }
+
+    // 시작 시간 요약 (예: 사용자 12ms, 자전거 30ms → 병렬 로딩 31ms)
+    public String getSummary() {
+        return String.format("[시작] 사용자 %dms, 자전거 %dms → 병렬 로딩 %dms (조회용 스냅샷은 백그라운드에서 준비)",
+                userLoadMillis, fleetLoadMillis, totalLoadMillis);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -11,9 +11,10 @@ public class User {
     private String phoneNumber;
     private String location;
     private String userType; // "general", "student" 등
-    private boolean renting = false; 
-    private String rentedBicycleId = null; 
-    private int balance;    
+    // 쓰기는 파이프라인 스레드에서만, 읽기는 API 핸들러 스레드에서도 하므로 volatile
+    private volatile boolean renting = false;
+    private volatile String rentedBicycleId = null;
+    private volatile int balance;
 
     // 생성자 1: 기본 (잔액 0)
     public User(String userId, String passwordHash, String name, String phoneNumber, String location) {
@@ -57,8 +58,9 @@ public class User {
     public String getRentedBicycleId() { return rentedBicycleId; }
     
     public void startRental(String bicycleId) {
-        this.renting = true;
+        // ID를 먼저 기록해야 renting=true를 본 스레드가 ID도 본다
         this.rentedBicycleId = bicycleId;
+        this.renting = true;
     }
 
     public void endRental() {
@@ -4,6 +4,12 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import jfr.UserPersistEvent;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
 
 /**
  * 사용자 관리 클래스
@@ -11,19 +17,32 @@ import java.util.*;
 public class UserManager {
 
     private static final String USER_CSV_FILE = "users.csv";
-    private Map<String, User> users = new HashMap<>();
+    private static final LatencyHistogram LOGIN_LATENCY = MetricsRegistry.getInstance().histogram("user.login");
+    private static final LatencyHistogram FLUSH_LATENCY = MetricsRegistry.getInstance().histogram("persist.users");
+    // 변경은 작성자 스레드, 조회(로그인, 인증, 복제 이미지, 내보내기)는 HTTP/콘솔 스레드에서 하므로 동시 맵 사용
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final SortedIdIndex idIndex = new SortedIdIndex(); // 사용자 ID 접두어 검색/자동 완성
+    private final List<Consumer<User>> changeListeners = new CopyOnWriteArrayList<>(); // 사용자 추가/잔액 변경 알림
 
     private static final String ADMIN_USER_ENV = "ADMIN_USER";
     private static final String ADMIN_PASS_ENV = "ADMIN_PASS";
     private static final String ADMIN_PASS_HASH_ENV = "ADMIN_PASS_HASH";
 
+    private final Path csvPath; // 사용자 목록 파일 (기본: 현재 폴더의 users.csv)
+
     public UserManager() {
+        this(Path.of(USER_CSV_FILE));
+    }
+
+    // 다른 위치의 사용자 목록 파일 사용 (트레이스 재생 등 작업 폴더를 따로 쓰는 도구용)
+    public UserManager(Path csvPath) {
+        this.csvPath = csvPath;
         loadUsers();
         ensureAdminUser();
     }
 
     private void loadUsers() {
-        Path path = Path.of(USER_CSV_FILE);
+        Path path = csvPath;
         if (!Files.exists(path)) return;
 
         try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
@@ -56,13 +75,16 @@ public class UserManager {
                 }
             }
         } catch (IOException e) {
-            System.out.println("유저 정보 로딩 중 오류 발생: " + e.getMessage());
+            DiagnosticSink.getInstance().error("유저 정보 로딩 중 오류 발생: " + e.getMessage());
         }
+        idIndex.addAll(users.keySet());
     }
 
     private void saveAllUsers() {
+        long start = System.nanoTime();
+        UserPersistEvent event = UserPersistEvent.start(csvPath.toString());
         try (BufferedWriter writer = Files.newBufferedWriter(
-                Path.of(USER_CSV_FILE), 
+                csvPath, 
                 StandardCharsets.UTF_8,
                 StandardOpenOption.CREATE, 
                 StandardOpenOption.TRUNCATE_EXISTING)) {
@@ -75,25 +97,69 @@ public class UserManager {
                 writer.newLine();
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            DiagnosticSink.getInstance().error("유저 정보 저장 중 오류 발생: " + e.getMessage());
         }
+        FLUSH_LATENCY.recordSince(start);
+        event.end(users.size());
     }
 
     public void saveUser(User user) {
         users.put(user.getUserId(), user);
+        idIndex.add(user.getUserId());
         saveAllUsers();
-        System.out.println("사용자 정보가 저장되었습니다.");
+        notifyChanged(user);
+        DiagnosticSink.getInstance().info("사용자 정보가 저장되었습니다.");
     }
 
     public User login(String userId, String password) {
-        User user = users.get(userId);
-        if (user == null) return null;
+        long start = System.nanoTime();
+        try {
+            User user = users.get(userId);
+            if (user == null) return null;
+
+            String inputHash = PasswordUtil.hashPassword(password);
+            if (user.getPasswordHash().equals(inputHash)) {
+                return user;
+            }
+            return null;
+        } finally {
+            LOGIN_LATENCY.recordSince(start);
+        }
+    }
+
+    public User getUser(String userId) {
+        return users.get(userId);
+    }
+
+    // 사용자 ID 정렬 색인 (접두어 검색/자동 완성)
+    public SortedIdIndex getIdIndex() {
+        return idIndex;
+    }
 
-        String inputHash = PasswordUtil.hashPassword(password);
-        if (user.getPasswordHash().equals(inputHash)) {
-            return user;
+    // 전체 사용자 복사본 (복제 초기 이미지용)
+    public List<User> getAllUsers() {
+        return new ArrayList<>(users.values());
+    }
+
+    // 사용자 추가/잔액 변경 시 호출될 리스너 등록
+    public void addChangeListener(Consumer<User> listener) {
+        changeListeners.add(listener);
+    }
+
+    private void notifyChanged(User user) {
+        for (Consumer<User> listener : changeListeners) {
+            listener.accept(user);
+        }
+    }
+
+    // 재시작 전에 진행 중이던 대여를 사용자에게 다시 표시 (자전거 ID → 사용자 ID)
+    public void restoreRentals(Map<String, String> renters) {
+        for (Map.Entry<String, String> entry : renters.entrySet()) {
+            User user = users.get(entry.getValue());
+            if (user != null && !user.isRenting()) {
+                user.startRental(entry.getKey());
+            }
         }
-        return null;
     }
 
     public boolean isUserIdExists(String userId) {
@@ -108,19 +174,23 @@ public class UserManager {
         if (currentBalance >= amount) {
             user.setBalance(currentBalance - amount);
             saveAllUsers();
+            notifyChanged(user);
             return true;
         } else {
             return false;
         }
     }
-    public void rechargeBalance(String userId, int amount) {
+    public boolean rechargeBalance(String userId, int amount) {
         User user = users.get(userId);
         if (user != null && amount > 0) {
             user.setBalance(user.getBalance() + amount);
             saveAllUsers();
-            System.out.println(">> 충전 성공! 현재 잔액: " + user.getBalance() + "원");
+            notifyChanged(user);
+            DiagnosticSink.getInstance().info(">> 충전 성공! 현재 잔액: " + user.getBalance() + "원");
+            return true;
         } else {
-            System.out.println(">> 충전 실패: 사용자 정보가 없거나 금액이 올바르지 않습니다.");
+            DiagnosticSink.getInstance().warn(">> 충전 실패: 사용자 정보가 없거나 금액이 올바르지 않습니다.");
+            return false;
         }
     }
 
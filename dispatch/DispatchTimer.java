@@ -0,0 +1,28 @@
+package dispatch;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배차기가 쓰는 시계와 예약 실행
+ * - 실제 서비스는 ScheduledExecutorService를 감싸 쓰고(of), 시뮬레이션은 가상 시간으로 바꿔 끼웁니다.
+ */
+public interface DispatchTimer {
+    long nowMillis();
+
+    void schedule(Runnable task, long delayMillis);
+
+    static DispatchTimer of(ScheduledExecutorService scheduler) {
+        return new DispatchTimer() {
+            @Override
+            public long nowMillis() {
+                return System.currentTimeMillis();
+            }
+
+            @Override
+            public void schedule(Runnable task, long delayMillis) {
+                scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+            }
+        };
+    }
+}
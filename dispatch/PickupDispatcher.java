@@ -0,0 +1,267 @@
+package dispatch;
+
+import core.DiagnosticSink;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleBiFunction;
+import metrics.MetricsRegistry;
+
+/**
+ * 고장 자전거 수거 배차
+ * - 수거 요청을 스테이션별로 모아 두었다가, 가장 오래 기다린 요청이 묶음 창(window)을 넘기거나
+ *   밴 한 대분(capacity)이 모이면 빈 밴에 배차합니다. 밴이 모두 나가 있으면 돌아올 때까지 기다립니다.
+ * - 밴 한 대의 짐: 가장 오래 기다린 스테이션에서 시작해, 용량이 찰 때까지 가장 가까운 대기 스테이션을 더합니다.
+ *   들를 순서는 RoutePlanner(nearest neighbour + 2-opt)로 정합니다.
+ * - 밴이 스테이션에 도착하면 pickedUp, 수리 센터(depot)에 내려놓으면 delivered를 요청마다 호출합니다.
+ *   콜백은 타이머 스레드에서 락 밖에서 불립니다.
+ * - 시간은 DispatchTimer로 받으므로 시뮬레이션에서는 가상 시간으로 같은 코드를 돌립니다.
+ */
+public class PickupDispatcher<T> {
+    private final DispatchTimer timer;
+    private final ToDoubleBiFunction<String, String> travelSeconds;
+    private final String depot;
+    private final Config config;
+    private final Consumer<T> pickedUp;
+    private final Consumer<T> delivered;
+
+    // 아래 상태는 this 락으로 보호
+    private final Map<String, ArrayDeque<Pickup<T>>> pending = new LinkedHashMap<>(); // 스테이션 → 대기 요청 (요청 순)
+    private int pendingCount;
+    private int idleVans;
+    private boolean windowArmed; // 묶음 창 타이머가 걸려 있음
+    private long routes;
+    private long stops;
+    private double driveSeconds;
+
+    public PickupDispatcher(DispatchTimer timer, ToDoubleBiFunction<String, String> travelSeconds, String depot,
+                            Config config, Consumer<T> pickedUp, Consumer<T> delivered) {
+        this.timer = timer;
+        this.travelSeconds = travelSeconds;
+        this.depot = depot;
+        this.config = config;
+        this.pickedUp = pickedUp;
+        this.delivered = delivered;
+        this.idleVans = config.vans;
+    }
+
+    // 수거 요청 등록
+    public synchronized void request(String station, T payload) {
+        pending.computeIfAbsent(station, k -> new ArrayDeque<>()).add(new Pickup<>(payload, timer.nowMillis()));
+        pendingCount++;
+        dispatchDue();
+    }
+
+    // 배차 지표를 레지스트리에 등록 (실제 서비스에서 한 번)
+    public void registerMetrics() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("dispatch.pending", this::getPendingCount);
+        metrics.gauge("dispatch.idle_vans", this::getIdleVans);
+        metrics.gauge("dispatch.routes", this::getRouteCount);
+        metrics.gauge("dispatch.drive_seconds", () -> Math.round(getDriveSeconds()));
+    }
+
+    public synchronized int getPendingCount() { return pendingCount; }
+    public synchronized int getIdleVans() { return idleVans; }
+    public synchronized long getRouteCount() { return routes; }
+    public synchronized long getStopCount() { return stops; }
+    public synchronized double getDriveSeconds() { return driveSeconds; }
+    public Config getConfig() { return config; }
+
+    // 배차할 때가 된 만큼 빈 밴을 내보내고, 남은 요청이 있으면 묶음 창 타이머를 검
+    private void dispatchDue() {
+        long now = timer.nowMillis();
+        while (idleVans > 0 && pendingCount > 0
+                && (pendingCount >= config.capacity || now >= oldestRequestedAt() + config.windowMillis)) {
+            dispatchVan();
+        }
+        if (idleVans > 0 && pendingCount > 0 && !windowArmed) {
+            windowArmed = true;
+            timer.schedule(this::onWindowClosed, Math.max(0, oldestRequestedAt() + config.windowMillis - now));
+        }
+    }
+
+    private synchronized void onWindowClosed() {
+        windowArmed = false;
+        dispatchDue();
+    }
+
+    private void dispatchVan() {
+        List<Stop<T>> load = loadVan();
+        String[] points = new String[load.size() + 1];
+        points[0] = depot;
+        for (int i = 0; i < load.size(); i++) {
+            points[i + 1] = load.get(i).station;
+        }
+        double[][] times = new double[points.length][points.length];
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                times[i][j] = times[j][i] = travelSeconds.applyAsDouble(points[i], points[j]);
+            }
+        }
+
+        int[] order = RoutePlanner.plan(times);
+        double elapsed = 0;
+        int previous = 0;
+        List<T> onBoard = new ArrayList<>();
+        for (int point : order) {
+            elapsed += times[previous][point];
+            previous = point;
+            List<T> payloads = load.get(point - 1).payloads;
+            onBoard.addAll(payloads);
+            timer.schedule(() -> payloads.forEach(pickedUp), toMillis(elapsed)); // 이 스테이션 도착 시각
+        }
+        elapsed += times[previous][0];
+        timer.schedule(() -> unload(onBoard), toMillis(elapsed));
+
+        idleVans--;
+        routes++;
+        stops += load.size();
+        driveSeconds += elapsed;
+    }
+
+    // 가장 오래 기다린 스테이션부터 가까운 대기 스테이션 순으로 용량만큼 실음
+    private List<Stop<T>> loadVan() {
+        List<Stop<T>> load = new ArrayList<>();
+        int room = config.capacity;
+        String station = oldestStation();
+        while (station != null && room > 0) {
+            ArrayDeque<Pickup<T>> queue = pending.get(station);
+            List<T> taken = new ArrayList<>();
+            while (room > 0 && !queue.isEmpty()) {
+                taken.add(queue.poll().payload);
+                room--;
+                pendingCount--;
+            }
+            if (queue.isEmpty()) {
+                pending.remove(station);
+            }
+            load.add(new Stop<>(station, Collections.unmodifiableList(taken)));
+            station = room > 0 ? nearestPendingStation(station) : null;
+        }
+        return load;
+    }
+
+    // 수리 센터에 내려놓고 밴 복귀
+    private void unload(List<T> onBoard) {
+        onBoard.forEach(delivered);
+        synchronized (this) {
+            idleVans++;
+            dispatchDue();
+        }
+    }
+
+    private String oldestStation() {
+        String oldest = null;
+        long oldestAt = Long.MAX_VALUE;
+        for (Map.Entry<String, ArrayDeque<Pickup<T>>> entry : pending.entrySet()) {
+            long requestedAt = entry.getValue().peek().requestedAt;
+            if (requestedAt < oldestAt) {
+                oldestAt = requestedAt;
+                oldest = entry.getKey();
+            }
+        }
+        return oldest;
+    }
+
+    private long oldestRequestedAt() {
+        String station = oldestStation();
+        return station == null ? Long.MAX_VALUE : pending.get(station).peek().requestedAt;
+    }
+
+    private String nearestPendingStation(String from) {
+        String nearest = null;
+        double nearestTime = Double.MAX_VALUE;
+        for (String station : pending.keySet()) {
+            double time = travelSeconds.applyAsDouble(from, station);
+            if (time < nearestTime) {
+                nearestTime = time;
+                nearest = station;
+            }
+        }
+        return nearest;
+    }
+
+    private static long toMillis(double seconds) {
+        return Math.round(seconds * 1000);
+    }
+
+    /**
+     * 밴 대수, 밴 한 대 용량, 묶음 창
+     * fromEnvironment()는 PICKUP_VANS, PICKUP_VAN_CAPACITY, PICKUP_WINDOW_SECONDS 환경 변수를 읽습니다.
+     */
+    public static class Config {
+        private static final int DEFAULT_VANS = 3;
+        private static final int DEFAULT_CAPACITY = 10;
+        private static final int DEFAULT_WINDOW_SECONDS = 3;
+
+        private final int vans;
+        private final int capacity;
+        private final long windowMillis;
+
+        public Config(int vans, int capacity, long windowMillis) {
+            if (vans < 1 || capacity < 1 || windowMillis < 0) {
+                throw new IllegalArgumentException("밴 대수와 용량은 1 이상, 묶음 창은 0 이상이어야 합니다.");
+            }
+            this.vans = vans;
+            this.capacity = capacity;
+            this.windowMillis = windowMillis;
+        }
+
+        public static Config fromEnvironment() {
+            return new Config(envInt("PICKUP_VANS", DEFAULT_VANS, 1),
+                    envInt("PICKUP_VAN_CAPACITY", DEFAULT_CAPACITY, 1),
+                    envInt("PICKUP_WINDOW_SECONDS", DEFAULT_WINDOW_SECONDS, 0) * 1000L);
+        }
+
+        private static int envInt(String name, int defaultValue, int min) {
+            String value = System.getenv(name);
+            if (value == null || value.isBlank()) {
+                return defaultValue;
+            }
+            try {
+                int parsed = Integer.parseInt(value.trim());
+                if (parsed >= min) {
+                    return parsed;
+                }
+            } catch (NumberFormatException e) {
+                // 아래 경고 후 기본값
+            }
+            DiagnosticSink.getInstance().warn(name + " 값이 올바르지 않아 기본값 " + defaultValue + "을 사용합니다.");
+            return defaultValue;
+        }
+
+        public int getVans() { return vans; }
+        public int getCapacity() { return capacity; }
+        public long getWindowMillis() { return windowMillis; }
+
+        @Override
+        public String toString() {
+            return "밴 " + vans + "대 x 용량 " + capacity + ", 묶음 창 " + windowMillis + "ms";
+        }
+    }
+
+    private static class Pickup<T> {
+        private final T payload;
+        private final long requestedAt;
+
+        Pickup(T payload, long requestedAt) {
+            this.payload = payload;
+            this.requestedAt = requestedAt;
+        }
+    }
+
+    private static class Stop<T> {
+        private final String station;
+        private final List<T> payloads;
+
+        Stop(String station, List<T> payloads) {
+            this.station = station;
+            this.payloads = payloads;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package dispatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * 고장 폭주(breakdown storm) 상황의 수거 배차 시뮬레이션
+ * - 사용법: java -cp out dispatch.PickupSimulation [밴 대수] [밴 용량] [묶음 창(초)]
+ * - 가상 도시(스테이션 40곳)에서 8시간 동안 평소 고장 신고에 더해, 매시간 몇몇 스테이션에 신고가 몰리는 폭주를 넣습니다.
+ * - 같은 신고 목록과 같은 밴 대수로 PickupDispatcher를 가상 시간에서 돌려 비교합니다.
+ *   개별 수거(용량 1, 창 0 = 자전거마다 왕복)와 묶음 수거(창 없이 / 창 사용)의 총 이동 시간과 수리 완료까지 걸린 시간을 봅니다.
+ * - 수리 시간과 수리 후 복귀(자전거마다 따로)는 모든 경우에 같습니다.
+ * - 마지막으로 무작위 경로에서 nearest neighbour만 쓸 때와 2-opt 개선 후 경로 길이를 비교합니다.
+ */
+public class PickupSimulation {
+    private static final String DEPOT = "수리 센터";
+    private static final int STATIONS = 40;
+    private static final double CITY_RADIUS_SECONDS = 900;   // 수리 센터에서 가장 먼 스테이션까지 약 15분
+    private static final long HOURS = 8;
+    private static final double BASE_REPORTS_PER_HOUR = 20;
+    private static final int STORM_REPORTS = 60;             // 폭주 한 번에 몰리는 신고 수
+    private static final int STORM_STATIONS = 4;              // 폭주가 몰리는 스테이션 수
+    private static final long STORM_SPREAD_MILLIS = 10 * 60_000;
+
+    public static void main(String[] args) {
+        int vans = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long windowSeconds = args.length > 2 ? Long.parseLong(args[2]) : 120;
+
+        Random random = new Random(42);
+        double[][] positions = new double[STATIONS][];
+        for (int i = 0; i < STATIONS; i++) {
+            double radius = CITY_RADIUS_SECONDS * Math.sqrt(random.nextDouble());
+            double angle = random.nextDouble() * 2 * Math.PI;
+            positions[i] = new double[]{radius * Math.cos(angle), radius * Math.sin(angle)};
+        }
+        List<Report> reports = storm(random);
+        System.out.printf("스테이션 %d곳, %d시간, 고장 신고 %d건 (폭주 %d회 x %d건), 밴 %d대%n",
+                STATIONS, HOURS, reports.size(), HOURS, STORM_REPORTS, vans);
+
+        System.out.printf("%-28s %8s %12s %14s %14s %14s%n",
+                "방식", "경로 수", "총 이동(시간)", "수거 대기(분)", "완료 평균(분)", "완료 p95(분)");
+        run("개별 수거 (용량 1, 창 0)", new PickupDispatcher.Config(vans, 1, 0), positions, reports);
+        run("묶음 수거 (창 0)", new PickupDispatcher.Config(vans, capacity, 0), positions, reports);
+        run("묶음 수거 (창 " + windowSeconds + "초)",
+                new PickupDispatcher.Config(vans, capacity, windowSeconds * 1000), positions, reports);
+
+        compareRoutePlans(random, capacity);
+        System.exit(0);
+    }
+
+    // 평소 신고(포아송)와 매시간 폭주를 시각 순으로 만듦
+    private static List<Report> storm(Random random) {
+        List<Report> reports = new ArrayList<>();
+        long end = HOURS * 3_600_000;
+        double meanGapMillis = 3_600_000 / BASE_REPORTS_PER_HOUR;
+        for (long at = 0; ; ) {
+            at += (long) (-Math.log(1 - random.nextDouble()) * meanGapMillis);
+            if (at >= end) break;
+            reports.add(new Report(at, random.nextInt(STATIONS), repairMillis(random)));
+        }
+        for (long hour = 0; hour < HOURS; hour++) {
+            int[] hot = new int[STORM_STATIONS];
+            for (int i = 0; i < STORM_STATIONS; i++) {
+                hot[i] = random.nextInt(STATIONS);
+            }
+            long stormStart = hour * 3_600_000 + (long) (random.nextDouble() * 1_800_000);
+            for (int i = 0; i < STORM_REPORTS; i++) {
+                long at = stormStart + (long) (random.nextDouble() * STORM_SPREAD_MILLIS);
+                reports.add(new Report(at, hot[random.nextInt(STORM_STATIONS)], repairMillis(random)));
+            }
+        }
+        reports.sort((a, b) -> Long.compare(a.reportedAt, b.reportedAt));
+        return reports;
+    }
+
+    private static long repairMillis(Random random) {
+        return 600_000 + (long) (random.nextDouble() * 1_200_000); // 10~30분
+    }
+
+    private static void run(String name, PickupDispatcher.Config config, double[][] positions, List<Report> reports) {
+        VirtualTimer timer = new VirtualTimer();
+        List<Job> done = new ArrayList<>();
+        PickupDispatcher<Job> dispatcher = new PickupDispatcher<>(timer,
+                (from, to) -> travelSeconds(positions, from, to), DEPOT, config,
+                job -> job.pickedUpAt = timer.nowMillis(),
+                job -> {
+                    // 수리 후 스테이션 복귀까지 (자전거마다 따로, 모든 방식에서 같음)
+                    job.completedAt = timer.nowMillis() + job.report.repairMillis
+                            + Math.round(travelSeconds(positions, DEPOT, job.station) * 1000);
+                    done.add(job);
+                });
+
+        for (Report report : reports) {
+            timer.at(report.reportedAt, () -> dispatcher.request("S" + report.station, new Job(report)));
+        }
+        timer.runAll();
+        if (done.size() != reports.size()) {
+            throw new IllegalStateException("수리 완료 " + done.size() + "건 / 신고 " + reports.size() + "건");
+        }
+
+        double[] waits = new double[done.size()];
+        double[] turnarounds = new double[done.size()];
+        for (int i = 0; i < done.size(); i++) {
+            Job job = done.get(i);
+            waits[i] = (job.pickedUpAt - job.report.reportedAt) / 60_000.0;
+            turnarounds[i] = (job.completedAt - job.report.reportedAt) / 60_000.0;
+        }
+        Arrays.sort(turnarounds);
+        System.out.printf("%-28s %8d %12.1f %14.1f %14.1f %14.1f%n", name, dispatcher.getRouteCount(),
+                dispatcher.getDriveSeconds() / 3600, mean(waits), mean(turnarounds),
+                turnarounds[(int) (turnarounds.length * 0.95)]);
+    }
+
+    // 무작위 정류장 묶음에서 nearest neighbour 경로와 2-opt 개선 후 경로 비교
+    private static void compareRoutePlans(Random random, int stops) {
+        int trials = 2000;
+        double nearest = 0;
+        double improved = 0;
+        for (int t = 0; t < trials; t++) {
+            double[][] points = new double[stops + 1][];
+            points[0] = new double[]{0, 0};
+            for (int i = 1; i <= stops; i++) {
+                points[i] = new double[]{(random.nextDouble() * 2 - 1) * CITY_RADIUS_SECONDS,
+                        (random.nextDouble() * 2 - 1) * CITY_RADIUS_SECONDS};
+            }
+            double[][] times = new double[points.length][points.length];
+            for (int i = 0; i < points.length; i++) {
+                for (int j = 0; j < points.length; j++) {
+                    times[i][j] = Math.hypot(points[i][0] - points[j][0], points[i][1] - points[j][1]);
+                }
+            }
+            int[] order = RoutePlanner.nearestNeighbour(times);
+            nearest += RoutePlanner.tourTime(order, times);
+            RoutePlanner.improve(order, times);
+            improved += RoutePlanner.tourTime(order, times);
+        }
+        System.out.printf("%n경로 계획 (정류장 %d곳, %d회 평균): nearest neighbour %.0f초 → 2-opt %.0f초 (%.1f%% 단축)%n",
+                stops, trials, nearest / trials, improved / trials, 100 * (1 - improved / nearest));
+    }
+
+    private static double travelSeconds(double[][] positions, String from, String to) {
+        double[] a = DEPOT.equals(from) ? new double[]{0, 0} : positions[Integer.parseInt(from.substring(1))];
+        double[] b = DEPOT.equals(to) ? new double[]{0, 0} : positions[Integer.parseInt(to.substring(1))];
+        return Math.hypot(a[0] - b[0], a[1] - b[1]);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static class Report {
+        private final long reportedAt;
+        private final int station;
+        private final long repairMillis;
+
+        Report(long reportedAt, int station, long repairMillis) {
+            this.reportedAt = reportedAt;
+            this.station = station;
+            this.repairMillis = repairMillis;
+        }
+    }
+
+    private static class Job {
+        private final Report report;
+        private final String station;
+        private long pickedUpAt;
+        private long completedAt;
+
+        Job(Report report) {
+            this.report = report;
+            this.station = "S" + report.station;
+        }
+    }
+
+    // 가상 시간 타이머: 예약된 작업을 시각 순(같으면 예약 순)으로 하나씩 실행
+    private static class VirtualTimer implements DispatchTimer {
+        private final PriorityQueue<Event> events = new PriorityQueue<>();
+        private long now;
+        private long sequence;
+
+        @Override
+        public long nowMillis() {
+            return now;
+        }
+
+        @Override
+        public void schedule(Runnable task, long delayMillis) {
+            at(now + delayMillis, task);
+        }
+
+        void at(long time, Runnable task) {
+            events.add(new Event(time, sequence++, task));
+        }
+
+        void runAll() {
+            Event event;
+            while ((event = events.poll()) != null) {
+                now = event.time;
+                event.task.run();
+            }
+        }
+    }
+
+    private static class Event implements Comparable<Event> {
+        private final long time;
+        private final long sequence;
+        private final Runnable task;
+
+        Event(long time, long sequence, Runnable task) {
+            this.time = time;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
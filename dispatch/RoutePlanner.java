@@ -0,0 +1,84 @@
+package dispatch;
+
+/**
+ * 수거 밴 한 대의 방문 순서 계산
+ * - 0번 지점이 수리 센터(출발/도착), 1..n번이 들를 스테이션인 대칭 이동 시간 행렬을 받습니다.
+ * - 가장 가까운 다음 지점부터 고르는 방법(nearest neighbour)으로 순서를 만든 뒤,
+ *   두 구간을 맞바꿔(구간 뒤집기) 전체 시간이 줄어드는 동안 2-opt 개선을 반복합니다.
+ * - 한 번에 싣는 스테이션 수가 적으므로(밴 용량 이하) O(n²) 반복으로 충분합니다.
+ */
+public final class RoutePlanner {
+    private static final double EPSILON = 1e-9;
+
+    private RoutePlanner() {
+    }
+
+    // 방문 순서 (1..n번 지점 번호, 수리 센터 제외)
+    public static int[] plan(double[][] times) {
+        int[] order = nearestNeighbour(times);
+        improve(order, times);
+        return order;
+    }
+
+    // 수리 센터에서 출발해 가장 가까운 미방문 지점을 차례로 고름
+    public static int[] nearestNeighbour(double[][] times) {
+        int stops = times.length - 1;
+        int[] order = new int[stops];
+        boolean[] visited = new boolean[times.length];
+        int current = 0;
+        for (int i = 0; i < stops; i++) {
+            int next = -1;
+            for (int candidate = 1; candidate < times.length; candidate++) {
+                if (!visited[candidate] && (next < 0 || times[current][candidate] < times[current][next])) {
+                    next = candidate;
+                }
+            }
+            visited[next] = true;
+            order[i] = next;
+            current = next;
+        }
+        return order;
+    }
+
+    // 2-opt: 간선 (a,b), (c,d)를 (a,c), (b,d)로 바꾸면 짧아질 때 그 사이 구간을 뒤집음
+    public static void improve(int[] order, double[][] times) {
+        int n = order.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < n - 1; i++) {
+                int a = i == 0 ? 0 : order[i - 1];
+                int b = order[i];
+                for (int j = i + 1; j < n; j++) {
+                    int c = order[j];
+                    int d = j == n - 1 ? 0 : order[j + 1];
+                    double delta = times[a][c] + times[b][d] - times[a][b] - times[c][d];
+                    if (delta < -EPSILON) {
+                        reverse(order, i, j);
+                        b = order[i];
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    // 수리 센터 → order 순서 → 수리 센터 전체 이동 시간
+    public static double tourTime(int[] order, double[][] times) {
+        double total = 0;
+        int current = 0;
+        for (int stop : order) {
+            total += times[current][stop];
+            current = stop;
+        }
+        return total + times[current][0];
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package export;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 바이너리 열 형식(.bcol) 읽기 (형식은 ColumnarExportWriter 참고)
+ * - next()로 블록을 하나씩 읽고, ints/longs로 열 배열을, getText로 사전 문자열을 봅니다.
+ * - 파일 끝 표시까지 읽었는지는 isComplete()로 확인합니다.
+ */
+public class ColumnarExportReader implements AutoCloseable {
+    private static final int READ_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final String tableName;
+    private final List<ExportColumn> columns = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private int[][] ints;
+    private long[][] longs;
+    private int rows;
+    private long firstSequence;
+    private long totalRows;
+    private boolean complete;
+
+    public ColumnarExportReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+        try {
+            if (readInt() != ColumnarExportWriter.MAGIC) {
+                throw new IOException("바이너리 내보내기 파일이 아닙니다: " + file);
+            }
+            int version = readInt();
+            if (version != ColumnarExportWriter.VERSION) {
+                throw new IOException("지원하지 않는 형식 버전입니다: " + version);
+            }
+            tableName = readString();
+            int columnCount = readInt();
+            for (int c = 0; c < columnCount; c++) {
+                ExportColumn.Type type = ExportColumn.Type.fromCode(readByte());
+                columns.add(new ExportColumn(readString(), type));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        ints = new int[columnCount()][0];
+        longs = new long[columnCount()][0];
+    }
+
+    public String getTableName() { return tableName; }
+    public List<ExportColumn> getColumns() { return Collections.unmodifiableList(columns); }
+
+    // 다음 블록 읽기 (끝 표시를 만나면 false)
+    public boolean next() throws IOException {
+        int magic = readInt();
+        if (magic == ColumnarExportWriter.END_MAGIC) {
+            totalRows = readLong();
+            complete = true;
+            rows = 0;
+            return false;
+        }
+        if (magic != ColumnarExportWriter.BLOCK_MAGIC) {
+            throw new IOException("블록 표시가 올바르지 않습니다.");
+        }
+        rows = readInt();
+        firstSequence = readLong();
+        int newTexts = readInt();
+        for (int i = 0; i < newTexts; i++) {
+            texts.add(readString());
+        }
+        for (int c = 0; c < columnCount(); c++) {
+            if (columns.get(c).getType() == ExportColumn.Type.INT64) {
+                if (longs[c].length < rows) longs[c] = new long[rows];
+                readLongs(longs[c], rows);
+            } else {
+                if (ints[c].length < rows) ints[c] = new int[rows];
+                readInts(ints[c], rows);
+            }
+        }
+        return true;
+    }
+
+    public int getRows() { return rows; }
+    public long getFirstSequence() { return firstSequence; }
+    public int[] ints(int column) { return ints[column]; }
+    public long[] longs(int column) { return longs[column]; }
+    public String getText(int code) { return texts.get(code); }
+
+    // 끝 표시까지 읽었는지와 그때 기록된 전체 행 수
+    public boolean isComplete() { return complete; }
+    public long getTotalRows() { return totalRows; }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int columnCount() {
+        return columns.size();
+    }
+
+    private void fill(int need) throws IOException {
+        if (buffer.remaining() >= need) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < need) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("파일이 중간에 끝났습니다.");
+            }
+        }
+        buffer.flip();
+    }
+
+    private byte readByte() throws IOException {
+        fill(1);
+        return buffer.get();
+    }
+
+    private int readInt() throws IOException {
+        fill(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    private long readLong() throws IOException {
+        fill(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    private String readString() throws IOException {
+        int length = readInt();
+        byte[] bytes = new byte[length];
+        int done = 0;
+        while (done < length) {
+            fill(1);
+            int n = Math.min(buffer.remaining(), length - done);
+            buffer.get(bytes, done, n);
+            done += n;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void readInts(int[] dest, int count) throws IOException {
+        int done = 0;
+        while (done < count) {
+            fill(Integer.BYTES);
+            int n = Math.min(buffer.remaining() / Integer.BYTES, count - done);
+            buffer.asIntBuffer().get(dest, done, n);
+            buffer.position(buffer.position() + n * Integer.BYTES);
+            done += n;
+        }
+    }
+
+    private void readLongs(long[] dest, int count) throws IOException {
+        int done = 0;
+        while (done < count) {
+            fill(Long.BYTES);
+            int n = Math.min(buffer.remaining() / Long.BYTES, count - done);
+            buffer.asLongBuffer().get(dest, done, n);
+            buffer.position(buffer.position() + n * Long.BYTES);
+            done += n;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 바이너리 열(columnar) 형식 작성기 (.bcol, 리틀 엔디언)
+ * - 파일 머리: MAGIC, 버전, 표 이름, 열 수, 열마다 [종류, 이름]
+ * - 블록: BLOCK_MAGIC, 행 수, 첫 행 순번, 새 사전 항목 수와 항목들(번호는 앞 블록에 이어서),
+ *   이후 열마다 값 배열을 통째로 (INT32/TEXT는 4바이트, INT64는 8바이트씩)
+ * - 끝: END_MAGIC, 전체 행 수 (이 표시가 없으면 덜 쓰인 파일)
+ * - 문자열은 사전 번호로만 쓰므로 행마다 반복되는 자전거/스테이션 이름이 파일에 한 번씩만 들어갑니다.
+ * 문자열 길이와 이름은 [int 길이 + UTF-8 바이트]로 씁니다. 읽기는 ColumnarExportReader 참고.
+ */
+class ColumnarExportWriter implements ExportWriter {
+    static final int MAGIC = 0x42435831;       // "BCX1"
+    static final int BLOCK_MAGIC = 0x424C4B31; // "BLK1"
+    static final int END_MAGIC = 0x454E4431;   // "END1"
+    static final int VERSION = 1;
+
+    private final ChannelOutput out;
+    private final ExportTable table;
+    private final List<ExportColumn> columns;
+    private int textsWritten; // 이 파일에 이미 쓴 사전 항목 수
+    private long rowsWritten;
+
+    ColumnarExportWriter(ChannelOutput out, ExportTable table) throws IOException {
+        this.out = out;
+        this.table = table;
+        this.columns = table.getColumns();
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        putString(table.getName());
+        out.putInt(columns.size());
+        for (ExportColumn column : columns) {
+            out.putByte(column.getType().getCode());
+            putString(column.getName());
+        }
+    }
+
+    @Override
+    public void writeBlock(ExportBlock block) throws IOException {
+        int rows = block.getRows();
+        out.putInt(BLOCK_MAGIC);
+        out.putInt(rows);
+        out.putLong(block.getFirstSequence());
+
+        // 블록을 채운 뒤의 사전 크기까지 보내면 블록 안의 번호는 모두 정의됨
+        int textCount = table.getTextCount();
+        out.putInt(textCount - textsWritten);
+        for (int code = textsWritten; code < textCount; code++) {
+            putString(table.getText(code));
+        }
+        textsWritten = textCount;
+
+        for (int c = 0; c < columns.size(); c++) {
+            if (columns.get(c).getType() == ExportColumn.Type.INT64) {
+                out.putLongs(block.longs(c), rows);
+            } else {
+                out.putInts(block.ints(c), rows);
+            }
+        }
+        rowsWritten += rows;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.putInt(END_MAGIC);
+        out.putLong(rowsWritten);
+        out.flush();
+    }
+
+    private void putString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,166 @@
+package export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CSV 작성기 (UTF-8, 첫 줄은 열 이름)
+ * - 사전 문자열은 처음 나올 때 한 번만 CSV용 바이트로 인코딩해 두고, 이후에는 바이트 복사만 합니다.
+ * - 숫자는 문자열을 만들지 않고 자릿수를 바로 씁니다.
+ * - 힙 배열에 행 단위로 칸을 미리 잡고 인코딩한 뒤 ChannelOutput에 한꺼번에 넘깁니다.
+ */
+class CsvExportWriter implements ExportWriter {
+    private static final int SCRATCH_BYTES = 256 * 1024;
+    private static final int FIELD_RESERVE = 64; // 값 하나에 미리 잡아 두는 칸 (long 최대 20자 + 구분자, 짧은 문자열)
+    private static final byte[] DIGIT_PAIRS = new byte[200]; // "00" ~ "99"
+    private static final int[] INT_POWERS_OF_TEN = new int[10];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+        INT_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < INT_POWERS_OF_TEN.length; i++) {
+            INT_POWERS_OF_TEN[i] = INT_POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final ChannelOutput out;
+    private final ExportTable table;
+    private final ExportColumn.Type[] types;
+    private final byte[] scratch = new byte[SCRATCH_BYTES];
+    private int position;
+    private final int rowReserve;
+    private byte[][] encodedTexts = new byte[256][];
+
+    CsvExportWriter(ChannelOutput out, ExportTable table) throws IOException {
+        this.out = out;
+        this.table = table;
+        List<ExportColumn> columns = table.getColumns();
+        this.types = new ExportColumn.Type[columns.size()];
+        this.rowReserve = columns.size() * FIELD_RESERVE;
+        StringBuilder header = new StringBuilder();
+        for (int c = 0; c < columns.size(); c++) {
+            types[c] = columns.get(c).getType();
+            if (c > 0) header.append(',');
+            header.append(columns.get(c).getName());
+        }
+        byte[] bytes = header.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+        out.put(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void writeBlock(ExportBlock block) throws IOException {
+        int rows = block.getRows();
+        int columns = types.length;
+        int[][] ints = new int[columns][];
+        long[][] longs = new long[columns][];
+        for (int c = 0; c < columns; c++) {
+            ints[c] = block.ints(c);
+            longs[c] = block.longs(c);
+        }
+        for (int r = 0; r < rows; r++) {
+            reserve(rowReserve);
+            for (int c = 0; c < columns; c++) {
+                switch (types[c]) {
+                    case TEXT: {
+                        byte[] text = encodedText(ints[c][r]);
+                        if (text.length >= FIELD_RESERVE) {
+                            reserve(text.length + (columns - c) * FIELD_RESERVE); // 긴 값은 행 예약과 따로
+                        }
+                        System.arraycopy(text, 0, scratch, position, text.length);
+                        position += text.length;
+                        break;
+                    }
+                    case INT64:
+                        position = writeNumber(longs[c][r], position);
+                        break;
+                    default:
+                        position = writeNumber(ints[c][r], position);
+                }
+                scratch[position++] = (byte) (c + 1 < columns ? ',' : '\n');
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void reserve(int bytes) throws IOException {
+        if (position + bytes > scratch.length) {
+            drain();
+            if (bytes > scratch.length) {
+                throw new IOException("한 값이 너무 깁니다. (" + bytes + "바이트)");
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        out.put(scratch, 0, position);
+        position = 0;
+    }
+
+    // int 범위를 넘는 값(시각 등)은 아래 8자리를 떼어 int 나눗셈만 쓰도록 나눔
+    private int writeNumber(long value, int at) {
+        if (value < 0) {
+            scratch[at++] = '-';
+            value = -value;
+        }
+        if (value <= Integer.MAX_VALUE) {
+            return writeInt((int) value, at);
+        }
+        long high = value / 100_000_000;
+        at = writeNumber(high, at);
+        fillDigits((int) (value - high * 100_000_000), at, at + 8);
+        return at + 8;
+    }
+
+    private int writeInt(int value, int at) {
+        int digits = 1;
+        while (digits < INT_POWERS_OF_TEN.length && value >= INT_POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        int end = at + digits;
+        fillDigits(value, at, end);
+        return end;
+    }
+
+    // [from, end) 칸을 value로 채움 (앞자리는 0), 두 자리씩 표에서 찾아 씀
+    private void fillDigits(int value, int from, int end) {
+        int i = end;
+        while (i - from >= 2) {
+            int quotient = value / 100;
+            int pair = (value - quotient * 100) * 2;
+            value = quotient;
+            scratch[--i] = DIGIT_PAIRS[pair + 1];
+            scratch[--i] = DIGIT_PAIRS[pair];
+        }
+        if (i > from) {
+            scratch[--i] = (byte) ('0' + value);
+        }
+    }
+
+    // 사전 번호 → CSV용 UTF-8 바이트 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+    private byte[] encodedText(int code) {
+        if (code >= encodedTexts.length) {
+            encodedTexts = Arrays.copyOf(encodedTexts, Math.max(code + 1, encodedTexts.length * 2));
+        }
+        byte[] encoded = encodedTexts[code];
+        if (encoded == null) {
+            String text = table.getText(code);
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                text = "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            encoded = text.getBytes(StandardCharsets.UTF_8);
+            encodedTexts[code] = encoded;
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,121 @@
+package export;
+
+import core.RideLog;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * 이용 내역 내보내기 벤치마크
+ * - 사용법: java -cp out export.ExportBenchmark [이용 건수] [출력 폴더]
+ *   (출력 폴더를 주지 않으면 임시 폴더에 쓰고 끝나면 지움, 천만 건 이상은 -Xmx2g 정도 필요)
+ * - 메모리 전용 RideLog에 합성 이용 내역을 채운 뒤 CSV/바이너리 열 형식 전체 내보내기,
+ *   바이너리 파일 다시 읽기 검증, 10% 추가 후 증분 내보내기를 실행합니다.
+ * - 내보내는 스레드의 CPU 시간 / 경과 시간 비율을 함께 출력합니다. (낮을수록 디스크가 병목)
+ *   사용자 모드(인코딩)와 커널 모드(페이지 캐시로 복사)를 나눠 보여 줍니다.
+ */
+public class ExportBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int rides = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        boolean temporary = args.length < 2;
+        Path directory = temporary ? Files.createTempDirectory("export-bench") : Path.of(args[1]);
+
+        RideLog rideLog = new RideLog();
+        Random random = new Random(42);
+        long fillStart = System.nanoTime();
+        fill(rideLog, random, rides);
+        System.out.printf("이용 내역 %,d건 생성 (%.1f초)%n", rides, (System.nanoTime() - fillStart) / 1e9);
+
+        ExportService service = new ExportService(directory);
+        RideExportTable table = new RideExportTable(rideLog);
+        boolean ok = true;
+        try {
+            System.out.println("\n==== 전체 내보내기 ====");
+            measure(service, table, ExportFormat.CSV, false);
+            ExportResult columnar = measure(service, table, ExportFormat.COLUMNAR, false);
+            ok &= verify(columnar.getFile(), rideLog);
+
+            System.out.println("\n==== 증분 내보내기 ====");
+            service.export(table, ExportFormat.CSV, true); // 워터마크를 현재 끝으로
+            int more = Math.max(1, rides / 10);
+            fill(rideLog, random, more);
+            ExportResult increment = measure(service, table, ExportFormat.CSV, true);
+            boolean rangeOk = increment.getFromSequence() == rides && increment.getRows() == more;
+            System.out.println("증분 범위: " + (rangeOk ? "정상" : "오류") + " (" + increment.getRows() + "행)");
+            ExportResult empty = service.export(table, ExportFormat.CSV, true);
+            System.out.println("변경 없이 다시 실행: " + empty);
+            ok &= rangeOk && empty.getFile() == null;
+        } finally {
+            if (temporary) {
+                deleteRecursively(directory);
+            }
+        }
+        System.out.println("\n결과: " + (ok ? "정상" : "오류"));
+        System.exit(ok ? 0 : 1);
+    }
+
+    // 자전거 2만 대, 사용자 10만 명, 스테이션 4곳 사이의 합성 이용 내역
+    private static void fill(RideLog rideLog, Random random, int count) {
+        String[] stations = {"죽전동", "보정동", "상현동", "성복동"};
+        long time = 1_700_000_000_000L + rideLog.size() * 5_000L;
+        for (int i = 0; i < count; i++) {
+            int minutes = 1 + random.nextInt(120);
+            time += 5_000;
+            rideLog.append(String.format("R%05d", random.nextInt(20_000)), "user" + random.nextInt(100_000),
+                    stations[random.nextInt(4)], stations[random.nextInt(4)],
+                    time, time + minutes * 60_000L, minutes, 1000 + minutes * 100, random.nextInt(50) != 0);
+        }
+    }
+
+    private static ExportResult measure(ExportService service, ExportTable table, ExportFormat format,
+                                        boolean incremental) throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long userStart = threads.getCurrentThreadUserTime();
+        ExportResult result = service.export(table, format, incremental);
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        long user = threads.getCurrentThreadUserTime() - userStart;
+        double seconds = result.getElapsedNanos() / 1e9;
+        System.out.println(result);
+        System.out.printf("  %,.0f행/s, 행당 %.1f바이트, CPU/경과 %.0f%% (인코딩 %.0f%%, 커널 복사 %.0f%%)%n",
+                result.getRows() / seconds, (double) result.getBytes() / result.getRows(),
+                100.0 * cpu / result.getElapsedNanos(), 100.0 * user / result.getElapsedNanos(),
+                100.0 * (cpu - user) / result.getElapsedNanos());
+        return result;
+    }
+
+    // 바이너리 파일을 다시 읽어 행 수, 순번, 값이 기록과 같은지 확인
+    private static boolean verify(Path file, RideLog rideLog) throws IOException {
+        long rows = 0;
+        boolean same = true;
+        try (ColumnarExportReader reader = new ColumnarExportReader(file)) {
+            while (reader.next()) {
+                long[] rideIds = reader.longs(0);
+                int[] bikes = reader.ints(1);
+                int[] fees = reader.ints(8);
+                for (int r = 0; r < reader.getRows(); r++) {
+                    int i = (int) (rideIds[r] - 1);
+                    same &= i == rows + r
+                            && reader.getText(bikes[r]).equals(rideLog.getText(rideLog.getBikeCode(i)))
+                            && fees[r] == rideLog.getFee(i);
+                }
+                rows += reader.getRows();
+            }
+            same &= reader.isComplete() && reader.getTotalRows() == rows && rows == rideLog.size();
+        }
+        System.out.println("바이너리 파일 다시 읽기: " + (same ? "일치" : "불일치") + " (" + rows + "행)");
+        return same;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
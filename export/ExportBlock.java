@@ -0,0 +1,47 @@
+package export;
+
+import java.util.List;
+
+/**
+ * 내보낼 행 묶음 (열마다 기본형 배열 하나)
+ * - INT32/TEXT 열은 int[], INT64 열은 long[]에 담습니다.
+ * - 표가 채우고 작성기가 비운 뒤 다음 묶음에 다시 씁니다. (행마다 객체를 만들지 않음)
+ */
+public class ExportBlock {
+    public static final int DEFAULT_ROWS = 8 * 1024;
+
+    private final List<ExportColumn> columns;
+    private final int[][] ints;
+    private final long[][] longs;
+    private final int capacity;
+    private int rows;
+    private long firstSequence;
+
+    public ExportBlock(List<ExportColumn> columns, int capacity) {
+        this.columns = columns;
+        this.capacity = capacity;
+        this.ints = new int[columns.size()][];
+        this.longs = new long[columns.size()][];
+        for (int c = 0; c < columns.size(); c++) {
+            if (columns.get(c).getType() == ExportColumn.Type.INT64) {
+                longs[c] = new long[capacity];
+            } else {
+                ints[c] = new int[capacity];
+            }
+        }
+    }
+
+    public List<ExportColumn> getColumns() { return columns; }
+    public int getCapacity() { return capacity; }
+    public int getRows() { return rows; }
+    public long getFirstSequence() { return firstSequence; }
+
+    // 표가 채운 범위 기록 (첫 행 순번, 행 수)
+    public void setRange(long firstSequence, int rows) {
+        this.firstSequence = firstSequence;
+        this.rows = rows;
+    }
+
+    public int[] ints(int column) { return ints[column]; }
+    public long[] longs(int column) { return longs[column]; }
+}
@@ -0,0 +1,38 @@
+package export;
+
+/**
+ * 내보내기 표의 열 하나 (이름 + 값 종류)
+ * TEXT 열의 값은 표가 가진 문자열 사전의 번호(int)로 주고받습니다.
+ */
+public class ExportColumn {
+
+    public enum Type {
+        INT32(1), INT64(2), TEXT(3);
+
+        private final byte code; // 바이너리 열 형식 머리에 쓰는 값
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte getCode() { return code; }
+
+        public static Type fromCode(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) return type;
+            }
+            throw new IllegalArgumentException("알 수 없는 열 종류입니다: " + code);
+        }
+    }
+
+    private final String name;
+    private final Type type;
+
+    public ExportColumn(String name, Type type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    public String getName() { return name; }
+    public Type getType() { return type; }
+}
@@ -0,0 +1,36 @@
+package export;
+
+import java.io.IOException;
+
+/**
+ * 내보내기 형식 (파일 확장자와 작성기)
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    COLUMNAR("bcol");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // "csv" / "columnar" / "bcol" (대소문자 무시)
+    public static ExportFormat parse(String value) {
+        if (value == null || value.isBlank() || "csv".equalsIgnoreCase(value)) {
+            return CSV;
+        }
+        if ("columnar".equalsIgnoreCase(value) || "bcol".equalsIgnoreCase(value)) {
+            return COLUMNAR;
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+
+    ExportWriter newWriter(ChannelOutput out, ExportTable table) throws IOException {
+        return this == CSV ? new CsvExportWriter(out, table) : new ColumnarExportWriter(out, table);
+    }
+}
@@ -0,0 +1,47 @@
+package export;
+
+import java.nio.file.Path;
+
+/**
+ * 표 하나를 내보낸 결과
+ */
+public class ExportResult {
+    private final String table;
+    private final ExportFormat format;
+    private final Path file;          // 새 행이 없어 파일을 만들지 않았으면 null
+    private final long fromSequence;  // 이 파일에 담긴 첫 순번 - 1 (= 이전 워터마크)
+    private final long toSequence;    // 마지막 순번 (= 새 워터마크)
+    private final long bytes;
+    private final long elapsedNanos;
+
+    public ExportResult(String table, ExportFormat format, Path file,
+                        long fromSequence, long toSequence, long bytes, long elapsedNanos) {
+        this.table = table;
+        this.format = format;
+        this.file = file;
+        this.fromSequence = fromSequence;
+        this.toSequence = toSequence;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTable() { return table; }
+    public ExportFormat getFormat() { return format; }
+    public Path getFile() { return file; }
+    public long getFromSequence() { return fromSequence; }
+    public long getToSequence() { return toSequence; }
+    public long getRows() { return toSequence - fromSequence; }
+    public long getBytes() { return bytes; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    @Override
+    public String toString() {
+        if (file == null) {
+            return table + ": 새 기록 없음 (워터마크 " + toSequence + ")";
+        }
+        double seconds = elapsedNanos / 1e9;
+        return String.format("%s: %,d행 (순번 %d~%d) → %s, %.1fMB, %.2f초 (%.0fMB/s)",
+                table, getRows(), fromSequence + 1, toSequence, file,
+                bytes / 1e6, seconds, seconds > 0 ? bytes / 1e6 / seconds : 0);
+    }
+}
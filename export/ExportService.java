@@ -0,0 +1,160 @@
+package export;
+
+import core.BicycleManager;
+import core.UserManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * BI용 데이터 내보내기
+ * - 자전거 현황, 사용자(비밀번호 해시 제외), 이용 내역을 CSV 또는 바이너리 열 형식으로 씁니다.
+ * - 표에서 블록 단위(기본형 배열)로 읽어 작성기가 인코딩하고, 큰 다이렉트 버퍼 여러 개를
+ *   FileChannel 모음 쓰기(gather write)로 내보냅니다. 버퍼는 이 객체가 다시 씁니다.
+ * - 이용 내역은 형식별 워터마크(exports/rides.csv.watermark 등) 이후 행만 증분으로 내보낼 수 있습니다.
+ *   파일은 임시 이름으로 다 쓰고 디스크에 내린 뒤 이름을 바꾸고, 그 다음에 워터마크를 올립니다.
+ *   (중간에 죽으면 같은 범위를 다시 내보냄)
+ * - 내보내기는 한 번에 하나씩만 실행됩니다. (synchronized)
+ */
+public class ExportService {
+    public static final String DEFAULT_DIRECTORY = "exports";
+    private static final int BUFFER_BYTES = 4 << 20; // 4MB
+    private static final int BUFFER_COUNT = 4;       // 16MB를 모아 시스템 호출 한 번
+
+    private static final LatencyHistogram EXPORT_LATENCY = MetricsRegistry.getInstance().histogram("export.run");
+    private final LongAdder exportedRows = MetricsRegistry.getInstance().counter("export.rows");
+    private final LongAdder exportedBytes = MetricsRegistry.getInstance().counter("export.bytes");
+
+    private final Path directory;
+    private ByteBuffer[] buffers; // 처음 내보낼 때 할당
+
+    public ExportService(Path directory) {
+        this.directory = directory;
+    }
+
+    // 세 표를 모두 내보냄 (자전거/사용자는 전체, 이용 내역은 incremental이면 증분)
+    public List<ExportResult> exportAll(BicycleManager bicycleManager, UserManager userManager,
+                                        ExportFormat format, boolean incremental) throws IOException {
+        List<ExportResult> results = new ArrayList<>();
+        for (ExportTable table : tables(bicycleManager, userManager)) {
+            results.add(export(table, format, incremental));
+        }
+        return results;
+    }
+
+    // 이름으로 표 만들기: fleet / users / rides / all
+    public static List<ExportTable> tables(String name, BicycleManager bicycleManager, UserManager userManager) {
+        String key = name == null || name.isBlank() ? "all" : name.trim().toLowerCase();
+        switch (key) {
+            case "fleet":
+                return List.of(new FleetExportTable(bicycleManager.getSnapshot()));
+            case "users":
+                return List.of(new UserExportTable(userManager.getAllUsers()));
+            case "rides":
+                return List.of(new RideExportTable(bicycleManager.getRideLog()));
+            case "all":
+                return tables(bicycleManager, userManager);
+            default:
+                throw new IllegalArgumentException("알 수 없는 표입니다: " + name + " (fleet/users/rides/all)");
+        }
+    }
+
+    private static List<ExportTable> tables(BicycleManager bicycleManager, UserManager userManager) {
+        return List.of(new FleetExportTable(bicycleManager.getSnapshot()),
+                new UserExportTable(userManager.getAllUsers()),
+                new RideExportTable(bicycleManager.getRideLog()));
+    }
+
+    /**
+     * 표 하나 내보내기
+     * incremental이고 덧붙이기 전용 표면 워터마크 이후만, 아니면 전체를 씁니다.
+     * 파일 이름: 전체는 exports/표.확장자, 증분은 exports/표-첫순번-마지막순번.확장자
+     */
+    public synchronized ExportResult export(ExportTable table, ExportFormat format, boolean incremental) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+        long last = table.getLastSequence();
+        boolean useWatermark = incremental && table.isAppendOnly();
+        long from = useWatermark ? readWatermark(table, format) : 0;
+        if (from > last) {
+            from = 0; // 기록 파일이 새로 시작됨 → 처음부터
+        }
+        if (useWatermark && from == last) {
+            return new ExportResult(table.getName(), format, null, from, last, 0, System.nanoTime() - start);
+        }
+
+        String name = useWatermark ? table.getName() + "-" + (from + 1) + "-" + last : table.getName();
+        Path target = directory.resolve(name + "." + format.getExtension());
+        Path temp = directory.resolve(name + "." + format.getExtension() + ".tmp");
+        long bytes;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelOutput out = new ChannelOutput(channel, buffers());
+            ExportWriter writer = format.newWriter(out, table);
+            ExportBlock block = new ExportBlock(table.getColumns(), ExportBlock.DEFAULT_ROWS);
+            long after = from;
+            while (after < last) {
+                int rows = table.read(after, last, block);
+                if (rows <= 0) break;
+                writer.writeBlock(block);
+                after += rows;
+            }
+            writer.finish();
+            channel.force(false);
+            bytes = out.getBytesWritten();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (useWatermark) {
+            writeWatermark(table, format, last);
+        }
+
+        exportedRows.add(last - from);
+        exportedBytes.add(bytes);
+        EXPORT_LATENCY.recordSince(start);
+        return new ExportResult(table.getName(), format, target, from, last, bytes, System.nanoTime() - start);
+    }
+
+    // 마지막으로 내보낸 순번 (없으면 0)
+    public synchronized long readWatermark(ExportTable table, ExportFormat format) throws IOException {
+        Path file = watermarkFile(table, format);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("워터마크 파일이 올바르지 않습니다: " + file);
+        }
+    }
+
+    private void writeWatermark(ExportTable table, ExportFormat format, long sequence) throws IOException {
+        Path file = watermarkFile(table, format);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, sequence + "\n", StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path watermarkFile(ExportTable table, ExportFormat format) {
+        return directory.resolve(table.getName() + "." + format.getExtension() + ".watermark");
+    }
+
+    private ByteBuffer[] buffers() {
+        if (buffers == null) {
+            buffers = new ByteBuffer[BUFFER_COUNT];
+            for (int i = 0; i < BUFFER_COUNT; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            }
+        }
+        return buffers;
+    }
+}
@@ -0,0 +1,30 @@
+package export;
+
+import java.util.List;
+
+/**
+ * 내보낼 수 있는 표
+ * - 행은 순번 1..getLastSequence()로 매겨집니다.
+ * - 덧붙이기만 하는 표(이용 내역)는 워터마크 이후 행만 증분으로 내보낼 수 있고,
+ *   현재 상태 표(자전거, 사용자)는 만들 때의 스냅샷 전체를 내보냅니다.
+ */
+public interface ExportTable {
+
+    String getName();
+
+    List<ExportColumn> getColumns();
+
+    // 지금 내보낼 수 있는 마지막 순번
+    long getLastSequence();
+
+    // 워터마크 기반 증분 내보내기 가능 여부
+    boolean isAppendOnly();
+
+    // (afterSequence, lastSequence] 범위에서 블록 용량만큼 채우고 채운 행 수를 돌려줌
+    int read(long afterSequence, long lastSequence, ExportBlock block);
+
+    // TEXT 열 사전 (번호는 한 번 정해지면 바뀌지 않음)
+    int getTextCount();
+
+    String getText(int code);
+}
@@ -0,0 +1,12 @@
+package export;
+
+import java.io.IOException;
+
+// 형식별 작성기 (블록을 받아 ChannelOutput에 인코딩)
+interface ExportWriter {
+
+    void writeBlock(ExportBlock block) throws IOException;
+
+    // 남은 내용을 마무리하고 파일에 씀
+    void finish() throws IOException;
+}
@@ -0,0 +1,58 @@
+package export;
+
+import core.BicycleView;
+import core.FleetSnapshot;
+import java.util.List;
+
+/**
+ * 자전거 현황 표 (FleetSnapshot 하나를 그대로 내보냄)
+ * 열: id, type, station, status, registeredDay, lastMaintenanceDay (날짜는 epoch day)
+ */
+public class FleetExportTable implements ExportTable {
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("id", ExportColumn.Type.TEXT),
+            new ExportColumn("type", ExportColumn.Type.TEXT),
+            new ExportColumn("station", ExportColumn.Type.TEXT),
+            new ExportColumn("status", ExportColumn.Type.TEXT),
+            new ExportColumn("registeredDay", ExportColumn.Type.INT32),
+            new ExportColumn("lastMaintenanceDay", ExportColumn.Type.INT32));
+
+    private final TextDictionary dictionary = new TextDictionary();
+    private final int[][] columns = new int[COLUMNS.size()][];
+    private final int size;
+
+    public FleetExportTable(FleetSnapshot snapshot) {
+        List<BicycleView> bikes = snapshot.getBicycles();
+        size = bikes.size();
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = new int[size];
+        }
+        for (int i = 0; i < size; i++) {
+            BicycleView bike = bikes.get(i);
+            columns[0][i] = dictionary.code(bike.getId());
+            columns[1][i] = dictionary.code("전기자전거".equals(bike.getType()) ? "electric" : "regular");
+            columns[2][i] = dictionary.code(bike.getLocation());
+            columns[3][i] = dictionary.code(bike.getStatus().name());
+            columns[4][i] = (int) bike.getRegistrationDay();
+            columns[5][i] = (int) bike.getLastMaintenanceDay();
+        }
+    }
+
+    @Override public String getName() { return "fleet"; }
+    @Override public List<ExportColumn> getColumns() { return COLUMNS; }
+    @Override public long getLastSequence() { return size; }
+    @Override public boolean isAppendOnly() { return false; }
+    @Override public int getTextCount() { return dictionary.size(); }
+    @Override public String getText(int code) { return dictionary.get(code); }
+
+    @Override
+    public int read(long afterSequence, long lastSequence, ExportBlock block) {
+        int from = (int) afterSequence;
+        int rows = (int) Math.min(block.getCapacity(), Math.min(lastSequence, size) - afterSequence);
+        for (int c = 0; c < columns.length; c++) {
+            System.arraycopy(columns[c], from, block.ints(c), 0, rows);
+        }
+        block.setRange(afterSequence + 1, rows);
+        return rows;
+    }
+}
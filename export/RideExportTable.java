@@ -0,0 +1,67 @@
+package export;
+
+import core.RideLog;
+import java.util.List;
+
+/**
+ * 이용 내역 표 (RideLog 열 배열에서 블록으로 바로 옮김, 덧붙이기 전용이라 증분 내보내기 가능)
+ * 열: rideId(순번), bikeId, userId, fromStation, toStation, startMillis, endMillis, minutes, fee, paid(1/0)
+ * TEXT 열 번호는 RideLog 사전 번호를 그대로 씁니다.
+ */
+public class RideExportTable implements ExportTable {
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("rideId", ExportColumn.Type.INT64),
+            new ExportColumn("bikeId", ExportColumn.Type.TEXT),
+            new ExportColumn("userId", ExportColumn.Type.TEXT),
+            new ExportColumn("fromStation", ExportColumn.Type.TEXT),
+            new ExportColumn("toStation", ExportColumn.Type.TEXT),
+            new ExportColumn("startMillis", ExportColumn.Type.INT64),
+            new ExportColumn("endMillis", ExportColumn.Type.INT64),
+            new ExportColumn("minutes", ExportColumn.Type.INT32),
+            new ExportColumn("fee", ExportColumn.Type.INT32),
+            new ExportColumn("paid", ExportColumn.Type.INT32));
+
+    private final RideLog rideLog;
+
+    public RideExportTable(RideLog rideLog) {
+        this.rideLog = rideLog;
+    }
+
+    @Override public String getName() { return "rides"; }
+    @Override public List<ExportColumn> getColumns() { return COLUMNS; }
+    @Override public long getLastSequence() { return rideLog.size(); }
+    @Override public boolean isAppendOnly() { return true; }
+    @Override public int getTextCount() { return rideLog.getTextCount(); }
+    @Override public String getText(int code) { return rideLog.getText(code); }
+
+    @Override
+    public int read(long afterSequence, long lastSequence, ExportBlock block) {
+        int from = (int) afterSequence;
+        int rows = (int) Math.min(block.getCapacity(), Math.min(lastSequence, rideLog.size()) - afterSequence);
+        long[] rideIds = block.longs(0);
+        int[] bikes = block.ints(1);
+        int[] users = block.ints(2);
+        int[] fromStations = block.ints(3);
+        int[] toStations = block.ints(4);
+        long[] starts = block.longs(5);
+        long[] ends = block.longs(6);
+        int[] minutes = block.ints(7);
+        int[] fees = block.ints(8);
+        int[] paid = block.ints(9);
+        for (int r = 0; r < rows; r++) {
+            int i = from + r;
+            rideIds[r] = i + 1L;
+            bikes[r] = rideLog.getBikeCode(i);
+            users[r] = rideLog.getUserCode(i);
+            fromStations[r] = rideLog.getFromStationCode(i);
+            toStations[r] = rideLog.getToStationCode(i);
+            starts[r] = rideLog.getStartMillis(i);
+            ends[r] = rideLog.getEndMillis(i);
+            minutes[r] = rideLog.getMinutes(i);
+            fees[r] = rideLog.getFee(i);
+            paid[r] = rideLog.isPaid(i) ? 1 : 0;
+        }
+        block.setRange(afterSequence + 1, rows);
+        return rows;
+    }
+}
@@ -0,0 +1,31 @@
+package export;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스냅샷 표용 문자열 사전 (만드는 동안에만 추가, 이후 읽기 전용)
+class TextDictionary {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> texts = new ArrayList<>();
+
+    int code(String text) {
+        String value = text == null ? "" : text;
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = texts.size();
+            codes.put(value, code);
+            texts.add(value);
+        }
+        return code;
+    }
+
+    int size() {
+        return texts.size();
+    }
+
+    String get(int code) {
+        return texts.get(code);
+    }
+}
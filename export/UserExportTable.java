@@ -0,0 +1,59 @@
+package export;
+
+import core.User;
+import java.util.List;
+
+/**
+ * 사용자 표 (비밀번호 해시는 내보내지 않음)
+ * 열: userId, name, phoneNumber, location, userType, balance, rentedBicycleId (대여 중이 아니면 빈 값)
+ */
+public class UserExportTable implements ExportTable {
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("userId", ExportColumn.Type.TEXT),
+            new ExportColumn("name", ExportColumn.Type.TEXT),
+            new ExportColumn("phoneNumber", ExportColumn.Type.TEXT),
+            new ExportColumn("location", ExportColumn.Type.TEXT),
+            new ExportColumn("userType", ExportColumn.Type.TEXT),
+            new ExportColumn("balance", ExportColumn.Type.INT32),
+            new ExportColumn("rentedBicycleId", ExportColumn.Type.TEXT));
+
+    private final TextDictionary dictionary = new TextDictionary();
+    private final int[][] columns = new int[COLUMNS.size()][];
+    private final int size;
+
+    // 만드는 시점의 값을 복사해 둠 (이후 잔액이 바뀌어도 한 파일 안에서는 일관됨)
+    public UserExportTable(List<User> users) {
+        size = users.size();
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = new int[size];
+        }
+        for (int i = 0; i < size; i++) {
+            User user = users.get(i);
+            columns[0][i] = dictionary.code(user.getUserId());
+            columns[1][i] = dictionary.code(user.getName());
+            columns[2][i] = dictionary.code(user.getPhoneNumber());
+            columns[3][i] = dictionary.code(user.getLocation());
+            columns[4][i] = dictionary.code(user.getUserType());
+            columns[5][i] = user.getBalance();
+            columns[6][i] = dictionary.code(user.isRenting() ? user.getRentedBicycleId() : "");
+        }
+    }
+
+    @Override public String getName() { return "users"; }
+    @Override public List<ExportColumn> getColumns() { return COLUMNS; }
+    @Override public long getLastSequence() { return size; }
+    @Override public boolean isAppendOnly() { return false; }
+    @Override public int getTextCount() { return dictionary.size(); }
+    @Override public String getText(int code) { return dictionary.get(code); }
+
+    @Override
+    public int read(long afterSequence, long lastSequence, ExportBlock block) {
+        int from = (int) afterSequence;
+        int rows = (int) Math.min(block.getCapacity(), Math.min(lastSequence, size) - afterSequence);
+        for (int c = 0; c < columns.length; c++) {
+            System.arraycopy(columns[c], from, block.ints(c), 0, rows);
+        }
+        block.setRange(afterSequence + 1, rows);
+        return rows;
+    }
+}
@@ -0,0 +1,37 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 자전거 상태 전이 이벤트 (BikeState.setState)
+ */
+@Name("bicycle.StateTransition")
+@Label("Bike State Transition")
+@Category({"Bicycle Sharing", "State"})
+@Description("자전거 상태 객체가 바뀔 때 기록")
+@StackTrace(false)
+public class BikeStateTransitionEvent extends Event {
+    @Label("Bike Id")
+    String bikeId;
+
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+
+    // 녹화 중이 아니면 필드도 채우지 않고 바로 반환 (JIT가 객체 생성까지 제거)
+    public static void emit(String bikeId, String fromState, String toState) {
+        BikeStateTransitionEvent event = new BikeStateTransitionEvent();
+        if (!event.isEnabled()) return;
+        event.bikeId = bikeId;
+        event.fromState = fromState;
+        event.toState = toState;
+        event.commit();
+    }
+}
@@ -0,0 +1,35 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * bicycles.json 저장 이벤트 (BicycleManager 저장 1회 = 이벤트 1건, 이벤트 길이 = 저장 시간)
+ */
+@Name("bicycle.FleetPersist")
+@Label("Fleet Persist")
+@Category({"Bicycle Sharing", "Persistence"})
+@Description("자전거 목록 JSON 파일 쓰기")
+public class FleetPersistEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Bike Count")
+    int bikeCount;
+
+    public static FleetPersistEvent start(String file) {
+        FleetPersistEvent event = new FleetPersistEvent();
+        event.file = file;
+        event.begin();
+        return event;
+    }
+
+    public void end(int bikeCount) {
+        if (!shouldCommit()) return;
+        this.bikeCount = bikeCount;
+        commit();
+    }
+}
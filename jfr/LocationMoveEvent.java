@@ -0,0 +1,39 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 자전거 위치 이동 이벤트 (LocationManager.updateBicycleLocation, 이벤트 길이 = 인덱스 갱신 + 옵저버 알림)
+ */
+@Name("bicycle.LocationMove")
+@Label("Location Move")
+@Category({"Bicycle Sharing", "Location"})
+@Description("스테이션 간 자전거 이동")
+public class LocationMoveEvent extends Event {
+    @Label("Bike Id")
+    String bikeId;
+
+    @Label("From Station")
+    String fromStation;
+
+    @Label("To Station")
+    String toStation;
+
+    public static LocationMoveEvent start(String bikeId) {
+        LocationMoveEvent event = new LocationMoveEvent();
+        event.bikeId = bikeId;
+        event.begin();
+        return event;
+    }
+
+    public void end(String fromStation, String toStation) {
+        if (!shouldCommit()) return;
+        this.fromStation = fromStation;
+        this.toStation = toStation;
+        commit();
+    }
+}
@@ -0,0 +1,48 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 수리 단계 전환 이벤트 (RepairServiceObserver)
+ * 단계는 스케줄러의 서로 다른 스레드에서 이어지므로 이벤트 길이 대신 stageDuration에 직전 단계 소요 시간을 담습니다.
+ */
+@Name("bicycle.RepairStage")
+@Label("Repair Stage")
+@Category({"Bicycle Sharing", "Repair"})
+@Description("수리 단계가 바뀔 때 직전 단계의 소요 시간과 함께 기록")
+@StackTrace(false)
+public class RepairStageEvent extends Event {
+    @Label("Bike Id")
+    String bikeId;
+
+    @Label("Station")
+    String station;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Previous Stage Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long stageDuration;
+
+    @Label("Since Report")
+    @Timespan(Timespan.NANOSECONDS)
+    long sinceReport;
+
+    public static void emit(String bikeId, String station, String stage, long stageDuration, long sinceReport) {
+        RepairStageEvent event = new RepairStageEvent();
+        if (!event.isEnabled()) return;
+        event.bikeId = bikeId;
+        event.station = station;
+        event.stage = stage;
+        event.stageDuration = stageDuration;
+        event.sinceReport = sinceReport;
+        event.commit();
+    }
+}
@@ -0,0 +1,35 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * users.csv 저장 이벤트 (UserManager.saveAllUsers)
+ */
+@Name("bicycle.UserPersist")
+@Label("User CSV Persist")
+@Category({"Bicycle Sharing", "Persistence"})
+@Description("사용자 CSV 파일 전체 쓰기")
+public class UserPersistEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("User Count")
+    int userCount;
+
+    public static UserPersistEvent start(String file) {
+        UserPersistEvent event = new UserPersistEvent();
+        event.file = file;
+        event.begin();
+        return event;
+    }
+
+    public void end(int userCount) {
+        if (!shouldCommit()) return;
+        this.userCount = userCount;
+        commit();
+    }
+}
@@ -0,0 +1,139 @@
+package maintenance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 위치를 기억하는 최소 힙 (자전거 ID → 정비일)
+ * - 정비일이 가장 오래된 자전거가 맨 위에 옵니다. (같으면 ID 순)
+ * - ID별 힙 위치를 기억하므로 정비일 변경/삭제도 O(log n)입니다.
+ * - 가장 오래된 n개는 힙 전체를 정렬하지 않고 위에서부터 후보 힙으로 꺼냅니다. O(n log n)
+ * 동기화하지 않습니다. (MaintenanceIndex가 잠금을 가짐)
+ */
+final class DayHeap {
+    private String[] ids = new String[16];
+    private long[] days = new long[16];
+    private final Map<String, Integer> positions = new HashMap<>();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    String peekId() {
+        return size == 0 ? null : ids[0];
+    }
+
+    long peekDay() {
+        return days[0];
+    }
+
+    // 추가하거나 정비일 변경
+    void put(String id, long day) {
+        Integer position = positions.get(id);
+        if (position != null) {
+            long old = days[position];
+            days[position] = day;
+            if (day < old) siftUp(position);
+            else if (day > old) siftDown(position);
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            days = Arrays.copyOf(days, size * 2);
+        }
+        ids[size] = id;
+        days[size] = day;
+        positions.put(id, size);
+        siftUp(size++);
+    }
+
+    boolean remove(String id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return false;
+        }
+        int last = --size;
+        if (position != last) {
+            move(last, position);
+            siftDown(position);
+            siftUp(position);
+        }
+        ids[last] = null;
+        return true;
+    }
+
+    String poll() {
+        String id = ids[0];
+        remove(id);
+        return id;
+    }
+
+    // 정비일이 가장 오래된 순으로 최대 n개의 ID
+    List<String> smallest(int n) {
+        List<String> result = new ArrayList<>(Math.min(n, size));
+        if (size == 0 || n <= 0) {
+            return result;
+        }
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(this::compare);
+        candidates.add(0);
+        while (!candidates.isEmpty() && result.size() < n) {
+            int index = candidates.poll();
+            result.add(ids[index]);
+            int left = 2 * index + 1;
+            if (left < size) candidates.add(left);
+            if (left + 1 < size) candidates.add(left + 1);
+        }
+        return result;
+    }
+
+    private int compare(int a, int b) {
+        if (days[a] != days[b]) return Long.compare(days[a], days[b]);
+        return ids[a].compareTo(ids[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (compare(index, parent) >= 0) break;
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) break;
+            int child = left + 1 < size && compare(left + 1, left) < 0 ? left + 1 : left;
+            if (compare(child, index) >= 0) break;
+            swap(index, child);
+            index = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String id = ids[a];
+        long day = days[a];
+        ids[a] = ids[b];
+        days[a] = days[b];
+        ids[b] = id;
+        days[b] = day;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        days[to] = days[from];
+        positions.put(ids[to], to);
+    }
+}
@@ -0,0 +1,177 @@
+package maintenance;
+
+import command.CommandPipeline;
+import core.BicycleManager;
+import core.BicycleView;
+import core.FleetChangeListener;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import metrics.MetricsRegistry;
+
+/**
+ * 정비 기한 우선순위 색인
+ * - 자전거마다 마지막 정비일(epoch day)을 위치 기억 최소 힙에 넣어 두므로
+ *   "가장 오래 정비하지 않은 n대"를 전체 목록을 훑거나 날짜 문자열을 파싱하지 않고 꺼낼 수 있습니다.
+ * - 전체 힙 외에 스테이션별 힙도 두어 스테이션 단위 조회도 같은 비용입니다.
+ * - 스냅샷 리스너로 바뀐 자전거(BicycleView 객체가 달라진 것)만 반영합니다. (작성자 스레드)
+ * - 정비 필요 표시를 아직 받지 않은 자전거는 별도 힙(pending)에 있어, 표시 작업은 맨 위에서 꺼내기만 합니다.
+ *   정비일이 바뀌면 표시가 풀리고 다시 pending에 들어갑니다.
+ * - 조회는 콘솔/작업 스레드에서 하므로 메서드는 이 객체로 동기화됩니다.
+ */
+public class MaintenanceIndex {
+    public static final int DEFAULT_INTERVAL_DAYS = 90; // 정비 주기 (이보다 오래되면 기한 초과)
+
+    private final int intervalDays;
+    private final DayHeap all = new DayHeap();
+    private final DayHeap pending = new DayHeap(); // 아직 표시되지 않은 자전거
+    private final Map<String, DayHeap> byStation = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public MaintenanceIndex() {
+        this(DEFAULT_INTERVAL_DAYS);
+    }
+
+    public MaintenanceIndex(int intervalDays) {
+        this.intervalDays = intervalDays;
+    }
+
+    /**
+     * 현재 자전거로 색인을 채우고 스냅샷 리스너를 등록합니다.
+     * 작성자 스레드에서 실행하므로 채우기와 등록 사이에 발행되는 스냅샷이 없습니다.
+     */
+    public void attach(BicycleManager bicycleManager, CommandPipeline pipeline) {
+        pipeline.execute(() -> {
+            for (BicycleView bike : bicycleManager.getSnapshot().getBicycles()) {
+                update(bike);
+            }
+            bicycleManager.addFleetChangeListener(new FleetChangeListener() {
+                @Override
+                public void changed(BicycleView before, BicycleView after) {
+                    update(after);
+                }
+
+                @Override
+                public void removed(BicycleView before) {
+                    remove(before.getId());
+                }
+            });
+        });
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("maintenance.indexed", this::size);
+        metrics.gauge("maintenance.overdue_flagged", this::getFlaggedCount);
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    public synchronized long getFlaggedCount() {
+        return entries.size() - pending.size();
+    }
+
+    // 기한이 지난 자전거 중 가장 오래된 n대
+    public List<OverdueBike> mostOverdue(int n) {
+        return mostOverdue(null, n);
+    }
+
+    // 스테이션 하나에서 기한이 지난 자전거 중 가장 오래된 n대 (station이 null이면 전체)
+    public synchronized List<OverdueBike> mostOverdue(String station, int n) {
+        DayHeap heap = station == null ? all : byStation.get(station);
+        List<OverdueBike> result = new ArrayList<>();
+        if (heap == null) {
+            return result;
+        }
+        long today = LocalDate.now().toEpochDay();
+        for (String id : heap.smallest(n)) {
+            OverdueBike bike = toOverdue(id, today);
+            if (bike == null) break; // 오래된 순이므로 이후는 모두 기한 안
+            result.add(bike);
+        }
+        return result;
+    }
+
+    /**
+     * 아직 표시하지 않은 기한 초과 자전거를 최대 batchSize대 표시하고 돌려줍니다.
+     * (pending 힙 맨 위에서 꺼내므로 O(batchSize log n), 더 없으면 빈 목록)
+     */
+    public synchronized List<OverdueBike> flagNextBatch(long today, int batchSize) {
+        List<OverdueBike> flagged = new ArrayList<>();
+        while (flagged.size() < batchSize && !pending.isEmpty()
+                && today - pending.peekDay() > intervalDays) {
+            String id = pending.poll();
+            Entry entry = entries.get(id);
+            entry.flagged = true;
+            flagged.add(new OverdueBike(id, entry.station, entry.day, today - entry.day - intervalDays, true));
+        }
+        return flagged;
+    }
+
+    private OverdueBike toOverdue(String id, long today) {
+        Entry entry = entries.get(id);
+        long overdue = today - entry.day - intervalDays;
+        return overdue > 0 ? new OverdueBike(id, entry.station, entry.day, overdue, entry.flagged) : null;
+    }
+
+    private synchronized void update(BicycleView bike) {
+        String id = bike.getId();
+        long day = bike.getLastMaintenanceDay();
+        String station = bike.getLocation();
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            entry = new Entry(station, day);
+            entries.put(id, entry);
+        } else {
+            if (entry.day == day && entry.station.equals(station)) {
+                return; // 상태만 바뀜
+            }
+            if (!entry.station.equals(station)) {
+                removeFromStation(id, entry.station);
+                entry.station = station;
+            }
+            if (entry.day != day) {
+                entry.day = day;
+                entry.flagged = false; // 정비했으므로 표시 해제
+            }
+        }
+        all.put(id, day);
+        byStation.computeIfAbsent(station, k -> new DayHeap()).put(id, day);
+        if (!entry.flagged) {
+            pending.put(id, day);
+        }
+    }
+
+    private synchronized void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) return;
+        all.remove(id);
+        pending.remove(id);
+        removeFromStation(id, entry.station);
+    }
+
+    private void removeFromStation(String id, String station) {
+        DayHeap heap = byStation.get(station);
+        if (heap != null) {
+            heap.remove(id);
+            if (heap.isEmpty()) byStation.remove(station);
+        }
+    }
+
+    // 자전거 한 대의 색인 정보
+    private static final class Entry {
+        private String station;
+        private long day;
+        private boolean flagged;
+
+        Entry(String station, long day) {
+            this.station = station;
+            this.day = day;
+        }
+    }
+}
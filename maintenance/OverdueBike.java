@@ -0,0 +1,33 @@
+package maintenance;
+
+import java.time.LocalDate;
+
+/**
+ * 정비 기한이 지난 자전거 한 대 (조회 결과)
+ */
+public class OverdueBike {
+    private final String bikeId;
+    private final String station;
+    private final long lastMaintenanceDay;
+    private final long overdueDays;
+    private final boolean flagged;
+
+    OverdueBike(String bikeId, String station, long lastMaintenanceDay, long overdueDays, boolean flagged) {
+        this.bikeId = bikeId;
+        this.station = station;
+        this.lastMaintenanceDay = lastMaintenanceDay;
+        this.overdueDays = overdueDays;
+        this.flagged = flagged;
+    }
+
+    public String getBikeId() { return bikeId; }
+    public String getStation() { return station; }
+    public long getLastMaintenanceDay() { return lastMaintenanceDay; }
+    public long getOverdueDays() { return overdueDays; }
+    public boolean isFlagged() { return flagged; }
+
+    public String toString() {
+        return String.format("%s (위치: %s, 마지막 정비일: %s, %d일 초과%s)", bikeId, station,
+                LocalDate.ofEpochDay(lastMaintenanceDay), overdueDays, flagged ? ", 정비 필요 표시됨" : "");
+    }
+}
@@ -0,0 +1,49 @@
+package maintenance;
+
+import core.DiagnosticSink;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.MetricsRegistry;
+
+/**
+ * 정비 기한 초과 표시 작업
+ * - 주기적으로 MaintenanceIndex에서 아직 표시하지 않은 기한 초과 자전거를 BATCH_SIZE대씩 꺼내 표시합니다.
+ * - 묶음마다 색인 잠금을 잡았다 놓으므로, 밀린 자전거가 많아도 조회가 오래 막히지 않습니다.
+ * - 표시된 자전거는 관리자 메뉴에서 "정비 필요 표시됨"으로 보이고, 정비일이 바뀌면 표시가 풀립니다.
+ */
+public class OverdueMaintenanceJob {
+    public static final int BATCH_SIZE = 100;
+    public static final long DEFAULT_PERIOD_MINUTES = 60;
+
+    private final MaintenanceIndex index;
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+    private final LongAdder flaggedTotal = MetricsRegistry.getInstance().counter("maintenance.flagged");
+
+    public OverdueMaintenanceJob(MaintenanceIndex index) {
+        this.index = index;
+    }
+
+    // 바로 한 번 실행하고 이후 주기마다 실행
+    public void start(ScheduledExecutorService scheduler, long periodMinutes) {
+        scheduler.scheduleWithFixedDelay(this::runOnce, 0, periodMinutes, TimeUnit.MINUTES);
+    }
+
+    // 표시할 자전거가 없을 때까지 묶음 단위로 표시 (표시한 대수 반환)
+    public int runOnce() {
+        long today = LocalDate.now().toEpochDay();
+        int total = 0;
+        List<OverdueBike> batch;
+        while (!(batch = index.flagNextBatch(today, BATCH_SIZE)).isEmpty()) {
+            total += batch.size();
+            flaggedTotal.add(batch.size());
+            if (diagnostics.isEnabled(DiagnosticSink.Level.WARN)) {
+                diagnostics.warn("[정비] 정비 기한이 지난 자전거 " + batch.size() + "대를 표시했습니다. (가장 오래된 자전거: "
+                        + batch.get(0) + ")");
+            }
+        }
+        return total;
+    }
+}
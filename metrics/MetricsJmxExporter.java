@@ -0,0 +1,103 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+
+/**
+ * MetricsRegistry를 JMX 속성으로 노출
+ * - 카운터/게이지: "이름"
+ * - 히스토그램: "이름.count", "이름.meanMicros", "이름.p50Micros", "이름.p99Micros", "이름.maxMicros"
+ * 지표가 실행 중에 늘어나므로 조회할 때마다 속성 목록을 새로 만듭니다.
+ */
+class MetricsJmxExporter implements DynamicMBean {
+    private static final String[] HISTOGRAM_FIELDS = {"count", "meanMicros", "p50Micros", "p99Micros", "maxMicros"};
+
+    private final MetricsRegistry registry;
+
+    MetricsJmxExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongAdder counter = registry.getCounters().get(attribute);
+        if (counter != null) return counter.sum();
+
+        LongSupplier gauge = registry.getGauges().get(attribute);
+        if (gauge != null) return gauge.getAsLong();
+
+        int dot = attribute.lastIndexOf('.');
+        if (dot > 0) {
+            LatencyHistogram h = registry.getHistograms().get(attribute.substring(0, dot));
+            if (h != null) {
+                switch (attribute.substring(dot + 1)) {
+                    case "count": return (double) h.getCount();
+                    case "meanMicros": return h.getMeanNanos() / 1000.0;
+                    case "p50Micros": return h.getPercentileNanos(0.50) / 1000.0;
+                    case "p99Micros": return h.getPercentileNanos(0.99) / 1000.0;
+                    case "maxMicros": return h.getMaxNanos() / 1000.0;
+                    default: break;
+                }
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String name : attributes) {
+            try {
+                list.add(new Attribute(name, getAttribute(name)));
+            } catch (AttributeNotFoundException e) {
+                // 없는 속성은 건너뜀
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) {
+        throw new UnsupportedOperationException("읽기 전용입니다.");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException("지원하지 않는 작업입니다: " + actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (String name : new TreeMap<>(registry.getCounters()).keySet()) {
+            attributes.add(new MBeanAttributeInfo(name, "java.lang.Long", "카운터", true, false, false));
+        }
+        for (String name : new TreeMap<>(registry.getGauges()).keySet()) {
+            attributes.add(new MBeanAttributeInfo(name, "java.lang.Long", "게이지", true, false, false));
+        }
+        for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(registry.getHistograms()).entrySet()) {
+            for (String field : HISTOGRAM_FIELDS) {
+                attributes.add(new MBeanAttributeInfo(e.getKey() + "." + field, "java.lang.Double",
+                        "지연 시간 히스토그램", true, false, false));
+            }
+        }
+        return new MBeanInfo(getClass().getName(), "자전거 공유 시스템 성능 지표",
+                attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+}
@@ -0,0 +1,94 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 성능 지표 저장소 (싱글톤)
+ * - 카운터: 스레드별로 나눠 더하는 LongAdder (경합 없이 증가)
+ * - 히스토그램: 지연 시간 분포 (LatencyHistogram)
+ * - 게이지: 조회 시점에 값을 계산하는 함수
+ * 핫패스에서는 counter()/histogram()으로 받은 객체를 static 필드에 보관해 두고 바로 기록합니다.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry instance = new MetricsRegistry();
+    private static final String JMX_NAME = "bicycle:type=Metrics";
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private boolean jmxRegistered = false;
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    Map<String, LongAdder> getCounters() { return counters; }
+    Map<String, LatencyHistogram> getHistograms() { return histograms; }
+    Map<String, LongSupplier> getGauges() { return gauges; }
+
+    // JMX(jconsole, VisualVM 등)에서 볼 수 있도록 등록
+    public synchronized void registerJmx() {
+        if (jmxRegistered) return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsJmxExporter(this), name);
+            }
+            jmxRegistered = true;
+        } catch (JMException e) {
+            System.out.println("[Metrics] JMX 등록 실패: " + e.getMessage());
+        }
+    }
+
+    // 관리자 메뉴용 보고서
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n==== 성능 지표 ====\n");
+
+        sb.append("\n[지연 시간] (단위: µs)\n");
+        sb.append(String.format("%-28s %10s %10s %10s %10s %10s\n", "이름", "건수", "평균", "p50", "p99", "최대"));
+        for (LatencyHistogram h : new TreeMap<>(histograms).values()) {
+            sb.append(String.format("%-28s %10d %10.1f %10.1f %10.1f %10.1f\n",
+                    h.getName(), h.getCount(), h.getMeanNanos() / 1000.0,
+                    h.getPercentileNanos(0.50) / 1000.0, h.getPercentileNanos(0.99) / 1000.0,
+                    h.getMaxNanos() / 1000.0));
+        }
+
+        sb.append("\n[카운터]\n");
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(counters).entrySet()) {
+            sb.append(String.format("%-28s %10d\n", e.getKey(), e.getValue().sum()));
+        }
+
+        if (!gauges.isEmpty()) {
+            sb.append("\n[게이지]\n");
+            for (Map.Entry<String, LongSupplier> e : new TreeMap<>(gauges).entrySet()) {
+                sb.append(String.format("%-28s %10d\n", e.getKey(), e.getValue().getAsLong()));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -2,12 +2,15 @@ package observer;
 
 import java.util.ArrayList;
 import java.util.List;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
 
 /**
  * 공통 Subject 로직 (옵저버 관리)
  * Subject 인터페이스를 구현하여 중복 코드를 방지합니다.
  */
 public abstract class AbstractSubject implements SubjectInterface {
+    private static final LatencyHistogram DISPATCH_LATENCY = MetricsRegistry.getInstance().histogram("observer.dispatch");
     private List<ObserverInterface> observers = new ArrayList<>();
 
     @Override
@@ -22,9 +25,14 @@ public abstract class AbstractSubject implements SubjectInterface {
 
     @Override
     public void notifyObservers() {
-        // Pull 방식이므로 Subject 자신(this)을 전달
-        for (ObserverInterface observer : observers) {
-            observer.update(this);
+        long start = System.nanoTime();
+        try {
+            // Pull 방식이므로 Subject 자신(this)을 전달
+            for (ObserverInterface observer : observers) {
+                observer.update(this);
+            }
+        } finally {
+            DISPATCH_LATENCY.recordSince(start);
         }
     }
 }
\ No newline at end of file
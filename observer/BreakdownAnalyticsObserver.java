@@ -0,0 +1,242 @@
+package observer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import metrics.MetricsRegistry;
+
+/**
+ * 고장 분석 옵저버 (예방 정비용)
+ * - 고장 신고(BreakdownReportSubject)를 받을 때마다 자전거별/스테이션별 고장 횟수를
+ *   1시간/24시간/30일 슬라이딩 구간으로 셉니다.
+ * - 키마다 int 배열 하나에 세 구간의 버킷을 모두 담고, 구간 합계를 따로 유지하므로
+ *   신고 한 건 처리와 횟수 조회는 버킷 수와 무관하게 O(1)입니다. (지난 버킷은 시간이 지날 때 한 번만 비움)
+ * - "고장이 잦은 자전거/스테이션 상위 k개"는 구간마다 캐시해 둡니다.
+ *   같은 버킷 안에서는 횟수가 늘기만 하므로 신고 때마다 캐시를 고치고,
+ *   버킷이 바뀌어 오래된 횟수가 빠질 때만 전체를 다시 계산합니다. 조회는 캐시를 그대로 돌려줍니다.
+ * - 신고는 작성자 스레드에서 들어오고 조회는 콘솔/HTTP 스레드에서 하므로 갱신은 이 객체로 동기화합니다.
+ */
+public class BreakdownAnalyticsObserver implements ObserverInterface {
+    public static final int TOP_K = 10;
+
+    private static final BreakdownWindow[] WINDOWS = BreakdownWindow.values();
+    private static final int[] OFFSETS = new int[WINDOWS.length]; // 구간별 버킷 시작 위치
+    private static final int TOTAL_BUCKETS;
+
+    static {
+        int offset = 0;
+        for (BreakdownWindow window : WINDOWS) {
+            OFFSETS[window.ordinal()] = offset;
+            offset += window.getBuckets();
+        }
+        TOTAL_BUCKETS = offset;
+    }
+
+    private final Map<String, WindowedCounts> bikes = new HashMap<>();
+    private final Map<String, WindowedCounts> stations = new HashMap<>();
+    private final TopList[] topBikes = new TopList[WINDOWS.length];
+    private final TopList[] topStations = new TopList[WINDOWS.length];
+
+    public BreakdownAnalyticsObserver() {
+        for (int w = 0; w < WINDOWS.length; w++) {
+            topBikes[w] = new TopList();
+            topStations[w] = new TopList();
+        }
+        MetricsRegistry.getInstance().gauge("breakdown.tracked_bikes", this::getTrackedBikeCount);
+    }
+
+    @Override
+    public void update(SubjectInterface subject) {
+        if (subject instanceof BreakdownReportSubject) {
+            BreakdownReportSubject report = (BreakdownReportSubject) subject;
+            record(report.getBikeId(), report.getStation(), System.currentTimeMillis());
+        }
+    }
+
+    // 고장 한 건 기록
+    synchronized void record(String bikeId, String station, long now) {
+        WindowedCounts bike = bikes.computeIfAbsent(bikeId, k -> new WindowedCounts(now));
+        bike.add(now);
+        WindowedCounts stationCounts = station == null ? null
+                : stations.computeIfAbsent(station, k -> new WindowedCounts(now));
+        if (stationCounts != null) stationCounts.add(now);
+
+        for (BreakdownWindow window : WINDOWS) {
+            int w = window.ordinal();
+            offer(topBikes[w], bikes, window, bikeId, bike.totals[w], now);
+            if (stationCounts != null) {
+                offer(topStations[w], stations, window, station, stationCounts.totals[w], now);
+            }
+        }
+    }
+
+    // 고장이 잦은 자전거 상위 k개 (캐시 그대로, 버킷이 바뀐 직후 첫 조회만 다시 계산)
+    public List<Ranked> getTopBikes(BreakdownWindow window) {
+        return top(topBikes[window.ordinal()], bikes, window, System.currentTimeMillis());
+    }
+
+    public List<Ranked> getTopStations(BreakdownWindow window) {
+        return top(topStations[window.ordinal()], stations, window, System.currentTimeMillis());
+    }
+
+    public synchronized int getBikeCount(String bikeId, BreakdownWindow window) {
+        return count(bikes.get(bikeId), window, System.currentTimeMillis());
+    }
+
+    public synchronized int getStationCount(String station, BreakdownWindow window) {
+        return count(stations.get(station), window, System.currentTimeMillis());
+    }
+
+    public synchronized long getTrackedBikeCount() {
+        return bikes.size();
+    }
+
+    private static int count(WindowedCounts counts, BreakdownWindow window, long now) {
+        if (counts == null) return 0;
+        counts.advance(now);
+        return counts.totals[window.ordinal()];
+    }
+
+    private List<Ranked> top(TopList list, Map<String, WindowedCounts> source, BreakdownWindow window, long now) {
+        long epoch = now / window.getBucketMillis();
+        if (list.epoch == epoch) {
+            return list.entries;
+        }
+        synchronized (this) {
+            if (list.epoch != epoch) {
+                rebuild(list, source, window, now);
+            }
+            return list.entries;
+        }
+    }
+
+    // 같은 버킷 안에서 횟수가 늘어난 키 하나를 캐시에 반영 (버킷이 바뀌었으면 전체 재계산)
+    private void offer(TopList list, Map<String, WindowedCounts> source, BreakdownWindow window,
+                       String id, int count, long now) {
+        if (list.epoch != now / window.getBucketMillis()) {
+            rebuild(list, source, window, now);
+            return;
+        }
+        List<Ranked> current = list.entries;
+        if (current.size() == TOP_K && !containsId(current, id) && count <= current.get(TOP_K - 1).count) {
+            return; // 상위 k개에 들지 못함
+        }
+        List<Ranked> next = new ArrayList<>(current.size() + 1);
+        for (Ranked ranked : current) {
+            if (!ranked.id.equals(id)) next.add(ranked);
+        }
+        next.add(new Ranked(id, count));
+        next.sort(null);
+        if (next.size() > TOP_K) next.remove(TOP_K);
+        list.entries = Collections.unmodifiableList(next);
+    }
+
+    // 모든 키의 지난 버킷을 비우고 상위 k개를 다시 고름 (횟수가 0이 된 키는 제거)
+    private void rebuild(TopList list, Map<String, WindowedCounts> source, BreakdownWindow window, long now) {
+        int w = window.ordinal();
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(TOP_K + 1, Collections.reverseOrder());
+        for (Iterator<Map.Entry<String, WindowedCounts>> it = source.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, WindowedCounts> entry = it.next();
+            WindowedCounts counts = entry.getValue();
+            counts.advance(now);
+            if (counts.isEmpty()) {
+                it.remove();
+                continue;
+            }
+            int total = counts.totals[w];
+            if (total == 0) continue;
+            heap.add(new Ranked(entry.getKey(), total));
+            if (heap.size() > TOP_K) heap.poll(); // 가장 작은 것 제거
+        }
+        List<Ranked> next = new ArrayList<>(heap);
+        next.sort(null);
+        list.entries = Collections.unmodifiableList(next);
+        list.epoch = now / window.getBucketMillis();
+    }
+
+    private static boolean containsId(List<Ranked> entries, String id) {
+        for (Ranked ranked : entries) {
+            if (ranked.id.equals(id)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 상위 k개 항목 (ID, 구간 내 고장 횟수)
+     * 횟수가 많은 순, 같으면 ID 순으로 정렬됩니다.
+     */
+    public static final class Ranked implements Comparable<Ranked> {
+        private final String id;
+        private final int count;
+
+        Ranked(String id, int count) {
+            this.id = id;
+            this.count = count;
+        }
+
+        public String getId() { return id; }
+        public int getCount() { return count; }
+
+        @Override
+        public int compareTo(Ranked other) {
+            if (count != other.count) return Integer.compare(other.count, count);
+            return id.compareTo(other.id);
+        }
+    }
+
+    // 구간 하나의 상위 k개 캐시 (계산한 버킷 번호와 함께)
+    private static final class TopList {
+        private volatile List<Ranked> entries = List.of();
+        private volatile long epoch = -1;
+    }
+
+    // 키 하나의 세 구간 버킷 (배열 하나에 구간별로 이어 붙임)
+    private static final class WindowedCounts {
+        private final int[] buckets = new int[TOTAL_BUCKETS];
+        private final int[] totals = new int[WINDOWS.length];
+        private final long[] lastEpoch = new long[WINDOWS.length];
+
+        WindowedCounts(long now) {
+            for (BreakdownWindow window : WINDOWS) {
+                lastEpoch[window.ordinal()] = now / window.getBucketMillis();
+            }
+        }
+
+        void add(long now) {
+            advance(now);
+            for (BreakdownWindow window : WINDOWS) {
+                int w = window.ordinal();
+                buckets[OFFSETS[w] + (int) (lastEpoch[w] % window.getBuckets())]++;
+                totals[w]++;
+            }
+        }
+
+        // 마지막 기록 이후 지난 버킷을 비움 (구간 길이보다 오래 지났으면 최대 버킷 수만큼)
+        void advance(long now) {
+            for (BreakdownWindow window : WINDOWS) {
+                int w = window.ordinal();
+                long epoch = now / window.getBucketMillis();
+                if (epoch <= lastEpoch[w]) continue;
+                int n = window.getBuckets();
+                long steps = Math.min(epoch - lastEpoch[w], n);
+                for (long e = epoch - steps + 1; e <= epoch; e++) {
+                    int slot = OFFSETS[w] + (int) (e % n);
+                    totals[w] -= buckets[slot];
+                    buckets[slot] = 0;
+                }
+                lastEpoch[w] = epoch;
+            }
+        }
+
+        boolean isEmpty() {
+            for (int total : totals) {
+                if (total != 0) return false;
+            }
+            return true;
+        }
+    }
+}
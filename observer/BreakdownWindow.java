@@ -0,0 +1,25 @@
+package observer;
+
+/**
+ * 고장 분석 구간 Enum
+ * 구간마다 버킷 폭과 버킷 수를 가집니다. (구간 경계는 버킷 폭 단위로 근사)
+ */
+public enum BreakdownWindow {
+    HOUR("최근 1시간", 60_000L, 60),            // 1분 버킷 60개
+    DAY("최근 24시간", 15 * 60_000L, 96),       // 15분 버킷 96개
+    MONTH("최근 30일", 24 * 3_600_000L, 30);    // 1일 버킷 30개
+
+    private final String label;
+    private final long bucketMillis;
+    private final int buckets;
+
+    BreakdownWindow(String label, long bucketMillis, int buckets) {
+        this.label = label;
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+    }
+
+    public String getLabel() { return label; }
+    public long getBucketMillis() { return bucketMillis; }
+    public int getBuckets() { return buckets; }
+}
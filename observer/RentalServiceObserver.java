@@ -1,5 +1,6 @@
 package observer;
 
+import core.DiagnosticSink;
 import java.util.List;
 import state.BikeState;
 
@@ -17,15 +18,15 @@ public class RentalServiceObserver implements ObserverInterface {
             String bikeId = report.getBikeId();
             List<BreakdownReason> reasons = report.getReasons();
             
-            // 상태 변경은 ConsoleInterface에서 이미 수행되었으므로 로그만 출력
-            System.out.println("  [Observer: RentalService] " + bikeId + " 고장 알림 수신 (사유: " + reasons + ")");
+            // 상태 변경은 ConsoleInterface에서 이미 수행되었으므로 로그만 남김
+            DiagnosticSink.getInstance().info("  [Observer: RentalService] " + bikeId + " 고장 알림 수신 (사유: " + reasons + ")");
         }
         // (2) 수리 완료 이벤트 수신
         else if (subject instanceof RepairCompleteSubject) {
             RepairCompleteSubject report = (RepairCompleteSubject) subject;
             String bikeId = report.getBikeId();
 
-            System.out.println("  [Observer: RentalService] " + bikeId + " 수리 완료 알림 수신");
+            DiagnosticSink.getInstance().info("  [Observer: RentalService] " + bikeId + " 수리 완료 알림 수신");
         }
     }
 }
\ No newline at end of file
@@ -1,29 +1,52 @@
 package observer;
 
+import command.ChangeStatusCommand;
+import command.CommandPipeline;
 import core.Bicycle;
 import core.BicycleManager;
-import core.BicycleStatus;
 import core.ConsoleInterface;
 import core.LocationManager;
-import state.AvailableState;
-import state.RepairingState;
+import dispatch.DispatchTimer;
+import dispatch.PickupDispatcher;
+import jfr.RepairStageEvent;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import state.BikeEvent;
 import strategy.RepairStrategyInterface;
 
-import java.util.List;
-import java.util.Random;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class RepairServiceObserver implements ObserverInterface {
+    // 수리 단계별 소요 시간 (신고 접수 → 이동 → 수리 → 복귀 → 완료)
+    private static final MetricsRegistry METRICS = MetricsRegistry.getInstance();
+    private static final LatencyHistogram DISPATCH_WAIT = METRICS.histogram("repair.dispatch_wait");
+    private static final LatencyHistogram MOVE_TO_CENTER = METRICS.histogram("repair.move_to_center");
+    private static final LatencyHistogram REPAIR = METRICS.histogram("repair.repair");
+    private static final LatencyHistogram MOVE_BACK = METRICS.histogram("repair.move_back");
+    private static final LatencyHistogram TURNAROUND = METRICS.histogram("repair.turnaround");
+
     private final BicycleManager bicycleManager;
+    private final CommandPipeline commandPipeline; // 상태 변경은 작성자 스레드를 통해서만 적용
     private final ScheduledExecutorService scheduler;
     private final RepairStrategyInterface repairStrategy;
-    private final Random random = new Random();
+    private final PickupDispatcher<RepairJob> pickups; // 고장 자전거를 스테이션별로 모아 밴으로 수거
 
-    public RepairServiceObserver(BicycleManager bicycleManager, ScheduledExecutorService scheduler, RepairStrategyInterface repairStrategy) {
+    public RepairServiceObserver(BicycleManager bicycleManager, CommandPipeline commandPipeline,
+                                 ScheduledExecutorService scheduler, RepairStrategyInterface repairStrategy) {
         this.bicycleManager = bicycleManager;
+        this.commandPipeline = commandPipeline;
         this.scheduler = scheduler;
         this.repairStrategy = repairStrategy;
+        LocationManager locations = LocationManager.getInstance();
+        this.pickups = new PickupDispatcher<>(DispatchTimer.of(scheduler), locations::getTravelTime,
+                LocationManager.REPAIR_CENTER, PickupDispatcher.Config.fromEnvironment(),
+                this::startMoveToCenter, this::startRepair);
+    }
+
+    // dispatch.* 지표를 이 관찰자의 배차기로 등록 (게이지는 마지막 등록이 이기므로 소유자가 한 번만 호출)
+    public void registerDispatchMetrics() {
+        pickups.registerMetrics();
     }
 
     @Override
@@ -34,51 +57,78 @@ public class RepairServiceObserver implements ObserverInterface {
             
             Bicycle bike = bicycleManager.getBicycle(bikeId);
             if (bike != null) {
-                // 1~5초 무작위 지연 후 수리 센터 이동 시작
-                int startDelay = random.nextInt(5) + 1;
-                scheduler.schedule(() -> startMoveToCenter(bike, report), startDelay, TimeUnit.SECONDS);
+                // 스테이션별로 모았다가 밴이 여러 대를 한 번에 수거 (예전에는 자전거마다 따로 이동)
+                pickups.request(report.getStation(), new RepairJob(bike, report, System.nanoTime()));
             }
         }
     }
 
-    // 1단계: 수리 센터로 이동
-    private void startMoveToCenter(Bicycle bike, BreakdownReportSubject report) {
-        bike.getBikeState().setState(new RepairingState());
-        
-        // LocationManager를 통해 이동 시간 계산
-        int moveTime = LocationManager.getInstance().getMoveTime(report.getStation());
+    // 1단계: 밴이 스테이션에서 싣고 수리 센터로 이동 (다른 스테이션을 거칠 수 있음)
+    private void startMoveToCenter(RepairJob job) {
+        Bicycle bike = job.bike;
+        long stageStart = System.nanoTime();
+        job.pickedUpAt = stageStart;
+        DISPATCH_WAIT.record(stageStart - job.reportedAt);
+        RepairStageEvent.emit(bike.getId(), job.report.getStation(), "MOVE_TO_CENTER", stageStart - job.reportedAt, stageStart - job.reportedAt);
+        commandPipeline.submit(new ChangeStatusCommand(bicycleManager, bike.getId(), BikeEvent.SEND_TO_REPAIR));
         
         printAdminMessage(">> [이동] 자전거 " + bike.getId() + "가 수리 센터로 이동 중입니다.");
-
-        scheduler.schedule(() -> startRepair(bike, report, report.getStation()), moveTime, TimeUnit.SECONDS);
     }
 
-    // 2단계: 수리 진행
-    private void startRepair(Bicycle bike, BreakdownReportSubject report, String originStation) {
+    // 2단계: 수리 진행 (밴이 수리 센터에 내려놓은 뒤)
+    private void startRepair(RepairJob job) {
+        Bicycle bike = job.bike;
+        BreakdownReportSubject report = job.report;
+        String originStation = report.getStation();
+        long reportedAt = job.reportedAt;
+        long stageStart = System.nanoTime();
+        MOVE_TO_CENTER.record(stageStart - job.pickedUpAt);
+        RepairStageEvent.emit(bike.getId(), originStation, "REPAIR", stageStart - job.pickedUpAt, stageStart - reportedAt);
         printAdminMessage(">> [수리] 자전거 " + bike.getId() + "가 수리 센터에서 수리 중입니다.");
 
         // Strategy 패턴으로 수리 시간 계산
         int repairTime = repairStrategy.calculateRepairTime(report.isElectric(), report.getReasons());
 
-        scheduler.schedule(() -> moveBackToStation(bike, originStation), repairTime, TimeUnit.SECONDS);
+        scheduler.schedule(() -> moveBackToStation(bike, originStation, reportedAt, stageStart), repairTime, TimeUnit.SECONDS);
     }
 
     // 3단계: 스테이션으로 복귀
-    private void moveBackToStation(Bicycle bike, String station) {
+    private void moveBackToStation(Bicycle bike, String station, long reportedAt, long repairStart) {
+        long stageStart = System.nanoTime();
+        REPAIR.record(stageStart - repairStart);
+        RepairStageEvent.emit(bike.getId(), station, "MOVE_BACK", stageStart - repairStart, stageStart - reportedAt);
         int moveTime = LocationManager.getInstance().getMoveTime(station);
         
         printAdminMessage(">> [이동] 자전거 " + bike.getId() + "가 스테이션으로 이동 중입니다.");
 
-        scheduler.schedule(() -> completeRepair(bike), moveTime, TimeUnit.SECONDS);
+        scheduler.schedule(() -> completeRepair(bike, reportedAt, stageStart), moveTime, TimeUnit.SECONDS);
     }
 
     // 4단계: 완료
-    private void completeRepair(Bicycle bike) {
-        bicycleManager.changeBicycleStatus(bike.getId(), BicycleStatus.AVAILABLE);
-        bike.getBikeState().setState(new AvailableState());
+    private void completeRepair(Bicycle bike, long reportedAt, long moveBackStart) {
+        long now = System.nanoTime();
+        MOVE_BACK.record(now - moveBackStart);
+        RepairStageEvent.emit(bike.getId(), bike.getLocation(), "COMPLETE", now - moveBackStart, now - reportedAt);
+        // 전이표의 수리 완료 이벤트로 상태 변경과 정비일 갱신까지 처리
+        commandPipeline.execute(new ChangeStatusCommand(bicycleManager, bike.getId(), BikeEvent.COMPLETE_REPAIR));
+        TURNAROUND.record(now - reportedAt);
         printAdminMessage(">> [완료] 자전거 " + bike.getId() + " 수리가 완료되었습니다.");
     }
 
+    // 수거 한 건 (밴이 실어 나르는 단위)
+    private static class RepairJob {
+        private final Bicycle bike;
+        private final BreakdownReportSubject report;
+        private final long reportedAt;
+        private volatile long pickedUpAt; // 밴 타이머 스레드 사이에서 전달
+
+        RepairJob(Bicycle bike, BreakdownReportSubject report, long reportedAt) {
+            this.bike = bike;
+            this.report = report;
+            this.reportedAt = reportedAt;
+        }
+    }
+
     // 관리자 모드일 때만 메시지 출력
     private void printAdminMessage(String msg) {
         if (ConsoleInterface.isAdminMode) {
@@ -0,0 +1,52 @@
+package occupancy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 정수 압축 도우미
+ * - zigzag: 부호 있는 값을 작은 양수로 바꿉니다. (0 → 0, -1 → 1, 1 → 2, -2 → 3 ...)
+ * - varint: 7비트씩 나눠 쓰고 최상위 비트로 다음 바이트 여부를 표시합니다. (0~127은 1바이트)
+ * 일정 간격 샘플의 타임스탬프 델타의 델타, 점유 대수 변화량은 대부분 0 근처이므로 1바이트로 줄어듭니다.
+ */
+final class DeltaCodec {
+
+    private DeltaCodec() {
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long readVarint(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+
+    static void writeSigned(ByteBuffer buffer, long value) {
+        writeVarint(buffer, zigzag(value));
+    }
+
+    static long readSigned(ByteBuffer buffer) {
+        return unzigzag(readVarint(buffer));
+    }
+}
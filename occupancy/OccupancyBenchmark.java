@@ -0,0 +1,92 @@
+package occupancy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * 점유 시계열 저장소 벤치마크
+ * - 사용법: java -cp out occupancy.OccupancyBenchmark [스테이션 수] [일 수] [샘플 간격(초)]
+ * - 임시 폴더에 스테이션마다 대여 가능 대수가 조금씩 오르내리는 샘플을 기록하고
+ *   샘플당 바이트(원본 long+int 12바이트 대비), 기록 속도, 다시 열 때 색인 시간,
+ *   스테이션 하나의 전체 기간 조회 속도와 한 달 구간 조회 속도를 출력합니다.
+ */
+public class OccupancyBenchmark {
+    private static final int NAIVE_BYTES_PER_SAMPLE = Long.BYTES + Integer.BYTES;
+
+    public static void main(String[] args) throws IOException {
+        int stations = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 90;
+        long intervalMillis = (args.length > 2 ? Long.parseLong(args[2]) : 600) * 1000L;
+
+        Path dir = Files.createTempDirectory("bike-occupancy");
+        long samplesPerStation = days * 86_400_000L / intervalMillis;
+        long origin = System.currentTimeMillis() - days * 86_400_000L;
+        origin -= origin % intervalMillis;
+
+        // 기록: 시각 순서대로 모든 스테이션에 한 샘플씩
+        Random random = new Random(7);
+        int[] levels = new int[stations];
+        for (int s = 0; s < stations; s++) levels[s] = 5 + random.nextInt(10);
+        long start = System.nanoTime();
+        try (OccupancyStore store = new OccupancyStore(dir)) {
+            for (long i = 0; i < samplesPerStation; i++) {
+                long time = origin + i * intervalMillis;
+                for (int s = 0; s < stations; s++) {
+                    if (random.nextInt(4) == 0) { // 샘플 넷 중 하나는 대수가 바뀜
+                        levels[s] = Math.max(0, Math.min(30, levels[s] + random.nextInt(5) - 2));
+                    }
+                    store.append(stationName(s), time, levels[s]);
+                }
+            }
+        }
+        double writeSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        try (OccupancyStore store = new OccupancyStore(dir)) {
+            double openMillis = (System.nanoTime() - start) / 1e6;
+            long total = store.getStoredSamples();
+            long bytes = store.getStoredBytes();
+
+            // 전체 기간 조회 (모든 스테이션 한 번씩)
+            long decoded = 0;
+            start = System.nanoTime();
+            for (int s = 0; s < stations; s++) {
+                decoded += store.query(stationName(s), Long.MIN_VALUE, Long.MAX_VALUE).size();
+            }
+            double fullSeconds = (System.nanoTime() - start) / 1e9;
+
+            // 한 달 구간 조회
+            long from = origin + (days > 30 ? (days - 30) / 2 : 0) * 86_400_000L;
+            long to = from + 30 * 86_400_000L;
+            int queries = Math.min(stations, 200);
+            long rangeDecoded = 0;
+            start = System.nanoTime();
+            for (int s = 0; s < queries; s++) {
+                rangeDecoded += store.query(stationName(s), from, to).size();
+            }
+            double rangeMillis = (System.nanoTime() - start) / 1e6 / queries;
+
+            System.out.println("==== 점유 시계열 저장소 ====");
+            System.out.printf("스테이션 %d개 × %d일 (%d초 간격) = 샘플 %d건\n", stations, days, intervalMillis / 1000, total);
+            System.out.printf("저장 크기: %.1f MB, 샘플당 %.2f 바이트 (원본 %d바이트의 %.1f%%)\n",
+                    bytes / 1e6, (double) bytes / total, NAIVE_BYTES_PER_SAMPLE,
+                    100.0 * bytes / total / NAIVE_BYTES_PER_SAMPLE);
+            System.out.printf("기록: %.0f 샘플/s\n", total / writeSeconds);
+            System.out.printf("다시 열기(색인 구성): %.1f ms\n", openMillis);
+            System.out.printf("전체 기간 조회: %.0f 샘플/s (%d건 복원)\n", decoded / fullSeconds, decoded);
+            System.out.printf("한 달 구간 조회: 스테이션당 %.3f ms (평균 %d건)\n", rangeMillis, rangeDecoded / queries);
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    private static String stationName(int index) {
+        return "스테이션-" + index;
+    }
+}
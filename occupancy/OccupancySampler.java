@@ -0,0 +1,59 @@
+package occupancy;
+
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.DiagnosticSink;
+import core.FleetSnapshot;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스테이션 점유 샘플러
+ * - 일정 간격마다 최신 FleetSnapshot을 읽어 스테이션별 대여 가능 자전거 수를 OccupancyStore에 기록합니다.
+ *   스테이션 목록도 스냅샷에서 읽으며, 스냅샷은 읽기 전용이므로 작성자 스레드를 거치지 않습니다.
+ * - 샘플 시각은 간격 단위로 맞춰 기록하므로 타임스탬프 델타의 델타가 0이 되어 가장 작게 인코딩됩니다.
+ */
+public class OccupancySampler {
+    public static final long DEFAULT_INTERVAL_MILLIS = 60_000;
+
+    private final BicycleManager bicycleManager;
+    private final OccupancyStore store;
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+
+    public OccupancySampler(BicycleManager bicycleManager, OccupancyStore store) {
+        this.bicycleManager = bicycleManager;
+        this.store = store;
+    }
+
+    public void start(ScheduledExecutorService scheduler, long intervalMillis) {
+        long delay = intervalMillis - System.currentTimeMillis() % intervalMillis;
+        scheduler.scheduleAtFixedRate(() -> sample(intervalMillis), delay, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 스테이션마다 샘플 하나 (예외가 나도 다음 주기는 계속되도록 여기서 처리)
+    public void sample(long intervalMillis) {
+        long now = System.currentTimeMillis();
+        long aligned = now - now % intervalMillis;
+        FleetSnapshot snapshot = bicycleManager.getSnapshot();
+        try {
+            for (String station : snapshot.getStationBikes().keySet()) {
+                store.append(station, aligned, countAvailable(snapshot, station));
+            }
+        } catch (IOException | RuntimeException e) {
+            diagnostics.warn("[점유] 샘플을 기록하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private static int countAvailable(FleetSnapshot snapshot, String station) {
+        List<String> ids = snapshot.getBicyclesAtStation(station);
+        int available = 0;
+        for (String id : ids) {
+            BicycleView bike = snapshot.getBicycle(id);
+            if (bike != null && bike.getStatus() == BicycleStatus.AVAILABLE) available++;
+        }
+        return available;
+    }
+}
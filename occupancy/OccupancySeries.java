@@ -0,0 +1,44 @@
+package occupancy;
+
+import java.util.Arrays;
+
+/**
+ * 범위 조회 결과 (시각 오름차순 기본형 배열)
+ */
+public class OccupancySeries {
+    private long[] times = new long[64];
+    private int[] values = new int[64];
+    private int size;
+
+    void add(long time, int value) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        times[size] = time;
+        values[size] = value;
+        size++;
+    }
+
+    public int size() { return size; }
+    public long getTime(int index) { return times[index]; }
+    public int getValue(int index) { return values[index]; }
+
+    public int min() {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) min = Math.min(min, values[i]);
+        return size == 0 ? 0 : min;
+    }
+
+    public int max() {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) max = Math.max(max, values[i]);
+        return size == 0 ? 0 : max;
+    }
+
+    public double average() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += values[i];
+        return size == 0 ? 0 : (double) sum / size;
+    }
+}
@@ -0,0 +1,294 @@
+package occupancy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * 스테이션 점유 시계열 저장소
+ * - 스테이션마다 샘플을 BLOCK_SAMPLES개씩 메모리(기본형 배열)에 모았다가 블록 하나로 인코딩해 덧붙입니다.
+ * - 블록은 첫 샘플의 달 기준 청크 파일(occupancy-data/2026-10.occ)에 append만 합니다. (기존 바이트는 고치지 않음)
+ * - 블록 형식: MAGIC, 길이, 스테이션 이름, 첫/마지막 시각, 샘플 수, 첫 값,
+ *   이후 샘플마다 [타임스탬프 델타의 델타, 값 변화량]을 zigzag varint로 씁니다.
+ *   일정 간격으로 샘플링하면 두 값 모두 대개 0이라 샘플 하나가 약 2바이트입니다. (long+int 원본은 12바이트)
+ * - 시작할 때 청크 파일의 블록 머리만 읽어 스테이션별 블록 색인을 만들고,
+ *   범위 조회는 겹치는 블록만 읽어 풉니다. 마지막 블록이 덜 쓰였으면(비정상 종료) 잘라 냅니다.
+ * - 아직 블록이 되지 않은 샘플은 flush/close 때 기록됩니다. 메서드는 모두 이 객체로 동기화됩니다.
+ */
+public class OccupancyStore implements AutoCloseable {
+    public static final String DEFAULT_DIRECTORY = "occupancy-data"; // 소스 패키지(occupancy/)와 분리된 데이터 폴더
+    public static final int BLOCK_SAMPLES = 256;
+    private static final int MAGIC = 0x4F434331; // "OCC1"
+    private static final int HEADER_PEEK = 512;   // 색인용으로 읽는 블록 앞부분 (이름 + 시각 + 샘플 수)
+    private static final String SUFFIX = ".occ";
+    private static final LatencyHistogram QUERY_LATENCY = MetricsRegistry.getInstance().histogram("occupancy.query");
+
+    private final Path directory;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Map<String, List<BlockRef>> index = new HashMap<>();
+    private final Map<String, OpenBlock> openBlocks = new HashMap<>();
+    private final Map<Path, FileChannel> channels = new HashMap<>();
+    private ByteBuffer encodeBuffer = ByteBuffer.allocate(64 * 1024);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(64 * 1024);
+    private long storedBytes;
+    private long storedSamples;
+
+    private final LongAdder samples = MetricsRegistry.getInstance().counter("occupancy.samples");
+    private final LongAdder blocksWritten = MetricsRegistry.getInstance().counter("occupancy.blocks_written");
+    private final LongAdder outOfOrder = MetricsRegistry.getInstance().counter("occupancy.out_of_order");
+
+    public OccupancyStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        TreeSet<Path> files = new TreeSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : stream) files.add(file);
+        }
+        for (Path file : files) {
+            scanChunk(file);
+        }
+    }
+
+    // 샘플 하나 추가 (스테이션별로 시각이 늘어나는 순서여야 함, 거꾸로 온 샘플은 버림)
+    public synchronized void append(String station, long timestampMillis, int value) throws IOException {
+        OpenBlock block = openBlocks.computeIfAbsent(station, k -> new OpenBlock());
+        long last = block.size > 0 ? block.times[block.size - 1] : lastStoredTime(station);
+        if (timestampMillis <= last) {
+            outOfOrder.increment();
+            return;
+        }
+        block.times[block.size] = timestampMillis;
+        block.values[block.size] = value;
+        block.size++;
+        samples.increment();
+        if (block.size == BLOCK_SAMPLES) {
+            writeBlock(station, block);
+        }
+    }
+
+    // 모인 샘플을 모두 블록으로 기록하고 디스크에 반영
+    public synchronized void flush() throws IOException {
+        for (Map.Entry<String, OpenBlock> entry : openBlocks.entrySet()) {
+            if (entry.getValue().size > 0) {
+                writeBlock(entry.getKey(), entry.getValue());
+            }
+        }
+        for (FileChannel channel : channels.values()) {
+            channel.force(false);
+        }
+    }
+
+    // [from, to] 구간의 샘플 (기록된 블록 + 아직 메모리에 있는 샘플)
+    public synchronized OccupancySeries query(String station, long fromMillis, long toMillis) throws IOException {
+        long start = System.nanoTime();
+        OccupancySeries series = new OccupancySeries();
+        for (BlockRef ref : index.getOrDefault(station, List.of())) {
+            if (ref.lastTime < fromMillis || ref.firstTime > toMillis) continue;
+            decodeBlock(ref, fromMillis, toMillis, series);
+        }
+        OpenBlock block = openBlocks.get(station);
+        if (block != null) {
+            for (int i = 0; i < block.size; i++) {
+                long time = block.times[i];
+                if (time >= fromMillis && time <= toMillis) series.add(time, block.values[i]);
+            }
+        }
+        QUERY_LATENCY.recordSince(start);
+        return series;
+    }
+
+    public synchronized List<String> getStations() {
+        TreeSet<String> stations = new TreeSet<>(index.keySet());
+        stations.addAll(openBlocks.keySet());
+        return new ArrayList<>(stations);
+    }
+
+    // 청크 파일에 기록된 바이트 수
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    // 청크 파일에 기록된 샘플 수
+    public synchronized long getStoredSamples() {
+        return storedSamples;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        for (FileChannel channel : channels.values()) {
+            channel.close();
+        }
+        channels.clear();
+    }
+
+    private long lastStoredTime(String station) {
+        List<BlockRef> refs = index.get(station);
+        return refs == null || refs.isEmpty() ? Long.MIN_VALUE : refs.get(refs.size() - 1).lastTime;
+    }
+
+    // 모인 샘플을 인코딩해 해당 달의 청크 파일 끝에 덧붙임
+    private void writeBlock(String station, OpenBlock block) throws IOException {
+        byte[] name = station.getBytes(StandardCharsets.UTF_8);
+        int worstCase = 8 + 5 + name.length + 16 + 5 + 10 + block.size * 20;
+        if (encodeBuffer.capacity() < worstCase) {
+            encodeBuffer = ByteBuffer.allocate(worstCase);
+        }
+        ByteBuffer buffer = encodeBuffer;
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(0); // 길이 자리 (아래에서 채움)
+        DeltaCodec.writeVarint(buffer, name.length);
+        buffer.put(name);
+        buffer.putLong(block.times[0]);
+        buffer.putLong(block.times[block.size - 1]);
+        DeltaCodec.writeVarint(buffer, block.size);
+        DeltaCodec.writeSigned(buffer, block.values[0]);
+        long previousDelta = 0;
+        for (int i = 1; i < block.size; i++) {
+            long delta = block.times[i] - block.times[i - 1];
+            DeltaCodec.writeSigned(buffer, delta - previousDelta);
+            DeltaCodec.writeSigned(buffer, block.values[i] - block.values[i - 1]);
+            previousDelta = delta;
+        }
+        int length = buffer.position() - 8;
+        buffer.putInt(4, length);
+        buffer.flip();
+
+        Path file = chunkFor(block.times[0]);
+        FileChannel channel = channelFor(file);
+        long offset = channel.size();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        index.computeIfAbsent(station, k -> new ArrayList<>())
+                .add(new BlockRef(file, offset + 8, length, block.times[0], block.times[block.size - 1]));
+        storedBytes += 8 + length;
+        storedSamples += block.size;
+        blocksWritten.increment();
+        block.size = 0;
+    }
+
+    private void decodeBlock(BlockRef ref, long fromMillis, long toMillis, OccupancySeries series) throws IOException {
+        ByteBuffer buffer = readPayload(ref.file, ref.offset, ref.length);
+        int nameLength = (int) DeltaCodec.readVarint(buffer);
+        buffer.position(buffer.position() + nameLength + 16); // 이름, 첫/마지막 시각은 색인에 있음
+        int count = (int) DeltaCodec.readVarint(buffer);
+        long time = ref.firstTime;
+        long value = DeltaCodec.readSigned(buffer);
+        long delta = 0;
+        if (time >= fromMillis && time <= toMillis) series.add(time, (int) value);
+        for (int i = 1; i < count; i++) {
+            delta += DeltaCodec.readSigned(buffer);
+            time += delta;
+            value += DeltaCodec.readSigned(buffer);
+            if (time > toMillis) break;
+            if (time >= fromMillis) series.add(time, (int) value);
+        }
+    }
+
+    private ByteBuffer readPayload(Path file, long offset, int length) throws IOException {
+        if (readBuffer.capacity() < length) {
+            readBuffer = ByteBuffer.allocate(length);
+        }
+        readBuffer.clear().limit(length);
+        FileChannel channel = channelFor(file);
+        while (readBuffer.hasRemaining()) {
+            if (channel.read(readBuffer, offset + readBuffer.position()) < 0) {
+                throw new IOException("점유 청크 파일이 잘렸습니다: " + file);
+            }
+        }
+        return readBuffer.flip();
+    }
+
+    // 청크 파일 하나의 블록 머리만 읽어 색인에 추가 (덜 쓰인 꼬리는 잘라 냄)
+    private void scanChunk(Path file) throws IOException {
+        FileChannel channel = channelFor(file);
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer head = ByteBuffer.allocate(8);
+        ByteBuffer peek = ByteBuffer.allocate(HEADER_PEEK);
+        while (position + 8 <= size) {
+            head.clear();
+            channel.read(head, position);
+            head.flip();
+            int magic = head.getInt();
+            int length = head.getInt();
+            if (magic != MAGIC || length <= 0 || position + 8 + length > size) break;
+
+            peek.clear().limit(Math.min(HEADER_PEEK, length));
+            channel.read(peek, position + 8);
+            peek.flip();
+            byte[] name = new byte[(int) DeltaCodec.readVarint(peek)];
+            peek.get(name);
+            long firstTime = peek.getLong();
+            long lastTime = peek.getLong();
+            int count = (int) DeltaCodec.readVarint(peek);
+
+            index.computeIfAbsent(new String(name, StandardCharsets.UTF_8), k -> new ArrayList<>())
+                    .add(new BlockRef(file, position + 8, length, firstTime, lastTime));
+            storedBytes += 8 + length;
+            storedSamples += count;
+            position += 8 + length;
+        }
+        if (position < size) {
+            channel.truncate(position);
+        }
+    }
+
+    private Path chunkFor(long timestampMillis) {
+        YearMonth month = YearMonth.from(Instant.ofEpochMilli(timestampMillis).atZone(zone));
+        return directory.resolve(month + SUFFIX);
+    }
+
+    private FileChannel channelFor(Path file) throws IOException {
+        FileChannel channel = channels.get(file);
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            channels.put(file, channel);
+        }
+        return channel;
+    }
+
+    // 기록된 블록 하나의 위치와 시각 범위
+    private static final class BlockRef {
+        private final Path file;
+        private final long offset; // 길이 필드 다음 (이름부터)
+        private final int length;
+        private final long firstTime;
+        private final long lastTime;
+
+        BlockRef(Path file, long offset, int length, long firstTime, long lastTime) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.firstTime = firstTime;
+            this.lastTime = lastTime;
+        }
+    }
+
+    // 스테이션 하나의 아직 기록되지 않은 샘플
+    private static final class OpenBlock {
+        private final long[] times = new long[BLOCK_SAMPLES];
+        private final int[] values = new int[BLOCK_SAMPLES];
+        private int size;
+    }
+}
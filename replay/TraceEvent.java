@@ -0,0 +1,65 @@
+package replay;
+
+import api.JsonUtil;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 트레이스 한 줄 (JSONL)
+ * 예: {"ts":1250,"op":"rent","user":"replay-001","bike":"R001"}
+ * - ts: 트레이스 시작부터의 시각(ms), op: login/rent/return/report/move/recharge
+ * - 작업에 따라 user, password, bike, station, amount, reason 중 필요한 필드만 씁니다.
+ */
+public class TraceEvent {
+
+    public enum Op {
+        LOGIN, RENT, RETURN, REPORT, MOVE, RECHARGE;
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final long timestampMillis;
+    private final Op op;
+    private final Map<String, String> fields;
+
+    private TraceEvent(long timestampMillis, Op op, Map<String, String> fields) {
+        this.timestampMillis = timestampMillis;
+        this.op = op;
+        this.fields = fields;
+    }
+
+    public static TraceEvent parse(String line) {
+        Map<String, String> fields = JsonUtil.parseObject(line);
+        String ts = fields.get("ts");
+        String op = fields.get("op");
+        if (ts == null || op == null) {
+            throw new IllegalArgumentException("ts와 op 필드가 필요합니다: " + line);
+        }
+        return new TraceEvent(Long.parseLong(ts), Op.valueOf(op.toUpperCase(Locale.ROOT)), fields);
+    }
+
+    // 생성기용: 필드 이름/값을 번갈아 넘김 (null 값은 생략)
+    public static String toLine(long timestampMillis, Op op, String... keyValues) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"ts\":").append(timestampMillis).append(",\"op\":\"").append(op.key()).append('"');
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (keyValues[i + 1] == null) continue;
+            sb.append(',').append(JsonUtil.quote(keyValues[i])).append(':').append(JsonUtil.quote(keyValues[i + 1]));
+        }
+        return sb.append('}').toString();
+    }
+
+    public long getTimestampMillis() { return timestampMillis; }
+    public Op getOp() { return op; }
+    public String get(String field) { return fields.get(field); }
+    public String getUser() { return fields.get("user"); }
+    public String getBike() { return fields.get("bike"); }
+    public String getStation() { return fields.get("station"); }
+
+    public int getAmount() {
+        String amount = fields.get("amount");
+        return amount == null ? 0 : Integer.parseInt(amount);
+    }
+}
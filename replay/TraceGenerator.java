@@ -0,0 +1,99 @@
+package replay;
+
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.LocationManager;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 합성 트레이스 생성기
+ * - 사용법: java -cp out replay.TraceGenerator [출력 파일] [작업 수] [초당 작업 수] [사용자 수]
+ * - 현재 폴더의 bicycles.json을 읽어 실제 자전거 ID/스테이션으로 트레이스를 만듭니다.
+ * - 도착 간격은 지수 분포(포아송 도착)이고, 사용자마다 대여 중인지 추적해
+ *   대여 → 반납 순서가 맞는 작업을 만듭니다. (로그인/충전/고장 신고/이동이 섞임)
+ * - 사용자 ID는 replay-001 형식, 비밀번호는 TraceReplayer.DEFAULT_PASSWORD 입니다.
+ */
+public class TraceGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args.length > 0 ? args[0] : "trace.jsonl");
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        double ratePerSecond = args.length > 2 ? Double.parseDouble(args[2]) : 200;
+        int userCount = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        List<String> available = new ArrayList<>();
+        for (BicycleView bike : new BicycleManager().getSnapshot().getBicycles()) {
+            if (bike.getStatus() == BicycleStatus.AVAILABLE) available.add(bike.getId());
+        }
+        List<String> stations = new ArrayList<>(LocationManager.getInstance().getAllStations());
+        if (available.isEmpty() || stations.isEmpty()) {
+            System.out.println("대여 가능한 자전거나 스테이션이 없어 트레이스를 만들 수 없습니다.");
+            return;
+        }
+
+        String[] users = new String[userCount];
+        String[] riding = new String[userCount]; // 사용자별 대여 중인 자전거 (없으면 null)
+        for (int i = 0; i < userCount; i++) {
+            users[i] = String.format("replay-%03d", i + 1);
+        }
+
+        Random random = new Random(42);
+        double clockMillis = 0;
+        int[] counts = new int[TraceEvent.Op.values().length];
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (int n = 0; n < operations; n++) {
+                clockMillis += -Math.log(1 - random.nextDouble()) * 1000.0 / ratePerSecond;
+                long ts = (long) clockMillis;
+                int u = random.nextInt(userCount);
+                String user = users[u];
+                double pick = random.nextDouble();
+                String line;
+
+                if (riding[u] != null && pick < 0.6) {
+                    String station = stations.get(random.nextInt(stations.size()));
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.RETURN, "user", user, "bike", riding[u], "station", station);
+                    available.add(riding[u]);
+                    riding[u] = null;
+                    counts[TraceEvent.Op.RETURN.ordinal()]++;
+                } else if (riding[u] == null && pick < 0.5 && !available.isEmpty()) {
+                    String bike = available.remove(random.nextInt(available.size()));
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.RENT, "user", user, "bike", bike);
+                    riding[u] = bike;
+                    counts[TraceEvent.Op.RENT.ordinal()]++;
+                } else if (pick < 0.75 || available.isEmpty()) {
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.LOGIN, "user", user, "password", TraceReplayer.DEFAULT_PASSWORD);
+                    counts[TraceEvent.Op.LOGIN.ordinal()]++;
+                } else if (pick < 0.88) {
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.RECHARGE, "user", user,
+                            "amount", String.valueOf(1000 * (1 + random.nextInt(10))));
+                    counts[TraceEvent.Op.RECHARGE.ordinal()]++;
+                } else if (pick < 0.96 || available.size() < 2) {
+                    String bike = available.get(random.nextInt(available.size()));
+                    String station = stations.get(random.nextInt(stations.size()));
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.MOVE, "bike", bike, "station", station);
+                    counts[TraceEvent.Op.MOVE.ordinal()]++;
+                } else {
+                    // 신고된 자전거는 수리가 끝나는 시점을 알 수 없으므로 대여 후보에서 뺌
+                    String bike = available.remove(random.nextInt(available.size()));
+                    line = TraceEvent.toLine(ts, TraceEvent.Op.REPORT, "bike", bike, "reason", "FLAT_TIRE");
+                    counts[TraceEvent.Op.REPORT.ordinal()]++;
+                }
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+
+        System.out.println("트레이스 작성 완료: " + output + " (" + operations + "건, 약 "
+                + String.format("%.1f", clockMillis / 1000) + "초 분량)");
+        for (TraceEvent.Op op : TraceEvent.Op.values()) {
+            System.out.println("  " + op.key() + ": " + counts[op.ordinal()]);
+        }
+    }
+}
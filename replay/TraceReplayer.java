@@ -0,0 +1,290 @@
+package replay;
+
+import command.ChangeLocationCommand;
+import command.Command;
+import command.CommandPipeline;
+import command.RechargeBalanceCommand;
+import command.RentBicycleCommand;
+import command.ReportBrokenCommand;
+import command.ReturnAndChargeCommand;
+import core.BicycleManager;
+import core.PasswordUtil;
+import core.User;
+import core.UserManager;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import observer.BreakdownReason;
+import observer.RepairServiceObserver;
+import strategy.PricingStrategyFactory;
+import strategy.RepairStrategy;
+
+/**
+ * 트레이스 재생 부하 발생기
+ * - 사용법: java -cp out replay.TraceReplayer [트레이스 파일] [배속] [기준 결과 CSV]
+ *   배속 1은 기록된 시각 그대로, 10은 10배 빠르게, 0은 기다리지 않고 최대한 빨리 보냅니다.
+ * - 현재 폴더의 bicycles.json/users.csv를 replay-work/ 폴더에 복사해 그 사본으로 실행하므로 원본은 바뀌지 않습니다.
+ * - 개방 루프(open-loop): 앞 작업이 끝나기를 기다리지 않고 트레이스 시각에 맞춰 제출하며,
+ *   지연 시간은 "제출했어야 하는 시각"부터 잽니다. 서버가 밀리면 그만큼 지연에 드러납니다.
+ * - 쓰기 작업은 콘솔/HTTP와 같은 CommandPipeline으로, 로그인은 별도 스레드 풀에서 실행합니다.
+ * - 작업 종류별 p50/p95/p99/p99.9 지연과 처리량을 출력하고 replay-result.csv로 저장합니다.
+ *   기준 결과 CSV를 주면 p99가 20% 넘게 나빠진 작업을 회귀로 표시합니다.
+ */
+public class TraceReplayer {
+    public static final String DEFAULT_PASSWORD = "replay";
+    private static final Path WORK_DIR = Path.of("replay-work");
+    private static final Path RESULT_FILE = Path.of("replay-result.csv");
+    private static final double REGRESSION_RATIO = 1.2;
+    private static final int LOGIN_THREADS = 4;
+
+    private final BicycleManager bicycleManager;
+    private final UserManager userManager;
+    private final CommandPipeline pipeline;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ExecutorService loginPool = Executors.newFixedThreadPool(LOGIN_THREADS);
+    private final RepairServiceObserver repairObserver;
+    private final PricingStrategyFactory strategyFactory = new PricingStrategyFactory();
+    private final Map<TraceEvent.Op, LatencyHistogram> latencies = new EnumMap<>(TraceEvent.Op.class);
+    private final Map<TraceEvent.Op, LongAdder> errors = new EnumMap<>(TraceEvent.Op.class);
+
+    public TraceReplayer(BicycleManager bicycleManager, UserManager userManager) {
+        this.bicycleManager = bicycleManager;
+        this.userManager = userManager;
+        this.pipeline = new CommandPipeline(bicycleManager);
+        this.repairObserver = new RepairServiceObserver(bicycleManager, pipeline, scheduler, new RepairStrategy());
+        for (TraceEvent.Op op : TraceEvent.Op.values()) {
+            latencies.put(op, MetricsRegistry.getInstance().histogram("replay." + op.key()));
+            errors.put(op, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path traceFile = Path.of(args.length > 0 ? args[0] : "trace.jsonl");
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        Path baseline = args.length > 2 ? Path.of(args[2]) : null;
+
+        List<TraceEvent> events = readTrace(traceFile);
+        Map<String, Double> baselineP99 = baseline != null ? readBaseline(baseline) : null; // 결과 파일을 덮어쓰기 전에 읽음
+        prepareWorkDir();
+        TraceReplayer replayer = new TraceReplayer(
+                new BicycleManager(WORK_DIR.resolve("bicycles.json"), true),
+                new UserManager(WORK_DIR.resolve("users.csv")));
+        replayer.createMissingUsers(events);
+
+        System.out.println("[재생] " + traceFile + " / " + events.size() + "건 / 배속 "
+                + (speed <= 0 ? "최대" : String.valueOf(speed)));
+        double seconds = replayer.replay(events, speed);
+        List<String[]> rows = replayer.report(seconds);
+        writeResult(rows);
+        if (baselineP99 != null) {
+            compareWithBaseline(rows, baselineP99, baseline);
+        }
+        replayer.shutdown();
+    }
+
+    private static List<TraceEvent> readTrace(Path file) throws IOException {
+        List<TraceEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) events.add(TraceEvent.parse(line));
+            }
+        }
+        events.sort((a, b) -> Long.compare(a.getTimestampMillis(), b.getTimestampMillis()));
+        return events;
+    }
+
+    // 원본 파일을 건드리지 않도록 작업 폴더에 복사
+    private static void prepareWorkDir() throws IOException {
+        Files.createDirectories(WORK_DIR);
+        for (String name : new String[] {"bicycles.json", "users.csv"}) {
+            Path source = Path.of(name);
+            if (Files.exists(source)) {
+                Files.copy(source, WORK_DIR.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    // 트레이스에 나오는 사용자 중 없는 사용자를 미리 만듦 (측정에서 제외)
+    private void createMissingUsers(List<TraceEvent> events) {
+        String hash = PasswordUtil.hashPassword(DEFAULT_PASSWORD);
+        int created = 0;
+        for (TraceEvent event : events) {
+            String userId = event.getUser();
+            if (userId != null && userManager.getUser(userId) == null) {
+                userManager.saveUser(new User(userId, hash, userId, "010-0000-0000", "replay", "일반", 100_000));
+                created++;
+            }
+        }
+        if (created > 0) System.out.println("[재생] 트레이스 사용자 " + created + "명 생성");
+    }
+
+    // 트레이스 시각에 맞춰 제출하고 모든 작업이 끝날 때까지 기다림 (걸린 초 반환)
+    public double replay(List<TraceEvent> events, double speed) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(events.size());
+        long begin = System.nanoTime();
+        for (TraceEvent event : events) {
+            long intended = speed <= 0 ? System.nanoTime()
+                    : begin + (long) (event.getTimestampMillis() * 1_000_000L / speed);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            dispatch(event, intended, done);
+        }
+        done.await();
+        return (System.nanoTime() - begin) / 1e9;
+    }
+
+    private void dispatch(TraceEvent event, long intended, CountDownLatch done) {
+        TraceEvent.Op op = event.getOp();
+        if (op == TraceEvent.Op.LOGIN) {
+            loginPool.execute(() -> {
+                String password = event.get("password") != null ? event.get("password") : DEFAULT_PASSWORD;
+                complete(op, intended, userManager.login(event.getUser(), password) != null, done);
+            });
+            return;
+        }
+
+        User user = event.getUser() != null ? userManager.getUser(event.getUser()) : null;
+        Command command;
+        BooleanSupplier succeeded;
+        switch (op) {
+            case RENT: {
+                RentBicycleCommand rent = new RentBicycleCommand(bicycleManager, event.getBike(), user);
+                command = rent;
+                succeeded = rent::isSuccess;
+                break;
+            }
+            case RETURN: {
+                ReturnAndChargeCommand ret = new ReturnAndChargeCommand(bicycleManager, userManager, strategyFactory,
+                        user, event.getBike(), event.getStation());
+                command = ret;
+                succeeded = ret::isReturned;
+                break;
+            }
+            case REPORT: {
+                String reason = event.get("reason") != null ? event.get("reason") : BreakdownReason.OTHER.name();
+                ReportBrokenCommand report = new ReportBrokenCommand(bicycleManager, event.getBike(),
+                        List.of(BreakdownReason.valueOf(reason)), repairObserver);
+                command = report;
+                succeeded = () -> report.getResult().isSuccess();
+                break;
+            }
+            case MOVE: {
+                ChangeLocationCommand move = new ChangeLocationCommand(bicycleManager, event.getBike(), event.getStation());
+                command = move;
+                succeeded = () -> move.getResult().isSuccess();
+                break;
+            }
+            default: {
+                RechargeBalanceCommand recharge = new RechargeBalanceCommand(userManager, event.getUser(), event.getAmount());
+                command = recharge;
+                succeeded = recharge::isSuccess;
+                break;
+            }
+        }
+        if (user == null && event.getUser() != null) {
+            complete(op, intended, false, done); // 트레이스의 사용자를 찾을 수 없음
+            return;
+        }
+        pipeline.submit(command).whenComplete((ignored, error) ->
+                complete(op, intended, error == null && succeeded.getAsBoolean(), done));
+    }
+
+    private void complete(TraceEvent.Op op, long intended, boolean success, CountDownLatch done) {
+        latencies.get(op).recordSince(intended);
+        if (!success) errors.get(op).increment();
+        done.countDown();
+    }
+
+    // 작업별 결과 표 출력 (CSV 행 반환)
+    public List<String[]> report(double seconds) {
+        List<String[]> rows = new ArrayList<>();
+        System.out.println("\n==== 재생 결과 (" + String.format("%.2f", seconds) + "초) ====");
+        System.out.printf("%-9s %8s %6s %9s %9s %9s %9s %9s%n",
+                "작업", "건수", "실패", "처리량/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms");
+        for (TraceEvent.Op op : TraceEvent.Op.values()) {
+            LatencyHistogram histogram = latencies.get(op);
+            long count = histogram.getCount();
+            if (count == 0) continue;
+            String[] row = {
+                    op.key(),
+                    String.valueOf(count),
+                    String.valueOf(errors.get(op).sum()),
+                    String.format("%.1f", count / seconds),
+                    millis(histogram.getPercentileNanos(0.50)),
+                    millis(histogram.getPercentileNanos(0.95)),
+                    millis(histogram.getPercentileNanos(0.99)),
+                    millis(histogram.getPercentileNanos(0.999))
+            };
+            rows.add(row);
+            System.out.printf("%-9s %8s %6s %9s %9s %9s %9s %9s%n", (Object[]) row);
+        }
+        return rows;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    private static void writeResult(List<String[]> rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(RESULT_FILE, StandardCharsets.UTF_8)) {
+            writer.write("op,count,errors,throughput,p50_ms,p95_ms,p99_ms,p999_ms");
+            writer.newLine();
+            for (String[] row : rows) {
+                writer.write(String.join(",", row));
+                writer.newLine();
+            }
+        }
+        System.out.println("결과 저장: " + RESULT_FILE);
+    }
+
+    // 이전 결과 CSV에서 작업별 p99 읽기
+    private static Map<String, Double> readBaseline(Path baseline) throws IOException {
+        Map<String, Double> baseP99 = new HashMap<>();
+        List<String> lines = Files.readAllLines(baseline, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            String[] parts = lines.get(i).split(",");
+            if (parts.length >= 7) baseP99.put(parts[0], Double.parseDouble(parts[6]));
+        }
+        return baseP99;
+    }
+
+    // 이전 결과와 p99 비교
+    private static void compareWithBaseline(List<String[]> rows, Map<String, Double> baseP99, Path baseline) {
+        System.out.println("\n==== 기준 결과 대비 p99 (" + baseline + ") ====");
+        int regressions = 0;
+        for (String[] row : rows) {
+            Double before = baseP99.get(row[0]);
+            if (before == null) continue;
+            double after = Double.parseDouble(row[6]);
+            boolean regressed = before > 0 && after > before * REGRESSION_RATIO;
+            if (regressed) regressions++;
+            System.out.printf("%-9s %9.3f → %9.3f ms%s%n", row[0], before, after, regressed ? "  [회귀]" : "");
+        }
+        System.out.println(regressions == 0 ? "회귀 없음" : "회귀 " + regressions + "건");
+    }
+
+    public void shutdown() {
+        loginPool.shutdown();
+        scheduler.shutdownNow();
+        pipeline.shutdown();
+    }
+}
@@ -0,0 +1,354 @@
+package replication;
+
+import api.HttpApiServer;
+import api.JsonUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import command.CommandPipeline;
+import core.ActiveRentalTable;
+import core.BicycleManager;
+import core.UserManager;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * 복제본(replica) 프로세스
+ * - 주 서버의 복제 스트림을 받아 메모리 상태(자전거, 진행 중인 대여, 사용자 지갑)에 적용합니다.
+ * - 읽기 전용 HTTP 조회를 제공합니다: GET /api/stations[?station=이름], GET /api/replication
+ * - 승격(promote): POST /api/replication/promote 또는 주 서버와 끊긴 지 autoPromote초가 지나면
+ *   메모리 상태를 bicycles.json/active-rentals.dat/users.csv로 쓰고 같은 포트에서 전체 HttpApiServer로 전환합니다.
+ * 사용법: java -cp out replication.ReplicaNode [주 서버 복제 포트] [HTTP 포트] [자동 승격 초(0=끔)]
+ */
+public class ReplicaNode {
+    private static final LatencyHistogram APPLY_LAG = MetricsRegistry.getInstance().histogram("replication.apply_lag");
+
+    private final String primaryHost;
+    private final int primaryPort;
+    private final int autoPromoteSeconds;
+
+    // 아래 맵은 적용 스레드 하나만 쓰고, HTTP 스레드는 읽기만 함
+    private final Map<String, ReplicaBike> bikes = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> availableByStation = new ConcurrentHashMap<>();
+    private final Map<String, String> userRows = new ConcurrentHashMap<>(); // 사용자 ID → users.csv 한 줄
+    private final Map<String, ReplicaRental> rentals = new ConcurrentHashMap<>(); // 자전거 ID → 진행 중인 대여
+
+    private volatile String primaryRunId = ""; // 따라가는 주 서버 실행 ID (바뀌면 재시작된 것)
+    private volatile long appliedSequence = 0;
+    private volatile long primarySequence = 0;
+    private volatile long lastContactMillis = System.currentTimeMillis();
+    private volatile boolean promoted = false;
+    private volatile Socket connection;
+    private HttpServer readOnlyServer;
+    private int httpPort;
+
+    public ReplicaNode(String primaryHost, int primaryPort, int autoPromoteSeconds) {
+        this.primaryHost = primaryHost;
+        this.primaryPort = primaryPort;
+        this.autoPromoteSeconds = autoPromoteSeconds;
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("replication.applied_seq", () -> appliedSequence);
+        metrics.gauge("replication.lag_records", () -> Math.max(0, primarySequence - appliedSequence));
+        metrics.gauge("replication.last_contact_ms", () -> System.currentTimeMillis() - lastContactMillis);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int primaryPort = args.length > 0 ? Integer.parseInt(args[0]) : 7300;
+        int httpPort = args.length > 1 ? Integer.parseInt(args[1]) : 8081;
+        int autoPromote = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        ReplicaNode replica = new ReplicaNode("localhost", primaryPort, autoPromote);
+        replica.startReadOnlyServer(httpPort);
+        System.out.println("[복제본] 주 서버 localhost:" + primaryPort + "를 따라갑니다. 조회: http://localhost:"
+                + httpPort + "/api/stations");
+        replica.follow();
+    }
+
+    // 주 서버 스트림을 계속 따라감 (끊기면 1초 후 재접속, 자동 승격 조건이면 승격)
+    public void follow() {
+        while (!promoted) {
+            try (Socket socket = new Socket(primaryHost, primaryPort)) {
+                connection = socket;
+                tail(socket);
+            } catch (IOException e) {
+                // 주 서버에 연결할 수 없음
+            }
+            if (promoted) break;
+            long silentMillis = System.currentTimeMillis() - lastContactMillis;
+            if (autoPromoteSeconds > 0 && silentMillis > TimeUnit.SECONDS.toMillis(autoPromoteSeconds)) {
+                System.out.println("[복제본] 주 서버 응답 없음 " + silentMillis + "ms → 자동 승격합니다.");
+                promote();
+                break;
+            }
+            sleepQuietly(1000);
+        }
+    }
+
+    private void tail(Socket socket) throws IOException {
+        socket.setTcpNoDelay(true);
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        out.write("SUBSCRIBE\t" + appliedSequence + "\t" + primaryRunId);
+        out.newLine();
+        out.flush();
+
+        String line;
+        while (!promoted && (line = in.readLine()) != null) {
+            lastContactMillis = System.currentTimeMillis();
+            ReplicationRecord record = ReplicationRecord.parse(line);
+            if (ReplicationRecord.HEARTBEAT.equals(record.getType())) {
+                String runId = record.getFieldCount() > 0 ? record.getField(0) : "";
+                if (!runId.equals(primaryRunId)) {
+                    // 처음 접속했거나 주 서버가 새로 시작됨 → 주 서버가 이어서 초기 이미지를 보내므로,
+                    // 그사이 삭제/반납된 것이 남지 않도록 지금까지 받은 상태를 비움
+                    bikes.clear();
+                    availableByStation.clear();
+                    rentals.clear();
+                    userRows.clear();
+                    appliedSequence = 0;
+                    primaryRunId = runId;
+                }
+                primarySequence = record.getSequence();
+                continue;
+            }
+            apply(record);
+        }
+    }
+
+    // 레코드 적용 (모두 덮어쓰기라 중복 적용해도 안전)
+    private void apply(ReplicationRecord record) {
+        switch (record.getType()) {
+            case ReplicationRecord.BIKE: {
+                // 날짜 필드가 없는 예전 주 서버의 레코드면 -1 (승격 시 파일에 쓰지 않음)
+                boolean hasDays = record.getFieldCount() > 5;
+                ReplicaBike bike = new ReplicaBike(record.getField(0), record.getField(1),
+                        record.getField(2), record.getField(3),
+                        hasDays ? Long.parseLong(record.getField(4)) : -1,
+                        hasDays ? Long.parseLong(record.getField(5)) : -1);
+                unindex(bikes.put(bike.id, bike));
+                if ("AVAILABLE".equals(bike.status)) {
+                    availableByStation.computeIfAbsent(bike.station, k -> ConcurrentHashMap.newKeySet()).add(bike.id);
+                }
+                break;
+            }
+            case ReplicationRecord.DELETE:
+                unindex(bikes.remove(record.getField(0)));
+                break;
+            case ReplicationRecord.RENT:
+                rentals.put(record.getField(0), new ReplicaRental(record.getField(1), Long.parseLong(record.getField(2))));
+                break;
+            case ReplicationRecord.RETURN:
+                rentals.remove(record.getField(0));
+                break;
+            case ReplicationRecord.USER: {
+                String row = record.getField(0);
+                userRows.put(row.substring(0, row.indexOf(',')), row);
+                break;
+            }
+            default:
+                return; // 모르는 유형은 무시 (신규 유형이 추가된 주 서버와의 호환)
+        }
+        appliedSequence = Math.max(appliedSequence, record.getSequence());
+        primarySequence = Math.max(primarySequence, record.getSequence());
+        APPLY_LAG.record(TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, System.currentTimeMillis() - record.getTimestampMillis())));
+    }
+
+    private void unindex(ReplicaBike old) {
+        if (old == null) return;
+        Set<String> ids = availableByStation.get(old.station);
+        if (ids != null) ids.remove(old.id);
+    }
+
+    /**
+     * 승격: 스트림을 끊고 메모리 상태를 파일로 쓴 뒤, 같은 포트에서 쓰기 가능한 HttpApiServer를 띄웁니다.
+     */
+    public synchronized void promote() {
+        if (promoted) return;
+        promoted = true;
+        try {
+            Socket socket = connection;
+            if (socket != null) socket.close();
+            writeStateFiles();
+
+            BicycleManager bicycleManager = new BicycleManager();
+            UserManager userManager = new UserManager();
+            CommandPipeline pipeline = new CommandPipeline(bicycleManager);
+            readOnlyServer.stop(0);
+
+            HttpApiServer api = new HttpApiServer(bicycleManager, userManager, pipeline);
+            api.start(httpPort);
+            ReplicationPrimary.startIfConfigured(bicycleManager, userManager, pipeline); // 다음 복제본용
+            System.out.println("[복제본] 주 서버로 승격되었습니다. (순번 " + appliedSequence + ", 자전거 "
+                    + bikes.size() + "대) http://localhost:" + httpPort + "/api");
+        } catch (IOException e) {
+            System.out.println("[복제본] 승격 중 오류: " + e.getMessage());
+        }
+    }
+
+    // BicycleManager/UserManager가 읽는 형식 그대로 저장
+    private void writeStateFiles() throws IOException {
+        StringBuilder json = new StringBuilder("{\n  \"bicycle\": [\n");
+        int index = 0;
+        for (ReplicaBike bike : new TreeMap<>(bikes).values()) {
+            json.append("    {\n")
+                    .append("      \"id\": \"").append(bike.id).append("\",\n")
+                    .append("      \"type\": \"").append(bike.type).append("\",\n")
+                    .append("      \"station\": \"").append(bike.station).append("\",\n");
+            if (bike.registeredDay >= 0) {
+                json.append("      \"registeredDay\": ").append(bike.registeredDay).append(",\n")
+                        .append("      \"lastMaintenanceDay\": ").append(bike.lastMaintenanceDay).append(",\n");
+            }
+            json.append("      \"status\": \"").append(bike.status).append("\"\n")
+                    .append(++index < bikes.size() ? "    },\n" : "    }\n");
+        }
+        json.append("  ]\n}\n");
+        Files.writeString(Path.of("bicycles.json"), json.toString(), StandardCharsets.UTF_8);
+
+        // 진행 중인 대여: BicycleManager가 bicycles.json 옆에서 읽는 대여 표를 복제된 내용으로 맞춤
+        try (ActiveRentalTable table = new ActiveRentalTable(Path.of("active-rentals.dat"))) {
+            for (String bikeId : table.getBikeIds()) {
+                if (!rentals.containsKey(bikeId)) table.end(bikeId);
+            }
+            for (Map.Entry<String, ReplicaRental> entry : rentals.entrySet()) {
+                table.start(entry.getKey(), entry.getValue().userId, entry.getValue().startMillis);
+            }
+        }
+
+        StringBuilder csv = new StringBuilder("userid,passwordhash,name,phoneNumber,location,userType,balance\n");
+        for (String row : userRows.values()) {
+            csv.append(row).append('\n');
+        }
+        Files.writeString(Path.of("users.csv"), csv.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 읽기 전용 HTTP 조회
+     */
+
+    public void startReadOnlyServer(int port) throws IOException {
+        this.httpPort = port;
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        readOnlyServer = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        readOnlyServer.createContext("/api/stations", exchange -> respond(exchange, stationsJson(exchange)));
+        readOnlyServer.createContext("/api/replication", exchange -> {
+            if (exchange.getRequestURI().getPath().endsWith("/promote") && "POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, "{\"promoting\":true}");
+                new Thread(this::promote, "replica-promote").start();
+                return;
+            }
+            respond(exchange, statusJson());
+        });
+        readOnlyServer.start();
+    }
+
+    private String stationsJson(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        String station = null;
+        if (query != null && query.startsWith("station=")) {
+            station = URLDecoder.decode(query.substring("station=".length()), StandardCharsets.UTF_8);
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        if (station == null) {
+            boolean first = true;
+            for (Map.Entry<String, Set<String>> entry : new TreeMap<>(availableByStation).entrySet()) {
+                if (!first) sb.append(',');
+                sb.append("{\"station\":").append(JsonUtil.quote(entry.getKey()))
+                        .append(",\"available\":").append(entry.getValue().size()).append('}');
+                first = false;
+            }
+        } else {
+            boolean first = true;
+            for (String bikeId : availableByStation.getOrDefault(station, Set.of())) {
+                ReplicaBike bike = bikes.get(bikeId);
+                if (bike == null) continue;
+                if (!first) sb.append(',');
+                sb.append("{\"id\":").append(JsonUtil.quote(bike.id))
+                        .append(",\"type\":").append(JsonUtil.quote(bike.type))
+                        .append(",\"status\":").append(JsonUtil.quote(bike.status))
+                        .append(",\"location\":").append(JsonUtil.quote(bike.station))
+                        .append('}');
+                first = false;
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private String statusJson() {
+        return "{\"role\":" + JsonUtil.quote(promoted ? "primary" : "replica")
+                + ",\"appliedSeq\":" + appliedSequence
+                + ",\"primarySeq\":" + primarySequence
+                + ",\"lagRecords\":" + Math.max(0, primarySequence - appliedSequence)
+                + ",\"lastContactMs\":" + (System.currentTimeMillis() - lastContactMillis)
+                + ",\"bikes\":" + bikes.size()
+                + ",\"rentals\":" + rentals.size()
+                + ",\"users\":" + userRows.size() + "}";
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 복제본이 가진 진행 중인 대여 한 건 (불변)
+    private static class ReplicaRental {
+        private final String userId; // 모르면 null
+        private final long startMillis;
+
+        ReplicaRental(String userId, long startMillis) {
+            this.userId = userId.isEmpty() ? null : userId;
+            this.startMillis = startMillis;
+        }
+    }
+
+    // 복제본이 가진 자전거 한 대 (불변)
+    private static class ReplicaBike {
+        private final String id;
+        private final String type;
+        private final String station;
+        private final String status;
+        private final long registeredDay;
+        private final long lastMaintenanceDay;
+
+        ReplicaBike(String id, String type, String station, String status, long registeredDay, long lastMaintenanceDay) {
+            this.id = id;
+            this.type = type;
+            this.station = station;
+            this.status = status;
+            this.registeredDay = registeredDay;
+            this.lastMaintenanceDay = lastMaintenanceDay;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package replication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주 서버의 복제 로그
+ * - 최근 레코드: 고정 크기 원형 배열 (따라오는 복제본에게 순번 순서대로 전달)
+ * - 압축(compacted) 로그: 키마다 마지막 레코드만 유지 (새 복제본이나 너무 뒤처진 복제본의 초기 이미지)
+ * 레코드가 모두 덮어쓰기라서 초기 이미지와 최근 레코드가 겹쳐도 결과가 같습니다.
+ */
+public class ReplicationLog {
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final ReplicationRecord[] recent;
+    private final Map<String, ReplicationRecord> compacted = new LinkedHashMap<>(); // 삽입 순서 = 순번 순서
+    private long lastSequence = 0;
+
+    public ReplicationLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReplicationLog(int capacity) {
+        this.recent = new ReplicationRecord[capacity];
+    }
+
+    public synchronized long append(String key, String type, String... fields) {
+        ReplicationRecord record = new ReplicationRecord(++lastSequence, System.currentTimeMillis(), type, fields);
+        recent[(int) (record.getSequence() % recent.length)] = record;
+        compacted.remove(key); // 다시 넣어 맨 뒤(최신 순번)로 이동
+        compacted.put(key, record);
+        notifyAll();
+        return record.getSequence();
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * afterSequence 다음 레코드들을 최대 max개 반환합니다.
+     * 새 레코드가 없으면 waitMillis 동안 기다리고, 그래도 없으면 빈 목록을 반환합니다.
+     * 원형 배열에서 이미 밀려난 순번이면 null (초기 이미지부터 다시 받아야 함)
+     */
+    public synchronized List<ReplicationRecord> readAfter(long afterSequence, int max, long waitMillis)
+            throws InterruptedException {
+        if (afterSequence >= lastSequence) {
+            wait(waitMillis);
+        }
+        if (afterSequence < lastSequence - recent.length) {
+            return null;
+        }
+        long end = Math.min(lastSequence, afterSequence + max);
+        List<ReplicationRecord> records = new ArrayList<>((int) Math.max(0, end - afterSequence));
+        for (long seq = afterSequence + 1; seq <= end; seq++) {
+            records.add(recent[(int) (seq % recent.length)]);
+        }
+        return records;
+    }
+
+    // 키마다 마지막 레코드 (순번 순서)
+    public synchronized List<ReplicationRecord> compactedImage() {
+        return new ArrayList<>(compacted.values());
+    }
+}
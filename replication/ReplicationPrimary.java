@@ -0,0 +1,217 @@
+package replication;
+
+import command.CommandPipeline;
+import core.BicycleManager;
+import core.BicycleView;
+import core.FleetChangeListener;
+import core.RentalListener;
+import core.User;
+import core.UserManager;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import metrics.MetricsRegistry;
+
+/**
+ * 복제 주 서버(primary)
+ * - 스냅샷이 발행될 때마다 이전 스냅샷과 비교해 바뀐 자전거만 BIKE/DELETE 레코드로 로그에 남깁니다.
+ *   (바뀌지 않은 자전거는 같은 BicycleView 객체이므로 == 비교 한 번으로 걸러짐)
+ * - 대여 시작/종료는 RENT/RETURN 레코드로 남겨, 승격된 복제본이 진행 중인 대여를 이어받게 합니다.
+ * - 사용자 추가/잔액 변경은 USER 레코드로 남깁니다.
+ * - localhost 포트로 접속한 복제본마다 전송 스레드 하나가 "SUBSCRIBE 순번" 이후의 레코드를 보냅니다.
+ *   새 레코드가 없으면 HEARTBEAT를 보내 복제본이 지연(lag)을 잴 수 있게 합니다.
+ * - HEARTBEAT에는 실행마다 새로 만드는 실행 ID가 실려, 복제본이 주 서버 재시작을 순번과 상관없이 알아챕니다.
+ * 환경 변수 REPLICATION_PORT가 있으면 콘솔/HTTP 서버 시작 시 자동으로 켜집니다.
+ */
+public class ReplicationPrimary {
+    private static final String PORT_ENV = "REPLICATION_PORT";
+    private static final long HEARTBEAT_MILLIS = 500;
+    private static final int SEND_BATCH = 1024;
+
+    private final ReplicationLog log = new ReplicationLog();
+    private final String runId = UUID.randomUUID().toString(); // 실행마다 새로 만듦 (복제본의 재시작 감지용)
+    private final AtomicInteger replicas = new AtomicInteger();
+    private ServerSocket server;
+
+    // REPLICATION_PORT가 설정된 경우에만 주 서버 시작 (없으면 null)
+    public static ReplicationPrimary startIfConfigured(BicycleManager bicycleManager, UserManager userManager,
+                                                       CommandPipeline pipeline) {
+        String port = System.getenv(PORT_ENV);
+        if (port == null || port.isBlank()) {
+            return null;
+        }
+        try {
+            ReplicationPrimary primary = new ReplicationPrimary();
+            primary.attach(bicycleManager, userManager, pipeline);
+            primary.start(Integer.parseInt(port.trim()));
+            return primary;
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("[복제] 주 서버를 시작하지 못했습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 변경 리스너를 등록하고 현재 상태를 초기 레코드로 남깁니다.
+     * 작성자 스레드에서 실행하므로 등록과 초기 레코드 사이에 발행되는 스냅샷이 없습니다.
+     */
+    public void attach(BicycleManager bicycleManager, UserManager userManager, CommandPipeline pipeline) {
+        pipeline.execute(() -> {
+            for (BicycleView bike : bicycleManager.getSnapshot().getBicycles()) {
+                appendBike(bike);
+            }
+            bicycleManager.addFleetChangeListener(new FleetChangeListener() {
+                @Override
+                public void changed(BicycleView before, BicycleView after) {
+                    appendBike(after);
+                }
+
+                @Override
+                public void removed(BicycleView before) {
+                    log.append("bike:" + before.getId(), ReplicationRecord.DELETE, before.getId());
+                }
+            });
+
+            RentalListener rentals = new RentalListener() {
+                @Override
+                public void started(String bikeId, String userId, long startMillis) {
+                    log.append("rental:" + bikeId, ReplicationRecord.RENT,
+                            bikeId, userId == null ? "" : userId, Long.toString(startMillis));
+                }
+
+                @Override
+                public void ended(String bikeId) {
+                    log.append("rental:" + bikeId, ReplicationRecord.RETURN, bikeId);
+                }
+            };
+            bicycleManager.forEachActiveRental(rentals);
+            bicycleManager.addRentalListener(rentals);
+        });
+        userManager.addChangeListener(this::appendUser);
+        for (User user : userManager.getAllUsers()) {
+            appendUser(user);
+        }
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("replication.primary_seq", log::getLastSequence);
+        metrics.gauge("replication.replicas", replicas::get);
+    }
+
+    public void start(int port) throws IOException {
+        server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        Thread acceptor = new Thread(this::acceptLoop, "replication-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        System.out.println("[복제] 주 서버가 포트 " + server.getLocalPort() + "에서 복제본을 기다립니다.");
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public ReplicationLog getLog() {
+        return log;
+    }
+
+    public void stop() {
+        try {
+            if (server != null) server.close();
+        } catch (IOException e) {
+            // 이미 닫힘
+        }
+    }
+
+    private void appendBike(BicycleView bike) {
+        String type = "전기자전거".equals(bike.getType()) ? "electric" : "regular";
+        log.append("bike:" + bike.getId(), ReplicationRecord.BIKE,
+                bike.getId(), type, bike.getLocation(), bike.getStatus().name(),
+                Long.toString(bike.getRegistrationDay()), Long.toString(bike.getLastMaintenanceDay()));
+    }
+
+    private void appendUser(User user) {
+        log.append("user:" + user.getUserId(), ReplicationRecord.USER, user.toCsvRow());
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread sender = new Thread(() -> serveReplica(socket), "replication-sender");
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException e) {
+                // 서버 종료
+            }
+        }
+    }
+
+    // 복제본 하나에게 레코드 전송: 요청 순번이 너무 오래됐으면 압축 로그(초기 이미지)부터
+    private void serveReplica(Socket socket) {
+        replicas.incrementAndGet();
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+            s.setTcpNoDelay(true);
+            String request = in.readLine(); // SUBSCRIBE \t 마지막으로 적용한 순번 \t 따라가던 주 서버 실행 ID
+            if (request == null || !request.startsWith("SUBSCRIBE")) return;
+            String[] parts = request.split("\t", -1);
+            long cursor = Long.parseLong(parts[1]);
+            String replicaRunId = parts.length > 2 ? parts[2] : "";
+            // 처음 접속했거나 다른 실행(재시작 전)의 순번이면 초기 이미지부터
+            if (cursor == 0 || !runId.equals(replicaRunId)) cursor = -1;
+            writeHeartbeat(out); // 실행 ID를 먼저 알려 복제본이 재시작 여부를 판단하게 함
+            out.flush();
+
+            while (!s.isClosed()) {
+                List<ReplicationRecord> records = cursor < 0 ? null : log.readAfter(cursor, SEND_BATCH, HEARTBEAT_MILLIS);
+                if (records == null) {
+                    cursor = sendImage(out);
+                    continue;
+                }
+                if (records.isEmpty()) {
+                    writeHeartbeat(out);
+                } else {
+                    for (ReplicationRecord record : records) {
+                        out.write(record.toLine());
+                        out.newLine();
+                    }
+                    cursor = records.get(records.size() - 1).getSequence();
+                }
+                out.flush();
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            // 복제본 연결 종료
+        } finally {
+            replicas.decrementAndGet();
+        }
+    }
+
+    private void writeHeartbeat(BufferedWriter out) throws IOException {
+        out.write(new ReplicationRecord(log.getLastSequence(), System.currentTimeMillis(),
+                ReplicationRecord.HEARTBEAT, runId).toLine());
+        out.newLine();
+    }
+
+    private long sendImage(BufferedWriter out) throws IOException {
+        List<ReplicationRecord> image = log.compactedImage();
+        long last = 0;
+        for (ReplicationRecord record : image) {
+            out.write(record.toLine());
+            out.newLine();
+            last = Math.max(last, record.getSequence());
+        }
+        out.flush();
+        return last;
+    }
+}
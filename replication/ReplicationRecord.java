@@ -0,0 +1,57 @@
+package replication;
+
+/**
+ * 복제 스트림의 레코드 한 줄
+ * - 형식: 순번 \t 주 서버 기록 시각(ms) \t 유형 \t 필드...
+ * - 모든 레코드는 키(자전거 ID, 사용자 ID) 단위 덮어쓰기(upsert)라 여러 번 적용해도 결과가 같습니다.
+ *
+ * 유형
+ *   BIKE      id type(regular|electric) station status registeredDay lastMaintenanceDay (날짜는 epoch day)
+ *   DELETE    id
+ *   RENT      id userId(모르면 빈 문자열) startMillis
+ *   RETURN    id
+ *   USER      users.csv 한 줄
+ *   HEARTBEAT runId (주 서버 실행 ID, 순번 = 주 서버의 마지막 순번)
+ */
+public final class ReplicationRecord {
+    public static final String BIKE = "BIKE";
+    public static final String DELETE = "DELETE";
+    public static final String RENT = "RENT";
+    public static final String RETURN = "RETURN";
+    public static final String USER = "USER";
+    public static final String HEARTBEAT = "HEARTBEAT";
+
+    private final long sequence;
+    private final long timestampMillis;
+    private final String type;
+    private final String[] fields;
+
+    public ReplicationRecord(long sequence, long timestampMillis, String type, String... fields) {
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    public long getSequence() { return sequence; }
+    public long getTimestampMillis() { return timestampMillis; }
+    public String getType() { return type; }
+    public String getField(int index) { return fields[index]; }
+    public int getFieldCount() { return fields.length; }
+
+    public String toLine() {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append(sequence).append('\t').append(timestampMillis).append('\t').append(type);
+        for (String field : fields) {
+            sb.append('\t').append(field);
+        }
+        return sb.toString();
+    }
+
+    public static ReplicationRecord parse(String line) {
+        String[] parts = line.split("\t", -1);
+        String[] fields = new String[parts.length - 3];
+        System.arraycopy(parts, 3, fields, 0, fields.length);
+        return new ReplicationRecord(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2], fields);
+    }
+}
@@ -0,0 +1,117 @@
+package reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠 (Hashed Timing Wheel)
+ * - 시간을 tick 단위 칸(slot)으로 나눈 원형 배열입니다. 만료 tick이 같은 칸에 걸리는 항목은 이중 연결 리스트로 묶습니다.
+ * - 등록/취소는 칸 계산과 리스트 연결/해제뿐이라 항목이 몇 개든 O(1)입니다.
+ * - advance()는 지나간 tick의 칸만 훑어 만료된 항목을 돌려줍니다.
+ *   한 바퀴보다 먼 만료는 만료 tick이 아직 오지 않았으므로 다음 바퀴까지 칸에 남아 있습니다.
+ * - 스레드 안전하지 않습니다. 한 스레드(예: 커맨드 파이프라인 작성자 스레드)에서만 사용하세요.
+ */
+public class HashedTimingWheel<T> {
+    private final long tickMillis;
+    private final long startMillis;
+    private final Timeout<T>[] slots; // 칸마다 리스트의 머리
+    private final int mask;
+    private long currentTick; // 아직 처리하지 않은 가장 이른 tick
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("tick 길이와 칸 수는 0보다 커야 합니다.");
+        }
+        int capacity = Integer.highestOneBit(slotCount);
+        if (capacity < slotCount) capacity <<= 1; // 2의 거듭제곱으로 올림 (나머지 대신 비트 마스크)
+        this.tickMillis = tickMillis;
+        this.startMillis = nowMillis;
+        this.slots = (Timeout<T>[]) new Timeout<?>[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // delayMillis 뒤에 만료될 항목 등록
+    public Timeout<T> schedule(T item, long delayMillis, long nowMillis) {
+        long deadline = nowMillis + Math.max(0, delayMillis) - startMillis;
+        long deadlineTick = Math.max((deadline + tickMillis - 1) / tickMillis, currentTick);
+
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick);
+        int slot = (int) (deadlineTick & mask);
+        timeout.slot = slot;
+        timeout.next = slots[slot];
+        if (slots[slot] != null) slots[slot].prev = timeout;
+        slots[slot] = timeout;
+        size++;
+        return timeout;
+    }
+
+    // 만료 전 취소 (이미 만료/취소되었으면 false)
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.slot < 0) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    // nowMillis까지 지나간 tick을 처리하고 만료된 항목을 돌려줌
+    public List<T> advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        List<T> expired = new ArrayList<>();
+        // 오래 멈췄다가 호출되어도 한 바퀴만 훑으면 모든 칸을 본 것임
+        long lastTick = Math.min(targetTick, currentTick + slots.length - 1);
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Timeout<T> node = slots[(int) (tick & mask)];
+            while (node != null) {
+                Timeout<T> next = node.next;
+                if (node.deadlineTick <= targetTick) {
+                    unlink(node);
+                    expired.add(node.item);
+                }
+                node = next;
+            }
+        }
+        if (targetTick >= currentTick) {
+            currentTick = targetTick + 1;
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = -1;
+        size--;
+    }
+
+    /**
+     * 휠에 등록된 항목 하나 (취소할 때 사용하는 핸들)
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int slot = -1; // -1이면 만료 또는 취소됨
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getItem() { return item; }
+        public boolean isActive() { return slot >= 0; }
+    }
+}
@@ -0,0 +1,29 @@
+package reservation;
+
+/**
+ * 자전거 예약 한 건
+ */
+public class Reservation {
+    private final String bikeId;
+    private final String userId;
+    private final long createdAt;
+    private final long expiresAt;
+    HashedTimingWheel.Timeout<Reservation> timeout; // 취소/대여 시 휠에서 빼기 위한 핸들
+
+    Reservation(String bikeId, String userId, long createdAt, long expiresAt) {
+        this.bikeId = bikeId;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getBikeId() { return bikeId; }
+    public String getUserId() { return userId; }
+    public long getCreatedAt() { return createdAt; }
+    public long getExpiresAt() { return expiresAt; }
+
+    // 만료까지 남은 시간(초)
+    public long getRemainingSeconds() {
+        return Math.max(0, (expiresAt - System.currentTimeMillis()) / 1000);
+    }
+}
@@ -0,0 +1,180 @@
+package reservation;
+
+import command.CommandPipeline;
+import core.BicycleManager;
+import core.DiagnosticSink;
+import core.OperationResult;
+import core.User;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.MetricsRegistry;
+
+/**
+ * 자전거 예약 관리
+ * - 예약하면 자전거가 예약 중(RESERVED)이 되고, 만료 전까지 예약한 사용자만 대여할 수 있습니다.
+ * - 사용자마다 동시에 가질 수 있는 예약 수를 제한합니다.
+ * - 만료는 예약마다 타이머를 만들지 않고 HashedTimingWheel 하나로 처리합니다.
+ *   스케줄러는 tick마다 파이프라인에 만료 커맨드 하나만 넣고, 작성자 스레드가 지나간 칸의 예약만 대여 가능으로 되돌립니다.
+ * - 예약을 바꾸는 메서드(reserve/cancel/claim/expireDue)는 작성자 스레드(커맨드)에서만 호출합니다.
+ *   조회 메서드는 어느 스레드에서나 호출할 수 있습니다.
+ */
+public class ReservationManager {
+    public static final long DEFAULT_HOLD_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    public static final int DEFAULT_MAX_PER_USER = 1;
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final BicycleManager bicycleManager;
+    private final long holdMillis;
+    private final int maxPerUser;
+    private final HashedTimingWheel<Reservation> wheel;
+    private final Map<String, Reservation> byBike = new ConcurrentHashMap<>();
+    private final Map<String, List<Reservation>> byUser = new ConcurrentHashMap<>();
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+    private ScheduledFuture<?> expiryTask;
+
+    private final LongAdder created = MetricsRegistry.getInstance().counter("reservation.created");
+    private final LongAdder claimed = MetricsRegistry.getInstance().counter("reservation.claimed");
+    private final LongAdder cancelled = MetricsRegistry.getInstance().counter("reservation.cancelled");
+    private final LongAdder expired = MetricsRegistry.getInstance().counter("reservation.expired");
+
+    public ReservationManager(BicycleManager bicycleManager) {
+        this(bicycleManager, DEFAULT_HOLD_MILLIS, DEFAULT_MAX_PER_USER);
+    }
+
+    public ReservationManager(BicycleManager bicycleManager, long holdMillis, int maxPerUser) {
+        this.bicycleManager = bicycleManager;
+        this.holdMillis = holdMillis;
+        this.maxPerUser = maxPerUser;
+        this.wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SLOTS, System.currentTimeMillis());
+        MetricsRegistry.getInstance().gauge("reservation.active", byBike::size);
+    }
+
+    // tick마다 파이프라인에 만료 처리 커맨드를 넣도록 예약
+    public void startExpiry(CommandPipeline pipeline, ScheduledExecutorService scheduler) {
+        expiryTask = scheduler.scheduleAtFixedRate(() -> pipeline.submit(this::expireDue),
+                TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stopExpiry() {
+        if (expiryTask != null) expiryTask.cancel(false);
+    }
+
+    // 예약 (작성자 스레드)
+    public OperationResult reserve(String userId, String bikeId) {
+        Reservation existing = byBike.get(bikeId);
+        if (existing != null) {
+            return existing.getUserId().equals(userId) ? OperationResult.SUCCESS : OperationResult.RESERVED_BY_OTHER;
+        }
+        if (getReservationsOf(userId).size() >= maxPerUser) {
+            return OperationResult.RESERVATION_LIMIT;
+        }
+        OperationResult result = bicycleManager.reserveBicycle(bikeId);
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        long now = System.currentTimeMillis();
+        Reservation reservation = new Reservation(bikeId, userId, now, now + holdMillis);
+        reservation.timeout = wheel.schedule(reservation, holdMillis, now);
+        byBike.put(bikeId, reservation);
+        byUser.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(reservation);
+        created.increment();
+        if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+            diagnostics.info("자전거 " + bikeId + "를 " + (holdMillis / 60000) + "분 동안 예약했습니다.");
+        }
+        return OperationResult.SUCCESS;
+    }
+
+    // 예약 취소 (작성자 스레드)
+    public OperationResult cancel(String userId, String bikeId) {
+        Reservation reservation = byBike.get(bikeId);
+        if (reservation == null) {
+            return OperationResult.NOT_RESERVED;
+        }
+        if (!reservation.getUserId().equals(userId)) {
+            return OperationResult.RESERVED_BY_OTHER;
+        }
+        wheel.cancel(reservation.timeout);
+        remove(reservation);
+        bicycleManager.releaseReservation(bikeId);
+        cancelled.increment();
+        return OperationResult.SUCCESS;
+    }
+
+    // 예약한 자전거 대여 (작성자 스레드)
+    public OperationResult claim(User user, String bikeId) {
+        Reservation reservation = byBike.get(bikeId);
+        if (reservation == null) {
+            return OperationResult.NOT_RESERVED;
+        }
+        if (!reservation.getUserId().equals(user.getUserId())) {
+            return OperationResult.RESERVED_BY_OTHER;
+        }
+        if (user.isRenting()) {
+            return OperationResult.ALREADY_RENTING;
+        }
+        OperationResult result = bicycleManager.rentReservedBicycle(bikeId, user.getUserId());
+        if (result.isSuccess()) {
+            user.startRental(bikeId);
+            claimed.increment();
+        }
+        // 관리자가 상태를 바꿔 예약이 무의미해진 경우에도 예약은 정리
+        wheel.cancel(reservation.timeout);
+        remove(reservation);
+        return result;
+    }
+
+    // 만료된 예약을 대여 가능으로 되돌림 (작성자 스레드, 만료 건수 반환)
+    public int expireDue() {
+        List<Reservation> due = wheel.advance(System.currentTimeMillis());
+        for (Reservation reservation : due) {
+            remove(reservation);
+            bicycleManager.releaseReservation(reservation.getBikeId());
+            if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+                diagnostics.info("자전거 " + reservation.getBikeId() + " 예약이 만료되었습니다.");
+            }
+        }
+        expired.add(due.size());
+        return due.size();
+    }
+
+    // 자전거의 현재 예약 (없으면 null)
+    public Reservation getReservation(String bikeId) {
+        return byBike.get(bikeId);
+    }
+
+    public boolean isReservedBy(String bikeId, String userId) {
+        Reservation reservation = byBike.get(bikeId);
+        return reservation != null && reservation.getUserId().equals(userId);
+    }
+
+    public List<Reservation> getReservationsOf(String userId) {
+        List<Reservation> list = byUser.get(userId);
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    public int getActiveCount() {
+        return byBike.size();
+    }
+
+    public int getMaxPerUser() {
+        return maxPerUser;
+    }
+
+    private void remove(Reservation reservation) {
+        byBike.remove(reservation.getBikeId());
+        List<Reservation> list = byUser.get(reservation.getUserId());
+        if (list != null) {
+            list.remove(reservation);
+            if (list.isEmpty()) byUser.remove(reservation.getUserId());
+        }
+    }
+}
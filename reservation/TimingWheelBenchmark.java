@@ -0,0 +1,99 @@
+package reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 만료 타이머 비교
+ * - 사용법: java -cp out reservation.TimingWheelBenchmark [예약 수]
+ * - 같은 수의 예약을 등록하고 절반을 취소하는 비용을 HashedTimingWheel과
+ *   예약마다 작업을 하나씩 거는 ScheduledThreadPoolExecutor(힙 기반)로 각각 잽니다.
+ * - 휠은 시간을 끝까지 돌려 남은 예약이 빠짐없이 한 번씩 만료되는지도 확인합니다.
+ */
+public class TimingWheelBenchmark {
+    private static final long TICK_MILLIS = 1000;
+    private static final long MAX_HOLD_MILLIS = TimeUnit.MINUTES.toMillis(30); // 휠 한 바퀴(1024초)보다 긴 예약 포함
+
+    public static void main(String[] args) throws Exception {
+        int holds = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        long[] delays = new long[holds];
+        Random random = new Random(42);
+        for (int i = 0; i < holds; i++) {
+            delays[i] = 1 + (long) (random.nextDouble() * MAX_HOLD_MILLIS);
+        }
+
+        for (int round = 0; round < 3; round++) { // JIT 워밍업
+            runWheel(delays, false);
+            runExecutor(delays, false);
+        }
+        runWheel(delays, true);
+        runExecutor(delays, true);
+    }
+
+    private static void runWheel(long[] delays, boolean print) {
+        long now = 0;
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(TICK_MILLIS, 1024, now);
+        List<HashedTimingWheel.Timeout<Integer>> timeouts = new ArrayList<>(delays.length);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < delays.length; i++) {
+            timeouts.add(wheel.schedule(i, delays[i], now));
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < delays.length; i += 2) {
+            wheel.cancel(timeouts.get(i));
+        }
+        long cancelNanos = System.nanoTime() - start;
+
+        // 남은 예약이 모두 만료될 때까지 tick 단위로 시간을 진행
+        start = System.nanoTime();
+        long expired = 0;
+        while (wheel.size() > 0) {
+            now += TICK_MILLIS;
+            expired += wheel.advance(now).size();
+        }
+        long expireNanos = System.nanoTime() - start;
+
+        if (print) {
+            int cancelled = (delays.length + 1) / 2;
+            System.out.println("==== HashedTimingWheel (예약 " + delays.length + "건) ====");
+            System.out.printf("등록 %.1f ns/건, 취소 %.1f ns/건, 만료 %.1f ns/건%n",
+                    (double) scheduleNanos / delays.length, (double) cancelNanos / cancelled,
+                    (double) expireNanos / Math.max(1, expired));
+            System.out.println("만료 " + expired + "건 (기대값 " + (delays.length - cancelled) + "건)");
+        }
+    }
+
+    private static void runExecutor(long[] delays, boolean print) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        List<ScheduledFuture<?>> futures = new ArrayList<>(delays.length);
+        Runnable noop = () -> { };
+
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            futures.add(executor.schedule(noop, delay, TimeUnit.MILLISECONDS));
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < delays.length; i += 2) {
+            futures.get(i).cancel(false);
+        }
+        long cancelNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        if (print) {
+            int cancelled = (delays.length + 1) / 2;
+            System.out.println("==== 예약마다 ScheduledThreadPoolExecutor 작업 ====");
+            System.out.printf("등록 %.1f ns/건, 취소 %.1f ns/건%n",
+                    (double) scheduleNanos / delays.length, (double) cancelNanos / cancelled);
+        }
+    }
+}
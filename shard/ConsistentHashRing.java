@@ -0,0 +1,70 @@
+package shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일관 해싱(Consistent Hashing) 링
+ * - 샤드마다 가상 노드를 여러 개 링 위에 올려 스테이션이 고르게 나뉘도록 합니다.
+ * - 키(스테이션 이름)는 해시값 이상에서 처음 만나는 가상 노드의 샤드가 담당합니다.
+ * - 샤드를 추가/제거해도 옮겨지는 키는 전체의 약 1/N 뿐입니다.
+ */
+public class ConsistentHashRing {
+    private static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final List<String> shards = new ArrayList<>();
+    private final int virtualNodes;
+
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public synchronized void addShard(String shard) {
+        if (shards.contains(shard)) return;
+        shards.add(shard);
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.put(hash(shard + "#" + i), shard);
+        }
+    }
+
+    public synchronized void removeShard(String shard) {
+        if (!shards.remove(shard)) return;
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.remove(hash(shard + "#" + i));
+        }
+    }
+
+    // 키를 담당하는 샤드 (샤드가 없으면 null)
+    public synchronized String shardFor(String key) {
+        if (ring.isEmpty()) return null;
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue(); // 끝을 넘으면 처음으로 (원형)
+    }
+
+    public synchronized List<String> getShards() {
+        return new ArrayList<>(shards);
+    }
+
+    // FNV-1a 64비트 + 비트 섞기 (짧은 문자열도 링 전체에 고르게 퍼지도록)
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
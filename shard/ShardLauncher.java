@@ -0,0 +1,167 @@
+package shard;
+
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.LocationManager;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import metrics.MetricsRegistry;
+
+/**
+ * 샤드 여러 개를 한 컴퓨터에서 띄워 보는 실행기
+ * - 사용법: java -cp out shard.ShardLauncher [샤드 수] [시작 포트] [대여/반납 횟수]
+ * - 현재 폴더의 bicycles.json을 스테이션 기준으로 나눠 shards/샤드이름/bicycles.json에 쓰고,
+ *   샤드마다 ShardWorker JVM을 하나씩 띄웁니다. (로그는 각 폴더의 worker.log)
+ * - 라우터로 대여 → 임의 스테이션 반납을 반복하며 샤드 간 이동 횟수, 처리량, 자전거 총수 보존 여부를 출력합니다.
+ */
+public class ShardLauncher {
+
+    public static void main(String[] args) throws Exception {
+        int shardCount = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int basePort = args.length > 1 ? Integer.parseInt(args[1]) : 7100;
+        int operations = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        List<BicycleView> fleet = new BicycleManager().getSnapshot().getBicycles();
+        List<String> stations = new ArrayList<>(LocationManager.getInstance().getAllStations());
+
+        ShardRouter router = new ShardRouter();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            String name = "shard-" + i;
+            names.add(name);
+            router.addShard(name, "localhost", basePort + i);
+        }
+
+        // 스테이션 담당 샤드 기준으로 자전거 목록 분할
+        Map<String, List<BicycleView>> partitions = new HashMap<>();
+        for (String name : names) partitions.put(name, new ArrayList<>());
+        for (BicycleView bike : fleet) {
+            partitions.get(router.shardForStation(bike.getLocation())).add(bike);
+        }
+
+        System.out.println("==== 스테이션 → 샤드 배치 ====");
+        for (String station : stations) {
+            System.out.println(station + " → " + router.shardForStation(station));
+        }
+
+        List<Process> workers = new ArrayList<>();
+        String javaBin = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classPath = System.getProperty("java.class.path");
+        for (int i = 0; i < shardCount; i++) {
+            String name = names.get(i);
+            Path dir = Path.of("shards", name);
+            Files.createDirectories(dir);
+            writeFleetJson(dir.resolve("bicycles.json"), partitions.get(name));
+
+            ProcessBuilder builder = new ProcessBuilder(javaBin, "-cp", new File(classPath).getAbsolutePath(),
+                    "shard.ShardWorker", name, String.valueOf(basePort + i));
+            builder.directory(dir.toFile());
+            builder.redirectErrorStream(true);
+            builder.redirectOutput(dir.resolve("worker.log").toFile());
+            workers.add(builder.start());
+        }
+
+        try {
+            for (String name : names) {
+                waitUntilReady(router, name);
+            }
+            int before = totalBikes(router, names);
+            System.out.println("\n샤드 " + shardCount + "개 준비 완료 (자전거 총 " + before + "대)");
+            runWorkload(router, fleet, stations, operations);
+            int after = totalBikes(router, names);
+            System.out.println("자전거 총수 보존: " + (before == after ? "예" : "아니오") + " (" + before + " → " + after + ")");
+        } finally {
+            router.shutdownShards();
+            router.close();
+            for (Process worker : workers) {
+                if (!worker.waitFor(5, TimeUnit.SECONDS)) worker.destroy();
+            }
+        }
+    }
+
+    // 대여 → 임의 스테이션 반납 반복
+    private static void runWorkload(ShardRouter router, List<BicycleView> fleet, List<String> stations, int operations) {
+        List<String> candidates = new ArrayList<>();
+        Map<String, String> locations = new HashMap<>(); // 실행기 쪽에서 추적하는 자전거 위치 (출발 샤드 계산용)
+        for (BicycleView bike : fleet) {
+            if (bike.getStatus() == BicycleStatus.AVAILABLE) candidates.add(bike.getId());
+            locations.put(bike.getId(), bike.getLocation());
+        }
+        if (candidates.isEmpty()) {
+            System.out.println("대여 가능한 자전거가 없어 부하를 건너뜁니다.");
+            return;
+        }
+
+        Random random = new Random(42);
+        int succeeded = 0;
+        int crossShard = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            String bikeId = candidates.get(random.nextInt(candidates.size()));
+            String station = stations.get(random.nextInt(stations.size()));
+            if (!router.rent(bikeId).isSuccess()) continue;
+
+            String fromShard = router.shardForStation(locations.get(bikeId));
+            if (router.returnBike(bikeId, station).isSuccess()) {
+                succeeded++;
+                locations.put(bikeId, station);
+                if (!router.shardForStation(station).equals(fromShard)) crossShard++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("\n==== 대여/반납 결과 ====");
+        System.out.printf("성공 %d / 시도 %d (샤드 간 이동 %d건)\n", succeeded, operations, crossShard);
+        System.out.printf("처리량: %.0f 대여+반납/s\n", succeeded / seconds);
+        System.out.println(MetricsRegistry.getInstance().report());
+    }
+
+    private static int totalBikes(ShardRouter router, List<String> names) {
+        int total = 0;
+        for (String name : names) total += router.bikeCount(name);
+        return total;
+    }
+
+    private static void waitUntilReady(ShardRouter router, String name) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!router.ping(name).isSuccess()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(name + " 샤드가 시작되지 않았습니다. (worker.log 확인)");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    // BicycleManager와 같은 형식으로 샤드별 bicycles.json 작성
+    private static void writeFleetJson(Path path, List<BicycleView> bikes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\n");
+            writer.write("  \"bicycle\": [\n");
+            for (int i = 0; i < bikes.size(); i++) {
+                BicycleView bike = bikes.get(i);
+                String type = "전기자전거".equals(bike.getType()) ? "electric" : "regular";
+                writer.write("    {\n");
+                writer.write("      \"id\": \"" + bike.getId() + "\",\n");
+                writer.write("      \"type\": \"" + type + "\",\n");
+                writer.write("      \"station\": \"" + bike.getLocation() + "\",\n");
+                writer.write("      \"registeredDay\": " + bike.getRegistrationDay() + ",\n");
+                writer.write("      \"lastMaintenanceDay\": " + bike.getLastMaintenanceDay() + ",\n");
+                writer.write("      \"status\": \"" + bike.getStatus().name() + "\"\n");
+                writer.write(i + 1 < bikes.size() ? "    },\n" : "    }\n");
+            }
+            writer.write("  ]\n");
+            writer.write("}\n");
+        }
+    }
+}
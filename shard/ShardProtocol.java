@@ -0,0 +1,37 @@
+package shard;
+
+/**
+ * 라우터 ↔ 샤드 워커 사이의 한 줄 텍스트 프로토콜
+ * - 요청/응답 모두 UTF-8 한 줄이며 필드는 탭으로 구분합니다.
+ * - 응답은 "OK[\t값...]" 또는 "ERR\t결과코드(OperationResult 이름)" 입니다.
+ *
+ * 요청 목록
+ *   PING                                  → OK
+ *   LOCATE  bikeId                        → OK station status
+ *   RENT    bikeId                        → OK
+ *   RETURN  bikeId station                → OK minutes        (같은 샤드 안 반납)
+ *   MOVE    bikeId station                → OK                (같은 샤드 안 이동)
+ *   PREPARE_OUT txId bikeId MOVE|RETURN   → OK type registeredDay lastMaintenanceDay  (보내는 샤드: 자전거 잠금)
+ *   PREPARE_IN  txId bikeId type station registeredDay lastMaintenanceDay → OK       (받는 샤드: ID 예약)
+ *   COMMIT  txId                          → OK [minutes]
+ *   ABORT   txId                          → OK
+ *   STATS                                 → OK bikeCount
+ *   SHUTDOWN                              → OK (워커 종료)
+ */
+final class ShardProtocol {
+    static final String OK = "OK";
+    static final String ERR = "ERR";
+    static final String MODE_MOVE = "MOVE";
+    static final String MODE_RETURN = "RETURN";
+
+    private ShardProtocol() {
+    }
+
+    static String line(String... fields) {
+        return String.join("\t", fields);
+    }
+
+    static String[] split(String line) {
+        return line.split("\t", -1);
+    }
+}
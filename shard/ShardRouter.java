@@ -0,0 +1,344 @@
+package shard;
+
+import core.DiagnosticSink;
+import core.OperationResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+/**
+ * 샤드 라우터
+ * - 스테이션 → 샤드는 ConsistentHashRing으로 정하고, 자전거 → 샤드는 LOCATE 결과를 캐시합니다.
+ * - 대여/반납/이동을 담당 샤드로 전달합니다.
+ * - 다른 샤드의 스테이션으로 반납/이동하면 2단계 이동을 합니다.
+ *   1) 보내는 샤드 PREPARE_OUT (잠금), 받는 샤드 PREPARE_IN (예약)
+ *   2) 둘 다 성공하면 받는 쪽 → 보내는 쪽 순서로 COMMIT, 하나라도 실패하면 ABORT
+ *   받는 쪽 커밋이 확인된 뒤에만 보내는 쪽을 커밋하므로 중간에 실패해도 자전거가 사라지지 않습니다.
+ * - 커밋 응답을 받지 못해 결과를 알 수 없는 이동은 기억해 두었다가 다음 샤드 간 이동 때 다시 마무리합니다.
+ *   그동안 보내는 샤드의 자전거는 잠긴 채로 남습니다. (워커는 PREPARE_OUT을 스스로 풀지 않음)
+ */
+public class ShardRouter implements AutoCloseable {
+    private static final int COMMIT_RETRIES = 3;
+    private static final LatencyHistogram ROUTE_LATENCY = MetricsRegistry.getInstance().histogram("shard.route");
+    private static final LatencyHistogram HANDOFF_LATENCY = MetricsRegistry.getInstance().histogram("shard.handoff");
+
+    private final ConsistentHashRing ring = new ConsistentHashRing();
+    private final Map<String, ShardClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, String> bikeOwners = new ConcurrentHashMap<>(); // 자전거 ID → 샤드 (캐시)
+    private final Map<String, Handoff> inDoubt = new ConcurrentHashMap<>(); // txId → 결과를 알 수 없는 이동
+    private final String routerId = Long.toHexString(System.nanoTime());
+    private final AtomicLong txSequence = new AtomicLong();
+    private final LongAdder handoffs = MetricsRegistry.getInstance().counter("shard.handoffs");
+    private final LongAdder handoffAborts = MetricsRegistry.getInstance().counter("shard.handoff_aborts");
+
+    public void addShard(String shard, String host, int port) {
+        clients.put(shard, new ShardClient(host, port));
+        ring.addShard(shard);
+    }
+
+    public String shardForStation(String station) {
+        return ring.shardFor(station);
+    }
+
+    public List<String> getShards() {
+        return ring.getShards();
+    }
+
+    public Reply ping(String shard) {
+        return send(shard, "PING");
+    }
+
+    public Reply rent(String bikeId) {
+        long start = System.nanoTime();
+        try {
+            String shard = locate(bikeId);
+            if (shard == null) return new Reply(OperationResult.NOT_FOUND, null);
+            return send(shard, "RENT", bikeId);
+        } finally {
+            ROUTE_LATENCY.recordSince(start);
+        }
+    }
+
+    // 성공 시 값은 이용 시간(분)
+    public Reply returnBike(String bikeId, String station) {
+        return relocate(bikeId, station, ShardProtocol.MODE_RETURN);
+    }
+
+    public Reply move(String bikeId, String station) {
+        return relocate(bikeId, station, ShardProtocol.MODE_MOVE);
+    }
+
+    // 샤드가 가진 자전거 수
+    public int bikeCount(String shard) {
+        Reply reply = send(shard, "STATS");
+        return reply.isSuccess() ? Integer.parseInt(reply.getValue()) : -1;
+    }
+
+    public void shutdownShards() {
+        for (String shard : clients.keySet()) {
+            send(shard, "SHUTDOWN");
+        }
+    }
+
+    @Override
+    public void close() {
+        for (ShardClient client : clients.values()) {
+            client.close();
+        }
+    }
+
+    private Reply relocate(String bikeId, String station, String mode) {
+        long start = System.nanoTime();
+        try {
+            String source = locate(bikeId);
+            if (source == null) return new Reply(OperationResult.NOT_FOUND, null);
+            String target = ring.shardFor(station);
+            if (source.equals(target)) {
+                return send(source, mode, bikeId, station); // 같은 샤드 안: RETURN 또는 MOVE
+            }
+            return handoff(bikeId, source, target, station, mode);
+        } finally {
+            ROUTE_LATENCY.recordSince(start);
+        }
+    }
+
+    // 샤드 사이 2단계 이동
+    private Reply handoff(String bikeId, String source, String target, String station, String mode) {
+        long start = System.nanoTime();
+        resolveInDoubt();
+        String txId = routerId + "-" + txSequence.incrementAndGet();
+
+        Reply out = send(source, "PREPARE_OUT", txId, bikeId, mode);
+        if (!out.isSuccess()) {
+            return out;
+        }
+        Reply in = send(target, "PREPARE_IN", txId, bikeId, out.getValue(), station,
+                out.getValue(1), out.getValue(2)); // 유형, 등록일, 정비일을 그대로 넘김
+        if (!in.isSuccess()) {
+            send(source, "ABORT", txId);
+            handoffAborts.increment();
+            return in;
+        }
+
+        Reply done = finish(new Handoff(txId, bikeId, source, target), false);
+        if (done.isSuccess()) {
+            handoffs.increment();
+            HANDOFF_LATENCY.recordSince(start);
+        }
+        return done;
+    }
+
+    /**
+     * 커밋 단계: 받는 쪽 커밋이 확인된 뒤에만 보내는 쪽을 커밋합니다.
+     * - 받는 쪽 커밋이 확실히 실패하면(준비가 만료됨 등) 보내는 쪽을 ABORT합니다.
+     * - 샤드 응답을 받지 못하면 결과를 알 수 없으므로 inDoubt에 남기고 SHARD_UNAVAILABLE을 돌려줍니다.
+     */
+    private Reply finish(Handoff tx, boolean retried) {
+        if (tx.aborting) {
+            Reply aborted = send(tx.source, "ABORT", tx.txId);
+            if (!aborted.isSuccess()) {
+                inDoubt.put(tx.txId, tx);
+                return aborted;
+            }
+            return tx.targetReply;
+        }
+        if (!tx.targetCommitted) {
+            Reply in = commitWithRetry(tx.target, tx.txId, tx.bikeId, true, retried);
+            if (in.getResult() == OperationResult.SHARD_UNAVAILABLE) {
+                inDoubt.put(tx.txId, tx);
+                return in;
+            }
+            if (!in.isSuccess()) {
+                handoffAborts.increment();
+                tx.aborting = true;
+                tx.targetReply = in;
+                return finish(tx, retried);
+            }
+            tx.targetCommitted = true;
+            bikeOwners.put(tx.bikeId, tx.target); // 받는 쪽에 자전거가 생긴 것이 확인된 뒤에만 캐시 갱신
+        }
+
+        Reply out = commitWithRetry(tx.source, tx.txId, tx.bikeId, false, retried);
+        if (out.getResult() == OperationResult.SHARD_UNAVAILABLE) {
+            inDoubt.put(tx.txId, tx);
+        } else if (!out.isSuccess()) {
+            DiagnosticSink.getInstance().error("샤드 이동 " + tx.txId + ": 받는 샤드 " + tx.target
+                    + "에 커밋된 자전거 " + tx.bikeId + "를 보내는 샤드 " + tx.source + "에서 지우지 못했습니다: " + out.getResult());
+        }
+        return out;
+    }
+
+    // 앞서 결과를 알 수 없었던 이동을 다시 마무리 (다른 스레드가 맡은 이동은 건너뜀)
+    private void resolveInDoubt() {
+        for (Map.Entry<String, Handoff> entry : inDoubt.entrySet()) {
+            if (inDoubt.remove(entry.getKey(), entry.getValue())) {
+                finish(entry.getValue(), true);
+            }
+        }
+    }
+
+    /**
+     * COMMIT을 보내고, 응답을 받지 못하면 다시 보냅니다.
+     * 다시 보낸 COMMIT이 UNKNOWN_TRANSACTION이면 앞선 COMMIT이 이미 적용됐을 수 있으므로,
+     * LOCATE로 확인된 경우(받는 쪽은 자전거가 있음, 보내는 쪽은 없음)에만 성공으로 봅니다.
+     * 이미 적용된 커밋을 확인한 경우 응답 값(이용 시간)은 없습니다.
+     */
+    private Reply commitWithRetry(String shard, String txId, String bikeId, boolean receiving, boolean retried) {
+        Reply reply = null;
+        for (int attempt = 0; attempt < COMMIT_RETRIES; attempt++) {
+            reply = send(shard, "COMMIT", txId);
+            if (reply.getResult() == OperationResult.UNKNOWN_TRANSACTION && (retried || attempt > 0)) {
+                Reply located = send(shard, "LOCATE", bikeId);
+                if (located.getResult() == OperationResult.SHARD_UNAVAILABLE) {
+                    reply = located;
+                    continue;
+                }
+                boolean applied = receiving ? located.isSuccess() : located.getResult() == OperationResult.NOT_FOUND;
+                return applied ? new Reply(OperationResult.SUCCESS, null) : reply;
+            }
+            if (reply.getResult() != OperationResult.SHARD_UNAVAILABLE) break;
+        }
+        return reply;
+    }
+
+    // 자전거를 가진 샤드 찾기 (캐시에 없으면 모든 샤드에 물어봄)
+    private String locate(String bikeId) {
+        String cached = bikeOwners.get(bikeId);
+        if (cached != null) {
+            return cached;
+        }
+        for (String shard : clients.keySet()) {
+            if (send(shard, "LOCATE", bikeId).isSuccess()) {
+                bikeOwners.put(bikeId, shard);
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    private Reply send(String shard, String... fields) {
+        ShardClient client = clients.get(shard);
+        if (client == null) return new Reply(OperationResult.SHARD_UNAVAILABLE, shard);
+        try {
+            return Reply.parse(client.send(ShardProtocol.line(fields)));
+        } catch (IOException e) {
+            return new Reply(OperationResult.SHARD_UNAVAILABLE, shard);
+        }
+    }
+
+    /**
+     * 샤드 응답 (결과 코드 + 값 목록)
+     */
+    public static class Reply {
+        private final OperationResult result;
+        private final String[] values;
+
+        Reply(OperationResult result, String value) {
+            this.result = result;
+            this.values = value == null ? new String[0] : new String[]{value};
+        }
+
+        // 성공 응답 (값 여러 개)
+        private Reply(String[] values) {
+            this.result = OperationResult.SUCCESS;
+            this.values = values;
+        }
+
+        static Reply parse(String line) {
+            String[] fields = ShardProtocol.split(line);
+            if (ShardProtocol.OK.equals(fields[0])) {
+                String[] values = new String[fields.length - 1];
+                System.arraycopy(fields, 1, values, 0, values.length);
+                return new Reply(values);
+            }
+            try {
+                return new Reply(OperationResult.valueOf(fields.length > 1 ? fields[1] : null), null);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalStateException("샤드 응답을 해석할 수 없습니다: " + line);
+            }
+        }
+
+        public boolean isSuccess() { return result.isSuccess(); }
+        public OperationResult getResult() { return result; }
+        public String getValue() { return getValue(0); }
+
+        // index번째 값 (없으면 null)
+        public String getValue(int index) {
+            return index < values.length ? values[index] : null;
+        }
+    }
+
+    // 커밋 단계에 들어간 샤드 간 이동 한 건 (한 번에 한 스레드만 다룸)
+    private static class Handoff {
+        private final String txId;
+        private final String bikeId;
+        private final String source;
+        private final String target;
+        private boolean targetCommitted; // 받는 쪽 커밋 확인됨 → 보내는 쪽 커밋만 남음
+        private boolean aborting;        // 받는 쪽 커밋 실패 → 보내는 쪽 ABORT만 남음
+        private Reply targetReply;       // 받는 쪽 실패 응답 (호출자에게 돌려줌)
+
+        Handoff(String txId, String bikeId, String source, String target) {
+            this.txId = txId;
+            this.bikeId = bikeId;
+            this.source = source;
+            this.target = target;
+        }
+    }
+
+    // 샤드 하나와의 연결 (요청-응답을 한 번에 하나씩)
+    private static class ShardClient {
+        private final String host;
+        private final int port;
+        private Socket socket;
+        private BufferedReader in;
+        private BufferedWriter out;
+
+        ShardClient(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        synchronized String send(String line) throws IOException {
+            try {
+                if (socket == null) {
+                    socket = new Socket(host, port);
+                    socket.setTcpNoDelay(true);
+                    in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                }
+                out.write(line);
+                out.newLine();
+                out.flush();
+                String reply = in.readLine();
+                if (reply == null) throw new EOFException("샤드 연결이 끊겼습니다: " + host + ":" + port);
+                return reply;
+            } catch (IOException e) {
+                close(); // 다음 요청에서 다시 연결
+                throw e;
+            }
+        }
+
+        synchronized void close() {
+            if (socket == null) return;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // 이미 닫힘
+            }
+            socket = null;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package shard;
+
+import command.CommandPipeline;
+import core.Bicycle;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.OperationResult;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 샤드 워커 프로세스
+ * - 자신이 맡은 스테이션의 자전거만 BicycleManager로 관리합니다. (작업 폴더의 bicycles.json)
+ * - localhost TCP로 ShardProtocol 요청을 받아 CommandPipeline 작성자 스레드에서 차례로 적용합니다.
+ *   그래서 2단계 이동(PREPARE/COMMIT/ABORT) 상태도 락 없이 작성자 스레드 한 곳에서만 다룹니다.
+ * - 받기 준비(PREPARE_IN)만 되고 라우터가 사라진 트랜잭션은 일정 시간이 지나면 스스로 취소합니다.
+ *   라우터는 받는 쪽 커밋을 확인한 뒤에만 보내는 쪽을 커밋하므로 받는 쪽 취소는 안전합니다.
+ *   보내기 준비(PREPARE_OUT)는 커밋이 이미 결정됐을 수 있으므로 스스로 풀지 않고 라우터의 COMMIT/ABORT를 기다립니다.
+ * 사용법: java -cp out shard.ShardWorker [샤드 이름] [포트]
+ */
+public class ShardWorker {
+    private static final long PREPARE_TIMEOUT_MILLIS = 10_000;
+
+    private final String name;
+    private final BicycleManager bicycleManager;
+    private final CommandPipeline pipeline;
+    private volatile boolean running = true;
+    private ServerSocket server;
+
+    // 아래 상태는 작성자 스레드에서만 접근
+    private final Map<String, PreparedOut> preparedOut = new HashMap<>(); // txId → 내보낼 자전거
+    private final Map<String, PreparedIn> preparedIn = new HashMap<>();   // txId → 받을 자전거
+    private final Set<String> lockedBikes = new HashSet<>();   // 내보내기 준비 중인 자전거
+    private final Set<String> reservedIds = new HashSet<>();   // 받기 준비 중인 자전거 ID
+
+    public ShardWorker(String name, BicycleManager bicycleManager) {
+        this.name = name;
+        this.bicycleManager = bicycleManager;
+        this.pipeline = new CommandPipeline(bicycleManager);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String name = args.length > 0 ? args[0] : "shard-0";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7100;
+
+        ShardWorker worker = new ShardWorker(name, new BicycleManager());
+        System.out.println("[" + name + "] 포트 " + port + "에서 요청을 받습니다. (자전거 "
+                + worker.bicycleManager.getSnapshot().size() + "대)");
+        worker.serve(port);
+        System.out.println("[" + name + "] 종료되었습니다.");
+    }
+
+    // 연결마다 스레드 하나 (요청 처리 자체는 작성자 스레드에서 순서대로)
+    public void serve(int port) throws IOException {
+        server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        while (running) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketException e) {
+                if (!running) break; // SHUTDOWN으로 소켓을 닫은 경우
+                throw e;
+            }
+            Thread connection = new Thread(() -> handleConnection(socket), name + "-conn");
+            connection.setDaemon(true);
+            connection.start();
+        }
+        pipeline.shutdown();
+    }
+
+    private void handleConnection(Socket socket) {
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8))) {
+            s.setTcpNoDelay(true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                out.write(handle(line));
+                out.newLine();
+                out.flush();
+                if (!running) break;
+            }
+        } catch (IOException e) {
+            // 라우터가 연결을 끊음
+        }
+    }
+
+    // 요청 한 줄 처리: SHUTDOWN 외에는 모두 파이프라인 커맨드로 실행
+    private String handle(String line) {
+        String[] fields = ShardProtocol.split(line);
+        if ("SHUTDOWN".equals(fields[0])) {
+            running = false;
+            try {
+                server.close();
+            } catch (IOException e) {
+                // 이미 닫힘
+            }
+            return ShardProtocol.OK;
+        }
+
+        String[] reply = new String[1];
+        try {
+            pipeline.execute(() -> reply[0] = dispatch(fields));
+        } catch (RuntimeException e) {
+            return ShardProtocol.line(ShardProtocol.ERR, "BAD_REQUEST", String.valueOf(e.getMessage()));
+        }
+        return reply[0];
+    }
+
+    private String dispatch(String[] f) {
+        expirePrepared();
+        switch (f[0]) {
+            case "PING":
+                return ShardProtocol.OK;
+            case "STATS":
+                return ShardProtocol.line(ShardProtocol.OK, String.valueOf(bicycleManager.getSnapshot().size()));
+            case "LOCATE": {
+                Bicycle bicycle = bicycleManager.getBicycle(f[1]);
+                if (bicycle == null) return error(OperationResult.NOT_FOUND);
+                return ShardProtocol.line(ShardProtocol.OK, bicycle.getLocation(), bicycle.getStatus().name());
+            }
+            case "RENT":
+                if (lockedBikes.contains(f[1])) return error(OperationResult.BIKE_LOCKED);
+                return reply(bicycleManager.rentBicycle(f[1]));
+            case "RETURN":
+                return returnLocal(f[1], f[2]);
+            case "MOVE":
+                if (lockedBikes.contains(f[1])) return error(OperationResult.BIKE_LOCKED);
+                return reply(bicycleManager.changeBicycleLocation(f[1], f[2]));
+            case "PREPARE_OUT":
+                return prepareOut(f[1], f[2], f[3]);
+            case "PREPARE_IN":
+                return prepareIn(f[1], f[2], f[3], f[4], Long.parseLong(f[5]), Long.parseLong(f[6]));
+            case "COMMIT":
+                return commit(f[1]);
+            case "ABORT":
+                abort(f[1]);
+                return ShardProtocol.OK;
+            default:
+                return ShardProtocol.line(ShardProtocol.ERR, "BAD_REQUEST", f[0]);
+        }
+    }
+
+    private String returnLocal(String bikeId, String station) {
+        if (lockedBikes.contains(bikeId)) return error(OperationResult.BIKE_LOCKED);
+        Bicycle bicycle = bicycleManager.getBicycle(bikeId);
+        if (bicycle == null) return error(OperationResult.NOT_FOUND);
+        if (bicycle.getStatus() != BicycleStatus.RENTED) return error(OperationResult.NOT_RENTED);
+
+        int minutes = bicycleManager.returnBicycle(bikeId, station);
+        if (minutes < 0) return error(OperationResult.NO_RENTAL_RECORD);
+        return ShardProtocol.line(ShardProtocol.OK, String.valueOf(minutes));
+    }
+
+    // 1단계(보내는 쪽): 자전거를 잠그고 유형과 등록일/정비일을 알려줌
+    private String prepareOut(String txId, String bikeId, String mode) {
+        if (lockedBikes.contains(bikeId)) return error(OperationResult.BIKE_LOCKED);
+        Bicycle bicycle = bicycleManager.getBicycle(bikeId);
+        if (bicycle == null) return error(OperationResult.NOT_FOUND);
+        if (ShardProtocol.MODE_RETURN.equals(mode)) {
+            if (bicycle.getStatus() != BicycleStatus.RENTED) return error(OperationResult.NOT_RENTED);
+        } else if (!bicycle.getBikeState().canMove()) {
+            return error(OperationResult.NOT_MOVABLE);
+        }
+
+        lockedBikes.add(bikeId);
+        preparedOut.put(txId, new PreparedOut(bikeId, mode));
+        String type = "전기자전거".equals(bicycle.getType()) ? "electric" : "regular";
+        return ShardProtocol.line(ShardProtocol.OK, type,
+                String.valueOf(bicycle.getRegistrationDay()), String.valueOf(bicycle.getLastMaintenanceDay()));
+    }
+
+    // 1단계(받는 쪽): ID가 겹치지 않는지 확인하고 예약
+    private String prepareIn(String txId, String bikeId, String type, String station,
+                             long registeredDay, long lastMaintenanceDay) {
+        if (bicycleManager.getBicycle(bikeId) != null || reservedIds.contains(bikeId)) {
+            return error(OperationResult.DUPLICATE_ID);
+        }
+        if (!"regular".equals(type) && !"electric".equals(type)) {
+            return error(OperationResult.INVALID_TYPE);
+        }
+        reservedIds.add(bikeId);
+        preparedIn.put(txId, new PreparedIn(bikeId, type, station, registeredDay, lastMaintenanceDay));
+        return ShardProtocol.OK;
+    }
+
+    // 2단계: 받는 쪽은 자전거를 추가, 보내는 쪽은 (반납이면 대여를 끝낸 뒤) 자전거를 삭제
+    private String commit(String txId) {
+        PreparedIn in = preparedIn.remove(txId);
+        if (in != null) {
+            reservedIds.remove(in.bikeId);
+            return reply(bicycleManager.addBicycle(in.bikeId, in.type, in.station, in.registeredDay, in.lastMaintenanceDay));
+        }
+
+        PreparedOut out = preparedOut.remove(txId);
+        if (out != null) {
+            lockedBikes.remove(out.bikeId);
+            int minutes = 0;
+            if (ShardProtocol.MODE_RETURN.equals(out.mode)) {
+                Bicycle bicycle = bicycleManager.getBicycle(out.bikeId);
+                minutes = bicycleManager.returnBicycle(out.bikeId, bicycle.getLocation());
+            }
+            OperationResult removed = bicycleManager.removeBicycle(out.bikeId);
+            if (!removed.isSuccess()) return error(removed);
+            return ShardProtocol.line(ShardProtocol.OK, String.valueOf(minutes));
+        }
+        return error(OperationResult.UNKNOWN_TRANSACTION);
+    }
+
+    private void abort(String txId) {
+        PreparedIn in = preparedIn.remove(txId);
+        if (in != null) reservedIds.remove(in.bikeId);
+        PreparedOut out = preparedOut.remove(txId);
+        if (out != null) lockedBikes.remove(out.bikeId);
+    }
+
+    // 라우터가 커밋/취소를 보내지 못한 채 사라진 받기 준비 정리 (보내기 준비는 라우터가 마무리)
+    private void expirePrepared() {
+        long now = System.currentTimeMillis();
+        for (Iterator<PreparedIn> it = preparedIn.values().iterator(); it.hasNext(); ) {
+            PreparedIn in = it.next();
+            if (now - in.preparedAt > PREPARE_TIMEOUT_MILLIS) {
+                reservedIds.remove(in.bikeId);
+                it.remove();
+            }
+        }
+    }
+
+    private static String reply(OperationResult result) {
+        return result.isSuccess() ? ShardProtocol.OK : error(result);
+    }
+
+    private static String error(OperationResult result) {
+        return ShardProtocol.line(ShardProtocol.ERR, result.name());
+    }
+
+    private static class PreparedOut {
+        private final String bikeId;
+        private final String mode;
+
+        PreparedOut(String bikeId, String mode) {
+            this.bikeId = bikeId;
+            this.mode = mode;
+        }
+    }
+
+    private static class PreparedIn {
+        private final String bikeId;
+        private final String type;
+        private final String station;
+        private final long registeredDay;
+        private final long lastMaintenanceDay;
+        private final long preparedAt = System.currentTimeMillis();
+
+        PreparedIn(String bikeId, String type, String station, long registeredDay, long lastMaintenanceDay) {
+            this.bikeId = bikeId;
+            this.type = type;
+            this.station = station;
+            this.registeredDay = registeredDay;
+            this.lastMaintenanceDay = lastMaintenanceDay;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package state;
 
 import core.BicycleStatus;
+import core.DiagnosticSink;
 import java.util.List;
 import observer.BreakdownReason;
 
@@ -8,8 +9,8 @@ import observer.BreakdownReason;
 public class AvailableState implements BikeStateInterface {
     @Override
     public void reportBroken(BikeState bike, List<BreakdownReason> reasons) {
-        System.out.println(">> [State Change] " + bike.getBikeId() + " : '사용 가능' -> '고장'");
-        bike.setState(new BrokenState());
+        DiagnosticSink.getInstance().info(">> [State Change] " + bike.getBikeId() + " : '사용 가능' -> '고장'");
+        bike.fire(BikeEvent.REPORT_BROKEN);
     }
 
     @Override
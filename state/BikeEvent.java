@@ -0,0 +1,16 @@
+package state;
+
+/**
+ * 자전거 상태를 바꾸는 사건(이벤트)
+ * BikeStateMachine의 전이표에서 열(column) 인덱스로 사용됩니다.
+ */
+public enum BikeEvent {
+    RENT,            // 대여
+    RETURN,          // 반납
+    REPORT_BROKEN,   // 고장 신고
+    SEND_TO_REPAIR,  // 수리 센터 입고
+    COMPLETE_REPAIR, // 수리 완료
+    RESERVE,         // 예약
+    RELEASE,         // 예약 취소/만료
+    CLAIM            // 예약한 사용자의 대여
+}
@@ -2,6 +2,7 @@ package state;
 
 import core.BicycleStatus;
 import java.util.List;
+import jfr.BikeStateTransitionEvent;
 import observer.BreakdownReason;
 
 public class BikeState {
@@ -10,13 +11,26 @@ public class BikeState {
 
     public BikeState(String bikeId) {
         this.bikeId = bikeId;
-        this.state = new AvailableState(); 
+        this.state = BikeStateMachine.stateOf(BicycleStatus.AVAILABLE);
     }
 
     public void setState(BikeStateInterface state) {
+        if (this.state.getBicycleStatus() != state.getBicycleStatus()) {
+            BikeStateTransitionEvent.emit(bikeId, this.state.getBicycleStatus().name(), state.getBicycleStatus().name());
+        }
         this.state = state;
     }
 
+    // 전이표에 따라 상태를 바꿈 (허용되지 않는 전이면 false, 상태는 그대로)
+    public boolean fire(BikeEvent event) {
+        BikeStateInterface next = BikeStateMachine.next(state.getBicycleStatus(), event);
+        if (next == null) {
+            return false;
+        }
+        setState(next);
+        return true;
+    }
+
     public void reportBroken(List<BreakdownReason> reasons) {
         state.reportBroken(this, reasons);
     }
@@ -26,6 +40,16 @@ public class BikeState {
     public boolean canMove() { return state.canMove(); }
     public boolean canReport() { return state.canReport(); }
 
+    // can 메서드가 false일 때 호출자가 보여줄 거부 메시지
+    public String getRefusalMessage(String action) {
+        return refusalMessage(state, action);
+    }
+
+    // 스냅샷(BicycleView)의 상태로 사전 검증할 때 쓰는 같은 거부 메시지
+    public static String refusalMessage(BikeStateInterface state, String action) {
+        return "자전거가 현재 [" + state.getStatus() + "] 상태라 " + action + "할 수 없습니다.";
+    }
+
     public String getStatus() {
         return state.getStatus();
     }
@@ -0,0 +1,87 @@
+package state;
+
+import core.BicycleStatus;
+
+/**
+ * 표(table) 기반 자전거 상태 기계
+ * - 상태 객체는 필드가 없는 불변 객체이므로 상태마다 하나만 만들어 모든 자전거가 공유합니다. (Flyweight)
+ * - 허용되는 전이는 [현재 상태][이벤트] → 다음 상태 표 하나에 모아 둡니다.
+ * - 전이는 배열 두 번 조회로 끝나며 객체를 만들지 않습니다.
+ * - 클래스 로딩 시 표와 상태 객체의 can 메서드가 서로 맞는지 한 번 검증합니다.
+ */
+public final class BikeStateMachine {
+    private static final BicycleStatus[] STATUSES = BicycleStatus.values();
+
+    // BicycleStatus.ordinal() → 공유 상태 객체
+    private static final BikeStateInterface[] STATES = new BikeStateInterface[STATUSES.length];
+
+    // [BicycleStatus.ordinal()][BikeEvent.ordinal()] → 다음 상태 (null이면 허용되지 않는 전이)
+    private static final BikeStateInterface[][] TRANSITIONS =
+            new BikeStateInterface[STATUSES.length][BikeEvent.values().length];
+
+    static {
+        register(new AvailableState());
+        register(new RentedState());
+        register(new RepairingState());
+        register(new BrokenState());
+        register(new ReservedState());
+
+        allow(BicycleStatus.AVAILABLE, BikeEvent.RENT, BicycleStatus.RENTED);
+        allow(BicycleStatus.AVAILABLE, BikeEvent.REPORT_BROKEN, BicycleStatus.BROKEN);
+        allow(BicycleStatus.AVAILABLE, BikeEvent.SEND_TO_REPAIR, BicycleStatus.MAINTENANCE);
+        allow(BicycleStatus.RENTED, BikeEvent.RETURN, BicycleStatus.AVAILABLE);
+        allow(BicycleStatus.BROKEN, BikeEvent.SEND_TO_REPAIR, BicycleStatus.MAINTENANCE);
+        allow(BicycleStatus.MAINTENANCE, BikeEvent.COMPLETE_REPAIR, BicycleStatus.AVAILABLE);
+        // 예약 중인 자전거는 일반 대여(RENT)가 아니라 예약한 사용자의 CLAIM으로만 대여됨
+        allow(BicycleStatus.AVAILABLE, BikeEvent.RESERVE, BicycleStatus.RESERVED);
+        allow(BicycleStatus.RESERVED, BikeEvent.RELEASE, BicycleStatus.AVAILABLE);
+        allow(BicycleStatus.RESERVED, BikeEvent.CLAIM, BicycleStatus.RENTED);
+
+        validate();
+    }
+
+    private BikeStateMachine() {
+    }
+
+    private static void register(BikeStateInterface state) {
+        STATES[state.getBicycleStatus().ordinal()] = state;
+    }
+
+    private static void allow(BicycleStatus from, BikeEvent event, BicycleStatus to) {
+        TRANSITIONS[from.ordinal()][event.ordinal()] = STATES[to.ordinal()];
+    }
+
+    // 모든 상태에 객체가 있고, 대여/신고/이동/삭제 가능 여부가 전이표와 같은지 확인
+    private static void validate() {
+        for (BicycleStatus status : STATUSES) {
+            BikeStateInterface state = STATES[status.ordinal()];
+            if (state == null) {
+                throw new IllegalStateException("상태 객체가 등록되지 않았습니다: " + status);
+            }
+            BikeStateInterface[] row = TRANSITIONS[status.ordinal()];
+            if (state.canRent() != (row[BikeEvent.RENT.ordinal()] != null)) {
+                throw new IllegalStateException("대여 가능 여부와 전이표가 다릅니다: " + status);
+            }
+            if (state.canReport() != (row[BikeEvent.REPORT_BROKEN.ordinal()] != null)) {
+                throw new IllegalStateException("신고 가능 여부와 전이표가 다릅니다: " + status);
+            }
+            // 이동/삭제는 대여·예약·수리가 걸려 있지 않은 상태, 즉 바로 대여할 수 있는 상태에서만 가능
+            if (state.canMove() != (row[BikeEvent.RENT.ordinal()] != null)) {
+                throw new IllegalStateException("이동 가능 여부와 전이표가 다릅니다: " + status);
+            }
+            if (state.canDelete() != (row[BikeEvent.RENT.ordinal()] != null)) {
+                throw new IllegalStateException("삭제 가능 여부와 전이표가 다릅니다: " + status);
+            }
+        }
+    }
+
+    // 상태에 대응하는 공유 상태 객체
+    public static BikeStateInterface stateOf(BicycleStatus status) {
+        return STATES[status.ordinal()];
+    }
+
+    // 다음 상태 (허용되지 않으면 null)
+    public static BikeStateInterface next(BicycleStatus current, BikeEvent event) {
+        return TRANSITIONS[current.ordinal()][event.ordinal()];
+    }
+}
@@ -1,6 +1,7 @@
 package state;
 
 import core.BicycleStatus;
+import core.DiagnosticSink;
 import java.util.List;
 import observer.BreakdownReason;
 
@@ -8,10 +9,10 @@ import observer.BreakdownReason;
 public class RepairingState extends AbstractUnavailableState {
     @Override
     public void reportBroken(BikeState bike, List<BreakdownReason> reasons) {
-        System.out.println("현재 수리 중인 자전거입니다.");
+        DiagnosticSink.getInstance().warn("현재 수리 중인 자전거입니다.");
     }
 
-    // can 메서드 오류 메시지는 부모 클래스(AbstractUnavailableState)에서 처리
+    // can 메서드 거부 판단은 부모 클래스(AbstractUnavailableState)에서 처리
 
     @Override
     public String getStatus() { return "수리 중"; }
@@ -0,0 +1,23 @@
+package state;
+
+import core.BicycleStatus;
+import core.DiagnosticSink;
+import observer.BreakdownReason;
+import java.util.List;
+
+// 예약 중 상태 (예약한 사용자만 BikeEvent.CLAIM으로 대여 가능)
+public class ReservedState extends AbstractUnavailableState {
+    @Override
+    public void reportBroken(BikeState bike, List<BreakdownReason> reasons) {
+        // canReport()가 false이므로 Console에서 호출하지 않지만, 혹시 모를 호출에 대비해 진단 메시지를 남김
+        DiagnosticSink.getInstance().warn("예약 중인 자전거는 신고할 수 없습니다.");
+    }
+
+    @Override
+    public String getStatus() { return "예약 중"; }
+
+    @Override
+    public BicycleStatus getBicycleStatus() {
+        return BicycleStatus.RESERVED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package state;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 상태 전이 할당량 측정
+ * - 사용법: java -cp out state.StateTransitionBenchmark [반복 횟수]
+ * - 대여/반납 한 쌍을 반복하며 현재 스레드가 할당한 바이트를 재고, 한 번의 대여/반납당 평균을 출력합니다.
+ * - 비교용으로 전이마다 상태 객체를 새로 만드는 예전 방식도 함께 측정합니다.
+ */
+public class StateTransitionBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        BikeState bike = new BikeState("BENCH-1");
+
+        // JIT 컴파일이 끝날 때까지 충분히 돌림
+        for (int round = 0; round < 5; round++) {
+            runTable(bike, iterations);
+            runAllocating(bike, iterations);
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        runTable(bike, iterations);
+        long tableNanos = System.nanoTime() - start;
+        long tableBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        runAllocating(bike, iterations);
+        long allocNanos = System.nanoTime() - start;
+        long allocBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.println("==== 상태 전이 할당량 (대여+반납 " + iterations + "회) ====");
+        System.out.printf("전이표 + 공유 상태 객체 : %.2f bytes/회, %.1f ns/회%n",
+                (double) tableBytes / iterations, (double) tableNanos / iterations);
+        System.out.printf("전이마다 new 상태 객체  : %.2f bytes/회, %.1f ns/회%n",
+                (double) allocBytes / iterations, (double) allocNanos / iterations);
+    }
+
+    private static void runTable(BikeState bike, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            if (!bike.fire(BikeEvent.RENT) || !bike.fire(BikeEvent.RETURN)) {
+                throw new IllegalStateException("전이 실패: " + bike.getStatus());
+            }
+        }
+    }
+
+    // 예전 방식: 전이마다 상태 객체를 새로 생성
+    private static void runAllocating(BikeState bike, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            bike.setState(new RentedState());
+            bike.setState(new AvailableState());
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package stress;
+
+import command.ChangeLocationCommand;
+import command.ChangeStatusCommand;
+import command.CommandPipeline;
+import command.RemoveBicycleCommand;
+import command.RentBicycleCommand;
+import command.ReportBrokenCommand;
+import core.Bicycle;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.FleetSnapshot;
+import core.LocationManager;
+import core.OperationResult;
+import core.User;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.LongAdder;
+import observer.BreakdownReason;
+import state.BikeEvent;
+
+/**
+ * 자전거 상태 전이 동시성 스트레스 하네스 (jcstress 방식)
+ * - 사용법: java -cp out stress.StateStressHarness [스레드 쌍 수] [시나리오당 반복 횟수]
+ * - 스레드 두 개가 한 쌍이 되어 같은 자전거에 서로 다른 작업을 동시에 보냅니다. (CommandPipeline 경유)
+ *   대여 vs 대여, 대여 vs 고장 신고, 고장 신고 vs 수리 완료, 삭제 vs 이동
+ * - 반복마다 (작업1 결과, 작업2 결과, 최종 상태)를 결과 조합으로 세고, 허용된 조합이 아니면 위반으로 셉니다.
+ * - 반복마다 작성자 스레드에서 불변식을 확인합니다.
+ *   자전거 한 대에 대여자는 한 명, Bicycle 위치와 LocationManager 위치 일치, 스냅샷 상태와 실제 상태 일치
+ * - 마지막으로 전체 상태별 대수와 스테이션별 목록을 다시 세어 스냅샷과 비교합니다.
+ * - 임시 폴더의 bicycles.json을 쓰므로 현재 폴더의 데이터는 바뀌지 않습니다. 위반이 있으면 종료 코드 1.
+ */
+public class StateStressHarness {
+    private static final int MAX_REPORTED_VIOLATIONS = 10;
+
+    private final BicycleManager bicycleManager;
+    private final CommandPipeline pipeline;
+    private final LocationManager locationManager = LocationManager.getInstance();
+    private final String homeStation;
+    private final String otherStation;
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+    private final LongAdder violationCount = new LongAdder();
+
+    public StateStressHarness(BicycleManager bicycleManager, CommandPipeline pipeline) {
+        this.bicycleManager = bicycleManager;
+        this.pipeline = pipeline;
+        List<String> stations = new ArrayList<>(locationManager.getAllStations());
+        this.homeStation = stations.get(0);
+        this.otherStation = stations.get(1);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pairs = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        Path dir = Files.createTempDirectory("bike-stress");
+        BicycleManager bicycleManager = new BicycleManager(dir.resolve("bicycles.json"), true);
+        CommandPipeline pipeline = new CommandPipeline(bicycleManager);
+        StateStressHarness harness = new StateStressHarness(bicycleManager, pipeline);
+
+        System.out.println("[스트레스] 스레드 쌍 " + pairs + "개 / 시나리오당 반복 " + iterations + "회");
+        for (Scenario scenario : harness.scenarios()) {
+            harness.run(scenario, pairs, iterations);
+        }
+        harness.checkGlobalInvariants();
+
+        pipeline.shutdown();
+        long total = harness.violationCount.sum();
+        System.out.println("\n불변식/결과 위반: " + total + "건");
+        for (String violation : harness.violations) {
+            System.out.println("  - " + violation);
+        }
+        System.exit(total == 0 ? 0 : 1);
+    }
+
+    // 시나리오 목록: 초기 상태, 두 작업, 허용되는 (결과1, 결과2, 최종 상태) 조합
+    private List<Scenario> scenarios() {
+        List<Scenario> list = new ArrayList<>();
+        list.add(new Scenario("대여 vs 대여", BicycleStatus.AVAILABLE,
+                this::rent, this::rent,
+                "SUCCESS, NOT_RENTABLE → RENTED",
+                "NOT_RENTABLE, SUCCESS → RENTED"));
+        list.add(new Scenario("대여 vs 고장 신고", BicycleStatus.AVAILABLE,
+                this::rent, this::report,
+                "SUCCESS, NOT_REPORTABLE → RENTED",
+                "NOT_RENTABLE, SUCCESS → BROKEN"));
+        list.add(new Scenario("고장 신고 vs 수리 완료", BicycleStatus.MAINTENANCE,
+                this::report, this::completeRepair,
+                "NOT_REPORTABLE, SUCCESS → AVAILABLE",
+                "SUCCESS, SUCCESS → BROKEN"));
+        list.add(new Scenario("삭제 vs 이동", BicycleStatus.AVAILABLE,
+                this::remove, this::move,
+                "SUCCESS, NOT_FOUND → REMOVED",
+                "SUCCESS, SUCCESS → REMOVED"));
+        return list;
+    }
+
+    /**
+     * 작업 (행위자)
+     */
+
+    private OperationResult rent(String bikeId, User user) {
+        RentBicycleCommand command = new RentBicycleCommand(bicycleManager, bikeId, user);
+        pipeline.execute(command);
+        return command.getResult();
+    }
+
+    private OperationResult report(String bikeId, User user) {
+        ReportBrokenCommand command = new ReportBrokenCommand(bicycleManager, bikeId,
+                List.of(BreakdownReason.FLAT_TIRE), subject -> { }); // 수리 일정은 잡지 않음
+        pipeline.execute(command);
+        return command.getResult();
+    }
+
+    // RepairServiceObserver의 마지막 단계와 같은 커맨드
+    private OperationResult completeRepair(String bikeId, User user) {
+        ChangeStatusCommand command = new ChangeStatusCommand(bicycleManager, bikeId, BikeEvent.COMPLETE_REPAIR);
+        pipeline.execute(command);
+        return command.getResult();
+    }
+
+    private OperationResult remove(String bikeId, User user) {
+        RemoveBicycleCommand command = new RemoveBicycleCommand(bicycleManager, bikeId);
+        pipeline.execute(command);
+        return command.getResult();
+    }
+
+    private OperationResult move(String bikeId, User user) {
+        ChangeLocationCommand command = new ChangeLocationCommand(bicycleManager, bikeId, otherStation);
+        pipeline.execute(command);
+        return command.getResult();
+    }
+
+    /**
+     * 실행
+     */
+
+    private void run(Scenario scenario, int pairs, int iterations) throws InterruptedException {
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        Thread[] threads = new Thread[pairs * 2];
+        long start = System.nanoTime();
+
+        for (int p = 0; p < pairs; p++) {
+            String bikeId = "STRESS-" + p;
+            User first = new User("stress-" + p + "-a", "-", "-", "-", homeStation);
+            User second = new User("stress-" + p + "-b", "-", "-", "-", homeStation);
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            OperationResult[] results = new OperationResult[2];
+
+            threads[p * 2] = new Thread(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    pipeline.execute(() -> reset(bikeId, scenario.initial, first, second));
+                    await(barrier);
+                    results[0] = scenario.first.run(bikeId, first);
+                    await(barrier);
+                    evaluate(scenario, bikeId, results, first, second, outcomes);
+                    await(barrier); // 평가가 끝난 뒤 다음 반복
+                }
+            }, "stress-" + p + "-a");
+            threads[p * 2 + 1] = new Thread(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    await(barrier);
+                    results[1] = scenario.second.run(bikeId, second);
+                    await(barrier);
+                    await(barrier);
+                }
+            }, "stress-" + p + "-b");
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("\n==== " + scenario.name + " ====");
+        System.out.printf("처리량: %.0f 작업/s (%.2f초)%n", (2.0 * pairs * iterations) / seconds, seconds);
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(outcomes).entrySet()) {
+            String verdict = scenario.acceptable.contains(entry.getKey()) ? "허용" : "금지";
+            System.out.printf("  %-40s %8d  %s%n", entry.getKey(), entry.getValue().sum(), verdict);
+        }
+    }
+
+    // 작성자 스레드: 자전거를 홈 스테이션의 초기 상태로 되돌리고 대여 기록을 지움
+    private void reset(String bikeId, BicycleStatus initial, User first, User second) {
+        Bicycle bike = bicycleManager.getBicycle(bikeId);
+        if (bike == null) {
+            bicycleManager.addBicycle(bikeId, "regular", homeStation);
+        } else if (bike.getStatus() == BicycleStatus.RENTED) {
+            bicycleManager.returnBicycle(bikeId, homeStation);
+        } else if (bike.getStatus() != BicycleStatus.AVAILABLE) {
+            if (bike.getStatus() == BicycleStatus.BROKEN) {
+                bicycleManager.changeBicycleStatus(bikeId, BicycleStatus.MAINTENANCE); // 고장 → 수리 중 → 사용 가능 순서로만 바뀜
+            }
+            bicycleManager.changeBicycleStatus(bikeId, BicycleStatus.AVAILABLE);
+        }
+        if (!homeStation.equals(bicycleManager.getBicycle(bikeId).getLocation())) {
+            bicycleManager.changeBicycleLocation(bikeId, homeStation);
+        }
+        first.endRental();
+        second.endRental();
+        if (initial != BicycleStatus.AVAILABLE) {
+            bicycleManager.changeBicycleStatus(bikeId, initial);
+        }
+    }
+
+    // 결과 조합을 세고, 작성자 스레드에서 이 자전거의 불변식을 확인
+    private void evaluate(Scenario scenario, String bikeId, OperationResult[] results, User first, User second,
+                          Map<String, LongAdder> outcomes) {
+        String[] finalState = new String[1];
+        pipeline.execute(() -> {
+            Bicycle bike = bicycleManager.getBicycle(bikeId);
+            finalState[0] = bike == null ? "REMOVED" : bike.getStatus().name();
+            checkBike(scenario, bikeId, bike, first, second);
+        });
+        String outcome = results[0] + ", " + results[1] + " → " + finalState[0];
+        outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+        if (!scenario.acceptable.contains(outcome)) {
+            violation(scenario.name + ": 허용되지 않는 결과 [" + outcome + "]");
+        }
+    }
+
+    private void checkBike(Scenario scenario, String bikeId, Bicycle bike, User first, User second) {
+        int renters = (bikeId.equals(first.getRentedBicycleId()) ? 1 : 0)
+                + (bikeId.equals(second.getRentedBicycleId()) ? 1 : 0);
+        if (renters > 1) {
+            violation(scenario.name + ": 자전거 " + bikeId + "의 대여자가 " + renters + "명");
+        }
+        if (bike != null && (bike.getStatus() == BicycleStatus.RENTED) != (renters == 1)) {
+            violation(scenario.name + ": 자전거 " + bikeId + " 상태 " + bike.getStatus() + "인데 대여자 " + renters + "명");
+        }
+
+        String indexed = locationManager.getBicycleLocation(bikeId);
+        String actual = bike == null ? null : bike.getLocation();
+        if (actual == null ? indexed != null : !actual.equals(indexed)) {
+            violation(scenario.name + ": 자전거 " + bikeId + " 위치 " + actual + " / LocationManager " + indexed);
+        }
+        for (String station : locationManager.getAllStations()) {
+            int listed = Collections.frequency(locationManager.getBicyclesAtStation(station), bikeId);
+            int expected = station.equals(actual) ? 1 : 0;
+            if (listed != expected) {
+                violation(scenario.name + ": " + station + " 목록에 자전거 " + bikeId + "가 " + listed + "번 있음");
+            }
+        }
+
+        // 이 자전거가 마지막으로 바뀐 묶음 처리 끝에서 스냅샷이 발행되었어야 함
+        BicycleView view = bicycleManager.getSnapshot().getBicycle(bikeId);
+        BicycleStatus viewStatus = view == null ? null : view.getStatus();
+        BicycleStatus liveStatus = bike == null ? null : bike.getStatus();
+        if (viewStatus != liveStatus) {
+            violation(scenario.name + ": 자전거 " + bikeId + " 스냅샷 상태 " + viewStatus + " / 실제 " + liveStatus);
+        }
+    }
+
+    // 모든 작업이 끝난 뒤: 상태별 대수, 스테이션별 목록을 다시 세어 스냅샷과 비교
+    private void checkGlobalInvariants() {
+        pipeline.execute(() -> {
+            FleetSnapshot snapshot = bicycleManager.getSnapshot();
+            Map<BicycleStatus, Integer> counted = new EnumMap<>(BicycleStatus.class);
+            for (BicycleView view : snapshot.getBicycles()) {
+                Bicycle bike = bicycleManager.getBicycle(view.getId());
+                if (bike == null) {
+                    violation("전체: 스냅샷에만 있는 자전거 " + view.getId());
+                    continue;
+                }
+                counted.merge(bike.getStatus(), 1, Integer::sum);
+            }
+            for (BicycleStatus status : BicycleStatus.values()) {
+                int indexed = snapshot.getStatusCounts().getOrDefault(status, 0);
+                int actual = counted.getOrDefault(status, 0);
+                if (indexed != actual) {
+                    violation("전체: " + status + " 대수 스냅샷 " + indexed + " / 실제 " + actual);
+                }
+            }
+            for (String station : locationManager.getAllStations()) {
+                Set<String> indexed = new HashSet<>(snapshot.getBicyclesAtStation(station));
+                Set<String> actual = new HashSet<>(locationManager.getBicyclesAtStation(station));
+                if (!indexed.equals(actual)) {
+                    violation("전체: " + station + " 목록 스냅샷 " + indexed + " / LocationManager " + actual);
+                }
+            }
+        });
+    }
+
+    private void violation(String message) {
+        violationCount.increment();
+        if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+            violations.add(message);
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException("스트레스 스레드 동기화 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Actor {
+        OperationResult run(String bikeId, User user);
+    }
+
+    private static class Scenario {
+        private final String name;
+        private final BicycleStatus initial;
+        private final Actor first;
+        private final Actor second;
+        private final Set<String> acceptable;
+
+        Scenario(String name, BicycleStatus initial, Actor first, Actor second, String... acceptable) {
+            this.name = name;
+            this.initial = initial;
+            this.first = first;
+            this.second = second;
+            this.acceptable = Set.of(acceptable);
+        }
+    }
+}
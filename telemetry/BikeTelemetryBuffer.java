@@ -0,0 +1,198 @@
+package telemetry;
+
+/**
+ * 전기자전거 한 대의 텔레메트리 버퍼
+ * - 최근 샘플은 미리 할당한 기본형 배열(원형 버퍼)에 그대로 보관합니다. 샘플 추가 시 객체를 만들지 않습니다.
+ * - 원형 버퍼에서 밀려나는 오래된 샘플은 1분 단위 요약(최소/최대/평균 배터리, 마지막 위치, 잠금 변화 횟수)으로 줄여
+ *   또 다른 원형 배열에 하루치까지 보관합니다. (다운샘플링)
+ * - 배터리 부족 경보 상태도 함께 가집니다. 한 번 신고하면 충전(재무장 기준 이상)될 때까지 다시 신고하지 않습니다.
+ * - 모든 메서드는 자전거 단위로 동기화됩니다. (자전거마다 잠금이 따로라 서로 경합하지 않음)
+ */
+public class BikeTelemetryBuffer {
+    public static final int RECENT_CAPACITY = 256;       // 2의 거듭제곱
+    public static final int DOWNSAMPLED_CAPACITY = 1440; // 1분 요약 하루치
+    public static final long BUCKET_MILLIS = 60_000;
+    private static final int RECENT_MASK = RECENT_CAPACITY - 1;
+
+    private static final int ALARM_ARMED = 0;   // 기준 아래로 내려가면 신고
+    private static final int ALARM_PENDING = 1; // 신고 커맨드 처리 중
+    private static final int ALARM_TRIPPED = 2; // 신고됨, 재무장 기준 이상으로 충전될 때까지 대기
+
+    private final String bikeId;
+
+    // 최근 원본 샘플
+    private final long[] times = new long[RECENT_CAPACITY];
+    private final byte[] battery = new byte[RECENT_CAPACITY];
+    private final double[] latitudes = new double[RECENT_CAPACITY];
+    private final double[] longitudes = new double[RECENT_CAPACITY];
+    private final boolean[] locked = new boolean[RECENT_CAPACITY];
+    private long written; // 지금까지 추가된 샘플 수
+
+    // 1분 요약
+    private final long[] bucketStart = new long[DOWNSAMPLED_CAPACITY];
+    private final byte[] bucketMinBattery = new byte[DOWNSAMPLED_CAPACITY];
+    private final byte[] bucketMaxBattery = new byte[DOWNSAMPLED_CAPACITY];
+    private final byte[] bucketAvgBattery = new byte[DOWNSAMPLED_CAPACITY];
+    private final double[] bucketLatitude = new double[DOWNSAMPLED_CAPACITY];
+    private final double[] bucketLongitude = new double[DOWNSAMPLED_CAPACITY];
+    private final short[] bucketLockChanges = new short[DOWNSAMPLED_CAPACITY];
+    private long bucketsWritten;
+
+    // 집계 중인 요약 (밀려난 샘플을 모음)
+    private long openStart = -1;
+    private int openMin;
+    private int openMax;
+    private long openSum;
+    private int openCount;
+    private double openLatitude;
+    private double openLongitude;
+    private int openLockChanges;
+    private boolean openLastLocked;
+
+    private int alarm = ALARM_ARMED;
+    private long nextAttemptAt;
+
+    BikeTelemetryBuffer(String bikeId) {
+        this.bikeId = bikeId;
+    }
+
+    public String getBikeId() {
+        return bikeId;
+    }
+
+    // 샘플 추가 (원형 버퍼가 가득 차 있으면 가장 오래된 샘플을 요약으로 옮김)
+    public synchronized void append(long timestampMillis, int batteryPercent, double latitude, double longitude,
+                                    boolean isLocked) {
+        int slot = (int) (written & RECENT_MASK);
+        if (written >= RECENT_CAPACITY) {
+            fold(slot);
+        }
+        times[slot] = timestampMillis;
+        battery[slot] = (byte) Math.max(0, Math.min(100, batteryPercent));
+        latitudes[slot] = latitude;
+        longitudes[slot] = longitude;
+        locked[slot] = isLocked;
+        written++;
+    }
+
+    // 밀려나는 샘플 하나를 현재 1분 요약에 더함
+    private void fold(int slot) {
+        long start = times[slot] - Math.floorMod(times[slot], BUCKET_MILLIS);
+        if (openStart != start) {
+            closeBucket();
+            openStart = start;
+            openMin = 100;
+            openMax = 0;
+            openSum = 0;
+            openCount = 0;
+            openLockChanges = 0;
+            openLastLocked = locked[slot];
+        }
+        int level = battery[slot];
+        openMin = Math.min(openMin, level);
+        openMax = Math.max(openMax, level);
+        openSum += level;
+        openCount++;
+        openLatitude = latitudes[slot];
+        openLongitude = longitudes[slot];
+        if (locked[slot] != openLastLocked) {
+            openLockChanges++;
+            openLastLocked = locked[slot];
+        }
+    }
+
+    private void closeBucket() {
+        if (openStart < 0 || openCount == 0) {
+            return;
+        }
+        int b = (int) (bucketsWritten % DOWNSAMPLED_CAPACITY);
+        bucketStart[b] = openStart;
+        bucketMinBattery[b] = (byte) openMin;
+        bucketMaxBattery[b] = (byte) openMax;
+        bucketAvgBattery[b] = (byte) (openSum / openCount);
+        bucketLatitude[b] = openLatitude;
+        bucketLongitude[b] = openLongitude;
+        bucketLockChanges[b] = (short) Math.min(Short.MAX_VALUE, openLockChanges);
+        bucketsWritten++;
+    }
+
+    /**
+     * 배터리 부족 경보 판단
+     * 기준 이하이고 무장 상태면 true (호출자가 신고 커맨드를 제출), 재무장 기준 이상이면 다시 무장합니다.
+     */
+    synchronized boolean shouldRaiseLowBattery(int batteryPercent, int lowPercent, int rearmPercent, long now) {
+        if (alarm == ALARM_TRIPPED) {
+            if (batteryPercent >= rearmPercent) alarm = ALARM_ARMED;
+            return false;
+        }
+        if (alarm == ALARM_ARMED && batteryPercent <= lowPercent && now >= nextAttemptAt) {
+            alarm = ALARM_PENDING;
+            return true;
+        }
+        return false;
+    }
+
+    // 신고 결과 반영 (실패하면 retryMillis 뒤에 다시 시도)
+    synchronized void onLowBatteryReported(boolean success, long now, long retryMillis) {
+        if (success) {
+            alarm = ALARM_TRIPPED;
+        } else {
+            alarm = ALARM_ARMED;
+            nextAttemptAt = now + retryMillis;
+        }
+    }
+
+    public synchronized int getSampleCount() {
+        return (int) Math.min(written, RECENT_CAPACITY);
+    }
+
+    // 가장 최근 배터리 잔량 (샘플이 없으면 -1)
+    public synchronized int getLatestBattery() {
+        return written == 0 ? -1 : battery[(int) ((written - 1) & RECENT_MASK)];
+    }
+
+    public synchronized long getLatestTimestamp() {
+        return written == 0 ? 0 : times[(int) ((written - 1) & RECENT_MASK)];
+    }
+
+    public synchronized double[] getLatestPosition() {
+        if (written == 0) return null;
+        int slot = (int) ((written - 1) & RECENT_MASK);
+        return new double[] {latitudes[slot], longitudes[slot]};
+    }
+
+    public synchronized boolean isLatestLocked() {
+        return written > 0 && locked[(int) ((written - 1) & RECENT_MASK)];
+    }
+
+    /**
+     * 최근 샘플을 오래된 순서로 호출자 배열에 복사 (복사한 개수 반환)
+     */
+    public synchronized int copyRecent(long[] outTimes, int[] outBattery) {
+        int count = (int) Math.min(Math.min(written, RECENT_CAPACITY), Math.min(outTimes.length, outBattery.length));
+        long first = written - count;
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((first + i) & RECENT_MASK);
+            outTimes[i] = times[slot];
+            outBattery[i] = battery[slot];
+        }
+        return count;
+    }
+
+    /**
+     * 1분 요약을 오래된 순서로 호출자 배열에 복사 (복사한 개수 반환)
+     */
+    public synchronized int copyDownsampled(long[] outStart, int[] outMin, int[] outAvg, int[] outMax) {
+        int available = (int) Math.min(bucketsWritten, DOWNSAMPLED_CAPACITY);
+        int count = Math.min(available, Math.min(outStart.length, Math.min(outMin.length, Math.min(outAvg.length, outMax.length))));
+        long first = bucketsWritten - count;
+        for (int i = 0; i < count; i++) {
+            int b = (int) ((first + i) % DOWNSAMPLED_CAPACITY);
+            outStart[i] = bucketStart[b];
+            outMin[i] = bucketMinBattery[b];
+            outAvg[i] = bucketAvgBattery[b];
+            outMax[i] = bucketMaxBattery[b];
+        }
+        return count;
+    }
+}
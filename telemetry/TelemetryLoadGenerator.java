@@ -0,0 +1,113 @@
+package telemetry;
+
+import command.CommandPipeline;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.LocationManager;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.MetricsRegistry;
+import observer.RepairServiceObserver;
+import strategy.RepairStrategy;
+
+/**
+ * 텔레메트리 수집 부하 생성기
+ * - 사용법: java -cp out telemetry.TelemetryLoadGenerator [전기자전거 수] [스레드 수] [스레드당 샘플 수]
+ * - 임시 폴더에 전기자전거를 만들고, 여러 스레드가 배터리가 조금씩 줄어드는 샘플을 최대한 빠르게 보냅니다.
+ * - 초당 처리 샘플 수, 샘플당 할당 바이트(수집 스레드 기준), 배터리 고장 자동 신고 건수를 출력합니다.
+ *   배터리는 자전거마다 한 번씩 15% 아래로 내려가므로 신고 건수는 자전거 수와 같아야 합니다.
+ */
+public class TelemetryLoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        int bikes = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int samplesPerThread = args.length > 2 ? Integer.parseInt(args[2]) : 500_000;
+
+        Path dir = Files.createTempDirectory("bike-telemetry");
+        BicycleManager bicycleManager = new BicycleManager(dir.resolve("bicycles.json"), true);
+        CommandPipeline pipeline = new CommandPipeline(bicycleManager);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+        RepairServiceObserver repairObserver = new RepairServiceObserver(bicycleManager, pipeline, scheduler, new RepairStrategy());
+        TelemetryService service = new TelemetryService(bicycleManager, pipeline, repairObserver);
+
+        String station = new ArrayList<>(LocationManager.getInstance().getAllStations()).get(0);
+        List<String> ids = new ArrayList<>();
+        pipeline.execute(() -> {
+            for (int i = 0; i < bikes; i++) {
+                String id = "TEL" + i;
+                if (bicycleManager.addBicycle(id, "electric", station).isSuccess()) ids.add(id);
+            }
+        });
+
+        // 워밍업 (JIT 컴파일 후 측정)
+        runThreads(service, ids, threads, 20_000, false);
+
+        long start = System.nanoTime();
+        LongAdder[] result = runThreads(service, ids, threads, samplesPerThread, true);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        LongAdder accepted = result[0];
+        long bytes = result[1].sum();
+
+        pipeline.execute(() -> { }); // 대기 중인 신고 커맨드가 모두 처리될 때까지
+        long alerts = MetricsRegistry.getInstance().counter("telemetry.battery_alerts").sum();
+        long broken = bicycleManager.getSnapshot().getBicycles().stream()
+                .filter(b -> b.getStatus() != BicycleStatus.AVAILABLE).count();
+
+        System.out.println("==== 텔레메트리 수집 결과 ====");
+        System.out.printf("전기자전거 %d대 / 스레드 %d개 / 샘플 %d건\n", ids.size(), threads, accepted.sum());
+        System.out.printf("처리량: %.0f 샘플/s\n", accepted.sum() / seconds);
+        System.out.printf("샘플당 할당: %.2f 바이트 (수집 스레드 기준, 신고 커맨드 제출 포함)\n", (double) bytes / accepted.sum());
+        System.out.printf("배터리 고장 자동 신고: %d건 (배터리 고장/수리 중 자전거 %d대)\n", alerts, broken);
+        BikeTelemetryBuffer sample = service.getBuffer(ids.get(0));
+        System.out.println(ids.get(0) + " 최근 배터리 " + sample.getLatestBattery() + "% / 원형 버퍼 샘플 " + sample.getSampleCount());
+
+        scheduler.shutdownNow();
+        pipeline.shutdown();
+        System.exit(0);
+    }
+
+    // 스레드마다 자전거를 나눠 맡아 배터리를 100%에서 서서히 줄이며 전송
+    // 결과: [받아들인 샘플 수, 수집 스레드가 할당한 바이트]
+    private static LongAdder[] runThreads(TelemetryService service, List<String> ids, int threads,
+                                        int samplesPerThread, boolean drain) throws InterruptedException {
+        LongAdder accepted = new LongAdder();
+        LongAdder allocated = new LongAdder();
+        CountDownLatch done = new CountDownLatch(threads);
+        long base = System.currentTimeMillis();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                long bytesBefore = allocatedBytes();
+                int count = 0;
+                for (int i = 0; i < samplesPerThread; i++) {
+                    int index = (offset + i * threads) % ids.size();
+                    String id = ids.get(index);
+                    int round = i * threads / ids.size();
+                    int battery = drain ? Math.max(0, 100 - round * 100 / Math.max(1, samplesPerThread * threads / ids.size())) : 100;
+                    double lat = 37.5 + index * 1e-4;
+                    double lon = 127.0 + (round % 100) * 1e-5;
+                    if (service.ingest(id, base + round * 1000L, battery, lat, lon, true)) count++;
+                }
+                allocated.add(allocatedBytes() - bytesBefore);
+                accepted.add(count);
+                done.countDown();
+            }, "telemetry-load-" + t);
+            worker.start();
+        }
+        done.await();
+        return new LongAdder[] { accepted, allocated };
+    }
+
+    // 현재 스레드가 지금까지 할당한 바이트
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,108 @@
+package telemetry;
+
+import command.CommandPipeline;
+import command.ReportBrokenCommand;
+import core.BicycleManager;
+import core.BicycleStatus;
+import core.BicycleView;
+import core.DiagnosticSink;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.MetricsRegistry;
+import observer.BreakdownReason;
+import observer.ObserverInterface;
+
+/**
+ * 전기자전거 텔레메트리 수집
+ * - 배터리 잔량, GPS 위치, 잠금 상태 샘플을 받아 자전거별 BikeTelemetryBuffer에 넣습니다.
+ *   수집 경로는 기본형 인자만 받고 객체를 만들지 않으므로 여러 스레드에서 초당 수천 건 이상 호출할 수 있습니다.
+ * - 버퍼는 전기자전거에 처음 샘플이 올 때 만듭니다. 일반 자전거나 없는 ID의 샘플은 버립니다.
+ * - 배터리가 기준 아래로 내려가면 기존 고장 신고 흐름(ReportBrokenCommand, BATTERY)을 파이프라인으로 보냅니다.
+ *   대여 중이라 신고할 수 없으면 잠시 뒤 다시 시도하고, 한 번 신고된 자전거는 충전될 때까지 다시 신고하지 않습니다.
+ */
+public class TelemetryService {
+    public static final int LOW_BATTERY_PERCENT = 15;
+    public static final int REARM_BATTERY_PERCENT = 40;
+    private static final long RETRY_MILLIS = 30_000;
+
+    private final BicycleManager bicycleManager;
+    private final CommandPipeline pipeline;
+    private final ObserverInterface repairObserver;
+    private final Map<String, BikeTelemetryBuffer> buffers = new ConcurrentHashMap<>();
+    private final DiagnosticSink diagnostics = DiagnosticSink.getInstance();
+
+    private final LongAdder ingested = MetricsRegistry.getInstance().counter("telemetry.ingested");
+    private final LongAdder rejected = MetricsRegistry.getInstance().counter("telemetry.rejected");
+    private final LongAdder batteryAlerts = MetricsRegistry.getInstance().counter("telemetry.battery_alerts");
+    private final LongAdder unlockedIdle = MetricsRegistry.getInstance().counter("telemetry.unlocked_idle");
+
+    public TelemetryService(BicycleManager bicycleManager, CommandPipeline pipeline, ObserverInterface repairObserver) {
+        this.bicycleManager = bicycleManager;
+        this.pipeline = pipeline;
+        this.repairObserver = repairObserver;
+        MetricsRegistry.getInstance().gauge("telemetry.bikes", buffers::size);
+    }
+
+    /**
+     * 샘플 하나 수집 (어느 스레드에서나 호출 가능, 받아들였으면 true)
+     */
+    public boolean ingest(String bikeId, long timestampMillis, int batteryPercent,
+                          double latitude, double longitude, boolean locked) {
+        BikeTelemetryBuffer buffer = buffers.get(bikeId);
+        if (buffer == null) {
+            buffer = registerIfElectric(bikeId);
+            if (buffer == null) {
+                rejected.increment();
+                return false;
+            }
+        }
+        buffer.append(timestampMillis, batteryPercent, latitude, longitude, locked);
+        ingested.increment();
+
+        if (buffer.shouldRaiseLowBattery(batteryPercent, LOW_BATTERY_PERCENT, REARM_BATTERY_PERCENT, timestampMillis)) {
+            raiseLowBattery(buffer, batteryPercent, timestampMillis);
+        }
+        if (!locked) {
+            BicycleView view = bicycleManager.getSnapshot().getBicycle(bikeId);
+            if (view != null && view.getStatus() == BicycleStatus.AVAILABLE) {
+                unlockedIdle.increment(); // 대여되지 않았는데 잠금이 풀림 (도난/고장 의심)
+            }
+        }
+        return true;
+    }
+
+    public BikeTelemetryBuffer getBuffer(String bikeId) {
+        return buffers.get(bikeId);
+    }
+
+    public int getTrackedBikeCount() {
+        return buffers.size();
+    }
+
+    private BikeTelemetryBuffer registerIfElectric(String bikeId) {
+        BicycleView view = bicycleManager.getSnapshot().getBicycle(bikeId);
+        if (view == null || !"전기자전거".equals(view.getType())) {
+            return null;
+        }
+        return buffers.computeIfAbsent(bikeId, BikeTelemetryBuffer::new);
+    }
+
+    // 기존 고장 신고 흐름으로 BATTERY 신고 (수리 옵저버가 수리 일정을 잡음)
+    private void raiseLowBattery(BikeTelemetryBuffer buffer, int batteryPercent, long now) {
+        String bikeId = buffer.getBikeId();
+        ReportBrokenCommand command = new ReportBrokenCommand(bicycleManager, bikeId,
+                List.of(BreakdownReason.BATTERY), repairObserver);
+        pipeline.submit(command).whenComplete((ignored, error) -> {
+            boolean success = error == null && command.getResult() != null && command.getResult().isSuccess();
+            buffer.onLowBatteryReported(success, now, RETRY_MILLIS);
+            if (success) {
+                batteryAlerts.increment();
+                if (diagnostics.isEnabled(DiagnosticSink.Level.INFO)) {
+                    diagnostics.info("[텔레메트리] 자전거 " + bikeId + " 배터리 " + batteryPercent + "% → 배터리 고장 자동 신고");
+                }
+            }
+        });
+    }
+}